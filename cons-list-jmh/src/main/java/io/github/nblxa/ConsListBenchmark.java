@@ -33,6 +33,7 @@ package io.github.nblxa;
 
 import io.github.nblxa.benchmark.*;
 import io.github.nblxa.cons.ConsList;
+import io.github.nblxa.cons.DoubleConsList;
 import io.github.nblxa.cons.IntConsList;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
@@ -46,6 +47,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.github.nblxa.cons.ConsList.*;
 
@@ -56,12 +59,23 @@ public class ConsListBenchmark {
     private static final Logger LOGGER = LoggerFactory.getLogger(ConsListBenchmark.class);
     private List<Klass> klasses;
     private ListLineage consListLineage;
+    private ListLineage internedConsListLineage;
     private ListLineage arrayListLineage;
     private ListLineage linkedListLineage;
     private ConsList<Integer> consList;
     private IntConsList<Integer> intConsList;
+    private IntConsList<Integer> compressedIntConsList;
+    private DoubleConsList<Double> doubleConsList;
+    private DoubleConsList<Double> compressedDoubleConsList;
     private List<Integer> arrayList;
     private List<Integer> linkedList;
+    private List<Collection<Klass>> lineages;
+    private ConsList<Integer> shuffledConsList;
+    private IntConsList<Integer> shuffledIntConsList;
+    private List<Integer> shuffledArrayList;
+    private ConsList<Integer>[] concatArgs2;
+    private ConsList<Integer>[] concatArgs10;
+    private ConsList<Integer>[] concatArgs1000;
 
     /**
      * Size of the list of {@link Klass} objects that form the hierarchy to be flattened
@@ -69,8 +83,11 @@ public class ConsListBenchmark {
      *
      * <ul>
      * <li>{@link ConsListBenchmark#flattenHierarchyConsList}</li>
+     * <li>{@link ConsListBenchmark#flattenHierarchyInternedConsList}</li>
      * <li>{@link ConsListBenchmark#flattenHierarchyArrayList}</li>
      * <li>{@link ConsListBenchmark#flattenHierarchyLinkedList}</li>
+     * <li>{@link ConsListBenchmark#collectLineagesConsList}</li>
+     * <li>{@link ConsListBenchmark#collectLineagesInternedConsList}</li>
      * </ul>
      */
     private int klassListSize = 100_000;
@@ -80,14 +97,31 @@ public class ConsListBenchmark {
      * <ul>
      * <li>{@link ConsListBenchmark#growConsList}</li>
      * <li>{@link ConsListBenchmark#growConsListReverseInputOrder}</li>
+     * <li>{@link ConsListBenchmark#growUnrolledConsList}</li>
      * <li>{@link ConsListBenchmark#growIntConsList}</li>
      * <li>{@link ConsListBenchmark#growIntConsListReverseInputOrder}</li>
+     * <li>{@link ConsListBenchmark#growCompressedIntConsList}</li>
+     * <li>{@link ConsListBenchmark#growDoubleConsList}</li>
+     * <li>{@link ConsListBenchmark#growCompressedDoubleConsList}</li>
      * <li>{@link ConsListBenchmark#growArrayList}</li>
      * <li>{@link ConsListBenchmark#growLinkedList}</li>
      * <li>{@link ConsListBenchmark#iterateConsList}</li>
      * <li>{@link ConsListBenchmark#iterateIntConsList}</li>
+     * <li>{@link ConsListBenchmark#iterateCompressedIntConsList}</li>
+     * <li>{@link ConsListBenchmark#iterateDoubleConsList}</li>
+     * <li>{@link ConsListBenchmark#iterateCompressedDoubleConsList}</li>
      * <li>{@link ConsListBenchmark#iterateArrayList}</li>
      * <li>{@link ConsListBenchmark#iterateLinkedList}</li>
+     * <li>{@link ConsListBenchmark#parallelStreamConsList}</li>
+     * <li>{@link ConsListBenchmark#parallelStreamArrayList}</li>
+     * <li>{@link ConsListBenchmark#concat2ConsLists}</li>
+     * <li>{@link ConsListBenchmark#concat10ConsLists}</li>
+     * <li>{@link ConsListBenchmark#concat1000ConsLists}</li>
+     * <li>{@link ConsListBenchmark#concat1000ConsListsIterable}</li>
+     * <li>{@link ConsListBenchmark#sortConsList}</li>
+     * <li>{@link ConsListBenchmark#sortConsListWithStream}</li>
+     * <li>{@link ConsListBenchmark#sortIntConsList}</li>
+     * <li>{@link ConsListBenchmark#sortArrayList}</li>
      * </ul>
      */
     private int growListSize = 1_000_000;
@@ -144,6 +178,7 @@ public class ConsListBenchmark {
         }
 
         consListLineage = new ConsListLineage();
+        internedConsListLineage = new InternedConsListLineage();
         arrayListLineage = new ArrayListLineage();
         linkedListLineage = new LinkedListLineage();
 
@@ -152,6 +187,24 @@ public class ConsListBenchmark {
         growArrayList();
         growLinkedList();
         growIntConsListReverseInputOrder();
+        growCompressedIntConsList();
+        growDoubleConsList();
+        growCompressedDoubleConsList();
+
+        // set up the arguments for the concat test
+        concatArgs2 = concatArgs(2);
+        concatArgs10 = concatArgs(10);
+        concatArgs1000 = concatArgs(1000);
+
+        // set up the lists for the sort test
+        List<Integer> shuffled = new ArrayList<>(growListSize);
+        for (int i = 0; i < growListSize; i++) {
+            shuffled.add(i);
+        }
+        Collections.shuffle(shuffled, rand);
+        shuffledArrayList = shuffled;
+        shuffledConsList = ConsList.consList(shuffled);
+        shuffledIntConsList = ConsList.intConsList(shuffled);
     }
 
     List<Klass> klasses() {
@@ -166,6 +219,14 @@ public class ConsListBenchmark {
         SizeOfProfiler.setRootObject(null);
     }
 
+    @Benchmark
+    public void flattenHierarchyInternedConsList() {
+        for (Klass klass : klasses) {
+            internedConsListLineage.lineage(klass);
+        }
+        SizeOfProfiler.setRootObject(null);
+    }
+
     @Benchmark
     public void flattenHierarchyArrayList() {
         for (Klass klass : klasses) {
@@ -182,6 +243,43 @@ public class ConsListBenchmark {
         SizeOfProfiler.setRootObject(null);
     }
 
+    /**
+     * Keeps the lineages of all the klasses, so that the memory of the duplicate suffixes
+     * can be compared with {@link ConsListBenchmark#collectLineagesInternedConsList}.
+     */
+    @Benchmark
+    public void collectLineagesConsList() {
+        collectLineages(new ConsListLineage());
+        SizeOfProfiler.setRootObject(lineages, lineageElementCount());
+    }
+
+    /**
+     * Keeps the lineages of all the klasses built with a fresh interner, so that the intern
+     * lookup cost is measured along with the memory of the shared lineages and the interner table.
+     */
+    @Benchmark
+    public void collectLineagesInternedConsList() {
+        InternedConsListLineage lineage = new InternedConsListLineage();
+        collectLineages(lineage);
+        SizeOfProfiler.setRootObject(new Object[] {lineages, lineage}, lineageElementCount());
+    }
+
+    private void collectLineages(ListLineage lineage) {
+        List<Collection<Klass>> list = new ArrayList<>(klasses.size());
+        for (Klass klass : klasses) {
+            list.add(lineage.lineage(klass));
+        }
+        this.lineages = list;
+    }
+
+    private long lineageElementCount() {
+        long count = 0L;
+        for (Collection<Klass> lineage : lineages) {
+            count += lineage.size();
+        }
+        return count;
+    }
+
     @Benchmark
     public void growArrayList() {
         List<Integer> list = new ArrayList<>();
@@ -189,7 +287,7 @@ public class ConsListBenchmark {
             list.add(i);
         }
         this.arrayList = list;
-        SizeOfProfiler.setRootObject(this.arrayList);
+        SizeOfProfiler.setRootObject(this.arrayList, growListSize);
     }
 
     @Benchmark
@@ -199,7 +297,7 @@ public class ConsListBenchmark {
             list.add(i);
         }
         this.linkedList = list;
-        SizeOfProfiler.setRootObject(this.linkedList);
+        SizeOfProfiler.setRootObject(this.linkedList, growListSize);
     }
 
     @Benchmark
@@ -209,7 +307,17 @@ public class ConsListBenchmark {
             list = cons(i, list);
         }
         this.consList = list.reverse();
-        SizeOfProfiler.setRootObject(this.consList);
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void growConsListWithBuilder() {
+        ConsList.Builder<Integer> builder = builder();
+        for (int i = 0; i < growListSize; i++) {
+            builder.add(i);
+        }
+        this.consList = builder.build();
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
     }
 
     @Benchmark
@@ -219,7 +327,17 @@ public class ConsListBenchmark {
             list = cons(i, list);
         }
         this.consList = list;
-        SizeOfProfiler.setRootObject(this.consList);
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void growUnrolledConsList() {
+        Integer[] elements = new Integer[growListSize];
+        for (int i = 0; i < growListSize; i++) {
+            elements[i] = i;
+        }
+        this.consList = list(elements);
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
     }
 
     @Benchmark
@@ -229,7 +347,17 @@ public class ConsListBenchmark {
             list = intCons(i, list);
         }
         this.intConsList = list.intReverse();
-        SizeOfProfiler.setRootObject(this.intConsList);
+        SizeOfProfiler.setRootObject(this.intConsList, growListSize);
+    }
+
+    @Benchmark
+    public void growIntConsListWithBuilder() {
+        ConsList.IntBuilder builder = intBuilder();
+        for (int i = 0; i < growListSize; i++) {
+            builder.add(i);
+        }
+        this.intConsList = builder.build();
+        SizeOfProfiler.setRootObject(this.intConsList, growListSize);
     }
 
     @Benchmark
@@ -239,7 +367,44 @@ public class ConsListBenchmark {
             list = intCons(i, list);
         }
         this.intConsList = list;
-        SizeOfProfiler.setRootObject(this.intConsList);
+        SizeOfProfiler.setRootObject(this.intConsList, growListSize);
+    }
+
+    @Benchmark
+    public void growCompressedIntConsList() {
+        int[] elements = new int[growListSize];
+        for (int i = 0; i < growListSize; i++) {
+            elements[i] = i;
+        }
+        this.compressedIntConsList = compressedIntList(elements);
+        SizeOfProfiler.setRootObject(this.compressedIntConsList, growListSize);
+    }
+
+    /**
+     * Value of a slowly changing metric with one decimal digit, like a temperature reading.
+     */
+    private static double metricValue(int i) {
+        return 20.0d + Math.round(Math.sin(i / 1000.0d) * 100.0d) / 10.0d;
+    }
+
+    @Benchmark
+    public void growDoubleConsList() {
+        DoubleConsList<Double> list = nil();
+        for (int i = growListSize - 1; i >= 0; i--) {
+            list = doubleCons(metricValue(i), list);
+        }
+        this.doubleConsList = list;
+        SizeOfProfiler.setRootObject(this.doubleConsList, growListSize);
+    }
+
+    @Benchmark
+    public void growCompressedDoubleConsList() {
+        double[] elements = new double[growListSize];
+        for (int i = 0; i < growListSize; i++) {
+            elements[i] = metricValue(i);
+        }
+        this.compressedDoubleConsList = compressedDoubleList(elements);
+        SizeOfProfiler.setRootObject(this.compressedDoubleConsList, growListSize);
     }
 
     @Benchmark
@@ -295,6 +460,176 @@ public class ConsListBenchmark {
         return sum;
     }
 
+    @Benchmark
+    public int iterateCompressedIntConsList() {
+        int sum = 0;
+        PrimitiveIterator.OfInt iter = compressedIntConsList.intIterator();
+        while (iter.hasNext()) {
+            sum += iter.nextInt();
+        }
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.valueOf(sum));
+        }
+        SizeOfProfiler.setRootObject(null);
+        return sum;
+    }
+
+    @Benchmark
+    public double iterateDoubleConsList() {
+        double sum = 0.0d;
+        PrimitiveIterator.OfDouble iter = doubleConsList.doubleIterator();
+        while (iter.hasNext()) {
+            sum += iter.nextDouble();
+        }
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.valueOf(sum));
+        }
+        SizeOfProfiler.setRootObject(null);
+        return sum;
+    }
+
+    @Benchmark
+    public double iterateCompressedDoubleConsList() {
+        double sum = 0.0d;
+        PrimitiveIterator.OfDouble iter = compressedDoubleConsList.doubleIterator();
+        while (iter.hasNext()) {
+            sum += iter.nextDouble();
+        }
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.valueOf(sum));
+        }
+        SizeOfProfiler.setRootObject(null);
+        return sum;
+    }
+
+    @Benchmark
+    public long parallelStreamConsList() {
+        long sum = consList.parallelStream()
+            .map(i -> i * 3)
+            .filter(i -> i % 2 == 0)
+            .mapToLong(Integer::longValue)
+            .sum();
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.valueOf(sum));
+        }
+        SizeOfProfiler.setRootObject(null);
+        return sum;
+    }
+
+    @Benchmark
+    public long parallelStreamArrayList() {
+        long sum = arrayList.parallelStream()
+            .map(i -> i * 3)
+            .filter(i -> i % 2 == 0)
+            .mapToLong(Integer::longValue)
+            .sum();
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.valueOf(sum));
+        }
+        SizeOfProfiler.setRootObject(null);
+        return sum;
+    }
+
+    /**
+     * Splits the integers from 0 until the list size into <tt>n</tt> unrolled lists of consecutive elements.
+     */
+    @SuppressWarnings("unchecked")
+    private ConsList<Integer>[] concatArgs(int n) {
+        ConsList<Integer>[] args = new ConsList[n];
+        for (int i = 0; i < n; i++) {
+            int from = (int) ((long) growListSize * i / n);
+            int to = (int) ((long) growListSize * (i + 1) / n);
+            Integer[] elements = new Integer[to - from];
+            for (int j = from; j < to; j++) {
+                elements[j - from] = j;
+            }
+            args[i] = list(elements);
+        }
+        return args;
+    }
+
+    private void concatConsLists(ConsList<Integer>[] args) {
+        this.consList = concat(args[0], Arrays.copyOfRange(args, 1, args.length));
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void concat2ConsLists() {
+        concatConsLists(concatArgs2);
+    }
+
+    @Benchmark
+    public void concat10ConsLists() {
+        concatConsLists(concatArgs10);
+    }
+
+    @Benchmark
+    public void concat1000ConsLists() {
+        concatConsLists(concatArgs1000);
+    }
+
+    @Benchmark
+    public void concat1000ConsListsIterable() {
+        this.consList = concat(Arrays.asList(concatArgs1000));
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void sortConsList() {
+        this.consList = shuffledConsList.sorted();
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void sortConsListWithStream() {
+        this.consList = shuffledConsList.stream()
+            .sorted()
+            .collect(toConsCollector());
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void sortIntConsList() {
+        this.intConsList = shuffledIntConsList.sortedInts();
+        SizeOfProfiler.setRootObject(this.intConsList, growListSize);
+    }
+
+    @Benchmark
+    public void sortArrayList() {
+        List<Integer> list = new ArrayList<>(shuffledArrayList);
+        list.sort(null);
+        this.arrayList = list;
+        SizeOfProfiler.setRootObject(this.arrayList, growListSize);
+    }
+
+    @Benchmark
+    public void collectParallelStreamConsList() {
+        this.consList = IntStream.range(0, growListSize)
+            .parallel()
+            .boxed()
+            .collect(toConsCollector());
+        SizeOfProfiler.setRootObject(this.consList, growListSize);
+    }
+
+    @Benchmark
+    public void collectParallelStreamIntConsList() {
+        this.intConsList = toIntConsList(IntStream.range(0, growListSize).parallel());
+        SizeOfProfiler.setRootObject(this.intConsList, growListSize);
+    }
+
+    @Benchmark
+    public void collectParallelStreamArrayList() {
+        this.arrayList = IntStream.range(0, growListSize)
+            .parallel()
+            .boxed()
+            .collect(Collectors.toList());
+        SizeOfProfiler.setRootObject(this.arrayList, growListSize);
+    }
+
+    public List<Collection<Klass>> lineages() {
+        return lineages;
+    }
+
     public ConsList<Integer> consList() {
         return consList;
     }
@@ -311,6 +646,18 @@ public class ConsListBenchmark {
         return intConsList;
     }
 
+    public ConsList<Integer> compressedIntConsList() {
+        return compressedIntConsList;
+    }
+
+    public ConsList<Double> doubleConsList() {
+        return doubleConsList;
+    }
+
+    public ConsList<Double> compressedDoubleConsList() {
+        return compressedDoubleConsList;
+    }
+
     void setKlassListSize(int klassListSize) {
         this.klassListSize = klassListSize;
     }
@@ -6,15 +6,26 @@ import org.openjdk.jmh.infra.IterationParams;
 import org.openjdk.jmh.profile.InternalProfiler;
 import org.openjdk.jmh.results.*;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public class SizeOfProfiler implements InternalProfiler {
     private static Object rootObject = null;
+    private static long elementCount = 0L;
     private static final SizeOf sizeOf = SizeOf.newInstance();
 
     static void setRootObject(Object rootObject) {
+        setRootObject(rootObject, 0L);
+    }
+
+    /**
+     * Sets the object to be measured along with the number of elements it contains,
+     * so that the size per element is reported as well.
+     */
+    static void setRootObject(Object rootObject, long elementCount) {
         SizeOfProfiler.rootObject = rootObject;
+        SizeOfProfiler.elementCount = elementCount;
     }
 
     @Override
@@ -27,9 +38,13 @@ public class SizeOfProfiler implements InternalProfiler {
                                                        IterationParams iterationParams,
                                                        IterationResult result) {
         long size = sizeOf.deepSizeOf(rootObject);
-        return Arrays.asList(
-            new ScalarResult(Defaults.PREFIX + "result.size", size, "b", AggregationPolicy.AVG)
-        );
+        List<Result> results = new ArrayList<>();
+        results.add(new ScalarResult(Defaults.PREFIX + "result.size", size, "b", AggregationPolicy.AVG));
+        if (elementCount > 0L) {
+            results.add(new ScalarResult(Defaults.PREFIX + "result.sizePerElement",
+                (double) size / elementCount, "b/elem", AggregationPolicy.AVG));
+        }
+        return results;
     }
 
     @Override
@@ -0,0 +1,32 @@
+package io.github.nblxa.benchmark;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.nblxa.cons.ConsInterner;
+import io.github.nblxa.cons.ConsList;
+
+import java.util.Collection;
+
+import static io.github.nblxa.cons.ConsList.interner;
+import static io.github.nblxa.cons.ConsList.nil;
+
+public class InternedConsListLineage implements ListLineage {
+    private final ConsInterner<Klass> interner = interner();
+
+    @Override
+    @NonNull
+    public Collection<Klass> lineage(@NonNull Klass klass) {
+        final Klass superKl = klass.superKlass();
+        final ConsList<Klass> res;
+        if (superKl == null) {
+            res = interner.cons(klass, nil());
+        } else {
+            res = interner.cons(klass, (ConsList<Klass>) lineage(superKl));
+        }
+
+        return res;
+    }
+
+    public int internedNodes() {
+        return interner.size();
+    }
+}
@@ -6,6 +6,7 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -36,6 +37,19 @@ public class ConsListBenchmarkTest {
                 abstractCollection, object);
     }
 
+    @Test
+    public void test_internedConsList() {
+        InternedConsListLineage internedLineage = new InternedConsListLineage();
+        Collection<Klass> lineage = internedLineage.lineage(identityLinkedList);
+        assertThat(lineage)
+            .containsExactly(identityLinkedList, abstractSequentialList, abstractList,
+                abstractCollection, object);
+        assertThat(internedLineage.lineage(abstractList))
+            .isSameAs(((ConsList<Klass>) lineage).tail().tail());
+        assertThat(internedLineage.internedNodes())
+            .isEqualTo(5);
+    }
+
     @Test
     public void test_arrayList() {
         ListLineage arrayListLineage = new ArrayListLineage();
@@ -73,6 +87,31 @@ public class ConsListBenchmarkTest {
             .hasSize(21);
     }
 
+    @Test
+    public void test_collectLineagesConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setKlassListSize(21);
+        benchmark.setup();
+        benchmark.collectLineagesConsList();
+        List<Collection<Klass>> lineages = benchmark.lineages();
+        assertThat(lineages)
+            .hasSize(21);
+        assertThat(lineages.get(20))
+            .startsWith(benchmark.klasses().get(20));
+    }
+
+    @Test
+    public void test_collectLineagesInternedConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setKlassListSize(21);
+        benchmark.setup();
+        benchmark.collectLineagesConsList();
+        List<Collection<Klass>> expected = benchmark.lineages();
+        benchmark.collectLineagesInternedConsList();
+        assertThat(benchmark.lineages())
+            .isEqualTo(expected);
+    }
+
     @Test
     public void test_growArrayList() {
         ConsListBenchmark benchmark = new ConsListBenchmark();
@@ -109,6 +148,18 @@ public class ConsListBenchmarkTest {
             .startsWith(0, 1, 2, 3, 4, 5, 6);
     }
 
+    @Test
+    public void test_growConsListWithBuilder() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(40);
+        benchmark.growConsListWithBuilder();
+        ConsList<Integer> list = benchmark.consList();
+        assertThat(list)
+            .hasSize(40);
+        assertThat(list)
+            .startsWith(0, 1, 2, 3, 4, 5, 6);
+    }
+
     @Test
     public void test_growConsListReverseInputOrder() {
         ConsListBenchmark benchmark = new ConsListBenchmark();
@@ -121,6 +172,18 @@ public class ConsListBenchmarkTest {
             .startsWith(0, 1, 2, 3, 4, 5, 6);
     }
 
+    @Test
+    public void test_growUnrolledConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(40);
+        benchmark.growUnrolledConsList();
+        ConsList<Integer> list = benchmark.consList();
+        assertThat(list)
+            .hasSize(40);
+        assertThat(list)
+            .startsWith(0, 1, 2, 3, 4, 5, 6);
+    }
+
     @Test
     public void test_growIntConsList() {
         ConsListBenchmark benchmark = new ConsListBenchmark();
@@ -133,6 +196,18 @@ public class ConsListBenchmarkTest {
             .startsWith(0, 1, 2, 3, 4, 5, 6);
     }
 
+    @Test
+    public void test_growIntConsListWithBuilder() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(40);
+        benchmark.growIntConsListWithBuilder();
+        ConsList<Integer> list = benchmark.intConsList();
+        assertThat(list)
+            .hasSize(40);
+        assertThat(list)
+            .startsWith(0, 1, 2, 3, 4, 5, 6);
+    }
+
     @Test
     public void test_growIntConsListReverseInputOrder() {
         ConsListBenchmark benchmark = new ConsListBenchmark();
@@ -145,6 +220,30 @@ public class ConsListBenchmarkTest {
             .startsWith(0, 1, 2, 3, 4, 5, 6);
     }
 
+    @Test
+    public void test_growCompressedIntConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(300);
+        benchmark.growCompressedIntConsList();
+        ConsList<Integer> list = benchmark.compressedIntConsList();
+        assertThat(list)
+            .hasSize(300);
+        assertThat(list)
+            .startsWith(0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void test_growCompressedDoubleConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(300);
+        benchmark.growDoubleConsList();
+        benchmark.growCompressedDoubleConsList();
+        ConsList<Double> list = benchmark.compressedDoubleConsList();
+        assertThat(list)
+            .hasSize(300)
+            .isEqualTo(benchmark.doubleConsList());
+    }
+
     @Test
     public void test_iterateConsList() {
         ConsListBenchmark benchmark = new ConsListBenchmark();
@@ -184,4 +283,100 @@ public class ConsListBenchmarkTest {
         assertThat(sum)
             .isEqualTo(105);
     }
+
+    @Test
+    public void test_iterateCompressedIntConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(15);
+        benchmark.setup();
+        int sum = benchmark.iterateCompressedIntConsList();
+        assertThat(sum)
+            .isEqualTo(105);
+    }
+
+    @Test
+    public void test_iterateCompressedDoubleConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(3000);
+        benchmark.setup();
+        double sum = benchmark.iterateCompressedDoubleConsList();
+        assertThat(sum)
+            .isEqualTo(benchmark.iterateDoubleConsList());
+    }
+
+    @Test
+    public void test_parallelStreamConsList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(15);
+        benchmark.setup();
+        long sum = benchmark.parallelStreamConsList();
+        assertThat(sum)
+            .isEqualTo(168L);
+    }
+
+    @Test
+    public void test_parallelStreamArrayList() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(15);
+        benchmark.setup();
+        long sum = benchmark.parallelStreamArrayList();
+        assertThat(sum)
+            .isEqualTo(168L);
+    }
+
+    @Test
+    public void test_concatConsLists() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(3000);
+        benchmark.setup();
+        ConsList<Integer> expected = benchmark.consList();
+        benchmark.concat2ConsLists();
+        assertThat(benchmark.consList())
+            .isEqualTo(expected);
+        benchmark.concat10ConsLists();
+        assertThat(benchmark.consList())
+            .isEqualTo(expected);
+        benchmark.concat1000ConsLists();
+        assertThat(benchmark.consList())
+            .isEqualTo(expected);
+        benchmark.concat1000ConsListsIterable();
+        assertThat(benchmark.consList())
+            .isEqualTo(expected);
+    }
+
+    @Test
+    public void test_sort() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(3000);
+        benchmark.setup();
+        ConsList<Integer> expected = benchmark.consList();
+        benchmark.sortConsList();
+        assertThat(benchmark.consList())
+            .isEqualTo(expected);
+        benchmark.sortConsListWithStream();
+        assertThat(benchmark.consList())
+            .isEqualTo(expected);
+        benchmark.sortIntConsList();
+        assertThat(benchmark.intConsList())
+            .isEqualTo(expected);
+        benchmark.sortArrayList();
+        assertThat(benchmark.arrayList())
+            .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void test_collectParallelStream() {
+        ConsListBenchmark benchmark = new ConsListBenchmark();
+        benchmark.setGrowListSize(1000);
+        benchmark.collectParallelStreamConsList();
+        assertThat(benchmark.consList())
+            .hasSize(1000)
+            .startsWith(0, 1, 2);
+        benchmark.collectParallelStreamIntConsList();
+        assertThat(benchmark.intConsList())
+            .isEqualTo(benchmark.consList());
+        benchmark.collectParallelStreamArrayList();
+        assertThat(benchmark.arrayList())
+            .containsExactlyElementsOf(benchmark.consList());
+    }
 }
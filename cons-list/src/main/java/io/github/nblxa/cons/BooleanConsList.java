@@ -0,0 +1,169 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+@Immutable
+@ThreadSafe
+public interface BooleanConsList<E> extends ConsList<E> {
+
+    /**
+     * Returns the first element of the <tt>BooleanConsList</tt> as <tt>boolean</tt> primitive type.
+     *
+     * This method ensures no primitive boxing is taking place.
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return first element of the list
+     */
+    boolean booleanHead();
+
+    /**
+     * Returns another <tt>BooleanConsList</tt> containing the current list's elements
+     * after the first one.
+     *
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return elements of the list after the first one
+     */
+    @NonNull
+    BooleanConsList<E> booleanTail();
+
+    /**
+     * Constructs a new <tt>BooleanConsList</tt> with the elements of the current one
+     * in the reverse order.
+     *
+     * @return new list with elements in reversed order
+     */
+    @NonNull
+    BooleanConsList<E> booleanReverse();
+
+    /**
+     * Creates a new primitive-typed iterator for this list of type <tt>boolean</tt>.
+     * @return new primitive-typed iterator
+     */
+    @NonNull
+    BooleanIterator booleanIterator();
+
+    /**
+     * Returns the number of <tt>true</tt> elements in the list.
+     *
+     * <p>The elements are counted a packed word of up to 64 elements at a time.
+     *
+     * @return number of <tt>true</tt> elements
+     */
+    long popCount();
+
+    /**
+     * Returns whether any element of the list is equal to <tt>value</tt>.
+     *
+     * <p>The elements are checked a packed word of up to 64 elements at a time.
+     *
+     * @param value the value to look for
+     * @return <tt>true</tt> if the list contains the value
+     */
+    boolean anyMatch(boolean value);
+
+    @NonNull
+    @Override
+    default BooleanConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default BooleanConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default BooleanConsList<E> take(long n) {
+        return ConsUtil.takeBoolean(this, n);
+    }
+
+    @NonNull
+    @Override
+    default BooleanConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default BooleanConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtBoolean(this, index);
+    }
+
+    @NonNull
+    @Override
+    default BooleanConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>BooleanConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default BooleanConsList<E> updatedBoolean(long index, boolean element) {
+        return ConsUtil.updatedBoolean(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>BooleanConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default BooleanConsList<E> insertAtBoolean(long index, boolean element) {
+        return ConsUtil.insertAtBoolean(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>BooleanConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default BooleanConsList<E> removeFirstBoolean(boolean element) {
+        return ConsUtil.removeFirstBoolean(this, element);
+    }
+
+    /**
+     * Iterator over the elements of a <tt>BooleanConsList</tt> returning them
+     * as <tt>boolean</tt> primitive type.
+     */
+    interface BooleanIterator extends Iterator<Boolean> {
+
+        /**
+         * Returns the next element of the iteration as <tt>boolean</tt> primitive type.
+         *
+         * <p>Throws {@link NoSuchElementException} if the iteration has no more elements.
+         *
+         * @return the next element
+         */
+        boolean nextBoolean();
+
+        @Override
+        default Boolean next() {
+            return nextBoolean();
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Node of a <tt>BooleanConsList</tt> packing up to {@link #WORD_SIZE} consecutive elements
+ * into the bits of a single <tt>long</tt> word, followed by the <tt>tail</tt> list.
+ *
+ * <p>The head of the node is stored in the bit <tt>length - 1</tt>, the last element of the node
+ * in the bit 0. All bits above <tt>length - 1</tt> are zero. This way, prepending an element
+ * to a node which is not full only needs to set one more bit in a copy of the node.
+ */
+@Immutable
+@ThreadSafe
+public final class BooleanConsListImpl extends AbstractCollection<Boolean>
+                      implements BooleanConsList<Boolean>, Serializable {
+    private static final long serialVersionUID = -7719346152283905138L;
+    static final int WORD_SIZE = Long.SIZE;
+    private final long bits;
+    private final int length;
+    @NonNull
+    private final BooleanConsList<Boolean> tail;
+    private final long size;
+    private final int hash;
+
+    BooleanConsListImpl(long bits, int length, @NonNull BooleanConsList<Boolean> tail) {
+        this.bits = bits;
+        this.length = length;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + length;
+        int h = ConsUtil.listHash(tail);
+        int p = ConsUtil.pow31(tail.sizeAsLong());
+        for (int i = 0; i < length; i++) {
+            h += p * (30 + Boolean.hashCode((bits >>> i & 1L) != 0L));
+            p *= 31;
+        }
+        this.hash = h;
+    }
+
+    private BooleanConsListImpl(long bits, int length, @NonNull BooleanConsList<Boolean> tail, long size, int hash) {
+        this.bits = bits;
+        this.length = length;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the <tt>head</tt> to the <tt>tail</tt>, setting its bit in a copy of the first node
+     * of the <tt>tail</tt> if that node is not full yet.
+     */
+    @NonNull
+    static BooleanConsList<Boolean> cons(boolean head, @NonNull BooleanConsList<Boolean> tail) {
+        if (tail instanceof BooleanConsListImpl) {
+            BooleanConsListImpl node = (BooleanConsListImpl) tail;
+            if (node.length < WORD_SIZE) {
+                long bit = head ? 1L << node.length : 0L;
+                return new BooleanConsListImpl(node.bits | bit, node.length + 1, node.tail,
+                    node.size + 1L, ConsUtil.consHash(Boolean.hashCode(head), node));
+            }
+        }
+        return new BooleanConsListImpl(head ? 1L : 0L, 1, tail);
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, packing them into
+     * nodes of up to {@link #WORD_SIZE} elements.
+     */
+    @NonNull
+    static BooleanConsList<Boolean> prepend(@NonNull boolean[] elements, int from, int to,
+                                            @NonNull BooleanConsList<Boolean> tail) {
+        BooleanConsList<Boolean> result = tail;
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - WORD_SIZE);
+            long word = 0L;
+            for (int i = start; i < end; i++) {
+                word = word << 1 | (elements[i] ? 1L : 0L);
+            }
+            result = new BooleanConsListImpl(word, end - start, result);
+            end = start;
+        }
+        return result;
+    }
+
+    private static long mask(int length) {
+        return -1L >>> (WORD_SIZE - length);
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns the list following the last element of this node.
+     */
+    @NonNull
+    BooleanConsList<Boolean> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the node without its first <tt>count</tt> elements, where <tt>0 &lt; count &lt; length</tt>.
+     */
+    @NonNull
+    BooleanConsList<Boolean> skip(int count) {
+        int h = hash;
+        long s = size;
+        for (int i = length - 1; i >= length - count; i--) {
+            h = ConsUtil.tailHash(h, Boolean.hashCode((bits >>> i & 1L) != 0L), --s);
+        }
+        return new BooleanConsListImpl(bits & mask(length - count), length - count, tail, s, h);
+    }
+
+    @Override
+    public boolean booleanHead() {
+        return (bits >>> (length - 1) & 1L) != 0L;
+    }
+
+    @NonNull
+    @Override
+    public BooleanConsList<Boolean> booleanTail() {
+        if (length > 1) {
+            int tailHash = ConsUtil.tailHash(hash, Boolean.hashCode(booleanHead()), size - 1L);
+            return new BooleanConsListImpl(bits & mask(length - 1), length - 1, tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public BooleanConsList<Boolean> booleanReverse() {
+        BooleanConsList<Boolean> result = ConsList.nil();
+        long word = 0L;
+        int wordLength = 0;
+        BooleanIterator iter = booleanIterator();
+        while (iter.hasNext()) {
+            if (wordLength == WORD_SIZE) {
+                result = new BooleanConsListImpl(word, wordLength, result);
+                word = 0L;
+                wordLength = 0;
+            }
+            if (iter.nextBoolean()) {
+                word |= 1L << wordLength;
+            }
+            wordLength++;
+        }
+        return new BooleanConsListImpl(word, wordLength, result);
+    }
+
+    @Override
+    public long popCount() {
+        long count = 0L;
+        BooleanConsList<Boolean> cons = this;
+        while (cons instanceof BooleanConsListImpl) {
+            BooleanConsListImpl node = (BooleanConsListImpl) cons;
+            count += Long.bitCount(node.bits);
+            cons = node.tail;
+        }
+        return count + cons.popCount();
+    }
+
+    @Override
+    public boolean anyMatch(boolean value) {
+        BooleanConsList<Boolean> cons = this;
+        while (cons instanceof BooleanConsListImpl) {
+            BooleanConsListImpl node = (BooleanConsListImpl) cons;
+            if (node.bits != (value ? 0L : mask(node.length))) {
+                return true;
+            }
+            cons = node.tail;
+        }
+        return cons.anyMatch(value);
+    }
+
+    @NonNull
+    @Override
+    public Boolean head() {
+        return booleanHead();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Boolean> tail() {
+        return booleanTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Boolean> reverse() {
+        return booleanReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Boolean> iterator() {
+        return booleanIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Boolean> spliterator() {
+        return Spliterators.spliterator(iterator(), size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public BooleanIterator booleanIterator() {
+        return new BooleanConsIterator(this);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof BooleanConsList) {
+            return ConsUtil.haveEqualElements(this, (BooleanConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Iterator reading the elements of each node straight from its packed word.
+     */
+    static final class BooleanConsIterator implements BooleanIterator {
+        private BooleanConsList<Boolean> cons;
+        private long bits;
+        private int remaining;
+
+        BooleanConsIterator(BooleanConsList<Boolean> cons) {
+            this.cons = cons;
+        }
+
+        /**
+         * Returns the list of the remaining elements if the iterator is at a node boundary,
+         * or <tt>null</tt> while inside a packed node.
+         */
+        BooleanConsList<Boolean> rest() {
+            return remaining > 0 ? null : cons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 || cons != Nil.INSTANCE;
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            if (remaining <= 0) {
+                if (!(cons instanceof BooleanConsListImpl)) {
+                    boolean next = cons.booleanHead();
+                    cons = cons.booleanTail();
+                    return next;
+                }
+                BooleanConsListImpl node = (BooleanConsListImpl) cons;
+                bits = node.bits;
+                remaining = node.length;
+                cons = node.tail;
+            }
+            remaining--;
+            return (bits >>> remaining & 1L) != 0L;
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the BooleanConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 1736450098721370764L;
+        private transient BooleanConsList<Boolean> list;
+
+        private SerializationProxy(BooleanConsList<Boolean> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * The elements are packed into <tt>long</tt> words of {@link #WORD_SIZE} elements, except
+         * for the first word holding the remaining elements. The words are written in the reverse
+         * order, so that de-serialization can prepend each of them to the list as soon as it is read.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            long length = list.sizeAsLong();
+            int words = (int) ((length + WORD_SIZE - 1) / WORD_SIZE);
+            int firstWordLength = firstWordLength(length, words);
+            long[] packed = new long[words];
+            int word = 0;
+            int wordLength = firstWordLength;
+            int pos = 0;
+            BooleanIterator iter = list.booleanIterator();
+            while (iter.hasNext()) {
+                packed[word] = packed[word] << 1 | (iter.nextBoolean() ? 1L : 0L);
+                if (++pos == wordLength) {
+                    word++;
+                    wordLength = WORD_SIZE;
+                    pos = 0;
+                }
+            }
+            out.writeLong(length);
+            for (int w = words - 1; w >= 0; w--) {
+                try {
+                    out.writeLong(packed[w]);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " +
+                            firstPosition(w, firstWordLength), e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            BooleanConsList<Boolean> cons = ConsList.nil();
+            long length = in.readLong();
+            int words = (int) ((length + WORD_SIZE - 1) / WORD_SIZE);
+            int firstWordLength = firstWordLength(length, words);
+            for (int w = words - 1; w >= 0; w--) {
+                try {
+                    long bits = in.readLong();
+                    cons = new BooleanConsListImpl(bits, w == 0 ? firstWordLength : WORD_SIZE, cons);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " +
+                            firstPosition(w, firstWordLength), e);
+                }
+            }
+            list = cons;
+        }
+
+        private static int firstWordLength(long length, int words) {
+            return (int) (length - (words - 1L) * WORD_SIZE);
+        }
+
+        private static long firstPosition(int word, int firstWordLength) {
+            return word == 0 ? 0L : firstWordLength + (word - 1L) * WORD_SIZE;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
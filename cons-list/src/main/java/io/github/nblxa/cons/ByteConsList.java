@@ -0,0 +1,176 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+@Immutable
+@ThreadSafe
+public interface ByteConsList<E> extends ConsList<E> {
+
+    /**
+     * Returns the first element of the <tt>ByteConsList</tt> as <tt>byte</tt> primitive type.
+     *
+     * This method ensures no primitive boxing is taking place.
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return first element of the list
+     */
+    byte byteHead();
+
+    /**
+     * Returns another <tt>ByteConsList</tt> containing the current list's elements
+     * after the first one.
+     *
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return elements of the list after the first one
+     */
+    @NonNull
+    ByteConsList<E> byteTail();
+
+    /**
+     * Constructs a new <tt>ByteConsList</tt> with the elements of the current one
+     * in the reverse order.
+     *
+     * @return new list with elements in reversed order
+     */
+    @NonNull
+    ByteConsList<E> byteReverse();
+
+    /**
+     * Creates a new primitive-typed iterator for this list of type <tt>byte</tt>.
+     * @return new primitive-typed iterator
+     */
+    @NonNull
+    ByteIterator byteIterator();
+
+    /**
+     * Creates a new primitive-typed spliterator for this list, widening the elements
+     * of type <tt>byte</tt> to <tt>int</tt>.
+     * @return new primitive-typed spliterator
+     */
+    @NonNull
+    Spliterator.OfInt byteSpliterator();
+
+    /**
+     * Creates a new primitive-typed stream from this list, widening the elements
+     * of type <tt>byte</tt> to <tt>int</tt>.
+     * @return new primitive-typed stream
+     */
+    @NonNull
+    IntStream byteStream();
+
+    /**
+     * Creates a new possibly parallel primitive-typed stream from this list, widening the elements
+     * of type <tt>byte</tt> to <tt>int</tt>.
+     * @return new possibly parallel primitive-typed stream
+     */
+    @NonNull
+    IntStream parallelByteStream();
+
+    @NonNull
+    @Override
+    default ByteConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default ByteConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default ByteConsList<E> take(long n) {
+        return ConsUtil.takeByte(this, n);
+    }
+
+    @NonNull
+    @Override
+    default ByteConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default ByteConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtByte(this, index);
+    }
+
+    @NonNull
+    @Override
+    default ByteConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>ByteConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default ByteConsList<E> updatedByte(long index, byte element) {
+        return ConsUtil.updatedByte(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>ByteConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default ByteConsList<E> insertAtByte(long index, byte element) {
+        return ConsUtil.insertAtByte(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>ByteConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default ByteConsList<E> removeFirstByte(byte element) {
+        return ConsUtil.removeFirstByte(this, element);
+    }
+
+    /**
+     * Iterator over the elements of a <tt>ByteConsList</tt> returning them
+     * as <tt>byte</tt> primitive type.
+     */
+    interface ByteIterator extends Iterator<Byte> {
+
+        /**
+         * Returns the next element of the iteration as <tt>byte</tt> primitive type.
+         *
+         * <p>Throws {@link NoSuchElementException} if the iteration has no more elements.
+         *
+         * @return the next element
+         */
+        byte nextByte();
+
+        @Override
+        default Byte next() {
+            return nextByte();
+        }
+    }
+}
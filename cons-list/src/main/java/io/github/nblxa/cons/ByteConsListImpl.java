@@ -0,0 +1,255 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+@Immutable
+@ThreadSafe
+public final class ByteConsListImpl extends AbstractCollection<Byte>
+                      implements ByteConsList<Byte>, Serializable {
+    private static final long serialVersionUID = 2265870591416603987L;
+    private final byte head;
+    @NonNull
+    private final ByteConsList<Byte> tail;
+    private final long size;
+    private final int hash;
+
+    ByteConsListImpl(byte head, @NonNull ByteConsList<Byte> tail) {
+        this.head = head;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Byte.hashCode(head), tail);
+    }
+
+    @Override
+    public byte byteHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ByteConsList<Byte> byteTail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public ByteConsList<Byte> byteReverse() {
+        ByteConsList<Byte> result = ConsList.nil();
+        ByteConsList<Byte> cons = this;
+        while (cons != Nil.INSTANCE) {
+            result = new ByteConsListImpl(cons.byteHead(), result);
+            cons = cons.byteTail();
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public Byte head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Byte> tail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Byte> reverse() {
+        return byteReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Byte> iterator() {
+        return byteIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Byte> spliterator() {
+        return Spliterators.spliterator(iterator(), size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public ByteIterator byteIterator() {
+        return new ByteConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt byteSpliterator() {
+        ByteIterator iter = byteIterator();
+        PrimitiveIterator.OfInt widening = new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return iter.nextByte();
+            }
+        };
+        return Spliterators.spliterator(widening, size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public IntStream byteStream() {
+        return StreamSupport.intStream(byteSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelByteStream() {
+        return StreamSupport.intStream(byteSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ByteConsList) {
+            return ConsUtil.haveEqualElements(this, (ByteConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private static final class ByteConsIterator implements ByteIterator {
+        private ByteConsList<Byte> cons;
+
+        private ByteConsIterator(ByteConsList<Byte> cons) {
+            this.cons = cons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cons != Nil.INSTANCE;
+        }
+
+        @Override
+        public byte nextByte() {
+            byte next = cons.byteHead();
+            cons = cons.byteTail();
+            return next;
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the ByteConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = -6790235817320042385L;
+        private transient ByteConsList<Byte> list;
+
+        private SerializationProxy(ByteConsList<Byte> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * ConsList implementations are reversed before serializing. This way, one particular
+         * use case of serialization is optimized: write-once, read-many. For instance, this could be
+         * serialization on disk in order to save application state that can be restored multiple times.
+         * <p>
+         * The elements are written as raw <tt>byte</tt> values, preceded by the list length.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            ByteConsList<Byte> reversed = list.byteReverse();
+            long length = list.sizeAsLong();
+            out.writeLong(length);
+            long pos = 0L;
+            ByteIterator iter = reversed.byteIterator();
+            while (iter.hasNext()) {
+                byte elem = iter.nextByte();
+                try {
+                    out.writeByte(elem);
+                    pos++;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " +
+                            (length - pos - 1L), e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            ByteConsList<Byte> cons = ConsList.nil();
+            long length = in.readLong();
+            for (long l = length; l != 0; l--) {
+                try {
+                    byte elem = in.readByte();
+                    cons = new ByteConsListImpl(elem, cons);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (l - 1), e);
+                }
+            }
+            list = cons;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+@Immutable
+@ThreadSafe
+public interface CharConsList<E> extends ConsList<E> {
+
+    /**
+     * Returns the first element of the <tt>CharConsList</tt> as <tt>char</tt> primitive type.
+     *
+     * This method ensures no primitive boxing is taking place.
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return first element of the list
+     */
+    char charHead();
+
+    /**
+     * Returns another <tt>CharConsList</tt> containing the current list's elements
+     * after the first one.
+     *
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return elements of the list after the first one
+     */
+    @NonNull
+    CharConsList<E> charTail();
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> with the elements of the current one
+     * in the reverse order.
+     *
+     * @return new list with elements in reversed order
+     */
+    @NonNull
+    CharConsList<E> charReverse();
+
+    /**
+     * Creates a new primitive-typed iterator for this list of type <tt>char</tt>.
+     * @return new primitive-typed iterator
+     */
+    @NonNull
+    CharIterator charIterator();
+
+    /**
+     * Creates a new primitive-typed spliterator for this list, widening the elements
+     * of type <tt>char</tt> to <tt>int</tt>.
+     * @return new primitive-typed spliterator
+     */
+    @NonNull
+    Spliterator.OfInt charSpliterator();
+
+    /**
+     * Creates a new primitive-typed stream from this list, widening the elements
+     * of type <tt>char</tt> to <tt>int</tt>.
+     * @return new primitive-typed stream
+     */
+    @NonNull
+    IntStream charStream();
+
+    /**
+     * Creates a new possibly parallel primitive-typed stream from this list, widening the elements
+     * of type <tt>char</tt> to <tt>int</tt>.
+     * @return new possibly parallel primitive-typed stream
+     */
+    @NonNull
+    IntStream parallelCharStream();
+
+    @NonNull
+    @Override
+    default CharConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default CharConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default CharConsList<E> take(long n) {
+        return ConsUtil.takeChar(this, n);
+    }
+
+    @NonNull
+    @Override
+    default CharConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default CharConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtChar(this, index);
+    }
+
+    @NonNull
+    @Override
+    default CharConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>CharConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default CharConsList<E> updatedChar(long index, char element) {
+        return ConsUtil.updatedChar(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>CharConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default CharConsList<E> insertAtChar(long index, char element) {
+        return ConsUtil.insertAtChar(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>CharConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default CharConsList<E> removeFirstChar(char element) {
+        return ConsUtil.removeFirstChar(this, element);
+    }
+
+    /**
+     * Iterator over the elements of a <tt>CharConsList</tt> returning them
+     * as <tt>char</tt> primitive type.
+     */
+    interface CharIterator extends Iterator<Character> {
+
+        /**
+         * Returns the next element of the iteration as <tt>char</tt> primitive type.
+         *
+         * <p>Throws {@link NoSuchElementException} if the iteration has no more elements.
+         *
+         * @return the next element
+         */
+        char nextChar();
+
+        @Override
+        default Character next() {
+            return nextChar();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+@Immutable
+@ThreadSafe
+public final class CharConsListImpl extends AbstractCollection<Character>
+                      implements CharConsList<Character>, Serializable {
+    private static final long serialVersionUID = -5062398110372681547L;
+    private final char head;
+    @NonNull
+    private final CharConsList<Character> tail;
+    private final long size;
+    private final int hash;
+
+    CharConsListImpl(char head, @NonNull CharConsList<Character> tail) {
+        this.head = head;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Character.hashCode(head), tail);
+    }
+
+    @Override
+    public char charHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public CharConsList<Character> charTail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public CharConsList<Character> charReverse() {
+        CharConsList<Character> result = ConsList.nil();
+        CharConsList<Character> cons = this;
+        while (cons != Nil.INSTANCE) {
+            result = new CharConsListImpl(cons.charHead(), result);
+            cons = cons.charTail();
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public Character head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Character> tail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Character> reverse() {
+        return charReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Character> iterator() {
+        return charIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Character> spliterator() {
+        return Spliterators.spliterator(iterator(), size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public CharIterator charIterator() {
+        return new CharConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt charSpliterator() {
+        CharIterator iter = charIterator();
+        PrimitiveIterator.OfInt widening = new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return iter.nextChar();
+            }
+        };
+        return Spliterators.spliterator(widening, size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public IntStream charStream() {
+        return StreamSupport.intStream(charSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelCharStream() {
+        return StreamSupport.intStream(charSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof CharConsList) {
+            return ConsUtil.haveEqualElements(this, (CharConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private static final class CharConsIterator implements CharIterator {
+        private CharConsList<Character> cons;
+
+        private CharConsIterator(CharConsList<Character> cons) {
+            this.cons = cons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cons != Nil.INSTANCE;
+        }
+
+        @Override
+        public char nextChar() {
+            char next = cons.charHead();
+            cons = cons.charTail();
+            return next;
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the CharConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 3387052921610476810L;
+        private transient CharConsList<Character> list;
+
+        private SerializationProxy(CharConsList<Character> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * ConsList implementations are reversed before serializing. This way, one particular
+         * use case of serialization is optimized: write-once, read-many. For instance, this could be
+         * serialization on disk in order to save application state that can be restored multiple times.
+         * <p>
+         * The elements are written as raw <tt>char</tt> values, preceded by the list length.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            CharConsList<Character> reversed = list.charReverse();
+            long length = list.sizeAsLong();
+            out.writeLong(length);
+            long pos = 0L;
+            CharIterator iter = reversed.charIterator();
+            while (iter.hasNext()) {
+                char elem = iter.nextChar();
+                try {
+                    out.writeChar(elem);
+                    pos++;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " +
+                            (length - pos - 1L), e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            CharConsList<Character> cons = ConsList.nil();
+            long length = in.readLong();
+            for (long l = length; l != 0; l--) {
+                try {
+                    char elem = in.readChar();
+                    cons = new CharConsListImpl(elem, cons);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (l - 1), e);
+                }
+            }
+            list = cons;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compressed node of a <tt>DoubleConsList</tt> holding up to {@link ConsUtil#COMPRESSED_NODE_CAPACITY}
+ * consecutive elements, followed by the <tt>tail</tt> list.
+ *
+ * <p>The head of the node is stored as is. Every following element is XOR-ed with the previous one
+ * and written into a bit stream like in the Gorilla time series database:
+ * <ul>
+ * <li><tt>0</tt> if the value is the same as the previous one,</li>
+ * <li><tt>10</tt> followed by the meaningful bits of the XOR if they fit into the window
+ * of the previous meaningful bits,</li>
+ * <li><tt>11</tt> followed by the number of leading zeros in 6 bits, the number of meaningful bits
+ * minus one in 6 bits and the meaningful bits of the XOR otherwise.</li>
+ * </ul>
+ * Slowly changing series share most of the sign, exponent and high mantissa bits of consecutive
+ * values, so that they take a fraction of the 64 bits per element.
+ *
+ * <p>The bit stream is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same stream starting at the next element.
+ */
+@Immutable
+@ThreadSafe
+public final class CompressedDoubleConsListImpl extends AbstractCollection<Double>
+                             implements DoubleConsList<Double>, Serializable {
+    private static final long serialVersionUID = 3417805652389027615L;
+    private static final int MAX_BITS_PER_ELEMENT = 2 + 6 + 6 + Long.SIZE;
+    @NonNull
+    private final long[] stream;
+    private final int offset;
+    private final double head;
+    private final int leading;
+    private final int meaningful;
+    private final int length;
+    @NonNull
+    private final DoubleConsList<Double> tail;
+    private final long size;
+    private final int hash;
+
+    CompressedDoubleConsListImpl(@NonNull long[] stream, double head, int length,
+                                 @NonNull DoubleConsList<Double> tail) {
+        this(stream, 0, head, 0, 0, length, tail);
+    }
+
+    private CompressedDoubleConsListImpl(@NonNull long[] stream, int offset, double head, int leading,
+                                         int meaningful, int length, @NonNull DoubleConsList<Double> tail) {
+        this.stream = stream;
+        this.offset = offset;
+        this.head = head;
+        this.leading = leading;
+        this.meaningful = meaningful;
+        this.length = length;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + length;
+        int h = 30 + Double.hashCode(head);
+        Decoder decoder = new Decoder(this);
+        for (int i = 1; i < length; i++) {
+            h = 31 * h + 30 + Double.hashCode(decoder.next());
+        }
+        this.hash = ConsUtil.listHash(tail) + ConsUtil.pow31(tail.sizeAsLong()) * h;
+    }
+
+    /**
+     * Constructs a view of the stream with a known length and hash code.
+     */
+    private CompressedDoubleConsListImpl(@NonNull long[] stream, int offset, double head, int leading,
+                                         int meaningful, int length, @NonNull DoubleConsList<Double> tail,
+                                         long size, int hash) {
+        this.stream = stream;
+        this.offset = offset;
+        this.head = head;
+        this.leading = leading;
+        this.meaningful = meaningful;
+        this.length = length;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, compressing them into
+     * nodes of up to {@link ConsUtil#COMPRESSED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is not referenced by the resulting nodes.
+     */
+    @NonNull
+    static DoubleConsList<Double> prepend(@NonNull double[] elements, int from, int to,
+                                          @NonNull DoubleConsList<Double> tail) {
+        DoubleConsList<Double> result = tail;
+        long[] buf = new long[((ConsUtil.COMPRESSED_NODE_CAPACITY - 1) * MAX_BITS_PER_ELEMENT + 63) / 64];
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.COMPRESSED_NODE_CAPACITY);
+            Arrays.fill(buf, 0L);
+            int pos = 0;
+            int leading = 0;
+            int meaningful = 0;
+            long prev = Double.doubleToRawLongBits(elements[start]);
+            for (int i = start + 1; i < end; i++) {
+                long bits = Double.doubleToRawLongBits(elements[i]);
+                long xor = bits ^ prev;
+                if (xor == 0L) {
+                    pos = writeBits(buf, pos, 0L, 1);
+                } else {
+                    int lz = Long.numberOfLeadingZeros(xor);
+                    int tz = Long.numberOfTrailingZeros(xor);
+                    if (meaningful > 0 && lz >= leading && tz >= Long.SIZE - leading - meaningful) {
+                        pos = writeBits(buf, pos, 0b10L, 2);
+                    } else {
+                        leading = lz;
+                        meaningful = Long.SIZE - lz - tz;
+                        pos = writeBits(buf, pos, 0b11L, 2);
+                        pos = writeBits(buf, pos, leading, 6);
+                        pos = writeBits(buf, pos, meaningful - 1, 6);
+                    }
+                    pos = writeBits(buf, pos, xor >>> (Long.SIZE - leading - meaningful), meaningful);
+                }
+                prev = bits;
+            }
+            result = new CompressedDoubleConsListImpl(Arrays.copyOf(buf, (pos + 63) >>> 6), elements[start],
+                end - start, result);
+            end = start;
+        }
+        return result;
+    }
+
+    /**
+     * Writes the lowest <tt>n</tt> bits of the value into the zeroed stream, highest bit first.
+     *
+     * @return the position after the last bit written
+     */
+    private static int writeBits(long[] stream, int pos, long value, int n) {
+        int index = pos >>> 6;
+        int free = Long.SIZE - (pos & 63);
+        long v = n == Long.SIZE ? value : value & ((1L << n) - 1L);
+        if (n <= free) {
+            stream[index] |= v << (free - n);
+        } else {
+            stream[index] |= v >>> (n - free);
+            stream[index + 1] |= v << (Long.SIZE - (n - free));
+        }
+        return pos + n;
+    }
+
+    /**
+     * Reads <tt>n</tt> bits, 1 to 64, from the stream, see {@link #writeBits(long[], int, long, int)}.
+     */
+    private static long readBits(long[] stream, int pos, int n) {
+        int index = pos >>> 6;
+        int shift = pos & 63;
+        long value = stream[index] << shift;
+        if (shift + n > Long.SIZE) {
+            value |= stream[index + 1] >>> (Long.SIZE - shift);
+        }
+        return value >>> (Long.SIZE - n);
+    }
+
+    /**
+     * Returns the list following the last element of this node.
+     */
+    @NonNull
+    DoubleConsList<Double> next() {
+        return tail;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns the view of this node without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; length</tt>.
+     */
+    @NonNull
+    DoubleConsList<Double> skip(int count) {
+        Decoder decoder = new Decoder(this);
+        double value = head;
+        int h = hash;
+        long s = size;
+        for (int i = 0; i < count; i++) {
+            h = ConsUtil.tailHash(h, Double.hashCode(value), --s);
+            value = decoder.next();
+        }
+        return new CompressedDoubleConsListImpl(stream, decoder.pos, value, decoder.leading,
+            decoder.meaningful, length - count, tail, s, h);
+    }
+
+    @Override
+    public double doubleHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public DoubleConsList<Double> doubleTail() {
+        if (length > 1) {
+            Decoder decoder = new Decoder(this);
+            double next = decoder.next();
+            int tailHash = ConsUtil.tailHash(hash, Double.hashCode(head), size - 1L);
+            return new CompressedDoubleConsListImpl(stream, decoder.pos, next, decoder.leading,
+                decoder.meaningful, length - 1, tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public DoubleConsList<Double> doubleReverse() {
+        DoubleConsList<Double> result = ConsList.nil();
+        double[] chunk = new double[ConsUtil.COMPRESSED_NODE_CAPACITY];
+        int pos = chunk.length;
+        PrimitiveIterator.OfDouble iter = doubleIterator();
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = prepend(chunk, 0, chunk.length, result);
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.nextDouble();
+        }
+        return prepend(chunk, pos, chunk.length, result);
+    }
+
+    @NonNull
+    @Override
+    public Double head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Double> tail() {
+        return doubleTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Double> reverse() {
+        return doubleReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Double> iterator() {
+        return doubleIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Double> spliterator() {
+        return doubleSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfDouble doubleIterator() {
+        return new DoubleConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfDouble doubleSpliterator() {
+        return new DoubleConsSpliterator(this);
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(doubleSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream parallelDoubleStream() {
+        return StreamSupport.doubleStream(doubleSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof DoubleConsList) {
+            return ConsUtil.haveEqualElements(this, (DoubleConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Decoder of the elements of a node after its head.
+     */
+    static final class Decoder {
+        @NonNull
+        private final long[] stream;
+        private int pos;
+        private long bits;
+        private int leading;
+        private int meaningful;
+
+        Decoder(@NonNull CompressedDoubleConsListImpl node) {
+            this.stream = node.stream;
+            this.pos = node.offset;
+            this.bits = Double.doubleToRawLongBits(node.head);
+            this.leading = node.leading;
+            this.meaningful = node.meaningful;
+        }
+
+        /**
+         * Decodes the next element. The caller is responsible for not reading past the node's length.
+         */
+        double next() {
+            if (readBits(stream, pos++, 1) != 0L) {
+                if (readBits(stream, pos++, 1) != 0L) {
+                    leading = (int) readBits(stream, pos, 6);
+                    meaningful = (int) readBits(stream, pos + 6, 6) + 1;
+                    pos += 12;
+                }
+                bits ^= readBits(stream, pos, meaningful) << (Long.SIZE - leading - meaningful);
+                pos += meaningful;
+            }
+            return Double.longBitsToDouble(bits);
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the CompressedDoubleConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = -6118723093446278150L;
+        private transient DoubleConsList<Double> list;
+
+        private SerializationProxy(DoubleConsList<Double> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * The bit streams of the compressed nodes are written as they are, the runs of elements
+         * in other nodes are compressed first. The nodes are written in the reverse order,
+         * so that de-serialization can prepend each of them to the list as soon as it is read.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            List<CompressedDoubleConsListImpl> nodes = new ArrayList<>();
+            DoubleConsList<Double> cons = list;
+            while (cons != Nil.INSTANCE) {
+                if (cons instanceof CompressedDoubleConsListImpl) {
+                    CompressedDoubleConsListImpl node = (CompressedDoubleConsListImpl) cons;
+                    nodes.add(node);
+                    cons = node.tail;
+                } else {
+                    double[] run = new double[ConsUtil.COMPRESSED_NODE_CAPACITY];
+                    int n = 0;
+                    while (cons != Nil.INSTANCE && !(cons instanceof CompressedDoubleConsListImpl)) {
+                        if (n == run.length) {
+                            run = Arrays.copyOf(run, n * 2);
+                        }
+                        run[n++] = cons.doubleHead();
+                        cons = cons.doubleTail();
+                    }
+                    DoubleConsList<Double> compressed = prepend(run, 0, n, ConsList.nil());
+                    while (compressed != Nil.INSTANCE) {
+                        CompressedDoubleConsListImpl node = (CompressedDoubleConsListImpl) compressed;
+                        nodes.add(node);
+                        compressed = node.tail;
+                    }
+                }
+            }
+            long pos = list.sizeAsLong();
+            out.writeLong(pos);
+            out.writeInt(nodes.size());
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                CompressedDoubleConsListImpl node = nodes.get(i);
+                pos -= node.length;
+                try {
+                    int bits = node.stream.length * Long.SIZE - node.offset;
+                    out.writeInt(node.length);
+                    out.writeDouble(node.head);
+                    out.writeByte(node.leading);
+                    out.writeByte(node.meaningful);
+                    out.writeInt(bits);
+                    for (int b = 0; b < bits; b += Long.SIZE) {
+                        int n = Math.min(Long.SIZE, bits - b);
+                        out.writeLong(readBits(node.stream, node.offset + b, n) << (Long.SIZE - n));
+                    }
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " + pos, e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            DoubleConsList<Double> cons = ConsList.nil();
+            long pos = in.readLong();
+            int nodes = in.readInt();
+            for (int i = 0; i < nodes; i++) {
+                try {
+                    int length = in.readInt();
+                    double head = in.readDouble();
+                    int leading = in.readByte();
+                    int meaningful = in.readByte();
+                    long[] stream = new long[(in.readInt() + 63) >>> 6];
+                    for (int w = 0; w < stream.length; w++) {
+                        stream[w] = in.readLong();
+                    }
+                    cons = new CompressedDoubleConsListImpl(stream, 0, head, leading, meaningful, length, cons);
+                    pos -= length;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (pos - 1), e);
+                }
+            }
+            list = cons;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compressed node of an <tt>IntConsList</tt> holding up to {@link ConsUtil#COMPRESSED_NODE_CAPACITY}
+ * consecutive elements, followed by the <tt>tail</tt> list.
+ *
+ * <p>The head of the node is stored as is. Every following element is stored as its difference
+ * to the previous one, zigzag-encoded into a varint of one to five bytes, so that sorted lists
+ * of close values, like ID lists, take one or two bytes per element.
+ *
+ * <p>The byte array is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same array starting at the next delta.
+ */
+@Immutable
+@ThreadSafe
+public final class CompressedIntConsListImpl extends AbstractCollection<Integer>
+                      implements IntConsList<Integer>, Serializable {
+    private static final long serialVersionUID = -3169845026473127531L;
+    private static final int MAX_VARINT_BYTES = (Integer.SIZE + 6) / 7;
+    @NonNull
+    private final byte[] deltas;
+    private final int offset;
+    private final int head;
+    private final int length;
+    @NonNull
+    private final IntConsList<Integer> tail;
+    private final long size;
+    private final int hash;
+
+    CompressedIntConsListImpl(@NonNull byte[] deltas, int head, int length, @NonNull IntConsList<Integer> tail) {
+        this.deltas = deltas;
+        this.offset = 0;
+        this.head = head;
+        this.length = length;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + length;
+        int h = 30 + Integer.hashCode(head);
+        int value = head;
+        int pos = 0;
+        for (int i = 1; i < length; i++) {
+            value += unzigzag((int) ConsUtil.getVarLong(deltas, pos));
+            pos = ConsUtil.varLongEnd(deltas, pos);
+            h = 31 * h + 30 + Integer.hashCode(value);
+        }
+        this.hash = ConsUtil.listHash(tail) + ConsUtil.pow31(tail.sizeAsLong()) * h;
+    }
+
+    /**
+     * Constructs a view of the deltas with a known length and hash code.
+     */
+    private CompressedIntConsListImpl(@NonNull byte[] deltas, int offset, int head, int length,
+                                      @NonNull IntConsList<Integer> tail, long size, int hash) {
+        this.deltas = deltas;
+        this.offset = offset;
+        this.head = head;
+        this.length = length;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, compressing them into
+     * nodes of up to {@link ConsUtil#COMPRESSED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is not referenced by the resulting nodes.
+     */
+    @NonNull
+    static IntConsList<Integer> prepend(@NonNull int[] elements, int from, int to,
+                                        @NonNull IntConsList<Integer> tail) {
+        IntConsList<Integer> result = tail;
+        byte[] buf = new byte[(ConsUtil.COMPRESSED_NODE_CAPACITY - 1) * 5];
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.COMPRESSED_NODE_CAPACITY);
+            int pos = 0;
+            for (int i = start + 1; i < end; i++) {
+                pos = ConsUtil.putVarLong(buf, pos, zigzag(elements[i] - elements[i - 1]));
+            }
+            result = new CompressedIntConsListImpl(Arrays.copyOf(buf, pos), elements[start], end - start, result);
+            end = start;
+        }
+        return result;
+    }
+
+    /**
+     * Maps the signed difference to an unsigned value, so that differences of a small magnitude
+     * take few varint bytes regardless of their sign.
+     */
+    static long zigzag(int delta) {
+        return ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL;
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @NonNull
+    byte[] deltas() {
+        return deltas;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns the list following the last element of this node.
+     */
+    @NonNull
+    IntConsList<Integer> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the view of this node without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; length</tt>.
+     */
+    @NonNull
+    IntConsList<Integer> skip(int count) {
+        int value = head;
+        int pos = offset;
+        int h = hash;
+        long s = size;
+        for (int i = 0; i < count; i++) {
+            h = ConsUtil.tailHash(h, Integer.hashCode(value), --s);
+            value += unzigzag((int) ConsUtil.getVarLong(deltas, pos));
+            pos = ConsUtil.varLongEnd(deltas, pos);
+        }
+        return new CompressedIntConsListImpl(deltas, pos, value, length - count, tail, s, h);
+    }
+
+    @Override
+    public int intHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> intTail() {
+        if (length > 1) {
+            int next = head + unzigzag((int) ConsUtil.getVarLong(deltas, offset));
+            int tailHash = ConsUtil.tailHash(hash, Integer.hashCode(head), size - 1L);
+            return new CompressedIntConsListImpl(deltas, ConsUtil.varLongEnd(deltas, offset), next, length - 1,
+                tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> intReverse() {
+        IntConsList<Integer> result = ConsList.nil();
+        int[] chunk = new int[ConsUtil.COMPRESSED_NODE_CAPACITY];
+        int pos = chunk.length;
+        PrimitiveIterator.OfInt iter = intIterator();
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = prepend(chunk, 0, chunk.length, result);
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.nextInt();
+        }
+        return prepend(chunk, pos, chunk.length, result);
+    }
+
+    @NonNull
+    @Override
+    public Integer head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Integer> tail() {
+        return intTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Integer> reverse() {
+        return intReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Integer> iterator() {
+        return intIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return intSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new IntConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt intSpliterator() {
+        return new IntConsSpliterator(this);
+    }
+
+    @NonNull
+    @Override
+    public IntStream intStream() {
+        return StreamSupport.intStream(intSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(intSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof IntConsList) {
+            return ConsUtil.haveEqualElements(this, (IntConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the CompressedIntConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 5521783364218504216L;
+        private transient IntConsList<Integer> list;
+
+        private SerializationProxy(IntConsList<Integer> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * The deltas of the compressed nodes are written as they are, the runs of elements
+         * in other nodes are compressed first. The nodes are written in the reverse order,
+         * so that de-serialization can prepend each of them to the list as soon as it is read.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            List<CompressedIntConsListImpl> nodes = new ArrayList<>();
+            IntConsList<Integer> cons = list;
+            while (cons != Nil.INSTANCE) {
+                if (cons instanceof CompressedIntConsListImpl) {
+                    CompressedIntConsListImpl node = (CompressedIntConsListImpl) cons;
+                    nodes.add(node);
+                    cons = node.tail;
+                } else {
+                    int[] run = new int[ConsUtil.COMPRESSED_NODE_CAPACITY];
+                    int n = 0;
+                    while (cons != Nil.INSTANCE && !(cons instanceof CompressedIntConsListImpl)) {
+                        if (n == run.length) {
+                            run = Arrays.copyOf(run, n * 2);
+                        }
+                        run[n++] = cons.intHead();
+                        cons = cons.intTail();
+                    }
+                    IntConsList<Integer> compressed = prepend(run, 0, n, ConsList.nil());
+                    while (compressed != Nil.INSTANCE) {
+                        CompressedIntConsListImpl node = (CompressedIntConsListImpl) compressed;
+                        nodes.add(node);
+                        compressed = node.tail;
+                    }
+                }
+            }
+            long pos = list.sizeAsLong();
+            out.writeLong(pos);
+            out.writeInt(nodes.size());
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                CompressedIntConsListImpl node = nodes.get(i);
+                pos -= node.length;
+                try {
+                    out.writeInt(node.length);
+                    out.writeInt(node.head);
+                    out.writeInt(node.deltas.length - node.offset);
+                    out.write(node.deltas, node.offset, node.deltas.length - node.offset);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " + pos, e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            IntConsList<Integer> cons = ConsList.nil();
+            long pos = in.readLong();
+            int nodes = in.readInt();
+            if (nodes < 0) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_COUNT + nodes);
+            }
+            for (int i = 0; i < nodes; i++) {
+                try {
+                    int length = in.readInt();
+                    int head = in.readInt();
+                    byte[] deltas = readDeltas(in, length);
+                    cons = new CompressedIntConsListImpl(deltas, head, length, cons);
+                    pos -= length;
+                } catch (InvalidObjectException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (pos - 1), e);
+                }
+            }
+            if (pos != 0L) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_LIST_SIZE + pos);
+            }
+            list = cons;
+        }
+
+        /**
+         * Reads the deltas of a node, rejecting any that could not have been written for its <tt>length</tt>.
+         */
+        private static byte[] readDeltas(ObjectInputStream in, int length) throws IOException {
+            if (length < 1 || length > ConsUtil.COMPRESSED_NODE_CAPACITY) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_LENGTH + length);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > (length - 1) * MAX_VARINT_BYTES) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_BYTES + count);
+            }
+            byte[] deltas = new byte[count];
+            in.readFully(deltas);
+            if (!ConsUtil.isVarLongSequence(deltas, length - 1, MAX_VARINT_BYTES)) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_DELTAS + length);
+            }
+            return deltas;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compressed node of a <tt>LongConsList</tt> holding up to {@link ConsUtil#COMPRESSED_NODE_CAPACITY}
+ * consecutive elements, followed by the <tt>tail</tt> list.
+ *
+ * <p>The head of the node is stored as is. Every following element is stored as its difference
+ * to the previous one, zigzag-encoded into a varint of one to ten bytes, so that sorted lists
+ * of close values, like ID lists, take one or two bytes per element.
+ *
+ * <p>The byte array is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same array starting at the next delta.
+ */
+@Immutable
+@ThreadSafe
+public final class CompressedLongConsListImpl extends AbstractCollection<Long>
+                      implements LongConsList<Long>, Serializable {
+    private static final long serialVersionUID = 8260317492554806219L;
+    private static final int MAX_VARINT_BYTES = (Long.SIZE + 6) / 7;
+    @NonNull
+    private final byte[] deltas;
+    private final int offset;
+    private final long head;
+    private final int length;
+    @NonNull
+    private final LongConsList<Long> tail;
+    private final long size;
+    private final int hash;
+
+    CompressedLongConsListImpl(@NonNull byte[] deltas, long head, int length, @NonNull LongConsList<Long> tail) {
+        this.deltas = deltas;
+        this.offset = 0;
+        this.head = head;
+        this.length = length;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + length;
+        int h = 30 + Long.hashCode(head);
+        long value = head;
+        int pos = 0;
+        for (int i = 1; i < length; i++) {
+            value += unzigzag(ConsUtil.getVarLong(deltas, pos));
+            pos = ConsUtil.varLongEnd(deltas, pos);
+            h = 31 * h + 30 + Long.hashCode(value);
+        }
+        this.hash = ConsUtil.listHash(tail) + ConsUtil.pow31(tail.sizeAsLong()) * h;
+    }
+
+    /**
+     * Constructs a view of the deltas with a known length and hash code.
+     */
+    private CompressedLongConsListImpl(@NonNull byte[] deltas, int offset, long head, int length,
+                                      @NonNull LongConsList<Long> tail, long size, int hash) {
+        this.deltas = deltas;
+        this.offset = offset;
+        this.head = head;
+        this.length = length;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, compressing them into
+     * nodes of up to {@link ConsUtil#COMPRESSED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is not referenced by the resulting nodes.
+     */
+    @NonNull
+    static LongConsList<Long> prepend(@NonNull long[] elements, int from, int to,
+                                        @NonNull LongConsList<Long> tail) {
+        LongConsList<Long> result = tail;
+        byte[] buf = new byte[(ConsUtil.COMPRESSED_NODE_CAPACITY - 1) * 10];
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.COMPRESSED_NODE_CAPACITY);
+            int pos = 0;
+            for (int i = start + 1; i < end; i++) {
+                pos = ConsUtil.putVarLong(buf, pos, zigzag(elements[i] - elements[i - 1]));
+            }
+            result = new CompressedLongConsListImpl(Arrays.copyOf(buf, pos), elements[start], end - start, result);
+            end = start;
+        }
+        return result;
+    }
+
+    /**
+     * Maps the signed difference to an unsigned value, so that differences of a small magnitude
+     * take few varint bytes regardless of their sign.
+     */
+    static long zigzag(long delta) {
+        return (delta << 1) ^ (delta >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    @NonNull
+    byte[] deltas() {
+        return deltas;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Returns the list following the last element of this node.
+     */
+    @NonNull
+    LongConsList<Long> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the view of this node without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; length</tt>.
+     */
+    @NonNull
+    LongConsList<Long> skip(int count) {
+        long value = head;
+        int pos = offset;
+        int h = hash;
+        long s = size;
+        for (int i = 0; i < count; i++) {
+            h = ConsUtil.tailHash(h, Long.hashCode(value), --s);
+            value += unzigzag(ConsUtil.getVarLong(deltas, pos));
+            pos = ConsUtil.varLongEnd(deltas, pos);
+        }
+        return new CompressedLongConsListImpl(deltas, pos, value, length - count, tail, s, h);
+    }
+
+    @Override
+    public long longHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> longTail() {
+        if (length > 1) {
+            long next = head + unzigzag(ConsUtil.getVarLong(deltas, offset));
+            int tailHash = ConsUtil.tailHash(hash, Long.hashCode(head), size - 1L);
+            return new CompressedLongConsListImpl(deltas, ConsUtil.varLongEnd(deltas, offset), next, length - 1,
+                tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> longReverse() {
+        LongConsList<Long> result = ConsList.nil();
+        long[] chunk = new long[ConsUtil.COMPRESSED_NODE_CAPACITY];
+        int pos = chunk.length;
+        PrimitiveIterator.OfLong iter = longIterator();
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = prepend(chunk, 0, chunk.length, result);
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.nextLong();
+        }
+        return prepend(chunk, pos, chunk.length, result);
+    }
+
+    @NonNull
+    @Override
+    public Long head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Long> tail() {
+        return longTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Long> reverse() {
+        return longReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Long> iterator() {
+        return longIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Long> spliterator() {
+        return longSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfLong longIterator() {
+        return new LongConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfLong longSpliterator() {
+        return new LongConsSpliterator(this);
+    }
+
+    @NonNull
+    @Override
+    public LongStream longStream() {
+        return StreamSupport.longStream(longSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public LongStream parallelLongStream() {
+        return StreamSupport.longStream(longSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LongConsList) {
+            return ConsUtil.haveEqualElements(this, (LongConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the CompressedLongConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = -1394518873301569473L;
+        private transient LongConsList<Long> list;
+
+        private SerializationProxy(LongConsList<Long> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * The deltas of the compressed nodes are written as they are, the runs of elements
+         * in other nodes are compressed first. The nodes are written in the reverse order,
+         * so that de-serialization can prepend each of them to the list as soon as it is read.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            List<CompressedLongConsListImpl> nodes = new ArrayList<>();
+            LongConsList<Long> cons = list;
+            while (cons != Nil.INSTANCE) {
+                if (cons instanceof CompressedLongConsListImpl) {
+                    CompressedLongConsListImpl node = (CompressedLongConsListImpl) cons;
+                    nodes.add(node);
+                    cons = node.tail;
+                } else {
+                    long[] run = new long[ConsUtil.COMPRESSED_NODE_CAPACITY];
+                    int n = 0;
+                    while (cons != Nil.INSTANCE && !(cons instanceof CompressedLongConsListImpl)) {
+                        if (n == run.length) {
+                            run = Arrays.copyOf(run, n * 2);
+                        }
+                        run[n++] = cons.longHead();
+                        cons = cons.longTail();
+                    }
+                    LongConsList<Long> compressed = prepend(run, 0, n, ConsList.nil());
+                    while (compressed != Nil.INSTANCE) {
+                        CompressedLongConsListImpl node = (CompressedLongConsListImpl) compressed;
+                        nodes.add(node);
+                        compressed = node.tail;
+                    }
+                }
+            }
+            long pos = list.sizeAsLong();
+            out.writeLong(pos);
+            out.writeInt(nodes.size());
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                CompressedLongConsListImpl node = nodes.get(i);
+                pos -= node.length;
+                try {
+                    out.writeInt(node.length);
+                    out.writeLong(node.head);
+                    out.writeInt(node.deltas.length - node.offset);
+                    out.write(node.deltas, node.offset, node.deltas.length - node.offset);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " + pos, e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            LongConsList<Long> cons = ConsList.nil();
+            long pos = in.readLong();
+            int nodes = in.readInt();
+            if (nodes < 0) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_COUNT + nodes);
+            }
+            for (int i = 0; i < nodes; i++) {
+                try {
+                    int length = in.readInt();
+                    long head = in.readLong();
+                    byte[] deltas = readDeltas(in, length);
+                    cons = new CompressedLongConsListImpl(deltas, head, length, cons);
+                    pos -= length;
+                } catch (InvalidObjectException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (pos - 1), e);
+                }
+            }
+            if (pos != 0L) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_LIST_SIZE + pos);
+            }
+            list = cons;
+        }
+
+        /**
+         * Reads the deltas of a node, rejecting any that could not have been written for its <tt>length</tt>.
+         */
+        private static byte[] readDeltas(ObjectInputStream in, int length) throws IOException {
+            if (length < 1 || length > ConsUtil.COMPRESSED_NODE_CAPACITY) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_LENGTH + length);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > (length - 1) * MAX_VARINT_BYTES) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_BYTES + count);
+            }
+            byte[] deltas = new byte[count];
+            in.readFully(deltas);
+            if (!ConsUtil.isVarLongSequence(deltas, length - 1, MAX_VARINT_BYTES)) {
+                throw new InvalidObjectException(ConsUtil.MSG_INVALID_NODE_DELTAS + length);
+            }
+            return deltas;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
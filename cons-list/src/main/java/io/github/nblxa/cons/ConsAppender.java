@@ -0,0 +1,386 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * Collects elements in their iteration order into chunks of {@link ConsUtil#UNROLLED_NODE_CAPACITY}
+ * elements, which become the arrays of unrolled nodes without being copied.
+ *
+ * <p>Building a list does not change the collected elements: full chunks are never written again
+ * and the last, partially filled one is copied, so more elements can be added afterwards.
+ *
+ * @param <E> element type
+ */
+final class ConsAppender<E> {
+    private static final int MAX_PRIMITIVE_CHUNK = 1 << 16;
+    private static final int INITIAL_CHUNKS = 8;
+    @NonNull
+    private final List<Object[]> chunks = new ArrayList<>();
+    @NonNull
+    private int[] ends = new int[INITIAL_CHUNKS];
+    @NonNull
+    private Object[] chunk = new Object[ConsUtil.UNROLLED_NODE_CAPACITY];
+    private int pos;
+    private long size;
+
+    void add(E element) {
+        if (pos == chunk.length) {
+            seal();
+            chunk = new Object[ConsUtil.UNROLLED_NODE_CAPACITY];
+        }
+        chunk[pos++] = element;
+        size++;
+    }
+
+    /**
+     * Moves the current chunk to the sealed ones, which are never written again.
+     */
+    private void seal() {
+        if (chunks.size() == ends.length) {
+            ends = Arrays.copyOf(ends, ends.length * 2);
+        }
+        ends[chunks.size()] = pos;
+        chunks.add(chunk);
+        pos = 0;
+    }
+
+    /**
+     * Appends the elements collected by the <tt>other</tt> appender, which must not be used anymore,
+     * by taking over its chunks instead of copying the elements.
+     */
+    @NonNull
+    ConsAppender<E> append(@NonNull ConsAppender<E> other) {
+        if (pos > 0) {
+            seal();
+        }
+        for (int i = 0; i < other.chunks.size(); i++) {
+            if (chunks.size() == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            ends[chunks.size()] = other.ends[i];
+            chunks.add(other.chunks.get(i));
+        }
+        chunk = other.chunk;
+        pos = other.pos;
+        size += other.size;
+        return this;
+    }
+
+    void addAll(@NonNull Iterable<? extends E> elements) {
+        for (E element : elements) {
+            add(element);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Builds the list of all the collected elements followed by the <tt>tail</tt>.
+     */
+    @NonNull
+    ConsList<E> toConsList(@NonNull ConsList<E> tail) {
+        return toConsList(size, tail);
+    }
+
+    /**
+     * Builds the list of the first <tt>count</tt> collected elements followed by the <tt>tail</tt>.
+     * A lazy tail is kept lazy by prepending lazy nodes, because unrolled nodes would compute it.
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    ConsList<E> toConsList(long count, @NonNull ConsList<E> tail) {
+        boolean lazy = tail instanceof LazyConsList;
+        ConsList<E> result = tail;
+        long skip = size - count;
+        for (int c = chunks.size(); c >= 0; c--) {
+            boolean current = c == chunks.size();
+            Object[] elements = current ? chunk : chunks.get(c);
+            int end = current ? pos : ends[c];
+            int n = (int) Math.min(skip, end);
+            skip -= n;
+            int to = end - n;
+            if (lazy) {
+                for (int i = to - 1; i >= 0; i--) {
+                    result = new LazyConsList<>((E) elements[i], result);
+                }
+            } else if (to > 0) {
+                if (current && to < elements.length) {
+                    elements = Arrays.copyOf(elements, to);
+                }
+                result = new UnrolledConsListImpl<>(elements, 0, to, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects <tt>int</tt> elements without boxing into chunks of growing size, which become
+     * the arrays of unrolled <tt>IntConsList</tt> nodes without being copied.
+     *
+     * <p>Building a list does not change the collected elements: the nodes share the filled part
+     * of the last chunk as well, since more elements are only written after it.
+     */
+    static final class OfInt {
+        @NonNull
+        private final List<int[]> chunks = new ArrayList<>();
+        @NonNull
+        private int[] ends = new int[INITIAL_CHUNKS];
+        @NonNull
+        private int[] chunk = new int[ConsUtil.UNROLLED_NODE_CAPACITY];
+        private int pos;
+        private long size;
+
+        void add(int element) {
+            if (pos == chunk.length) {
+                seal();
+                chunk = new int[Math.min(chunk.length * 2, MAX_PRIMITIVE_CHUNK)];
+            }
+            chunk[pos++] = element;
+            size++;
+        }
+
+        private void seal() {
+            if (chunks.size() == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            ends[chunks.size()] = pos;
+            chunks.add(chunk);
+            pos = 0;
+        }
+
+        /**
+         * Appends the elements collected by the <tt>other</tt> appender, which must not be used anymore,
+         * by taking over its chunks instead of copying the elements.
+         */
+        @NonNull
+        OfInt append(@NonNull OfInt other) {
+            if (pos > 0) {
+                seal();
+            }
+            for (int i = 0; i < other.chunks.size(); i++) {
+                if (chunks.size() == ends.length) {
+                    ends = Arrays.copyOf(ends, ends.length * 2);
+                }
+                ends[chunks.size()] = other.ends[i];
+                chunks.add(other.chunks.get(i));
+            }
+            chunk = other.chunk;
+            pos = other.pos;
+            size += other.size;
+            return this;
+        }
+
+        void addAll(@NonNull IntConsList<?> elements) {
+            PrimitiveIterator.OfInt iter = elements.intIterator();
+            while (iter.hasNext()) {
+                add(iter.nextInt());
+            }
+        }
+
+        long size() {
+            return size;
+        }
+
+        /**
+         * Builds the list of the first <tt>count</tt> collected elements followed by the <tt>tail</tt>.
+         */
+        @NonNull
+        IntConsList<Integer> toIntConsList(long count, @NonNull IntConsList<Integer> tail) {
+            IntConsList<Integer> result = tail;
+            long skip = size - count;
+            for (int c = chunks.size(); c >= 0; c--) {
+                int[] elements = c < chunks.size() ? chunks.get(c) : chunk;
+                int end = c < chunks.size() ? ends[c] : pos;
+                int n = (int) Math.min(skip, end);
+                skip -= n;
+                if (end > n) {
+                    result = new UnrolledIntConsListImpl(elements, 0, end - n, result);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Collects <tt>long</tt> elements without boxing into chunks of growing size, which become
+     * the arrays of unrolled <tt>LongConsList</tt> nodes without being copied.
+     *
+     * <p>Building a list does not change the collected elements: the nodes share the filled part
+     * of the last chunk as well, since more elements are only written after it.
+     */
+    static final class OfLong {
+        @NonNull
+        private final List<long[]> chunks = new ArrayList<>();
+        @NonNull
+        private int[] ends = new int[INITIAL_CHUNKS];
+        @NonNull
+        private long[] chunk = new long[ConsUtil.UNROLLED_NODE_CAPACITY];
+        private int pos;
+        private long size;
+
+        void add(long element) {
+            if (pos == chunk.length) {
+                seal();
+                chunk = new long[Math.min(chunk.length * 2, MAX_PRIMITIVE_CHUNK)];
+            }
+            chunk[pos++] = element;
+            size++;
+        }
+
+        private void seal() {
+            if (chunks.size() == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            ends[chunks.size()] = pos;
+            chunks.add(chunk);
+            pos = 0;
+        }
+
+        /**
+         * Appends the elements collected by the <tt>other</tt> appender, which must not be used anymore,
+         * by taking over its chunks instead of copying the elements.
+         */
+        @NonNull
+        OfLong append(@NonNull OfLong other) {
+            if (pos > 0) {
+                seal();
+            }
+            for (int i = 0; i < other.chunks.size(); i++) {
+                if (chunks.size() == ends.length) {
+                    ends = Arrays.copyOf(ends, ends.length * 2);
+                }
+                ends[chunks.size()] = other.ends[i];
+                chunks.add(other.chunks.get(i));
+            }
+            chunk = other.chunk;
+            pos = other.pos;
+            size += other.size;
+            return this;
+        }
+
+        void addAll(@NonNull LongConsList<?> elements) {
+            PrimitiveIterator.OfLong iter = elements.longIterator();
+            while (iter.hasNext()) {
+                add(iter.nextLong());
+            }
+        }
+
+        long size() {
+            return size;
+        }
+
+        /**
+         * Builds the list of the first <tt>count</tt> collected elements followed by the <tt>tail</tt>.
+         */
+        @NonNull
+        LongConsList<Long> toLongConsList(long count, @NonNull LongConsList<Long> tail) {
+            LongConsList<Long> result = tail;
+            long skip = size - count;
+            for (int c = chunks.size(); c >= 0; c--) {
+                long[] elements = c < chunks.size() ? chunks.get(c) : chunk;
+                int end = c < chunks.size() ? ends[c] : pos;
+                int n = (int) Math.min(skip, end);
+                skip -= n;
+                if (end > n) {
+                    result = new UnrolledLongConsListImpl(elements, 0, end - n, result);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Collects <tt>double</tt> elements without boxing into chunks of growing size, which become
+     * the arrays of unrolled <tt>DoubleConsList</tt> nodes without being copied.
+     *
+     * <p>Building a list does not change the collected elements: the nodes share the filled part
+     * of the last chunk as well, since more elements are only written after it.
+     */
+    static final class OfDouble {
+        @NonNull
+        private final List<double[]> chunks = new ArrayList<>();
+        @NonNull
+        private int[] ends = new int[INITIAL_CHUNKS];
+        @NonNull
+        private double[] chunk = new double[ConsUtil.UNROLLED_NODE_CAPACITY];
+        private int pos;
+        private long size;
+
+        void add(double element) {
+            if (pos == chunk.length) {
+                seal();
+                chunk = new double[Math.min(chunk.length * 2, MAX_PRIMITIVE_CHUNK)];
+            }
+            chunk[pos++] = element;
+            size++;
+        }
+
+        private void seal() {
+            if (chunks.size() == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            ends[chunks.size()] = pos;
+            chunks.add(chunk);
+            pos = 0;
+        }
+
+        /**
+         * Appends the elements collected by the <tt>other</tt> appender, which must not be used anymore,
+         * by taking over its chunks instead of copying the elements.
+         */
+        @NonNull
+        OfDouble append(@NonNull OfDouble other) {
+            if (pos > 0) {
+                seal();
+            }
+            for (int i = 0; i < other.chunks.size(); i++) {
+                if (chunks.size() == ends.length) {
+                    ends = Arrays.copyOf(ends, ends.length * 2);
+                }
+                ends[chunks.size()] = other.ends[i];
+                chunks.add(other.chunks.get(i));
+            }
+            chunk = other.chunk;
+            pos = other.pos;
+            size += other.size;
+            return this;
+        }
+
+        void addAll(@NonNull DoubleConsList<?> elements) {
+            PrimitiveIterator.OfDouble iter = elements.doubleIterator();
+            while (iter.hasNext()) {
+                add(iter.nextDouble());
+            }
+        }
+
+        long size() {
+            return size;
+        }
+
+        /**
+         * Builds the list of the first <tt>count</tt> collected elements followed by the <tt>tail</tt>.
+         */
+        @NonNull
+        DoubleConsList<Double> toDoubleConsList(long count, @NonNull DoubleConsList<Double> tail) {
+            DoubleConsList<Double> result = tail;
+            long skip = size - count;
+            for (int c = chunks.size(); c >= 0; c--) {
+                double[] elements = c < chunks.size() ? chunks.get(c) : chunk;
+                int end = c < chunks.size() ? ends[c] : pos;
+                int n = (int) Math.min(skip, end);
+                skip -= n;
+                if (end > n) {
+                    result = new UnrolledDoubleConsListImpl(elements, 0, end - n, result);
+                }
+            }
+            return result;
+        }
+    }
+}
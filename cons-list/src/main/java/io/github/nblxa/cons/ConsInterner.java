@@ -0,0 +1,199 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash-consing factory for <tt>ConsList</tt> nodes.
+ *
+ * <p>The interner keeps a table of the nodes it has created, keyed by the head element
+ * and the identity of the tail. Constructing a node with a head equal to an existing node's
+ * head and the very same tail returns the existing node, so lists built from the same
+ * elements share all their nodes, no matter which code path built them. Two lists returned
+ * by the same interner are equal if and only if they are the same object.
+ *
+ * <p>The table only references the nodes weakly and is keyed by their hash codes alone,
+ * so that it holds no strong references to the tails either: a list which is not used anywhere
+ * else is garbage collected as a whole and its entries are purged by subsequent calls.
+ *
+ * <p>The elements must be immutable for interning to be meaningful, since their
+ * <tt>equals</tt> and <tt>hashCode</tt> define which nodes are shared.
+ *
+ * @param <E> element type
+ */
+@ThreadSafe
+public final class ConsInterner<E> {
+    /**
+     * Buckets of the weakly referenced nodes by their hash codes. The buckets are immutable arrays
+     * replaced atomically, which are never empty.
+     */
+    @NonNull
+    private final ConcurrentHashMap<Integer, Ref<?>[]> table = new ConcurrentHashMap<>();
+    @NonNull
+    private final ReferenceQueue<ConsList<E>> queue = new ReferenceQueue<>();
+
+    ConsInterner() {
+    }
+
+    /**
+     * Returns the canonical list with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>If the <tt>tail</tt> has not been returned by this interner, its canonical copy
+     * is obtained first with {@link #intern(ConsList)}.
+     *
+     * @param head first element of the list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the list
+     * @return the canonical cons list with the given head and tail elements
+     */
+    @NonNull
+    public ConsList<E> cons(@Nullable E head, @NonNull ConsList<E> tail) {
+        Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL);
+        purge();
+        return canonicalCons(head, isCanonical(tail) ? tail : intern(tail));
+    }
+
+    /**
+     * Returns the canonical list with the same elements as the given one.
+     *
+     * <p>Canonical nodes are reused from the end of the list for as long as they exist,
+     * the remaining nodes are created and added to the table.
+     *
+     * @param list the list to be interned
+     * @return the canonical list equal to the given one
+     */
+    @NonNull
+    public ConsList<E> intern(@NonNull ConsList<E> list) {
+        Objects.requireNonNull(list, ConsUtil.MSG_ITERABLE_IS_NULL);
+        purge();
+        if (isCanonical(list)) {
+            return list;
+        }
+        Object[] elements = list.toArray();
+        ConsList<E> result = ConsList.nil();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            @SuppressWarnings("unchecked")
+            E element = (E) elements[i];
+            result = canonicalCons(element, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of canonical nodes in the table, including the nodes
+     * that have been garbage collected but not purged yet.
+     *
+     * @return the number of table entries
+     */
+    public int size() {
+        purge();
+        int size = 0;
+        for (Ref<?>[] bucket : table.values()) {
+            size += bucket.length;
+        }
+        return size;
+    }
+
+    private boolean isCanonical(@NonNull ConsList<E> list) {
+        if (list == Nil.INSTANCE) {
+            return true;
+        }
+        if (!(list instanceof ConsListImpl)) {
+            return false;
+        }
+        Ref<?>[] bucket = table.get(list.hashCode());
+        if (bucket != null) {
+            for (Ref<?> ref : bucket) {
+                if (ref.get() == list) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @NonNull
+    private ConsList<E> canonicalCons(@Nullable E head, @NonNull ConsList<E> tail) {
+        int hash = ConsUtil.consHash(Objects.hashCode(head), tail);
+        ConsList<E> node = find(table.get(hash), head, tail);
+        if (node != null) {
+            return node;
+        }
+        List<ConsList<E>> result = new ArrayList<>(1);
+        table.compute(hash, (h, bucket) -> {
+            ConsList<E> existing = find(bucket, head, tail);
+            if (existing != null) {
+                result.add(existing);
+                return bucket;
+            }
+            ConsList<E> created = new ConsListImpl<>(head, tail, hash);
+            result.add(created);
+            Ref<E> ref = new Ref<>(created, hash, queue);
+            if (bucket == null) {
+                return new Ref<?>[] {ref};
+            }
+            Ref<?>[] grown = Arrays.copyOf(bucket, bucket.length + 1);
+            grown[bucket.length] = ref;
+            return grown;
+        });
+        return result.get(0);
+    }
+
+    /**
+     * Finds the node with the head compared by <tt>equals</tt> and the tail compared by identity.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <E> ConsList<E> find(@Nullable Ref<?>[] bucket, @Nullable E head, @NonNull ConsList<E> tail) {
+        if (bucket == null) {
+            return null;
+        }
+        for (Ref<?> ref : bucket) {
+            ConsList<E> node = (ConsList<E>) ref.get();
+            if (node != null && node.tail() == tail && Objects.equals(node.head(), head)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private void purge() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            Ref<?> stale = (Ref<?>) ref;
+            table.computeIfPresent(stale.hash, (h, bucket) -> {
+                int i = Arrays.asList(bucket).indexOf(stale);
+                if (i < 0) {
+                    return bucket;
+                }
+                if (bucket.length == 1) {
+                    return null;
+                }
+                Ref<?>[] shrunk = new Ref<?>[bucket.length - 1];
+                System.arraycopy(bucket, 0, shrunk, 0, i);
+                System.arraycopy(bucket, i + 1, shrunk, i, shrunk.length - i);
+                return shrunk;
+            });
+        }
+    }
+
+    /**
+     * Weak reference to a canonical node, which remembers the hash code of its bucket.
+     */
+    private static final class Ref<E> extends WeakReference<ConsList<E>> {
+        private final int hash;
+
+        private Ref(@NonNull ConsList<E> node, int hash, @NonNull ReferenceQueue<ConsList<E>> queue) {
+            super(node, queue);
+            this.hash = hash;
+        }
+    }
+}
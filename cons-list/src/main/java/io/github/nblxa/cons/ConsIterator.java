@@ -0,0 +1,77 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Iterator;
+
+/**
+ * Iterator over a <tt>ConsList</tt> that reads the array ranges of unrolled nodes directly
+ * instead of creating a tail view for each of their elements.
+ *
+ * @param <E> element type
+ */
+final class ConsIterator<E> implements Iterator<E> {
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    @NonNull
+    private ConsList<E> cons;
+    private Object[] elements = NO_ELEMENTS;
+    private int index;
+    private int to;
+
+    ConsIterator(@NonNull ConsList<E> cons) {
+        this.cons = cons;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < to || cons != Nil.INSTANCE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (index < to) {
+            return (E) elements[index++];
+        }
+        if (cons instanceof UnrolledConsListImpl) {
+            UnrolledConsListImpl<E> node = (UnrolledConsListImpl<E>) cons;
+            elements = node.elements();
+            index = node.from();
+            to = node.to();
+            cons = node.next();
+            return (E) elements[index++];
+        }
+        E next = cons.head();
+        cons = cons.tail();
+        return next;
+    }
+
+    /**
+     * Returns the list of the remaining elements if the iterator is at a node boundary,
+     * or <tt>null</tt> while inside the array range of an unrolled node.
+     */
+    ConsList<E> rest() {
+        return index < to ? null : cons;
+    }
+
+    /**
+     * Copies the next <tt>length</tt> elements into the array, reading the ranges
+     * of unrolled nodes in bulk.
+     *
+     * <p>The iterator must have at least <tt>length</tt> elements remaining.
+     */
+    void next(@NonNull Object[] dest, int offset, int length) {
+        int pos = offset;
+        int end = offset + length;
+        while (pos < end) {
+            if (index == to) {
+                dest[pos++] = next();
+            } else {
+                int n = Math.min(to - index, end - pos);
+                System.arraycopy(elements, index, dest, pos, n);
+                index += n;
+                pos += n;
+            }
+        }
+    }
+}
@@ -4,10 +4,25 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 
 /**
@@ -43,6 +58,20 @@ public interface ConsList<E> extends Collection<E> {
         return (Nil<T>) Nil.INSTANCE;
     }
 
+    /**
+     * Returns a new {@link ConsInterner} with an empty table of canonical nodes.
+     *
+     * <p>Lists built by the same interner share all their equal suffixes and are equal
+     * if and only if they are the same object.
+     *
+     * @param <V> element type
+     * @return new interner
+     */
+    @NonNull
+    static <V> ConsInterner<V> interner() {
+        return new ConsInterner<>();
+    }
+
     /**
      * Constructs a new <tt>ConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
      *
@@ -57,7 +86,7 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     static <V> ConsList<V> cons(@Nullable V head, @NonNull ConsList<V> tail) {
-        return new ConsListImpl<>(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+        return ConsUtil.cons(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
     }
 
     /**
@@ -76,7 +105,7 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     static <V> ConsList<V> cons(@Nullable V head, @NonNull Collection<V> tail) {
-        return new ConsListImpl<>(head, consList(tail));
+        return ConsUtil.cons(head, consList(tail));
     }
 
     /**
@@ -111,7 +140,7 @@ public interface ConsList<E> extends Collection<E> {
     static <V, U extends V> ConsList<V> cons(@Nullable U head,
                                              @NonNull ConsList<? extends V> tail,
                                              @NonNull Class<V> klass) {
-        return (ConsList<V>) new ConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+        return ConsUtil.cons(head, (ConsList<V>) Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
     }
 
     /**
@@ -147,7 +176,7 @@ public interface ConsList<E> extends Collection<E> {
     static <V, U extends V> ConsList<V> cons(@Nullable U head,
                                                     @NonNull Collection<? extends V> tail,
                                                     @NonNull Class<V> klass) {
-        return (ConsList<V>) new ConsListImpl(head, consList(tail));
+        return ConsUtil.cons(head, (ConsList<V>) consList(tail));
     }
 
     /**
@@ -159,6 +188,8 @@ public interface ConsList<E> extends Collection<E> {
      * <p>With a non-empty parameter array, its first element is the head of the new cons list,
      * the rest are the parameters for constructing its tail.
      *
+     * <p>The elements are copied into unrolled nodes holding up to 32 elements each.
+     *
      * @param elements any number of elements of the list to be constructed
      * @param <V>      element type
      * @return the cons list with the elements consList the argument array in the same order
@@ -166,11 +197,28 @@ public interface ConsList<E> extends Collection<E> {
     @NonNull
     @SafeVarargs
     static <V> ConsList<V> list(@NonNull V... elements) {
-        ConsList<V> cons = nil();
-        for (int i = elements.length - 1; i >= 0; i--) {
-            cons = new ConsListImpl<>(elements[i], cons);
+        Object[] copy = new Object[elements.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = elements[i];
         }
-        return cons;
+        return UnrolledConsListImpl.prepend(copy, 0, copy.length, nil());
+    }
+
+    /**
+     * Returns a virtual <tt>ConsList</tt> of the <tt>element</tt> repeated <tt>n</tt> times,
+     * which stores the element only once. For <tt>n == 0</tt>, the empty list <tt>nil()</tt>
+     * is returned.
+     *
+     * <p>Throws {@link IllegalArgumentException} if <tt>n</tt> is negative.
+     *
+     * @param element the repeated element
+     * @param n       number of repetitions
+     * @param <V>     element type
+     * @return the list of the repeated element
+     */
+    @NonNull
+    static <V> ConsList<V> repeat(@Nullable V element, long n) {
+        return RepeatConsListImpl.repeat(element, n);
     }
 
     /**
@@ -178,11 +226,11 @@ public interface ConsList<E> extends Collection<E> {
      *
      * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
      *
-     * <p>For instances of {@link List}, only one iteration backwards through the list's
-     * {@link ListIterator} will be done.
+     * <p>For instances of {@link Collection}, the elements are copied once with
+     * {@link Collection#toArray()} and packed into unrolled nodes holding up to 32 elements each.
      *
-     * <p>For all other {@link Iterable} types, this traverses both the Iterable
-     * and the intermediate ConsList once.
+     * <p>For all other {@link Iterable} types, the elements are appended to a {@link Builder},
+     * whose chunks become the unrolled nodes without being copied again.
      *
      * @param iterable input iterable
      * @param <V>      element type
@@ -194,20 +242,11 @@ public interface ConsList<E> extends Collection<E> {
         if (iterable instanceof ConsList) {
             return (ConsList<V>) iterable;
         }
-        ConsList<V> cons = nil();
-        if (iterable instanceof List) {
-            List<V> list = (List<V>) iterable;
-            ListIterator<V> iter = list.listIterator(list.size());
-            while (iter.hasPrevious()) {
-                cons = new ConsListImpl<>(iter.previous(), cons);
-            }
-            return cons;
-        } else {
-            for (V v : iterable) {
-                cons = new ConsListImpl<>(v, cons);
-            }
-            return cons.reverse();
+        if (iterable instanceof Collection) {
+            Object[] elements = ((Collection<V>) iterable).toArray();
+            return UnrolledConsListImpl.prepend(elements, 0, elements.length, nil());
         }
+        return new Builder<V>().addAll(iterable).build();
     }
 
     /**
@@ -226,37 +265,243 @@ public interface ConsList<E> extends Collection<E> {
         if (rest.length == 0) {
             return first;
         }
-        ConsList<V> result = rest[rest.length - 1];
-        if (result == null) {
-            throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + rest.length);
-        }
-        for (int i = rest.length - 2; i >= -1; i--) {
-            ConsList<V> cons;
-            if (i == -1) {
-                cons = first;
-            } else {
-                if (rest[i] == null) {
-                    throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
-                }
-                cons = rest[i].reverse();
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
             }
-            while (cons != Nil.INSTANCE) {
-                result = new ConsListImpl<>(cons.head(), result);
-                cons = cons.tail();
+        }
+        ConsAppender<V> prefix = new ConsAppender<>();
+        prefix.addAll(first);
+        for (int i = 0; i < rest.length - 1; i++) {
+            prefix.addAll(rest[i]);
+        }
+        return prefix.toConsList(rest[rest.length - 1]);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> that contains the concatenation of elements of all cons lists
+     * returned by the <tt>iterable</tt>.
+     *
+     * <p>The elements of all lists but the last one are copied exactly once, the last list is shared
+     * with the result. Unlike the varargs overload, this method does not need an array of the lists,
+     * which suits concatenating a large number of them.
+     *
+     * @param lists the argument cons lists, each of them not nullable
+     * @param <V>   element type of all argument lists and the resulting list
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    static <V> ConsList<V> concat(@NonNull Iterable<? extends ConsList<V>> lists) {
+        Objects.requireNonNull(lists, ConsUtil.MSG_ITERABLE_IS_NULL);
+        ConsAppender<V> prefix = new ConsAppender<>();
+        ConsList<V> last = nil();
+        long pos = 0L;
+        for (ConsList<V> list : lists) {
+            if (list == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + pos);
             }
+            prefix.addAll(last);
+            last = list;
+            pos++;
         }
-        return result;
+        return prefix.toConsList(last);
     }
 
     /**
      * Returns a {@link Collector} collecting a Stream into a cons list.
      *
+     * <p>The elements are appended to a {@link Builder}, whose chunks become the unrolled nodes
+     * of the list. In parallel streams, the builders of the segments are combined by linking
+     * their chunks, without copying the elements again.
+     *
      * @param <T> element type
      * @return a collector collecting into a cons list
      */
     @NonNull
     static <T> Collector<T, ?, ConsList<T>> toConsCollector() {
-        return Collectors.collectingAndThen(Collectors.toList(), ConsList::consList);
+        return Collector.of(Builder<T>::new, Builder::add, Builder::append, Builder::build);
+    }
+
+    /**
+     * Returns a {@link Collector} collecting a Stream of integers into an <tt>IntConsList</tt>.
+     *
+     * <p>The elements are unboxed into the chunks of an {@link IntBuilder}, which are linked
+     * in parallel streams and become the arrays of the nodes, without being copied. To avoid
+     * boxing altogether, collect an {@link IntStream} with {@link #toIntConsList(IntStream)}.
+     *
+     * @return a collector collecting into an <tt>IntConsList</tt>
+     */
+    @NonNull
+    static Collector<Integer, ?, IntConsList<Integer>> toIntConsCollector() {
+        return Collector.of(IntBuilder::new, IntBuilder::add, IntBuilder::append, IntBuilder::build);
+    }
+
+    /**
+     * Returns a {@link Collector} collecting a Stream of longs into a <tt>LongConsList</tt>.
+     *
+     * <p>The elements are unboxed into the chunks of a {@link LongBuilder}, which are linked
+     * in parallel streams and become the arrays of the nodes, without being copied. To avoid
+     * boxing altogether, collect a {@link LongStream} with {@link #toLongConsList(LongStream)}.
+     *
+     * @return a collector collecting into a <tt>LongConsList</tt>
+     */
+    @NonNull
+    static Collector<Long, ?, LongConsList<Long>> toLongConsCollector() {
+        return Collector.of(LongBuilder::new, LongBuilder::add, LongBuilder::append, LongBuilder::build);
+    }
+
+    /**
+     * Returns a {@link Collector} collecting a Stream of doubles into a <tt>DoubleConsList</tt>.
+     *
+     * <p>The elements are unboxed into the chunks of a {@link DoubleBuilder}, which are linked
+     * in parallel streams and become the arrays of the nodes, without being copied. To avoid
+     * boxing altogether, collect a {@link DoubleStream} with {@link #toDoubleConsList(DoubleStream)}.
+     *
+     * @return a collector collecting into a <tt>DoubleConsList</tt>
+     */
+    @NonNull
+    static Collector<Double, ?, DoubleConsList<Double>> toDoubleConsCollector() {
+        return Collector.of(DoubleBuilder::new, DoubleBuilder::add, DoubleBuilder::append, DoubleBuilder::build);
+    }
+
+    /**
+     * Returns a new {@link Builder} of a <tt>ConsList</tt>.
+     *
+     * @param <V> element type
+     * @return a new empty builder
+     */
+    @NonNull
+    static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a new {@link IntBuilder} of an <tt>IntConsList</tt>.
+     *
+     * @return a new empty builder
+     */
+    @NonNull
+    static IntBuilder intBuilder() {
+        return new IntBuilder();
+    }
+
+    /**
+     * Returns a new {@link LongBuilder} of a <tt>LongConsList</tt>.
+     *
+     * @return a new empty builder
+     */
+    @NonNull
+    static LongBuilder longBuilder() {
+        return new LongBuilder();
+    }
+
+    /**
+     * Returns a new {@link DoubleBuilder} of a <tt>DoubleConsList</tt>.
+     *
+     * @return a new empty builder
+     */
+    @NonNull
+    static DoubleBuilder doubleBuilder() {
+        return new DoubleBuilder();
+    }
+
+    /**
+     * Returns an unbounded {@link LazyConsList} of the <tt>seed</tt>, the result of applying
+     * the <tt>next</tt> operator to the seed, to that result and so on.
+     *
+     * <p>Each element is computed once, when the tail before it is first accessed.
+     * Use {@link #take(long)} or {@link #takeWhile(Predicate)} to bound the list.
+     *
+     * @param seed the first element
+     * @param next operator computing an element from the previous one
+     * @param <V>  element type
+     * @return the lazy list
+     */
+    @NonNull
+    static <V> ConsList<V> iterate(@Nullable V seed, @NonNull UnaryOperator<V> next) {
+        return LazyConsList.iterate(seed, next);
+    }
+
+    /**
+     * Returns an unbounded {@link LazyConsList} of the elements returned by the <tt>supplier</tt>.
+     *
+     * <p>The first element is requested at once, the others when the tail before them
+     * is first accessed.
+     *
+     * @param supplier supplier of the elements
+     * @param <V>      element type
+     * @return the lazy list
+     */
+    @NonNull
+    static <V> ConsList<V> generate(@NonNull Supplier<? extends V> supplier) {
+        return LazyConsList.generate(supplier);
+    }
+
+    /**
+     * Returns a {@link LazyConsList} built from the <tt>seed</tt> by the <tt>step</tt> function,
+     * which returns either an element and the next seed, or nothing to end the list.
+     *
+     * <p>The step is applied to the <tt>seed</tt> at once and to each next seed when the tail
+     * before it is first accessed.
+     *
+     * @param seed the initial state
+     * @param step function returning the next element and state
+     * @param <V>  element type
+     * @param <S>  state type
+     * @return the lazy list
+     */
+    @NonNull
+    static <V, S> ConsList<V> unfold(@Nullable S seed, @NonNull Function<? super S, Optional<Map.Entry<V, S>>> step) {
+        return LazyConsList.unfold(seed, step);
+    }
+
+    /**
+     * Returns a {@link LazyConsList} of the remaining elements of the <tt>iterator</tt>, which
+     * is only advanced when the tail before the next element is first accessed. The iterator must
+     * not be used elsewhere afterwards.
+     *
+     * @param iterator the source of the elements
+     * @param <V>      element type
+     * @return the lazy list
+     */
+    @NonNull
+    static <V> ConsList<V> fromIterator(@NonNull Iterator<? extends V> iterator) {
+        return LazyConsList.fromIterator(iterator);
+    }
+
+    /**
+     * Returns a {@link LazyConsList} of the remaining elements of the <tt>spliterator</tt>, which
+     * is only advanced when the tail before the next element is first accessed. This allows
+     * to consume a Stream lazily with <tt>fromSpliterator(stream.spliterator())</tt>.
+     *
+     * @param spliterator the source of the elements
+     * @param <V>         element type
+     * @return the lazy list
+     */
+    @NonNull
+    static <V> ConsList<V> fromSpliterator(@NonNull Spliterator<? extends V> spliterator) {
+        return LazyConsList.fromSpliterator(spliterator);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the results of applying the <tt>zipper</tt> to the elements
+     * of both argument lists at the same positions, in their order. The result has as many elements
+     * as the shorter of the argument lists.
+     *
+     * <p>The list is built front to back in a single pass, without reversing it.
+     *
+     * @param first  the first argument cons list, not nullable
+     * @param second the second argument cons list, not nullable
+     * @param zipper function combining the elements at the same position
+     * @param <A>    element type of the first list
+     * @param <B>    element type of the second list
+     * @param <R>    element type of the resulting list
+     * @return the list of the combined elements
+     */
+    @NonNull
+    static <A, B, R> ConsList<R> zip(@NonNull ConsList<A> first, @NonNull ConsList<B> second,
+                                     @NonNull BiFunction<? super A, ? super B, ? extends R> zipper) {
+        return ConsUtil.zip(first, second, zipper);
     }
 
     /**
@@ -307,11 +552,61 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     static IntConsList<Integer> intList(@NonNull int... elements) {
-        IntConsList<Integer> cons = nil();
-        for (int i = elements.length - 1; i >= 0; i--) {
-            cons = new IntConsListImpl(elements[i], cons);
-        }
-        return cons;
+        return intList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>IntConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>The elements are copied into unrolled nodes holding up to 32 elements each.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static IntConsList<Integer> intList(@NonNull int[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        return UnrolledIntConsListImpl.prepend(Arrays.copyOfRange(elements, from, to), 0, to - from, nil());
+    }
+
+    /**
+     * Returns a virtual <tt>IntConsList</tt> of the values from <tt>from</tt>, inclusive,
+     * to <tt>to</tt>, exclusive, in the ascending order.
+     *
+     * <p>The values are computed when accessed and take constant memory.
+     *
+     * @param from the first value, inclusive
+     * @param to   the upper bound, exclusive
+     * @return the list of the values, or <tt>nil()</tt> if <tt>from &gt;= to</tt>
+     */
+    @NonNull
+    static IntConsList<Integer> intRange(int from, int to) {
+        return RangeIntConsListImpl.range(from, to, 1);
+    }
+
+    /**
+     * Returns a virtual <tt>IntConsList</tt> of the values starting with <tt>from</tt>, each one
+     * <tt>step</tt> greater than the previous one, up to <tt>to</tt>, exclusive. A negative
+     * <tt>step</tt> makes a descending list.
+     *
+     * <p>The values are computed when accessed and take constant memory.
+     *
+     * <p>Throws {@link IllegalArgumentException} if the <tt>step</tt> is zero.
+     *
+     * @param from the first value, inclusive
+     * @param to   the bound, exclusive
+     * @param step the difference between consecutive values, not zero
+     * @return the list of the values, or <tt>nil()</tt> if there are none
+     */
+    @NonNull
+    static IntConsList<Integer> intRange(int from, int to, int step) {
+        return RangeIntConsListImpl.range(from, to, step);
     }
 
     /**
@@ -319,11 +614,9 @@ public interface ConsList<E> extends Collection<E> {
      *
      * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
      *
-     * <p>For instances of {@link List}, only one iteration backwards through the list's
-     * {@link ListIterator} will be done.
-     *
-     * <p>For all other {@link Iterable} types, this traverses both the Iterable
-     * and the intermediate ConsList once.
+     * <p>For all other {@link Iterable} types, the elements are appended to an
+     * {@link IntBuilder} in a single pass, whose chunks become the unrolled nodes
+     * without being copied again.
      *
      * @param iterable input iterable
      * @return the cons list with the elements consList the Iterable in the same order
@@ -334,152 +627,102 @@ public interface ConsList<E> extends Collection<E> {
         if (iterable instanceof IntConsList) {
             return (IntConsList<Integer>) iterable;
         }
-        IntConsList<Integer> cons = nil();
-        if (iterable instanceof List) {
-            List<Integer> list = (List<Integer>) iterable;
-            ListIterator<Integer> iter = list.listIterator(list.size());
-            while (iter.hasPrevious()) {
-                cons = new IntConsListImpl(iter.previous(), cons);
-            }
-            return cons;
-        } else {
-            for (Integer v : iterable) {
-                cons = new IntConsListImpl(v, cons);
-            }
-            return cons.intReverse();
-        }
+        return new IntBuilder().addAll(iterable).build();
     }
 
     /**
-     * Returns an <tt>IntConsList</tt> that contains the concatenation of elements of all argument IntConsLists.
+     * Constructs a new <tt>IntConsList</tt> with the elements of the <tt>stream</tt> in their order,
+     * without boxing them.
      *
-     * @param first the first argument cons list, not nullable
-     * @param rest the rest of the argument cons lists, each of them not nullable
-     * @return the concatentation of all argument lists
+     * <p>The elements are appended to an {@link IntBuilder}. Parallel streams are collected
+     * in segments, whose builders are combined by linking their chunks. The chunks become
+     * the arrays of the nodes, so no element is copied after it has been collected.
+     *
+     * @param stream input stream
+     * @return the cons list with the elements of the stream in the same order
      */
     @NonNull
-    @SafeVarargs
-    static IntConsList<Integer> concat(@NonNull IntConsList<Integer> first, @NonNull IntConsList<Integer>... rest) {
-        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
-        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
-        if (rest.length == 0) {
-            return first;
-        }
-        IntConsList<Integer> result = rest[rest.length - 1];
-        if (result == null) {
-            throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + rest.length);
-        }
-        for (int i = rest.length - 2; i >= -1; i--) {
-            IntConsList<Integer> cons;
-            if (i == -1) {
-                cons = first;
-            } else {
-                if (rest[i] == null) {
-                    throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
-                }
-                cons = rest[i].intReverse();
-            }
-            while (cons != Nil.INSTANCE) {
-                result = new IntConsListImpl(cons.intHead(), result);
-                cons = cons.intTail();
-            }
-        }
-        return result;
+    static IntConsList<Integer> toIntConsList(@NonNull IntStream stream) {
+        Objects.requireNonNull(stream, ConsUtil.MSG_STREAM_IS_NULL);
+        return stream.collect(IntBuilder::new, IntBuilder::add, IntBuilder::append).build();
     }
 
     /**
-     * Constructs a new <tt>LongConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     * Constructs a new <tt>IntConsList</tt> with the remaining elements of the <tt>iterator</tt>
+     * in their order, without boxing them.
      *
-     * <p>The head, the tail elements and the resulting list have the same compile-time type.
-     *
-     * <p>The original list is not modified.
-     *
-     * @param head first element of the new list
-     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
-     * @return a cons list with the given head and tail elements
+     * @param iterator input iterator
+     * @return the cons list with the remaining elements of the iterator in the same order
      */
     @NonNull
-    static LongConsList<Long> longCons(long head, @NonNull LongConsList<Long> tail) {
-        return new LongConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    static IntConsList<Integer> toIntConsList(@NonNull PrimitiveIterator.OfInt iterator) {
+        Objects.requireNonNull(iterator, ConsUtil.MSG_ITERATOR_IS_NULL);
+        IntBuilder builder = new IntBuilder();
+        while (iterator.hasNext()) {
+            builder.add(iterator.nextInt());
+        }
+        return builder.build();
     }
 
     /**
-     * Constructs a new LongConsList with elements <tt>head</tt> and <tt>tail</tt>.
-     *
-     * <p>The head, the tail elements and the resulting list have the same compile-time type.
-     *
-     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     * Constructs a new <tt>IntConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
      *
-     * <p>The original list is not modified.
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers. The elements are stored
+     * in unrolled nodes holding up to 32 elements each.
      *
-     * @param head first element of the new list
-     * @param tail collection of second and consecutive elements of the new list;
-     * @return a cons list with the given head and tail elements
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
      */
     @NonNull
-    static LongConsList<Long> longCons(long head, @NonNull Collection<Long> tail) {
-        return new LongConsListImpl(head, longConsList(tail));
+    static IntConsList<Integer> toIntConsList(@NonNull IntBuffer buffer) {
+        return ConsUtil.toIntConsList(buffer);
     }
 
     /**
-     * Constructs a new <tt>LongConsList</tt> containing elements in the given order.
+     * Constructs a new compressed <tt>IntConsList</tt> containing elements in the given order.
+     *
+     * <p>The elements are stored in nodes of up to 256 elements each, holding the first
+     * element as is and the following ones as varint-encoded differences to their predecessors.
+     * Sorted lists of close values, such as ID lists, take one or two bytes per element.
+     * The elements are decoded on iteration and by <tt>intTail()</tt>.
      *
      * <p>An invocation with an empty parameter list will produce the empty
      * list instance <tt>nil()</tt>.
      *
-     * <p>With a non-empty parameter array, its first element is the head of the new cons list,
-     * the rest are the parameters for constructing its tail.
-     *
      * @param elements any number of elements of the list to be constructed
-     * @return the cons list with the elements consList the argument array in the same order
+     * @return the compressed cons list with the elements of the argument array in the same order
      */
     @NonNull
-    static LongConsList<Long> longList(@NonNull long... elements) {
-        LongConsList<Long> cons = nil();
-        for (int i = elements.length - 1; i >= 0; i--) {
-            cons = new LongConsListImpl(elements[i], cons);
-        }
-        return cons;
+    static IntConsList<Integer> compressedIntList(@NonNull int... elements) {
+        return CompressedIntConsListImpl.prepend(elements, 0, elements.length, nil());
     }
 
     /**
-     * Constructs a new <tt>LongConsList</tt> from the given {@link Iterable}.
-     *
-     * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
-     *
-     * <p>For instances of {@link List}, only one iteration backwards through the list's
-     * {@link ListIterator} will be done.
-     *
-     * <p>For all other {@link Iterable} types, this traverses both the Iterable
-     * and the intermediate ConsList once.
+     * Constructs a new compressed <tt>IntConsList</tt> from the given {@link Iterable},
+     * see {@link #compressedIntList(int...)}.
      *
      * @param iterable input iterable
-     * @return the cons list with the elements consList the Iterable in the same order
+     * @return the compressed cons list with the elements of the Iterable in the same order
      */
     @NonNull
-    static LongConsList<Long> longConsList(@NonNull Iterable<Long> iterable) {
+    static IntConsList<Integer> compressedIntConsList(@NonNull Iterable<Integer> iterable) {
         Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
-        if (iterable instanceof LongConsList) {
-            return (LongConsList<Long>) iterable;
-        }
-        LongConsList<Long> cons = nil();
-        if (iterable instanceof List) {
-            List<Long> list = (List<Long>) iterable;
-            ListIterator<Long> iter = list.listIterator(list.size());
-            while (iter.hasPrevious()) {
-                cons = new LongConsListImpl(iter.previous(), cons);
+        int[] elements = new int[ConsUtil.COMPRESSED_NODE_CAPACITY];
+        int n = 0;
+        for (Integer v : iterable) {
+            if (n == elements.length) {
+                elements = Arrays.copyOf(elements, n * 2);
             }
-            return cons;
-        } else {
-            for (Long v : iterable) {
-                cons = new LongConsListImpl(v, cons);
-            }
-            return cons.longReverse();
+            elements[n++] = v;
         }
+        return CompressedIntConsListImpl.prepend(elements, 0, n, nil());
     }
 
     /**
-     * Returns a <tt>LongConsList</tt> that contains the concatenation of elements of all argument LongConsLists.
+     * Returns an <tt>IntConsList</tt> that contains the concatenation of elements of all argument IntConsLists.
      *
      * @param first the first argument cons list, not nullable
      * @param rest the rest of the argument cons lists, each of them not nullable
@@ -487,36 +730,27 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     @SafeVarargs
-    static LongConsList<Long> concat(@NonNull LongConsList<Long> first, @NonNull LongConsList<Long>... rest) {
+    static IntConsList<Integer> concat(@NonNull IntConsList<Integer> first, @NonNull IntConsList<Integer>... rest) {
         Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
         Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
         if (rest.length == 0) {
             return first;
         }
-        LongConsList<Long> result = rest[rest.length - 1];
-        if (result == null) {
-            throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + rest.length);
-        }
-        for (int i = rest.length - 2; i >= -1; i--) {
-            LongConsList<Long> cons;
-            if (i == -1) {
-                cons = first;
-            } else {
-                if (rest[i] == null) {
-                    throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
-                }
-                cons = rest[i].longReverse();
-            }
-            while (cons != Nil.INSTANCE) {
-                result = new LongConsListImpl(cons.longHead(), result);
-                cons = cons.longTail();
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
             }
         }
-        return result;
+        ConsAppender.OfInt prefix = new ConsAppender.OfInt();
+        prefix.addAll(first);
+        for (int i = 0; i < rest.length - 1; i++) {
+            prefix.addAll(rest[i]);
+        }
+        return prefix.toIntConsList(prefix.size(), rest[rest.length - 1]);
     }
 
     /**
-     * Constructs a new <tt>DoubleConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     * Constructs a new <tt>LongConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
      *
      * <p>The head, the tail elements and the resulting list have the same compile-time type.
      *
@@ -527,12 +761,12 @@ public interface ConsList<E> extends Collection<E> {
      * @return a cons list with the given head and tail elements
      */
     @NonNull
-    static DoubleConsList<Double> doubleCons(double head, @NonNull DoubleConsList<Double> tail) {
-        return new DoubleConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    static LongConsList<Long> longCons(long head, @NonNull LongConsList<Long> tail) {
+        return new LongConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
     }
 
     /**
-     * Constructs a new <tt>DoubleConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     * Constructs a new LongConsList with elements <tt>head</tt> and <tt>tail</tt>.
      *
      * <p>The head, the tail elements and the resulting list have the same compile-time type.
      *
@@ -545,12 +779,263 @@ public interface ConsList<E> extends Collection<E> {
      * @return a cons list with the given head and tail elements
      */
     @NonNull
-    static DoubleConsList<Double> doubleCons(double head, @NonNull Collection<Double> tail) {
-        return new DoubleConsListImpl(head, doubleConsList(tail));
+    static LongConsList<Long> longCons(long head, @NonNull Collection<Long> tail) {
+        return new LongConsListImpl(head, longConsList(tail));
     }
 
     /**
-     * Constructs a new <tt>DoubleConsList</tt> containing elements in the given order.
+     * Constructs a new <tt>LongConsList</tt> containing elements in the given order.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * <p>With a non-empty parameter array, its first element is the head of the new cons list,
+     * the rest are the parameters for constructing its tail.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the cons list with the elements consList the argument array in the same order
+     */
+    @NonNull
+    static LongConsList<Long> longList(@NonNull long... elements) {
+        return longList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>The elements are copied into unrolled nodes holding up to 32 elements each.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static LongConsList<Long> longList(@NonNull long[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        return UnrolledLongConsListImpl.prepend(Arrays.copyOfRange(elements, from, to), 0, to - from, nil());
+    }
+
+    /**
+     * Returns a virtual <tt>LongConsList</tt> of the values from <tt>from</tt>, inclusive,
+     * to <tt>to</tt>, exclusive, in the ascending order.
+     *
+     * <p>The values are computed when accessed and take constant memory.
+     * The hash code, which nodes prepended with <tt>longCons</tt> or <tt>concat</tt> need,
+     * is computed in logarithmic time for values from <tt>-2^32</tt> to <tt>2^32 - 1</tt>
+     * and by iterating over the other values.
+     *
+     * @param from the first value, inclusive
+     * @param to   the upper bound, exclusive
+     * @return the list of the values, or <tt>nil()</tt> if <tt>from &gt;= to</tt>
+     */
+    @NonNull
+    static LongConsList<Long> longRange(long from, long to) {
+        return RangeLongConsListImpl.range(from, to, 1);
+    }
+
+    /**
+     * Returns a virtual <tt>LongConsList</tt> of the values starting with <tt>from</tt>, each one
+     * <tt>step</tt> greater than the previous one, up to <tt>to</tt>, exclusive. A negative
+     * <tt>step</tt> makes a descending list.
+     *
+     * <p>The values are computed when accessed and take constant memory.
+     * The hash code, which nodes prepended with <tt>longCons</tt> or <tt>concat</tt> need,
+     * is computed in logarithmic time for values from <tt>-2^32</tt> to <tt>2^32 - 1</tt>
+     * and by iterating over the other values.
+     *
+     * <p>Throws {@link IllegalArgumentException} if the <tt>step</tt> is zero.
+     *
+     * @param from the first value, inclusive
+     * @param to   the bound, exclusive
+     * @param step the difference between consecutive values, not zero
+     * @return the list of the values, or <tt>nil()</tt> if there are none
+     */
+    @NonNull
+    static LongConsList<Long> longRange(long from, long to, long step) {
+        return RangeLongConsListImpl.range(from, to, step);
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> from the given {@link Iterable}.
+     *
+     * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
+     *
+     * <p>For all other {@link Iterable} types, the elements are appended to a
+     * {@link LongBuilder} in a single pass, whose chunks become the unrolled nodes
+     * without being copied again.
+     *
+     * @param iterable input iterable
+     * @return the cons list with the elements consList the Iterable in the same order
+     */
+    @NonNull
+    static LongConsList<Long> longConsList(@NonNull Iterable<Long> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        if (iterable instanceof LongConsList) {
+            return (LongConsList<Long>) iterable;
+        }
+        return new LongBuilder().addAll(iterable).build();
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> with the elements of the <tt>stream</tt> in their order,
+     * without boxing them.
+     *
+     * <p>The elements are appended to a {@link LongBuilder}. Parallel streams are collected
+     * in segments, whose builders are combined by linking their chunks. The chunks become
+     * the arrays of the nodes, so no element is copied after it has been collected.
+     *
+     * @param stream input stream
+     * @return the cons list with the elements of the stream in the same order
+     */
+    @NonNull
+    static LongConsList<Long> toLongConsList(@NonNull LongStream stream) {
+        Objects.requireNonNull(stream, ConsUtil.MSG_STREAM_IS_NULL);
+        return stream.collect(LongBuilder::new, LongBuilder::add, LongBuilder::append).build();
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> with the remaining elements of the <tt>iterator</tt>
+     * in their order, without boxing them.
+     *
+     * @param iterator input iterator
+     * @return the cons list with the remaining elements of the iterator in the same order
+     */
+    @NonNull
+    static LongConsList<Long> toLongConsList(@NonNull PrimitiveIterator.OfLong iterator) {
+        Objects.requireNonNull(iterator, ConsUtil.MSG_ITERATOR_IS_NULL);
+        LongBuilder builder = new LongBuilder();
+        while (iterator.hasNext()) {
+            builder.add(iterator.nextLong());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
+     *
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers. The elements are stored
+     * in unrolled nodes holding up to 32 elements each.
+     *
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
+     */
+    @NonNull
+    static LongConsList<Long> toLongConsList(@NonNull LongBuffer buffer) {
+        return ConsUtil.toLongConsList(buffer);
+    }
+
+    /**
+     * Constructs a new compressed <tt>LongConsList</tt> containing elements in the given order.
+     *
+     * <p>The elements are stored in nodes of up to 256 elements each, holding the first
+     * element as is and the following ones as varint-encoded differences to their predecessors.
+     * Sorted lists of close values, such as ID lists, take one or two bytes per element.
+     * The elements are decoded on iteration and by <tt>longTail()</tt>.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the compressed cons list with the elements of the argument array in the same order
+     */
+    @NonNull
+    static LongConsList<Long> compressedLongList(@NonNull long... elements) {
+        return CompressedLongConsListImpl.prepend(elements, 0, elements.length, nil());
+    }
+
+    /**
+     * Constructs a new compressed <tt>LongConsList</tt> from the given {@link Iterable},
+     * see {@link #compressedLongList(long...)}.
+     *
+     * @param iterable input iterable
+     * @return the compressed cons list with the elements of the Iterable in the same order
+     */
+    @NonNull
+    static LongConsList<Long> compressedLongConsList(@NonNull Iterable<Long> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        long[] elements = new long[ConsUtil.COMPRESSED_NODE_CAPACITY];
+        int n = 0;
+        for (Long v : iterable) {
+            if (n == elements.length) {
+                elements = Arrays.copyOf(elements, n * 2);
+            }
+            elements[n++] = v;
+        }
+        return CompressedLongConsListImpl.prepend(elements, 0, n, nil());
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> that contains the concatenation of elements of all argument LongConsLists.
+     *
+     * @param first the first argument cons list, not nullable
+     * @param rest the rest of the argument cons lists, each of them not nullable
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    @SafeVarargs
+    static LongConsList<Long> concat(@NonNull LongConsList<Long> first, @NonNull LongConsList<Long>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
+        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
+        if (rest.length == 0) {
+            return first;
+        }
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
+        }
+        ConsAppender.OfLong prefix = new ConsAppender.OfLong();
+        prefix.addAll(first);
+        for (int i = 0; i < rest.length - 1; i++) {
+            prefix.addAll(rest[i]);
+        }
+        return prefix.toLongConsList(prefix.size(), rest[rest.length - 1]);
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static DoubleConsList<Double> doubleCons(double head, @NonNull DoubleConsList<Double> tail) {
+        return new DoubleConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail collection of second and consecutive elements of the new list;
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static DoubleConsList<Double> doubleCons(double head, @NonNull Collection<Double> tail) {
+        return new DoubleConsListImpl(head, doubleConsList(tail));
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> containing elements in the given order.
      *
      * <p>An invocation with an empty parameter list will produce the empty
      * list instance <tt>nil()</tt>.
@@ -563,51 +1048,948 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     static DoubleConsList<Double> doubleList(@NonNull double... elements) {
-        DoubleConsList<Double> cons = nil();
-        for (int i = elements.length - 1; i >= 0; i--) {
-            cons = new DoubleConsListImpl(elements[i], cons);
+        return doubleList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>The elements are copied into unrolled nodes holding up to 32 elements each.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> doubleList(@NonNull double[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        return UnrolledDoubleConsListImpl.prepend(Arrays.copyOfRange(elements, from, to), 0, to - from, nil());
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> from the given {@link Iterable}.
+     *
+     * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
+     *
+     * <p>For all other {@link Iterable} types, the elements are appended to a
+     * {@link DoubleBuilder} in a single pass, whose chunks become the unrolled nodes
+     * without being copied again.
+     *
+     * @param iterable input iterable
+     * @return the cons list with the elements consList the Iterable in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> doubleConsList(@NonNull Iterable<Double> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        if (iterable instanceof DoubleConsList) {
+            return (DoubleConsList<Double>) iterable;
+        }
+        return new DoubleBuilder().addAll(iterable).build();
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with the elements of the <tt>stream</tt> in their order,
+     * without boxing them.
+     *
+     * <p>The elements are appended to a {@link DoubleBuilder}. Parallel streams are collected
+     * in segments, whose builders are combined by linking their chunks. The chunks become
+     * the arrays of the nodes, so no element is copied after it has been collected.
+     *
+     * @param stream input stream
+     * @return the cons list with the elements of the stream in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> toDoubleConsList(@NonNull DoubleStream stream) {
+        Objects.requireNonNull(stream, ConsUtil.MSG_STREAM_IS_NULL);
+        return stream.collect(DoubleBuilder::new, DoubleBuilder::add, DoubleBuilder::append).build();
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with the remaining elements of the <tt>iterator</tt>
+     * in their order, without boxing them.
+     *
+     * @param iterator input iterator
+     * @return the cons list with the remaining elements of the iterator in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> toDoubleConsList(@NonNull PrimitiveIterator.OfDouble iterator) {
+        Objects.requireNonNull(iterator, ConsUtil.MSG_ITERATOR_IS_NULL);
+        DoubleBuilder builder = new DoubleBuilder();
+        while (iterator.hasNext()) {
+            builder.add(iterator.nextDouble());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
+     *
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers. The elements are stored
+     * in unrolled nodes holding up to 32 elements each.
+     *
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> toDoubleConsList(@NonNull DoubleBuffer buffer) {
+        return ConsUtil.toDoubleConsList(buffer);
+    }
+
+    /**
+     * Constructs a new compressed <tt>DoubleConsList</tt> containing elements in the given order.
+     *
+     * <p>The elements are stored in nodes of up to 256 elements each, holding the first
+     * element as is and the following ones XOR-ed with their predecessors in a bit stream,
+     * like in the Gorilla time series database. Slowly changing series take a fraction
+     * of the 64 bits per element. The elements are decoded on iteration and by <tt>doubleTail()</tt>.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the compressed cons list with the elements of the argument array in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> compressedDoubleList(@NonNull double... elements) {
+        return CompressedDoubleConsListImpl.prepend(elements, 0, elements.length, nil());
+    }
+
+    /**
+     * Constructs a new compressed <tt>DoubleConsList</tt> from the given {@link Iterable},
+     * see {@link #compressedDoubleList(double...)}.
+     *
+     * @param iterable input iterable
+     * @return the compressed cons list with the elements of the Iterable in the same order
+     */
+    @NonNull
+    static DoubleConsList<Double> compressedDoubleConsList(@NonNull Iterable<Double> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        double[] elements = new double[ConsUtil.COMPRESSED_NODE_CAPACITY];
+        int n = 0;
+        for (Double v : iterable) {
+            if (n == elements.length) {
+                elements = Arrays.copyOf(elements, n * 2);
+            }
+            elements[n++] = v;
+        }
+        return CompressedDoubleConsListImpl.prepend(elements, 0, n, nil());
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> that contains the concatenation of elements of all argument DoubleConsLists.
+     *
+     * @param first the first argument cons list, not nullable
+     * @param rest the rest of the argument cons lists, each of them not nullable
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    @SafeVarargs
+    static DoubleConsList<Double> concat(@NonNull DoubleConsList<Double> first, @NonNull DoubleConsList<Double>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
+        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
+        if (rest.length == 0) {
+            return first;
+        }
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
+        }
+        ConsAppender.OfDouble prefix = new ConsAppender.OfDouble();
+        prefix.addAll(first);
+        for (int i = 0; i < rest.length - 1; i++) {
+            prefix.addAll(rest[i]);
+        }
+        return prefix.toDoubleConsList(prefix.size(), rest[rest.length - 1]);
+    }
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static FloatConsList<Float> floatCons(float head, @NonNull FloatConsList<Float> tail) {
+        return new FloatConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    }
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail collection of second and consecutive elements of the new list;
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static FloatConsList<Float> floatCons(float head, @NonNull Collection<Float> tail) {
+        return new FloatConsListImpl(head, floatConsList(tail));
+    }
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> containing elements in the given order.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * <p>With a non-empty parameter array, its first element is the head of the new cons list,
+     * the rest are the parameters for constructing its tail.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the cons list with the elements consList the argument array in the same order
+     */
+    @NonNull
+    static FloatConsList<Float> floatList(@NonNull float... elements) {
+        return floatList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static FloatConsList<Float> floatList(@NonNull float[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        FloatConsList<Float> cons = nil();
+        for (int i = to - 1; i >= from; i--) {
+            cons = new FloatConsListImpl(elements[i], cons);
+        }
+        return cons;
+    }
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> from the given {@link Iterable}.
+     *
+     * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
+     *
+     * <p>For instances of {@link List}, only one iteration backwards through the list's
+     * {@link ListIterator} will be done.
+     *
+     * <p>For all other {@link Iterable} types, the elements are first collected into
+     * a primitive array, from which the nodes are built back to front.
+     *
+     * @param iterable input iterable
+     * @return the cons list with the elements consList the Iterable in the same order
+     */
+    @NonNull
+    static FloatConsList<Float> floatConsList(@NonNull Iterable<Float> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        if (iterable instanceof FloatConsList) {
+            return (FloatConsList<Float>) iterable;
+        }
+        FloatConsList<Float> cons = nil();
+        if (iterable instanceof List) {
+            List<Float> list = (List<Float>) iterable;
+            ListIterator<Float> iter = list.listIterator(list.size());
+            while (iter.hasPrevious()) {
+                cons = new FloatConsListImpl(iter.previous(), cons);
+            }
+            return cons;
+        } else {
+            float[] elements = new float[ConsUtil.UNROLLED_NODE_CAPACITY];
+            int n = 0;
+            for (Float v : iterable) {
+                if (n == elements.length) {
+                    elements = Arrays.copyOf(elements, n * 2);
+                }
+                elements[n++] = v;
+            }
+            while (n > 0) {
+                cons = new FloatConsListImpl(elements[--n], cons);
+            }
+            return cons;
+        }
+    }
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
+     *
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers.
+     *
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
+     */
+    @NonNull
+    static FloatConsList<Float> toFloatConsList(@NonNull FloatBuffer buffer) {
+        return ConsUtil.toFloatConsList(buffer);
+    }
+
+    /**
+     * Returns a <tt>FloatConsList</tt> that contains the concatenation of elements of all argument FloatConsLists.
+     *
+     * @param first the first argument cons list, not nullable
+     * @param rest the rest of the argument cons lists, each of them not nullable
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    @SafeVarargs
+    static FloatConsList<Float> concat(@NonNull FloatConsList<Float> first, @NonNull FloatConsList<Float>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
+        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
+        if (rest.length == 0) {
+            return first;
+        }
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
+        }
+        FloatConsList<Float> result = rest[rest.length - 1];
+        for (int i = rest.length - 2; i >= -1; i--) {
+            FloatConsList<Float> cons = i == -1 ? first : rest[i];
+            float[] elements = new float[ConsUtil.arrayLength(cons.sizeAsLong())];
+            FloatConsList.FloatIterator iter = cons.floatIterator();
+            for (int j = 0; j < elements.length; j++) {
+                elements[j] = iter.nextFloat();
+            }
+            for (int j = elements.length - 1; j >= 0; j--) {
+                result = new FloatConsListImpl(elements[j], result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static ShortConsList<Short> shortCons(short head, @NonNull ShortConsList<Short> tail) {
+        return new ShortConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    }
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail collection of second and consecutive elements of the new list;
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static ShortConsList<Short> shortCons(short head, @NonNull Collection<Short> tail) {
+        return new ShortConsListImpl(head, shortConsList(tail));
+    }
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> containing elements in the given order.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * <p>With a non-empty parameter array, its first element is the head of the new cons list,
+     * the rest are the parameters for constructing its tail.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the cons list with the elements consList the argument array in the same order
+     */
+    @NonNull
+    static ShortConsList<Short> shortList(@NonNull short... elements) {
+        return shortList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static ShortConsList<Short> shortList(@NonNull short[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        ShortConsList<Short> cons = nil();
+        for (int i = to - 1; i >= from; i--) {
+            cons = new ShortConsListImpl(elements[i], cons);
+        }
+        return cons;
+    }
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> from the given {@link Iterable}.
+     *
+     * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
+     *
+     * <p>For instances of {@link List}, only one iteration backwards through the list's
+     * {@link ListIterator} will be done.
+     *
+     * <p>For all other {@link Iterable} types, the elements are first collected into
+     * a primitive array, from which the nodes are built back to front.
+     *
+     * @param iterable input iterable
+     * @return the cons list with the elements consList the Iterable in the same order
+     */
+    @NonNull
+    static ShortConsList<Short> shortConsList(@NonNull Iterable<Short> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        if (iterable instanceof ShortConsList) {
+            return (ShortConsList<Short>) iterable;
+        }
+        ShortConsList<Short> cons = nil();
+        if (iterable instanceof List) {
+            List<Short> list = (List<Short>) iterable;
+            ListIterator<Short> iter = list.listIterator(list.size());
+            while (iter.hasPrevious()) {
+                cons = new ShortConsListImpl(iter.previous(), cons);
+            }
+            return cons;
+        } else {
+            short[] elements = new short[ConsUtil.UNROLLED_NODE_CAPACITY];
+            int n = 0;
+            for (Short v : iterable) {
+                if (n == elements.length) {
+                    elements = Arrays.copyOf(elements, n * 2);
+                }
+                elements[n++] = v;
+            }
+            while (n > 0) {
+                cons = new ShortConsListImpl(elements[--n], cons);
+            }
+            return cons;
+        }
+    }
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
+     *
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers.
+     *
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
+     */
+    @NonNull
+    static ShortConsList<Short> toShortConsList(@NonNull ShortBuffer buffer) {
+        return ConsUtil.toShortConsList(buffer);
+    }
+
+    /**
+     * Returns a <tt>ShortConsList</tt> that contains the concatenation of elements of all argument ShortConsLists.
+     *
+     * @param first the first argument cons list, not nullable
+     * @param rest the rest of the argument cons lists, each of them not nullable
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    @SafeVarargs
+    static ShortConsList<Short> concat(@NonNull ShortConsList<Short> first, @NonNull ShortConsList<Short>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
+        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
+        if (rest.length == 0) {
+            return first;
+        }
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
+        }
+        ShortConsList<Short> result = rest[rest.length - 1];
+        for (int i = rest.length - 2; i >= -1; i--) {
+            ShortConsList<Short> cons = i == -1 ? first : rest[i];
+            short[] elements = new short[ConsUtil.arrayLength(cons.sizeAsLong())];
+            ShortConsList.ShortIterator iter = cons.shortIterator();
+            for (int j = 0; j < elements.length; j++) {
+                elements[j] = iter.nextShort();
+            }
+            for (int j = elements.length - 1; j >= 0; j--) {
+                result = new ShortConsListImpl(elements[j], result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Constructs a new <tt>ByteConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static ByteConsList<Byte> byteCons(byte head, @NonNull ByteConsList<Byte> tail) {
+        return new ByteConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    }
+
+    /**
+     * Constructs a new <tt>ByteConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail collection of second and consecutive elements of the new list;
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static ByteConsList<Byte> byteCons(byte head, @NonNull Collection<Byte> tail) {
+        return new ByteConsListImpl(head, byteConsList(tail));
+    }
+
+    /**
+     * Constructs a new <tt>ByteConsList</tt> containing elements in the given order.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * <p>With a non-empty parameter array, its first element is the head of the new cons list,
+     * the rest are the parameters for constructing its tail.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the cons list with the elements consList the argument array in the same order
+     */
+    @NonNull
+    static ByteConsList<Byte> byteList(@NonNull byte... elements) {
+        return byteList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>ByteConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static ByteConsList<Byte> byteList(@NonNull byte[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        ByteConsList<Byte> cons = nil();
+        for (int i = to - 1; i >= from; i--) {
+            cons = new ByteConsListImpl(elements[i], cons);
         }
         return cons;
     }
 
     /**
-     * Constructs a new <tt>DoubleConsList</tt> from the given {@link Iterable}.
+     * Constructs a new <tt>ByteConsList</tt> from the given {@link Iterable}.
+     *
+     * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
+     *
+     * <p>For instances of {@link List}, only one iteration backwards through the list's
+     * {@link ListIterator} will be done.
+     *
+     * <p>For all other {@link Iterable} types, the elements are first collected into
+     * a primitive array, from which the nodes are built back to front.
+     *
+     * @param iterable input iterable
+     * @return the cons list with the elements consList the Iterable in the same order
+     */
+    @NonNull
+    static ByteConsList<Byte> byteConsList(@NonNull Iterable<Byte> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        if (iterable instanceof ByteConsList) {
+            return (ByteConsList<Byte>) iterable;
+        }
+        ByteConsList<Byte> cons = nil();
+        if (iterable instanceof List) {
+            List<Byte> list = (List<Byte>) iterable;
+            ListIterator<Byte> iter = list.listIterator(list.size());
+            while (iter.hasPrevious()) {
+                cons = new ByteConsListImpl(iter.previous(), cons);
+            }
+            return cons;
+        } else {
+            byte[] elements = new byte[ConsUtil.UNROLLED_NODE_CAPACITY];
+            int n = 0;
+            for (Byte v : iterable) {
+                if (n == elements.length) {
+                    elements = Arrays.copyOf(elements, n * 2);
+                }
+                elements[n++] = v;
+            }
+            while (n > 0) {
+                cons = new ByteConsListImpl(elements[--n], cons);
+            }
+            return cons;
+        }
+    }
+
+    /**
+     * Constructs a new <tt>ByteConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
+     *
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers.
+     *
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
+     */
+    @NonNull
+    static ByteConsList<Byte> toByteConsList(@NonNull ByteBuffer buffer) {
+        return ConsUtil.toByteConsList(buffer);
+    }
+
+    /**
+     * Returns a <tt>ByteConsList</tt> that contains the concatenation of elements of all argument ByteConsLists.
+     *
+     * @param first the first argument cons list, not nullable
+     * @param rest the rest of the argument cons lists, each of them not nullable
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    @SafeVarargs
+    static ByteConsList<Byte> concat(@NonNull ByteConsList<Byte> first, @NonNull ByteConsList<Byte>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
+        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
+        if (rest.length == 0) {
+            return first;
+        }
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
+        }
+        ByteConsList<Byte> result = rest[rest.length - 1];
+        for (int i = rest.length - 2; i >= -1; i--) {
+            ByteConsList<Byte> cons = i == -1 ? first : rest[i];
+            byte[] elements = new byte[ConsUtil.arrayLength(cons.sizeAsLong())];
+            ByteConsList.ByteIterator iter = cons.byteIterator();
+            for (int j = 0; j < elements.length; j++) {
+                elements[j] = iter.nextByte();
+            }
+            for (int j = elements.length - 1; j >= 0; j--) {
+                result = new ByteConsListImpl(elements[j], result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static CharConsList<Character> charCons(char head, @NonNull CharConsList<Character> tail) {
+        return new CharConsListImpl(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    }
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail collection of second and consecutive elements of the new list;
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static CharConsList<Character> charCons(char head, @NonNull Collection<Character> tail) {
+        return new CharConsListImpl(head, charConsList(tail));
+    }
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> containing elements in the given order.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * <p>With a non-empty parameter array, its first element is the head of the new cons list,
+     * the rest are the parameters for constructing its tail.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the cons list with the elements consList the argument array in the same order
+     */
+    @NonNull
+    static CharConsList<Character> charList(@NonNull char... elements) {
+        return charList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static CharConsList<Character> charList(@NonNull char[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        CharConsList<Character> cons = nil();
+        for (int i = to - 1; i >= from; i--) {
+            cons = new CharConsListImpl(elements[i], cons);
+        }
+        return cons;
+    }
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> from the given {@link Iterable}.
      *
      * <p>If the {@link Iterable} is itself a ConsList, returns the typecast iterable.
      *
-     * <p>For instances of {@link List}, only one iteration backwards through the list's
-     * {@link ListIterator} will be done.
+     * <p>For instances of {@link List}, only one iteration backwards through the list's
+     * {@link ListIterator} will be done.
+     *
+     * <p>For all other {@link Iterable} types, the elements are first collected into
+     * a primitive array, from which the nodes are built back to front.
+     *
+     * @param iterable input iterable
+     * @return the cons list with the elements consList the Iterable in the same order
+     */
+    @NonNull
+    static CharConsList<Character> charConsList(@NonNull Iterable<Character> iterable) {
+        Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+        if (iterable instanceof CharConsList) {
+            return (CharConsList<Character>) iterable;
+        }
+        CharConsList<Character> cons = nil();
+        if (iterable instanceof List) {
+            List<Character> list = (List<Character>) iterable;
+            ListIterator<Character> iter = list.listIterator(list.size());
+            while (iter.hasPrevious()) {
+                cons = new CharConsListImpl(iter.previous(), cons);
+            }
+            return cons;
+        } else {
+            char[] elements = new char[ConsUtil.UNROLLED_NODE_CAPACITY];
+            int n = 0;
+            for (Character v : iterable) {
+                if (n == elements.length) {
+                    elements = Arrays.copyOf(elements, n * 2);
+                }
+                elements[n++] = v;
+            }
+            while (n > 0) {
+                cons = new CharConsListImpl(elements[--n], cons);
+            }
+            return cons;
+        }
+    }
+
+    /**
+     * Constructs a new <tt>CharConsList</tt> with the remaining elements of the <tt>buffer</tt>,
+     * from its position to its limit, without boxing them. Like a relative bulk <tt>get</tt>,
+     * this moves the position of the buffer to its limit.
+     *
+     * <p>Since the number of the elements is known, the nodes are built back to front directly
+     * from chunks read in bulk, which also suits direct buffers.
+     *
+     * @param buffer input buffer
+     * @return the cons list with the remaining elements of the buffer in the same order
+     */
+    @NonNull
+    static CharConsList<Character> toCharConsList(@NonNull CharBuffer buffer) {
+        return ConsUtil.toCharConsList(buffer);
+    }
+
+    /**
+     * Returns a <tt>CharConsList</tt> that contains the concatenation of elements of all argument CharConsLists.
+     *
+     * @param first the first argument cons list, not nullable
+     * @param rest the rest of the argument cons lists, each of them not nullable
+     * @return the concatentation of all argument lists
+     */
+    @NonNull
+    @SafeVarargs
+    static CharConsList<Character> concat(@NonNull CharConsList<Character> first, @NonNull CharConsList<Character>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
+        Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
+        if (rest.length == 0) {
+            return first;
+        }
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
+        }
+        CharConsList<Character> result = rest[rest.length - 1];
+        for (int i = rest.length - 2; i >= -1; i--) {
+            CharConsList<Character> cons = i == -1 ? first : rest[i];
+            char[] elements = new char[ConsUtil.arrayLength(cons.sizeAsLong())];
+            CharConsList.CharIterator iter = cons.charIterator();
+            for (int j = 0; j < elements.length; j++) {
+                elements[j] = iter.nextChar();
+            }
+            for (int j = elements.length - 1; j >= 0; j--) {
+                result = new CharConsListImpl(elements[j], result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Constructs a new <tt>BooleanConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p>The original list is not modified. If the first node of the <tt>tail</tt> has room
+     * for one more element, a copy of it with the <tt>head</tt> added to its packed word is created.
+     *
+     * @param head first element of the new list
+     * @param tail <tt>ConsList</tt> with the second and consecutive elements of the new list
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static BooleanConsList<Boolean> booleanCons(boolean head, @NonNull BooleanConsList<Boolean> tail) {
+        return BooleanConsListImpl.cons(head, Objects.requireNonNull(tail, ConsUtil.MSG_TAIL_IS_NULL));
+    }
+
+    /**
+     * Constructs a new <tt>BooleanConsList</tt> with elements <tt>head</tt> and <tt>tail</tt>.
+     *
+     * <p>The head, the tail elements and the resulting list have the same compile-time type.
+     *
+     * <p><tt>tail</tt> collection, if not of type <tt>ConsList</tt>, will be converted to it.
+     *
+     * <p>The original list is not modified.
+     *
+     * @param head first element of the new list
+     * @param tail collection of second and consecutive elements of the new list;
+     * @return a cons list with the given head and tail elements
+     */
+    @NonNull
+    static BooleanConsList<Boolean> booleanCons(boolean head, @NonNull Collection<Boolean> tail) {
+        return BooleanConsListImpl.cons(head, booleanConsList(tail));
+    }
+
+    /**
+     * Constructs a new <tt>BooleanConsList</tt> containing elements in the given order.
+     *
+     * <p>An invocation with an empty parameter list will produce the empty
+     * list instance <tt>nil()</tt>.
+     *
+     * <p>The elements are packed into nodes of up to 64 elements each.
+     *
+     * @param elements any number of elements of the list to be constructed
+     * @return the cons list with the elements consList the argument array in the same order
+     */
+    @NonNull
+    static BooleanConsList<Boolean> booleanList(@NonNull boolean... elements) {
+        return booleanList(elements, 0, elements.length);
+    }
+
+    /**
+     * Constructs a new <tt>BooleanConsList</tt> containing the elements of the array range
+     * from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive, in the same order.
+     *
+     * <p>The elements are packed into nodes of up to 64 elements each.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the range is not within the array.
+     *
+     * @param elements array with the elements of the list to be constructed
+     * @param from     index of the first element, inclusive
+     * @param to       index of the last element, exclusive
+     * @return the cons list with the elements of the array range in the same order
+     */
+    @NonNull
+    static BooleanConsList<Boolean> booleanList(@NonNull boolean[] elements, int from, int to) {
+        Objects.requireNonNull(elements, ConsUtil.MSG_ELEMENTS_IS_NULL);
+        ConsUtil.checkRange(from, to, elements.length);
+        return BooleanConsListImpl.prepend(elements, from, to, nil());
+    }
+
+    /**
+     * Constructs a new <tt>BooleanConsList</tt> from the given {@link Iterable}.
+     *
+     * <p>If the {@link Iterable} is itself a BooleanConsList, returns the typecast iterable.
      *
-     * <p>For all other {@link Iterable} types, this traverses both the Iterable
-     * and the intermediate ConsList once.
+     * <p>For all other {@link Iterable} types, the elements are copied into an array
+     * and packed into nodes of up to 64 elements each.
      *
      * @param iterable input iterable
      * @return the cons list with the elements consList the Iterable in the same order
      */
     @NonNull
-    static DoubleConsList<Double> doubleConsList(@NonNull Iterable<Double> iterable) {
+    static BooleanConsList<Boolean> booleanConsList(@NonNull Iterable<Boolean> iterable) {
         Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
-        if (iterable instanceof DoubleConsList) {
-            return (DoubleConsList<Double>) iterable;
+        if (iterable instanceof BooleanConsList) {
+            return (BooleanConsList<Boolean>) iterable;
         }
-        DoubleConsList<Double> cons = nil();
-        if (iterable instanceof List) {
-            List<Double> list = (List<Double>) iterable;
-            ListIterator<Double> iter = list.listIterator(list.size());
-            while (iter.hasPrevious()) {
-                cons = new DoubleConsListImpl(iter.previous(), cons);
-            }
-            return cons;
+        Collection<Boolean> collection;
+        if (iterable instanceof Collection) {
+            collection = (Collection<Boolean>) iterable;
         } else {
-            for (Double v : iterable) {
-                cons = new DoubleConsListImpl(v, cons);
+            collection = new ArrayList<>();
+            for (Boolean v : iterable) {
+                collection.add(v);
             }
-            return cons.doubleReverse();
         }
+        boolean[] elements = new boolean[collection.size()];
+        int i = 0;
+        for (Boolean v : collection) {
+            elements[i++] = v;
+        }
+        return BooleanConsListImpl.prepend(elements, 0, elements.length, nil());
     }
 
     /**
-     * Returns a <tt>DoubleConsList</tt> that contains the concatenation of elements of all argument DoubleConsLists.
+     * Returns a <tt>BooleanConsList</tt> that contains the concatenation of elements of all argument BooleanConsLists.
      *
      * @param first the first argument cons list, not nullable
      * @param rest the rest of the argument cons lists, each of them not nullable
@@ -615,30 +1997,26 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     @SafeVarargs
-    static DoubleConsList<Double> concat(@NonNull DoubleConsList<Double> first, @NonNull DoubleConsList<Double>... rest) {
-        Objects.requireNonNull(first, "Null concat argument at position 0");
+    static BooleanConsList<Boolean> concat(@NonNull BooleanConsList<Boolean> first, @NonNull BooleanConsList<Boolean>... rest) {
+        Objects.requireNonNull(first, ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS_0);
         Objects.requireNonNull(rest, ConsUtil.MSG_ARG_ARRAY_REST_IS_NULL);
         if (rest.length == 0) {
             return first;
         }
-        DoubleConsList<Double> result = rest[rest.length - 1];
-        if (result == null) {
-            throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + rest.length);
+        for (int i = 0; i < rest.length; i++) {
+            if (rest[i] == null) {
+                throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
+            }
         }
+        BooleanConsList<Boolean> result = rest[rest.length - 1];
         for (int i = rest.length - 2; i >= -1; i--) {
-            DoubleConsList<Double> cons;
-            if (i == -1) {
-                cons = first;
-            } else {
-                if (rest[i] == null) {
-                    throw new NullPointerException(ConsUtil.MSG_NULL_CONCAT_ARG_AT_POS + (i + 1));
-                }
-                cons = rest[i].doubleReverse();
-            }
-            while (cons != Nil.INSTANCE) {
-                result = new DoubleConsListImpl(cons.doubleHead(), result);
-                cons = cons.doubleTail();
+            BooleanConsList<Boolean> cons = i == -1 ? first : rest[i];
+            boolean[] elements = new boolean[ConsUtil.arrayLength(cons.sizeAsLong())];
+            BooleanConsList.BooleanIterator iter = cons.booleanIterator();
+            for (int j = 0; j < elements.length; j++) {
+                elements[j] = iter.nextBoolean();
             }
+            result = BooleanConsListImpl.prepend(elements, 0, elements.length, result);
         }
         return result;
     }
@@ -669,4 +2047,672 @@ public interface ConsList<E> extends Collection<E> {
      */
     @NonNull
     ConsList<E> reverse();
+
+    /**
+     * Returns the number of elements in this list as a <tt>long</tt> value.
+     *
+     * <p>Unlike {@link #size()}, which is capped at <tt>Integer.MAX_VALUE</tt>, this method
+     * returns the exact length of lists with more elements.
+     *
+     * <p>All implementations in this library store the length in each node, so this
+     * method returns in constant time.
+     *
+     * @return the number of elements in this list
+     */
+    default long sizeAsLong() {
+        long size = 0L;
+        for (Iterator<E> iter = iterator(); iter.hasNext(); iter.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Constructs a new <tt>ConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order.
+     *
+     * <p>The list is built in a single pass without intermediate collections. The longest
+     * suffix for which the mapper returns the very same element instances is shared with
+     * this list instead of being copied.
+     *
+     * @param mapper function to apply to each element
+     * @param <R>    element type of the new list
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default <R> ConsList<R> map(@NonNull Function<? super E, ? extends R> mapper) {
+        return ConsUtil.map(this, mapper);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the elements of this list that match the <tt>predicate</tt>,
+     * in the same order.
+     *
+     * <p>The list is built in a single pass without intermediate collections. The longest suffix
+     * of this list in which all elements match is shared instead of being copied: if no element
+     * after the position <tt>k</tt> is filtered out, only the matching elements before <tt>k</tt>
+     * are copied, and if all elements match, this list itself is returned.
+     *
+     * @param predicate predicate telling which elements to keep
+     * @return the list of matching elements
+     */
+    @NonNull
+    default ConsList<E> filter(@NonNull Predicate<? super E> predicate) {
+        return ConsUtil.filter(this, predicate);
+    }
+
+    /**
+     * Splits this list into the elements that match the <tt>predicate</tt> and those that do not,
+     * keeping their order.
+     *
+     * <p>Both lists are built in a single pass. Like in {@link #filter(Predicate)}, the longest
+     * suffix of this list in which all elements match is shared with the list of matching elements.
+     *
+     * @param predicate predicate telling which elements go to the first list
+     * @return a list of two elements: the list of matching elements and the list of the others
+     */
+    @NonNull
+    default ConsList<ConsList<E>> partition(@NonNull Predicate<? super E> predicate) {
+        return ConsUtil.partition(this, predicate);
+    }
+
+    /**
+     * Groups the elements of this list by the keys returned by the <tt>classifier</tt>.
+     *
+     * <p>The elements of each group are appended directly to its cons list in a single pass,
+     * without intermediate collections. The groups keep the order of the elements, and
+     * the unmodifiable map keeps the order in which the keys first occur.
+     *
+     * @param classifier function returning the key of an element
+     * @param <K>        key type
+     * @return the map of the keys to the lists of their elements
+     */
+    @NonNull
+    default <K> Map<K, ConsList<E>> groupBy(@NonNull Function<? super E, ? extends K> classifier) {
+        return ConsUtil.groupBy(this, classifier);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the first occurrences of the distinct elements of this list,
+     * according to {@link Object#equals(Object)}, in the same order.
+     *
+     * <p>The list is built in a single pass using a hash set of the elements seen. The suffix
+     * after the last duplicate is shared with this list, which is itself returned if it has
+     * no duplicates.
+     *
+     * @return the list of distinct elements
+     */
+    @NonNull
+    default ConsList<E> distinct() {
+        return ConsUtil.distinct(this);
+    }
+
+    /**
+     * Constructs a new <tt>ConsList</tt> with the concatenated elements of the iterables returned
+     * by the <tt>mapper</tt> for each of the elements of this list, in the same order.
+     *
+     * <p>The list is built in a single pass without intermediate collections.
+     *
+     * @param mapper function returning the elements replacing each element, not nullable
+     * @param <R>    element type of the new list
+     * @return the list of the elements of all mapper results
+     */
+    @NonNull
+    default <R> ConsList<R> flatMap(@NonNull Function<? super E, ? extends Iterable<? extends R>> mapper) {
+        return ConsUtil.flatMap(this, mapper);
+    }
+
+    /**
+     * Returns the suffix of this list without its first <tt>n</tt> elements, or an empty list
+     * if this list is not longer than <tt>n</tt>.
+     *
+     * <p>The suffix is the existing tail of this list and is not copied. Only if it starts inside
+     * an unrolled or compressed node, a single view of the rest of that node is created.
+     *
+     * @param n number of elements to drop, not negative
+     * @return the list of elements after the first <tt>n</tt> ones
+     */
+    @NonNull
+    default ConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    /**
+     * Returns the suffix of this list starting at the first element that does not match
+     * the <tt>predicate</tt>, without copying it.
+     *
+     * @param predicate predicate telling which leading elements to drop
+     * @return the list of elements after the longest matching prefix
+     * @see #drop(long)
+     */
+    @NonNull
+    default ConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the first <tt>n</tt> elements of this list, or this list
+     * itself if it is not longer than <tt>n</tt>.
+     *
+     * <p>Only the elements of the prefix are copied, in a single pass.
+     *
+     * @param n number of elements to take, not negative
+     * @return the list of the first <tt>n</tt> elements
+     */
+    @NonNull
+    default ConsList<E> take(long n) {
+        return ConsUtil.take(this, n);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the longest prefix of this list in which all elements
+     * match the <tt>predicate</tt>, or this list itself if all of them match.
+     *
+     * @param predicate predicate telling which leading elements to take
+     * @return the list of the leading matching elements
+     * @see #take(long)
+     */
+    @NonNull
+    default ConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    /**
+     * Splits this list at the position <tt>n</tt> into the lists returned by {@link #take(long)}
+     * and {@link #drop(long)}: only the prefix is copied and the suffix is shared with this list.
+     *
+     * <p>Both parts of a primitive-typed list have its primitive type.
+     *
+     * @param n number of elements in the first part, not negative
+     * @return a list of two elements: the first <tt>n</tt> elements and the rest
+     */
+    @NonNull
+    default ConsList<ConsList<E>> splitAt(long n) {
+        ConsList<E> prefix = take(n);
+        ConsList<E> suffix = drop(n);
+        return new ConsListImpl<>(prefix, new ConsListImpl<>(suffix, ConsList.nil()));
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the element at the <tt>index</tt> replaced by the given one.
+     *
+     * <p>Only the elements before the <tt>index</tt> are copied. The suffix after it is shared
+     * with this list, so changing an element near the head takes time proportional to its index
+     * and not to the size of the list.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the <tt>index</tt> is negative or not less
+     * than the size of the list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     */
+    @NonNull
+    default ConsList<E> updated(long index, @Nullable E element) {
+        return ConsUtil.updated(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the given element inserted at the <tt>index</tt>, copying only
+     * the elements before it and sharing the rest of this list.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the <tt>index</tt> is negative or greater
+     * than the size of the list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     */
+    @NonNull
+    default ConsList<E> insertAt(long index, @Nullable E element) {
+        return ConsUtil.insertAt(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> without the element at the <tt>index</tt>, copying only
+     * the elements before it and sharing the rest of this list.
+     *
+     * <p>A primitive-typed list stays of its primitive type.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the <tt>index</tt> is negative or not less
+     * than the size of the list.
+     *
+     * @param index index of the element to remove
+     * @return the list without the element
+     */
+    @NonNull
+    default ConsList<E> removeAt(long index) {
+        return ConsUtil.removeAt(this, index);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> without the first element equal to <tt>o</tt>, copying only
+     * the elements before it and sharing the rest of this list, or this list itself
+     * if it contains no such element.
+     *
+     * <p>Unlike {@link #remove(Object)}, this method does not modify the list.
+     *
+     * @param o element to remove
+     * @return the list without the first occurrence of <tt>o</tt>
+     */
+    @NonNull
+    default ConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the elements of this list sorted in their natural order,
+     * or this list itself if it has already been sorted.
+     *
+     * <p>Throws {@link ClassCastException} if the elements are not mutually comparable.
+     *
+     * @return the sorted list
+     * @see #sorted(Comparator)
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    default ConsList<E> sorted() {
+        return sorted((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns a <tt>ConsList</tt> with the elements of this list sorted according to the
+     * <tt>comparator</tt>, or this list itself if it has already been sorted.
+     *
+     * <p>The sort is stable: equal elements keep their relative order. It is a non-recursive
+     * natural merge sort, which merges the runs of already ordered elements, so lists that
+     * are nearly sorted take close to linear time. The elements are copied into an array
+     * only once and the result consists of unrolled nodes.
+     *
+     * @param comparator comparator of the elements
+     * @return the sorted list
+     */
+    @NonNull
+    default ConsList<E> sorted(@NonNull Comparator<? super E> comparator) {
+        Objects.requireNonNull(comparator, ConsUtil.MSG_COMPARATOR_IS_NULL);
+        return ConsSort.sorted(this, comparator);
+    }
+
+    /**
+     * Combines the elements of this list from the first one to the last one: the <tt>operator</tt>
+     * is applied to the <tt>identity</tt> and the first element, then to that result and the second
+     * element, and so on.
+     *
+     * <p>Unlike {@link java.util.stream.Stream#reduce}, no stream pipeline is created.
+     *
+     * @param identity initial value, returned if the list is empty
+     * @param operator function combining the accumulated value with the next element
+     * @param <R>      type of the result
+     * @return the accumulated value
+     */
+    default <R> R foldLeft(R identity, @NonNull BiFunction<R, ? super E, R> operator) {
+        return ConsUtil.foldLeft(this, identity, operator);
+    }
+
+    /**
+     * Combines the elements of this list from the last one to the first one: the <tt>operator</tt>
+     * is applied to the last element and the <tt>identity</tt>, then to the previous element and
+     * that result, and so on.
+     *
+     * <p>The fold runs without recursion, so it does not overflow the stack on long lists.
+     * The elements are copied into a temporary array instead.
+     *
+     * @param identity initial value, returned if the list is empty
+     * @param operator function combining an element with the value accumulated from the elements after it
+     * @param <R>      type of the result
+     * @return the accumulated value
+     */
+    default <R> R foldRight(R identity, @NonNull BiFunction<? super E, R, R> operator) {
+        return ConsUtil.foldRight(this, identity, operator);
+    }
+
+    /**
+     * Constructs a new <tt>ConsList</tt> with the results of applying the <tt>zipper</tt> to each
+     * element of this list and its 0-based position, in the same order.
+     *
+     * <p>The list is built front to back in a single pass, without boxing the positions.
+     *
+     * @param zipper function combining an element with its position
+     * @param <R>    element type of the new list
+     * @return the list of the combined elements
+     */
+    @NonNull
+    default <R> ConsList<R> zipWithIndex(@NonNull IndexedFunction<? super E, ? extends R> zipper) {
+        return ConsUtil.zipWithIndex(this, zipper);
+    }
+
+    /**
+     * Function of a list element and its 0-based position in the list.
+     *
+     * @param <T> element type
+     * @param <R> result type
+     */
+    @FunctionalInterface
+    interface IndexedFunction<T, R> {
+
+        /**
+         * Applies this function to the element and its position.
+         *
+         * @param element element of the list
+         * @param index   0-based position of the element
+         * @return the function result
+         */
+        R apply(T element, long index);
+    }
+
+    /**
+     * Builder of a <tt>ConsList</tt> that appends elements at its end in constant time.
+     *
+     * <p>The elements are collected into arrays of 32 elements, which become the unrolled nodes
+     * of the built list without being copied, so no reversed intermediate list is needed. Building
+     * does not change the collected elements: more elements can be appended afterwards, and
+     * the lists built before are not affected.
+     *
+     * <p>The builder is not thread-safe, but the built lists are immutable and can be shared
+     * between threads like any other <tt>ConsList</tt>.
+     *
+     * @param <E> element type
+     */
+    @NotThreadSafe
+    final class Builder<E> {
+        @NonNull
+        private final ConsAppender<E> appender = new ConsAppender<>();
+
+        Builder() {
+        }
+
+        /**
+         * Appends the element to the end of the list.
+         *
+         * @param element element to append
+         * @return this builder
+         */
+        @NonNull
+        public Builder<E> add(@Nullable E element) {
+            appender.add(element);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the <tt>iterable</tt> to the end of the list, in their order.
+         *
+         * @param iterable elements to append
+         * @return this builder
+         */
+        @NonNull
+        public Builder<E> addAll(@NonNull Iterable<? extends E> iterable) {
+            Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+            appender.addAll(iterable);
+            return this;
+        }
+
+        /**
+         * Appends the elements of the <tt>other</tt> builder, which must not be used anymore,
+         * by taking over its chunks.
+         */
+        @NonNull
+        Builder<E> append(@NonNull Builder<E> other) {
+            appender.append(other.appender);
+            return this;
+        }
+
+        /**
+         * Returns the number of the elements appended so far.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return appender.size();
+        }
+
+        /**
+         * Builds the list of all the elements appended so far.
+         *
+         * @return the immutable cons list of the elements
+         */
+        @NonNull
+        public ConsList<E> build() {
+            return appender.toConsList(nil());
+        }
+    }
+
+    /**
+     * Builder of an <tt>IntConsList</tt> that appends <tt>int</tt> elements at its end in constant time,
+     * without boxing them.
+     *
+     * <p>The elements are collected into chunks of growing size, which become the arrays
+     * of unrolled nodes without being copied.
+     *
+     * <p>Building does not change the collected elements: more elements can be appended afterwards,
+     * and the lists built before are not affected. The builder is not thread-safe.
+     */
+    @NotThreadSafe
+    final class IntBuilder {
+        @NonNull
+        private final ConsAppender.OfInt appender = new ConsAppender.OfInt();
+
+        IntBuilder() {
+        }
+
+        /**
+         * Appends the element to the end of the list.
+         *
+         * @param element element to append
+         * @return this builder
+         */
+        @NonNull
+        public IntBuilder add(int element) {
+            appender.add(element);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the <tt>iterable</tt> to the end of the list, in their order.
+         * The elements of an <tt>IntConsList</tt> are appended without boxing.
+         *
+         * @param iterable elements to append
+         * @return this builder
+         */
+        @NonNull
+        public IntBuilder addAll(@NonNull Iterable<Integer> iterable) {
+            Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+            if (iterable instanceof IntConsList) {
+                appender.addAll((IntConsList<?>) iterable);
+            } else {
+                for (Integer element : iterable) {
+                    appender.add(element);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Appends the elements of the <tt>other</tt> builder, which must not be used anymore,
+         * by taking over its chunks.
+         */
+        @NonNull
+        IntBuilder append(@NonNull IntBuilder other) {
+            appender.append(other.appender);
+            return this;
+        }
+
+        /**
+         * Returns the number of the elements appended so far.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return appender.size();
+        }
+
+        /**
+         * Builds the list of all the elements appended so far.
+         *
+         * @return the immutable cons list of the elements
+         */
+        @NonNull
+        public IntConsList<Integer> build() {
+            return appender.toIntConsList(appender.size(), nil());
+        }
+    }
+
+    /**
+     * Builder of a <tt>LongConsList</tt> that appends <tt>long</tt> elements at its end in constant time,
+     * without boxing them.
+     *
+     * <p>The elements are collected into chunks of growing size, which become the arrays
+     * of unrolled nodes without being copied.
+     *
+     * <p>Building does not change the collected elements: more elements can be appended afterwards,
+     * and the lists built before are not affected. The builder is not thread-safe.
+     */
+    @NotThreadSafe
+    final class LongBuilder {
+        @NonNull
+        private final ConsAppender.OfLong appender = new ConsAppender.OfLong();
+
+        LongBuilder() {
+        }
+
+        /**
+         * Appends the element to the end of the list.
+         *
+         * @param element element to append
+         * @return this builder
+         */
+        @NonNull
+        public LongBuilder add(long element) {
+            appender.add(element);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the <tt>iterable</tt> to the end of the list, in their order.
+         * The elements of a <tt>LongConsList</tt> are appended without boxing.
+         *
+         * @param iterable elements to append
+         * @return this builder
+         */
+        @NonNull
+        public LongBuilder addAll(@NonNull Iterable<Long> iterable) {
+            Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+            if (iterable instanceof LongConsList) {
+                appender.addAll((LongConsList<?>) iterable);
+            } else {
+                for (Long element : iterable) {
+                    appender.add(element);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Appends the elements of the <tt>other</tt> builder, which must not be used anymore,
+         * by taking over its chunks.
+         */
+        @NonNull
+        LongBuilder append(@NonNull LongBuilder other) {
+            appender.append(other.appender);
+            return this;
+        }
+
+        /**
+         * Returns the number of the elements appended so far.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return appender.size();
+        }
+
+        /**
+         * Builds the list of all the elements appended so far.
+         *
+         * @return the immutable cons list of the elements
+         */
+        @NonNull
+        public LongConsList<Long> build() {
+            return appender.toLongConsList(appender.size(), nil());
+        }
+    }
+
+    /**
+     * Builder of a <tt>DoubleConsList</tt> that appends <tt>double</tt> elements at its end in constant time,
+     * without boxing them.
+     *
+     * <p>The elements are collected into chunks of growing size, which become the arrays
+     * of unrolled nodes without being copied.
+     *
+     * <p>Building does not change the collected elements: more elements can be appended afterwards,
+     * and the lists built before are not affected. The builder is not thread-safe.
+     */
+    @NotThreadSafe
+    final class DoubleBuilder {
+        @NonNull
+        private final ConsAppender.OfDouble appender = new ConsAppender.OfDouble();
+
+        DoubleBuilder() {
+        }
+
+        /**
+         * Appends the element to the end of the list.
+         *
+         * @param element element to append
+         * @return this builder
+         */
+        @NonNull
+        public DoubleBuilder add(double element) {
+            appender.add(element);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the <tt>iterable</tt> to the end of the list, in their order.
+         * The elements of a <tt>DoubleConsList</tt> are appended without boxing.
+         *
+         * @param iterable elements to append
+         * @return this builder
+         */
+        @NonNull
+        public DoubleBuilder addAll(@NonNull Iterable<Double> iterable) {
+            Objects.requireNonNull(iterable, ConsUtil.MSG_ITERABLE_IS_NULL);
+            if (iterable instanceof DoubleConsList) {
+                appender.addAll((DoubleConsList<?>) iterable);
+            } else {
+                for (Double element : iterable) {
+                    appender.add(element);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Appends the elements of the <tt>other</tt> builder, which must not be used anymore,
+         * by taking over its chunks.
+         */
+        @NonNull
+        DoubleBuilder append(@NonNull DoubleBuilder other) {
+            appender.append(other.appender);
+            return this;
+        }
+
+        /**
+         * Returns the number of the elements appended so far.
+         *
+         * @return the number of elements
+         */
+        public long size() {
+            return appender.size();
+        }
+
+        /**
+         * Builds the list of all the elements appended so far.
+         *
+         * @return the immutable cons list of the elements
+         */
+        @NonNull
+        public DoubleConsList<Double> build() {
+            return appender.toDoubleConsList(appender.size(), nil());
+        }
+    }
 }
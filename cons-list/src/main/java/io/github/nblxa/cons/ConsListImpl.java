@@ -17,10 +17,24 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
     private final E head;
     @NonNull
     private final ConsList<E> tail;
+    private final long size;
+    private final int hash;
 
     ConsListImpl(E head, @NonNull ConsList<E> tail) {
         this.tail = tail;
         this.head = head;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Objects.hashCode(head), tail);
+    }
+
+    /**
+     * Constructs a node with a known hash code.
+     */
+    ConsListImpl(E head, @NonNull ConsList<E> tail, int hash) {
+        this.tail = tail;
+        this.head = head;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = hash;
     }
 
     @Override
@@ -37,13 +51,7 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
     @Override
     @NonNull
     public ConsList<E> reverse() {
-        ConsList<E> result = ConsList.nil();
-        ConsList<E> cons = this;
-        while (cons != Nil.INSTANCE) {
-            result = new ConsListImpl<>(cons.head(), result);
-            cons = cons.tail();
-        }
-        return result;
+        return UnrolledConsListImpl.reverse(iterator());
     }
 
     @Override
@@ -53,12 +61,11 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
 
     @Override
     public int size() {
-        int size = ConsUtil.EMPTY_SIZE;
-        ConsList<E> cons = this;
-        while (cons != Nil.INSTANCE && size != Integer.MAX_VALUE) {
-            size++;
-            cons = cons.tail();
-        }
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
         return size;
     }
 
@@ -71,7 +78,19 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
     @NonNull
     @Override
     public Spliterator<E> spliterator() {
-        return Spliterators.spliteratorUnknownSize(iterator(), ConsUtil.SPLITERATOR_CHARACTERISTICS);
+        return new ConsSpliterator<>(this);
+    }
+
+    @NonNull
+    @Override
+    public Object[] toArray() {
+        return ConsUtil.toArray(this);
+    }
+
+    @NonNull
+    @Override
+    public <T> T[] toArray(@NonNull T[] a) {
+        return ConsUtil.toArray(this, a);
     }
 
     @Override
@@ -87,34 +106,7 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
 
     @Override
     public final int hashCode() {
-        int result = 1;
-        ConsList<E> cons = this;
-        while (cons != Nil.INSTANCE) {
-            E h = cons.head();
-            result = 31 * result + (h == null ? 0 : h.hashCode());
-            cons = cons.tail();
-        }
-        return result;
-    }
-
-    private static final class ConsIterator<E> implements Iterator<E> {
-        private ConsList<E> cons;
-
-        private ConsIterator(ConsList<E> cons) {
-            this.cons = cons;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return cons != Nil.INSTANCE;
-        }
-
-        @Override
-        public E next() {
-            E next = cons.head();
-            cons = cons.tail();
-            return next;
-        }
+        return hash;
     }
 
     private void readObject(ObjectInputStream in) {
@@ -128,17 +120,17 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
     /**
      * Serialization proxy pattern.
      *
-     * This makes sure instances of the ConsListImpl class only get created by constructors,
-     * and its fields can be made final.
+     * This makes sure instances of the ConsListImpl and UnrolledConsListImpl classes only get created
+     * by constructors, and their fields can be made final.
      *
      * @param <E> element type
      * @serial
      */
-    private static final class SerializationProxy<E> implements Serializable {
+    static final class SerializationProxy<E> implements Serializable {
         private static final long serialVersionUID = 865233672804256245L;
         private transient ConsList<E> list;
 
-        private SerializationProxy(ConsListImpl<E> cons) {
+        SerializationProxy(ConsList<E> cons) {
             list = cons;
         }
 
@@ -156,13 +148,21 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
          */
         private void writeObject(ObjectOutputStream out) throws IOException {
             ConsList<E> reversed = ConsList.nil();
-            ConsList<E> cons = list;
+            Object[] chunk = new Object[ConsUtil.UNROLLED_NODE_CAPACITY];
+            int chunkPos = chunk.length;
             long length = 0L;
-            while (cons != Nil.INSTANCE) {
-                reversed = new ConsListImpl<>(cons.head(), reversed);
-                cons = cons.tail();
+            for (E elem : list) {
+                if (chunkPos == 0) {
+                    reversed = new UnrolledConsListImpl<>(chunk, 0, chunk.length, reversed);
+                    chunk = new Object[ConsUtil.UNROLLED_NODE_CAPACITY];
+                    chunkPos = chunk.length;
+                }
+                chunk[--chunkPos] = elem;
                 length++; // Can overflow but it is very unpractical to check.
             }
+            if (chunkPos < chunk.length) {
+                reversed = new UnrolledConsListImpl<>(chunk, chunkPos, chunk.length, reversed);
+            }
             out.writeLong(length);
             long pos = 0L;
             for (E elem: reversed) {
@@ -179,19 +179,29 @@ public final class ConsListImpl<E> extends AbstractCollection<E> implements Seri
 
         /**
          * De-serialize the ConsList from its reversed serialized representation.
+         *
+         * The elements are packed into unrolled nodes as they are read: all nodes except
+         * the first one of the list are filled to capacity.
          */
         private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
             ConsList<E> cons = ConsList.nil();
             long length = in.readLong();
+            Object[] chunk = null;
+            int chunkPos = 0;
             for (long l = length; l != 0; l--) {
+                if (chunkPos == 0) {
+                    chunk = new Object[(int) Math.min(l, ConsUtil.UNROLLED_NODE_CAPACITY)];
+                    chunkPos = chunk.length;
+                }
                 try {
-                    @SuppressWarnings("unchecked")
-                    E elem = (E) in.readObject();
-                    cons = ConsList.cons(elem, cons);
+                    chunk[--chunkPos] = in.readObject();
                 } catch (Exception e) {
                     throw new ConsSerializationException(
                         "Could not de-serialize element at 0-based position: " + (l - 1), e);
                 }
+                if (chunkPos == 0) {
+                    cons = new UnrolledConsListImpl<>(chunk, 0, chunk.length, cons);
+                }
             }
             list = cons;
         }
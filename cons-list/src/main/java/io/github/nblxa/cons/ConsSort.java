@@ -0,0 +1,306 @@
+package io.github.nblxa.cons;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+
+/**
+ * Sorting algorithms behind {@link ConsList#sorted(Comparator)} and the primitive-typed
+ * <tt>sortedInts()</tt>, <tt>sortedLongs()</tt> and <tt>sortedDoubles()</tt>.
+ *
+ * <p>All of them copy the elements into an array once, sort the array without recursion
+ * and return the list itself if it has already been sorted.
+ */
+final class ConsSort {
+    private ConsSort() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Arrays shorter than this are sorted by {@link Arrays#sort}, for which the histograms
+     * of the radix sort are too large an overhead.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 256;
+    private static final int RADIX = 256;
+    /**
+     * Runs shorter than this are extended by insertion sort, which is faster than merging
+     * many short runs of random data.
+     */
+    private static final int MIN_RUN = 32;
+
+    /**
+     * Stable natural merge sort. The array is split into the existing non-descending runs and
+     * strictly descending runs, which are reversed in place, short runs being extended to
+     * {@link #MIN_RUN} elements by insertion sort. Then adjacent runs are merged pairwise
+     * bottom-up, alternating between the array and a buffer of the same length.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ConsList<E> sorted(ConsList<E> list, Comparator<? super E> comparator) {
+        E[] a = (E[]) list.toArray();
+        int n = a.length;
+        int[] runs = new int[8];
+        int k = 0;
+        boolean reordered = false;
+        int i = 0;
+        while (i < n) {
+            int start = i++;
+            if (i < n && comparator.compare(a[i], a[i - 1]) < 0) {
+                while (i < n && comparator.compare(a[i], a[i - 1]) < 0) {
+                    i++;
+                }
+                reverse(a, start, i);
+                reordered = true;
+            } else {
+                while (i < n && comparator.compare(a[i], a[i - 1]) >= 0) {
+                    i++;
+                }
+            }
+            if (i < n && i - start < MIN_RUN) {
+                int end = Math.min(n, start + MIN_RUN);
+                insertionSort(a, start, i, end, comparator);
+                i = end;
+                reordered = true;
+            }
+            if (k + 1 == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[k++] = start;
+        }
+        runs[k] = n;
+        if (k <= 1 && !reordered) {
+            return list;
+        }
+        E[] b = (E[]) new Object[n];
+        while (k > 1) {
+            int m = 0;
+            for (int r = 0; r < k; r += 2) {
+                int lo = runs[r];
+                if (r + 1 < k) {
+                    merge(a, lo, runs[r + 1], runs[r + 2], b, comparator);
+                } else {
+                    System.arraycopy(a, lo, b, lo, runs[r + 1] - lo);
+                }
+                runs[m++] = lo;
+            }
+            runs[m] = n;
+            k = m;
+            E[] t = a;
+            a = b;
+            b = t;
+        }
+        return UnrolledConsListImpl.prepend(a, 0, n, ConsList.nil());
+    }
+
+    /**
+     * Inserts the elements of <tt>[sorted, to)</tt> one by one into the sorted range
+     * <tt>[from, sorted)</tt>, each after the equal elements already there.
+     */
+    private static <E> void insertionSort(E[] a, int from, int sorted, int to, Comparator<? super E> comparator) {
+        for (int i = sorted; i < to; i++) {
+            E element = a[i];
+            int j = i;
+            while (j > from && comparator.compare(element, a[j - 1]) < 0) {
+                a[j] = a[j - 1];
+                j--;
+            }
+            a[j] = element;
+        }
+    }
+
+    private static void reverse(Object[] a, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    /**
+     * Merges the sorted ranges <tt>[lo, mid)</tt> and <tt>[mid, hi)</tt> of the source into the
+     * same range of the destination, taking equal elements from the left range first.
+     */
+    private static <E> void merge(E[] src, int lo, int mid, int hi, E[] dst, Comparator<? super E> comparator) {
+        int i = lo;
+        int j = mid;
+        int d = lo;
+        while (i < mid && j < hi) {
+            if (comparator.compare(src[j], src[i]) < 0) {
+                dst[d++] = src[j++];
+            } else {
+                dst[d++] = src[i++];
+            }
+        }
+        System.arraycopy(src, i, dst, d, mid - i);
+        System.arraycopy(src, j, dst, d + mid - i, hi - j);
+    }
+
+    @SuppressWarnings("unchecked")
+    static IntConsList<Integer> sortedInts(IntConsList<?> list) {
+        int[] a = new int[list.size()];
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        boolean isSorted = true;
+        for (int i = 0; i < a.length; i++) {
+            a[i] = iter.nextInt();
+            isSorted &= i == 0 || a[i - 1] <= a[i];
+        }
+        if (isSorted) {
+            return (IntConsList<Integer>) list;
+        }
+        if (a.length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a);
+        } else {
+            a = radixSort(a);
+        }
+        IntConsList<Integer> result = ConsList.nil();
+        for (int i = a.length - 1; i >= 0; i--) {
+            result = new IntConsListImpl(a[i], result);
+        }
+        return result;
+    }
+
+    /**
+     * Least significant digit radix sort by bytes, with the sign bit flipped so that negative
+     * values go first. Passes in which all elements have the same digit are skipped.
+     *
+     * @return the sorted array, either the argument or a new one
+     */
+    private static int[] radixSort(int[] a) {
+        int n = a.length;
+        int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int x : a) {
+            int key = x ^ Integer.MIN_VALUE;
+            for (int d = 0; d < Integer.BYTES; d++) {
+                counts[d][key >>> (d * Byte.SIZE) & 0xFF]++;
+            }
+        }
+        int[] b = new int[n];
+        for (int d = 0; d < Integer.BYTES; d++) {
+            int shift = d * Byte.SIZE;
+            int[] offsets = counts[d];
+            if (offsets[(a[0] ^ Integer.MIN_VALUE) >>> shift & 0xFF] == n) {
+                continue;
+            }
+            toOffsets(offsets);
+            for (int x : a) {
+                b[offsets[(x ^ Integer.MIN_VALUE) >>> shift & 0xFF]++] = x;
+            }
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    @SuppressWarnings("unchecked")
+    static LongConsList<Long> sortedLongs(LongConsList<?> list) {
+        long[] a = new long[list.size()];
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        boolean isSorted = true;
+        for (int i = 0; i < a.length; i++) {
+            a[i] = iter.nextLong();
+            isSorted &= i == 0 || a[i - 1] <= a[i];
+        }
+        if (isSorted) {
+            return (LongConsList<Long>) list;
+        }
+        if (a.length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a);
+        } else {
+            a = radixSort(a);
+        }
+        LongConsList<Long> result = ConsList.nil();
+        for (int i = a.length - 1; i >= 0; i--) {
+            result = new LongConsListImpl(a[i], result);
+        }
+        return result;
+    }
+
+    /**
+     * Least significant digit radix sort by bytes, with the sign bit flipped so that negative
+     * values go first. Passes in which all elements have the same digit are skipped.
+     *
+     * @return the sorted array, either the argument or a new one
+     */
+    private static long[] radixSort(long[] a) {
+        int n = a.length;
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (long x : a) {
+            long key = x ^ Long.MIN_VALUE;
+            for (int d = 0; d < Long.BYTES; d++) {
+                counts[d][(int) (key >>> (d * Byte.SIZE)) & 0xFF]++;
+            }
+        }
+        long[] b = new long[n];
+        for (int d = 0; d < Long.BYTES; d++) {
+            int shift = d * Byte.SIZE;
+            int[] offsets = counts[d];
+            if (offsets[(int) ((a[0] ^ Long.MIN_VALUE) >>> shift) & 0xFF] == n) {
+                continue;
+            }
+            toOffsets(offsets);
+            for (long x : a) {
+                b[offsets[(int) ((x ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = x;
+            }
+            long[] t = a;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the values in the order of {@link Double#compare}: the radix sort runs on their bits,
+     * with all bits but the sign flipped for negative values so that the signed order of the bits
+     * matches the order of the values. The bits of NaN are canonicalized first, so that NaN
+     * goes last whatever its sign bit.
+     */
+    @SuppressWarnings("unchecked")
+    static DoubleConsList<Double> sortedDoubles(DoubleConsList<?> list) {
+        double[] a = new double[list.size()];
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        boolean isSorted = true;
+        for (int i = 0; i < a.length; i++) {
+            a[i] = iter.nextDouble();
+            isSorted &= i == 0 || Double.compare(a[i - 1], a[i]) <= 0;
+        }
+        if (isSorted) {
+            return (DoubleConsList<Double>) list;
+        }
+        if (a.length < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a);
+        } else {
+            long[] keys = new long[a.length];
+            for (int i = 0; i < a.length; i++) {
+                keys[i] = sortableBits(Double.doubleToLongBits(a[i]));
+            }
+            keys = radixSort(keys);
+            for (int i = 0; i < a.length; i++) {
+                a[i] = Double.longBitsToDouble(sortableBits(keys[i]));
+            }
+        }
+        DoubleConsList<Double> result = ConsList.nil();
+        for (int i = a.length - 1; i >= 0; i--) {
+            result = new DoubleConsListImpl(a[i], result);
+        }
+        return result;
+    }
+
+    /**
+     * Flips all bits but the sign of negative values. The function is its own inverse.
+     */
+    private static long sortableBits(long bits) {
+        return bits ^ (bits >> (Long.SIZE - 1) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Turns the digit counts into the start offsets of the digits in the sorted array.
+     */
+    private static void toOffsets(int[] counts) {
+        int sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            counts[i] = sum;
+            sum += count;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a <tt>ConsList</tt> of known length.
+ *
+ * <p>A cons list can only be traversed from its head, so each call to {@link #trySplit()}
+ * copies the next batch of elements into an array and returns a spliterator over that array.
+ * Batch sizes grow arithmetically, as in {@link Spliterators#spliteratorUnknownSize}, but
+ * since the length of the list is known, both the prefix and the remainder report
+ * <tt>SIZED</tt> and <tt>SUBSIZED</tt> with exact sizes.
+ *
+ * @param <E> element type
+ */
+final class ConsSpliterator<E> implements Spliterator<E> {
+    static final int BATCH_UNIT = 1 << 10;
+    static final int MAX_BATCH = 1 << 25;
+    static final int CHARACTERISTICS = ConsUtil.SPLITERATOR_CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED;
+    @NonNull
+    private final ConsIterator<E> iter;
+    private long est;
+    private int batch;
+
+    ConsSpliterator(@NonNull ConsList<E> list) {
+        this.iter = new ConsIterator<>(list);
+        this.est = list.sizeAsLong();
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        long s = est;
+        if (s > 1L) {
+            int n = (int) Math.min(Math.min(batch + (long) BATCH_UNIT, s), MAX_BATCH);
+            Object[] a = new Object[n];
+            iter.next(a, 0, n);
+            batch = n;
+            est = s - n;
+            return Spliterators.spliterator(a, 0, n, ConsUtil.SPLITERATOR_CHARACTERISTICS);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (est > 0L) {
+            est--;
+            action.accept(iter.next());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        est = 0L;
+        iter.forEachRemaining(action);
+    }
+
+    @Override
+    public long estimateSize() {
+        return est;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -1,7 +1,42 @@
 package io.github.nblxa.cons;
 
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
 
 final class ConsUtil {
     private ConsUtil() {
@@ -9,55 +44,1849 @@ final class ConsUtil {
     }
 
     static final int SPLITERATOR_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.IMMUTABLE;
+    static final int PRIMITIVE_SPLITERATOR_CHARACTERISTICS = SPLITERATOR_CHARACTERISTICS | Spliterator.NONNULL;
     static final String MSG_TAIL_IS_NULL = "tail is null";
     static final String MSG_ITERABLE_IS_NULL = "iterable is null";
     static final String MSG_NULL_CONCAT_ARG_AT_POS = "Null concat argument at position ";
     static final String MSG_NULL_CONCAT_ARG_AT_POS_0 = MSG_NULL_CONCAT_ARG_AT_POS + "0";
     static final String MSG_ARG_ARRAY_REST_IS_NULL = "Argument array rest is null";
     static final String MSG_USE_SERIALIZATION_PROXY = "Use serialization proxy!";
-    static int EMPTY_SIZE = 0;
+    static final String MSG_MAPPER_IS_NULL = "mapper is null";
+    static final String MSG_PREDICATE_IS_NULL = "predicate is null";
+    static final String MSG_MAPPER_RESULT_IS_NULL = "mapper result is null";
+    static final String MSG_N_IS_NEGATIVE = "n is negative";
+    static final String MSG_COMPARATOR_IS_NULL = "comparator is null";
+    static final String MSG_OPERATOR_IS_NULL = "operator is null";
+    static final String MSG_ZIPPER_IS_NULL = "zipper is null";
+    static final String MSG_FIRST_IS_NULL = "first is null";
+    static final String MSG_SECOND_IS_NULL = "second is null";
+    static final String MSG_OTHER_IS_NULL = "other is null";
+    static final String MSG_BUFFER_IS_NULL = "buffer is null";
+    static final String MSG_CLASSIFIER_IS_NULL = "classifier is null";
+    static final String MSG_INDEX_OUT_OF_BOUNDS = "index out of bounds: ";
+    static final String MSG_STREAM_IS_NULL = "stream is null";
+    static final String MSG_ITERATOR_IS_NULL = "iterator is null";
+    static final String MSG_ELEMENTS_IS_NULL = "elements is null";
+    static final String MSG_RANGE_OUT_OF_BOUNDS = "range out of bounds: ";
+    static final String MSG_SUPPLIER_IS_NULL = "supplier is null";
+    static final String MSG_SPLITERATOR_IS_NULL = "spliterator is null";
+    static final String MSG_STEP_IS_NULL = "step is null";
+    static final String MSG_STEP_IS_ZERO = "step is zero";
+    static final String MSG_RANGE_TOO_LONG = "range is too long";
+    static final String MSG_INVALID_NODE_COUNT = "invalid compressed node count: ";
+    static final String MSG_INVALID_NODE_LENGTH = "invalid compressed node length: ";
+    static final String MSG_INVALID_NODE_BYTES = "invalid compressed node size in bytes: ";
+    static final String MSG_INVALID_NODE_DELTAS = "deltas do not match the compressed node length: ";
+    static final String MSG_INVALID_LIST_SIZE = "list size does not match the compressed nodes: ";
+    static final int UNROLLED_NODE_CAPACITY = 32;
+    static final int COMPRESSED_NODE_CAPACITY = 256;
+    static final int BUFFER_CHUNK_SIZE = 1024;
 
+    /**
+     * Prepends the <tt>head</tt> to the <tt>tail</tt> without computing a lazy tail: strict nodes
+     * precompute their size and hash code from the whole tail.
+     */
+    static <E> ConsList<E> cons(E head, ConsList<E> tail) {
+        if (tail instanceof LazyConsList) {
+            return new LazyConsList<>(head, tail);
+        }
+        return new ConsListImpl<>(head, tail);
+    }
+
+    /**
+     * Converts the list length to the value returned by {@link java.util.Collection#size()},
+     * which is capped at <tt>Integer.MAX_VALUE</tt>.
+     */
+    static int intSize(long size) {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes the value as an unsigned varint: seven bits per byte starting with the lowest ones,
+     * the high bit of each byte telling whether more bytes follow.
+     *
+     * @return the position after the last byte written
+     */
+    static int putVarLong(byte[] buf, int pos, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buf[pos++] = (byte) (value | 0x80L);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * Reads the unsigned varint starting at the position, see {@link #putVarLong(byte[], int, long)}.
+     */
+    static long getVarLong(byte[] buf, int pos) {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf[pos++];
+            value |= (b & 0x7FL) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /**
+     * Returns the position after the varint starting at the position.
+     */
+    static int varLongEnd(byte[] buf, int pos) {
+        while (buf[pos++] < 0) {
+            // skip the continuation bytes
+        }
+        return pos;
+    }
+
+    /**
+     * Checks that the buffer consists of exactly <tt>count</tt> varints of at most <tt>maxBytes</tt> bytes each.
+     */
+    static boolean isVarLongSequence(byte[] buf, int count, int maxBytes) {
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int end = pos + maxBytes;
+            do {
+                if (pos == buf.length || pos == end) {
+                    return false;
+                }
+            } while (buf[pos++] < 0);
+        }
+        return pos == buf.length;
+    }
+
+    /**
+     * Powers of 31 modulo 2<sup>32</sup> for each byte of the exponent: <tt>POW31[k][b] == 31^(b << 8k)</tt>.
+     */
+    private static final int[][] POW31 = pow31Table();
+
+    private static int[][] pow31Table() {
+        int[][] table = new int[4][256];
+        int base = 31;
+        for (int k = 0; k < table.length; k++) {
+            int p = 1;
+            for (int b = 0; b < table[k].length; b++) {
+                table[k][b] = p;
+                p *= base;
+            }
+            base = p;
+        }
+        return table;
+    }
+
+    /**
+     * Returns <tt>31^exponent</tt> with <tt>int</tt> overflow, like repeated multiplication would,
+     * using three multiplications.
+     *
+     * <p>Every odd number raised to the power of 2<sup>30</sup> is 1 modulo 2<sup>32</sup>,
+     * so only the lowest 30 bits of the exponent matter.
+     */
+    static int pow31(long exponent) {
+        int e = (int) exponent & 0x3FFFFFFF;
+        return POW31[0][e & 0xFF] * POW31[1][e >>> 8 & 0xFF] * POW31[2][e >>> 16 & 0xFF] * POW31[3][e >>> 24];
+    }
+
+    /**
+     * Returns the hash code defined by {@link java.util.List#hashCode()} of a list of <tt>n</tt>
+     * elements whose hash codes are <tt>firstHash + i * step</tt> with <tt>int</tt> overflow.
+     *
+     * <p>The hash code is <tt>31^n + firstHash * S(n) + step * T(n)</tt> where <tt>S(n)</tt> is the sum
+     * of <tt>31^(n-1-i)</tt> and <tt>T(n)</tt> the sum of <tt>i * 31^(n-1-i)</tt> for all <tt>i &lt; n</tt>.
+     * Both are computed by doubling over the bits of <tt>n</tt>, in <tt>O(log n)</tt> time.
+     */
+    static int progressionHash(int firstHash, int step, long n) {
+        int p = 1;
+        int sum = 0;
+        int weighted = 0;
+        long m = 0L;
+        for (int bit = Long.SIZE - 1 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            weighted = weighted * p + (int) m * sum + weighted;
+            sum *= 1 + p;
+            p *= p;
+            m *= 2L;
+            if ((n >>> bit & 1L) != 0L) {
+                weighted = 31 * weighted + (int) m;
+                sum = 31 * sum + 1;
+                p *= 31;
+                m++;
+            }
+        }
+        return p + firstHash * sum + step * weighted;
+    }
+
+    /**
+     * Returns the hash code of the list as defined by {@link java.util.List#hashCode()},
+     * which is 1 for the empty list <tt>nil()</tt>.
+     */
+    static int listHash(ConsList<?> list) {
+        return list == Nil.INSTANCE ? 1 : list.hashCode();
+    }
+
+    /**
+     * Returns the hash code of the list with an element prepended to the <tt>tail</tt>.
+     *
+     * <p>With <tt>m</tt> elements in the tail, the hash code defined by {@link java.util.List#hashCode()} is
+     * <tt>hash(head :: tail) = hash(tail) + 31^m * (30 + headHash)</tt>, so it only takes
+     * the tail's own hash code and length to calculate.
+     *
+     * @param headHash hash code of the prepended element
+     * @param tail the tail of the new list
+     * @return hash code of the new list
+     */
+    static int consHash(int headHash, ConsList<?> tail) {
+        return listHash(tail) + pow31(tail.sizeAsLong()) * (30 + headHash);
+    }
+
+    /**
+     * Returns the hash code of the list's tail, given the hash code of the list
+     * and the hash code of its first element. This is the inverse of {@link #consHash(int, ConsList)}.
+     */
+    static int tailHash(int hash, int headHash, long tailSize) {
+        return hash - pow31(tailSize) * (30 + headHash);
+    }
+
+    /**
+     * Compares the elements of both lists.
+     *
+     * <p>Lists with different hash codes are rejected without looking at the elements. When both
+     * iterations reach the same node, the rest of the elements are shared and need not be compared.
+     */
     static <V, U> boolean haveEqualElements(ConsList<V> first, ConsList<U> second) {
-        while (first != Nil.INSTANCE && second != Nil.INSTANCE) {
-            if (!Objects.equals(first.head(), second.head())) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        ConsIterator<V> firstIter = new ConsIterator<>(first);
+        ConsIterator<U> secondIter = new ConsIterator<>(second);
+        while (firstIter.hasNext() && secondIter.hasNext()) {
+            ConsList<V> rest = firstIter.rest();
+            if (rest != null && rest == secondIter.rest()) {
+                return true;
+            }
+            if (!Objects.equals(firstIter.next(), secondIter.next())) {
                 return false;
             }
-            first = first.tail();
-            second = second.tail();
         }
-        return first == Nil.INSTANCE && second == Nil.INSTANCE;
+        return !firstIter.hasNext() && !secondIter.hasNext();
     }
 
+    @SuppressWarnings("unchecked")
     static <V, U> boolean haveEqualElements(IntConsList<V> first, IntConsList<U> second) {
-        while (first != Nil.INSTANCE && second != Nil.INSTANCE) {
-            if (first.intHead() != second.intHead()) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        IntConsIterator firstIter = new IntConsIterator((IntConsList<Integer>) first);
+        IntConsIterator secondIter = new IntConsIterator((IntConsList<Integer>) second);
+        while (firstIter.hasNext() && secondIter.hasNext()) {
+            IntConsList<Integer> rest = firstIter.rest();
+            if (rest != null && rest == secondIter.rest()) {
+                return true;
+            }
+            if (firstIter.nextInt() != secondIter.nextInt()) {
                 return false;
             }
-            first = first.intTail();
-            second = second.intTail();
         }
-        return first == Nil.INSTANCE && second == Nil.INSTANCE;
+        return !firstIter.hasNext() && !secondIter.hasNext();
     }
 
+    @SuppressWarnings("unchecked")
     static <V, U> boolean haveEqualElements(LongConsList<V> first, LongConsList<U> second) {
-        while (first != Nil.INSTANCE && second != Nil.INSTANCE) {
-            if (first.longHead() != second.longHead()) {
+        if (first instanceof RangeLongConsListImpl || second instanceof RangeLongConsListImpl) {
+            if (first.sizeAsLong() != second.sizeAsLong()) {
+                return false;
+            }
+        } else if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        LongConsIterator firstIter = new LongConsIterator((LongConsList<Long>) first);
+        LongConsIterator secondIter = new LongConsIterator((LongConsList<Long>) second);
+        while (firstIter.hasNext() && secondIter.hasNext()) {
+            LongConsList<Long> rest = firstIter.rest();
+            if (rest != null && rest == secondIter.rest()) {
+                return true;
+            }
+            if (firstIter.nextLong() != secondIter.nextLong()) {
                 return false;
             }
-            first = first.longTail();
-            second = second.longTail();
         }
-        return first == Nil.INSTANCE && second == Nil.INSTANCE;
+        return !firstIter.hasNext() && !secondIter.hasNext();
     }
 
+    @SuppressWarnings("unchecked")
     static <V, U> boolean haveEqualElements(DoubleConsList<V> first, DoubleConsList<U> second) {
-        while (first != Nil.INSTANCE && second != Nil.INSTANCE) {
-            if (Double.compare(first.doubleHead(), second.doubleHead()) != 0) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        DoubleConsIterator firstIter = new DoubleConsIterator((DoubleConsList<Double>) first);
+        DoubleConsIterator secondIter = new DoubleConsIterator((DoubleConsList<Double>) second);
+        while (firstIter.hasNext() && secondIter.hasNext()) {
+            DoubleConsList<Double> rest = firstIter.rest();
+            if (rest != null && rest == secondIter.rest()) {
+                return true;
+            }
+            if (Double.compare(firstIter.nextDouble(), secondIter.nextDouble()) != 0) {
+                return false;
+            }
+        }
+        return !firstIter.hasNext() && !secondIter.hasNext();
+    }
+
+    static <V, U> boolean haveEqualElements(FloatConsList<V> first, FloatConsList<U> second) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        while (first != second) {
+            if (first == Nil.INSTANCE || second == Nil.INSTANCE) {
+                return false;
+            }
+            if (Float.compare(first.floatHead(), second.floatHead()) != 0) {
+                return false;
+            }
+            first = first.floatTail();
+            second = second.floatTail();
+        }
+        return true;
+    }
+
+    static <V, U> boolean haveEqualElements(ShortConsList<V> first, ShortConsList<U> second) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        while (first != second) {
+            if (first == Nil.INSTANCE || second == Nil.INSTANCE) {
+                return false;
+            }
+            if (first.shortHead() != second.shortHead()) {
+                return false;
+            }
+            first = first.shortTail();
+            second = second.shortTail();
+        }
+        return true;
+    }
+
+    static <V, U> boolean haveEqualElements(ByteConsList<V> first, ByteConsList<U> second) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        while (first != second) {
+            if (first == Nil.INSTANCE || second == Nil.INSTANCE) {
+                return false;
+            }
+            if (first.byteHead() != second.byteHead()) {
+                return false;
+            }
+            first = first.byteTail();
+            second = second.byteTail();
+        }
+        return true;
+    }
+
+    static <V, U> boolean haveEqualElements(CharConsList<V> first, CharConsList<U> second) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        while (first != second) {
+            if (first == Nil.INSTANCE || second == Nil.INSTANCE) {
+                return false;
+            }
+            if (first.charHead() != second.charHead()) {
+                return false;
+            }
+            first = first.charTail();
+            second = second.charTail();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V, U> boolean haveEqualElements(BooleanConsList<V> first, BooleanConsList<U> second) {
+        if (first.hashCode() != second.hashCode()) {
+            return false;
+        }
+        BooleanConsListImpl.BooleanConsIterator firstIter = new BooleanConsListImpl.BooleanConsIterator((BooleanConsList<Boolean>) first);
+        BooleanConsListImpl.BooleanConsIterator secondIter = new BooleanConsListImpl.BooleanConsIterator((BooleanConsList<Boolean>) second);
+        while (firstIter.hasNext() && secondIter.hasNext()) {
+            BooleanConsList<Boolean> rest = firstIter.rest();
+            if (rest != null && rest == secondIter.rest()) {
+                return true;
+            }
+            if (firstIter.nextBoolean() != secondIter.nextBoolean()) {
                 return false;
             }
-            first = first.doubleTail();
-            second = second.doubleTail();
         }
-        return first == Nil.INSTANCE && second == Nil.INSTANCE;
+        return !firstIter.hasNext() && !secondIter.hasNext();
+    }
+
+    /**
+     * Maps the elements in one pass. The longest suffix starting at a node boundary, for which
+     * the mapper returns the very same elements, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static <E, R> ConsList<R> map(ConsList<E> list, Function<? super E, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        ConsIterator<E> iter = new ConsIterator<>(list);
+        ConsAppender<R> mapped = new ConsAppender<>();
+        ConsList<E> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = mapped.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            E element = iter.next();
+            R result = mapper.apply(element);
+            mapped.add(result);
+            if (result != element) {
+                suffix = null;
+            }
+        }
+        return mapped.toConsList(prefix, (ConsList<R>) suffix);
+    }
+
+    /**
+     * Filters the elements in one pass. The longest suffix starting at a node boundary, in which
+     * all elements match the predicate, is shared with the original list.
+     */
+    static <E> ConsList<E> filter(ConsList<E> list, Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        ConsIterator<E> iter = new ConsIterator<>(list);
+        ConsAppender<E> kept = new ConsAppender<>();
+        ConsList<E> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = kept.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            E element = iter.next();
+            if (predicate.test(element)) {
+                kept.add(element);
+            } else {
+                suffix = null;
+            }
+        }
+        return kept.toConsList(prefix, suffix);
+    }
+
+    /**
+     * Splits the elements like {@link #filter}, sharing the longest suffix in which all elements
+     * match the predicate with the list of the matching ones.
+     */
+    static <E> ConsList<ConsList<E>> partition(ConsList<E> list, Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        ConsIterator<E> iter = new ConsIterator<>(list);
+        ConsAppender<E> matching = new ConsAppender<>();
+        ConsAppender<E> other = new ConsAppender<>();
+        ConsList<E> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = matching.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            E element = iter.next();
+            if (predicate.test(element)) {
+                matching.add(element);
+            } else {
+                other.add(element);
+                suffix = null;
+            }
+        }
+        ConsList<E> rest = other.toConsList(ConsList.nil());
+        return new ConsListImpl<>(matching.toConsList(prefix, suffix), new ConsListImpl<>(rest, ConsList.nil()));
+    }
+
+    static <E, K> Map<K, ConsList<E>> groupBy(ConsList<E> list, Function<? super E, ? extends K> classifier) {
+        Objects.requireNonNull(classifier, MSG_CLASSIFIER_IS_NULL);
+        Map<K, ConsAppender<E>> groups = new LinkedHashMap<>();
+        for (E element : list) {
+            groups.computeIfAbsent(classifier.apply(element), k -> new ConsAppender<>()).add(element);
+        }
+        Map<K, ConsList<E>> result = new LinkedHashMap<>(groups.size() * 4 / 3 + 1);
+        for (Map.Entry<K, ConsAppender<E>> group : groups.entrySet()) {
+            result.put(group.getKey(), group.getValue().toConsList(ConsList.nil()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    static <E> ConsList<E> distinct(ConsList<E> list) {
+        Set<E> seen = new HashSet<>();
+        return filter(list, seen::add);
+    }
+
+    static <E, R> ConsList<R> flatMap(ConsList<E> list,
+                                      Function<? super E, ? extends Iterable<? extends R>> mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        ConsAppender<R> result = new ConsAppender<>();
+        for (E element : list) {
+            for (R r : Objects.requireNonNull(mapper.apply(element), MSG_MAPPER_RESULT_IS_NULL)) {
+                result.add(r);
+            }
+        }
+        return result.toConsList(ConsList.nil());
+    }
+
+    /**
+     * Maps the elements without boxing. The longest suffix starting at a node boundary,
+     * for which the mapper returns the same values, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static IntConsList<Integer> mapToInt(IntConsList<?> list, IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        IntConsIterator iter = new IntConsIterator((IntConsList<Integer>) list);
+        ConsAppender.OfInt mapped = new ConsAppender.OfInt();
+        IntConsList<Integer> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = mapped.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            int element = iter.nextInt();
+            int result = mapper.applyAsInt(element);
+            mapped.add(result);
+            if (result != element) {
+                suffix = null;
+            }
+        }
+        return mapped.toIntConsList(prefix, suffix);
+    }
+
+    /**
+     * Maps the elements without boxing.
+     */
+    static LongConsList<Long> mapToLong(IntConsList<?> list, IntToLongFunction mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        ConsAppender.OfLong mapped = new ConsAppender.OfLong();
+        while (iter.hasNext()) {
+            mapped.add(mapper.applyAsLong(iter.nextInt()));
+        }
+        return mapped.toLongConsList(mapped.size(), ConsList.nil());
+    }
+
+    /**
+     * Maps the elements without boxing.
+     */
+    static DoubleConsList<Double> mapToDouble(IntConsList<?> list, IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        ConsAppender.OfDouble mapped = new ConsAppender.OfDouble();
+        while (iter.hasNext()) {
+            mapped.add(mapper.applyAsDouble(iter.nextInt()));
+        }
+        return mapped.toDoubleConsList(mapped.size(), ConsList.nil());
+    }
+
+    /**
+     * Filters the elements without boxing. The longest suffix starting at a node boundary,
+     * in which all elements match the predicate, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static IntConsList<Integer> filterInt(IntConsList<?> list, IntPredicate predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        IntConsIterator iter = new IntConsIterator((IntConsList<Integer>) list);
+        ConsAppender.OfInt kept = new ConsAppender.OfInt();
+        IntConsList<Integer> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = kept.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            int element = iter.nextInt();
+            if (predicate.test(element)) {
+                kept.add(element);
+            } else {
+                suffix = null;
+            }
+        }
+        return kept.toIntConsList(prefix, suffix);
+    }
+
+    /**
+     * Maps the elements without boxing.
+     */
+    static IntConsList<Integer> mapToInt(LongConsList<?> list, LongToIntFunction mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        ConsAppender.OfInt mapped = new ConsAppender.OfInt();
+        while (iter.hasNext()) {
+            mapped.add(mapper.applyAsInt(iter.nextLong()));
+        }
+        return mapped.toIntConsList(mapped.size(), ConsList.nil());
+    }
+
+    /**
+     * Maps the elements without boxing. The longest suffix starting at a node boundary,
+     * for which the mapper returns the same values, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static LongConsList<Long> mapToLong(LongConsList<?> list, LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        LongConsIterator iter = new LongConsIterator((LongConsList<Long>) list);
+        ConsAppender.OfLong mapped = new ConsAppender.OfLong();
+        LongConsList<Long> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = mapped.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            long element = iter.nextLong();
+            long result = mapper.applyAsLong(element);
+            mapped.add(result);
+            if (result != element) {
+                suffix = null;
+            }
+        }
+        return mapped.toLongConsList(prefix, suffix);
+    }
+
+    /**
+     * Maps the elements without boxing.
+     */
+    static DoubleConsList<Double> mapToDouble(LongConsList<?> list, LongToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        ConsAppender.OfDouble mapped = new ConsAppender.OfDouble();
+        while (iter.hasNext()) {
+            mapped.add(mapper.applyAsDouble(iter.nextLong()));
+        }
+        return mapped.toDoubleConsList(mapped.size(), ConsList.nil());
+    }
+
+    /**
+     * Filters the elements without boxing. The longest suffix starting at a node boundary,
+     * in which all elements match the predicate, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static LongConsList<Long> filterLong(LongConsList<?> list, LongPredicate predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        LongConsIterator iter = new LongConsIterator((LongConsList<Long>) list);
+        ConsAppender.OfLong kept = new ConsAppender.OfLong();
+        LongConsList<Long> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = kept.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            long element = iter.nextLong();
+            if (predicate.test(element)) {
+                kept.add(element);
+            } else {
+                suffix = null;
+            }
+        }
+        return kept.toLongConsList(prefix, suffix);
+    }
+
+    /**
+     * Maps the elements without boxing.
+     */
+    static IntConsList<Integer> mapToInt(DoubleConsList<?> list, DoubleToIntFunction mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        ConsAppender.OfInt mapped = new ConsAppender.OfInt();
+        while (iter.hasNext()) {
+            mapped.add(mapper.applyAsInt(iter.nextDouble()));
+        }
+        return mapped.toIntConsList(mapped.size(), ConsList.nil());
+    }
+
+    /**
+     * Maps the elements without boxing.
+     */
+    static LongConsList<Long> mapToLong(DoubleConsList<?> list, DoubleToLongFunction mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        ConsAppender.OfLong mapped = new ConsAppender.OfLong();
+        while (iter.hasNext()) {
+            mapped.add(mapper.applyAsLong(iter.nextDouble()));
+        }
+        return mapped.toLongConsList(mapped.size(), ConsList.nil());
+    }
+
+    /**
+     * Maps the elements without boxing. The longest suffix starting at a node boundary,
+     * for which the mapper returns the same values, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static DoubleConsList<Double> mapToDouble(DoubleConsList<?> list, DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, MSG_MAPPER_IS_NULL);
+        DoubleConsIterator iter = new DoubleConsIterator((DoubleConsList<Double>) list);
+        ConsAppender.OfDouble mapped = new ConsAppender.OfDouble();
+        DoubleConsList<Double> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = mapped.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            double element = iter.nextDouble();
+            double result = mapper.applyAsDouble(element);
+            mapped.add(result);
+            if (Double.doubleToRawLongBits(result) != Double.doubleToRawLongBits(element)) {
+                suffix = null;
+            }
+        }
+        return mapped.toDoubleConsList(prefix, suffix);
+    }
+
+    /**
+     * Filters the elements without boxing. The longest suffix starting at a node boundary,
+     * in which all elements match the predicate, is shared with the original list.
+     */
+    @SuppressWarnings("unchecked")
+    static DoubleConsList<Double> filterDouble(DoubleConsList<?> list, DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        DoubleConsIterator iter = new DoubleConsIterator((DoubleConsList<Double>) list);
+        ConsAppender.OfDouble kept = new ConsAppender.OfDouble();
+        DoubleConsList<Double> suffix = null;
+        long prefix = 0L;
+        while (true) {
+            if (suffix == null) {
+                suffix = iter.rest();
+                prefix = kept.size();
+            }
+            if (!iter.hasNext()) {
+                break;
+            }
+            double element = iter.nextDouble();
+            if (predicate.test(element)) {
+                kept.add(element);
+            } else {
+                suffix = null;
+            }
+        }
+        return kept.toDoubleConsList(prefix, suffix);
+    }
+
+    static void requireNotNegative(long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException(MSG_N_IS_NEGATIVE);
+        }
+    }
+
+    /**
+     * Returns the suffix of the list without its first <tt>n</tt> elements. Packed nodes are skipped
+     * as a whole, and only the one in which the suffix starts is replaced by a view of its remaining
+     * elements, so the suffix nodes themselves are returned instead of being copied.
+     */
+    @SuppressWarnings("unchecked")
+    static <L extends ConsList<?>> L drop(L list, long n) {
+        requireNotNegative(n);
+        ConsList<?> cons = list;
+        long remaining = n;
+        while (remaining > 0L && cons != Nil.INSTANCE) {
+            int length;
+            ConsList<?> next;
+            if (cons instanceof UnrolledConsListImpl) {
+                UnrolledConsListImpl<?> node = (UnrolledConsListImpl<?>) cons;
+                length = node.to() - node.from();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof UnrolledIntConsListImpl) {
+                UnrolledIntConsListImpl node = (UnrolledIntConsListImpl) cons;
+                length = node.to() - node.from();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof UnrolledLongConsListImpl) {
+                UnrolledLongConsListImpl node = (UnrolledLongConsListImpl) cons;
+                length = node.to() - node.from();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof UnrolledDoubleConsListImpl) {
+                UnrolledDoubleConsListImpl node = (UnrolledDoubleConsListImpl) cons;
+                length = node.to() - node.from();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof CompressedIntConsListImpl) {
+                CompressedIntConsListImpl node = (CompressedIntConsListImpl) cons;
+                length = node.length();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof CompressedLongConsListImpl) {
+                CompressedLongConsListImpl node = (CompressedLongConsListImpl) cons;
+                length = node.length();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof CompressedDoubleConsListImpl) {
+                CompressedDoubleConsListImpl node = (CompressedDoubleConsListImpl) cons;
+                length = node.length();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else if (cons instanceof BooleanConsListImpl) {
+                BooleanConsListImpl node = (BooleanConsListImpl) cons;
+                length = node.length();
+                if (remaining < length) {
+                    return (L) node.skip((int) remaining);
+                }
+                next = node.next();
+            } else {
+                length = 1;
+                next = cons.tail();
+            }
+            remaining -= length;
+            cons = next;
+        }
+        return (L) cons;
+    }
+
+    /**
+     * Returns the number of the leading elements of the list that match the predicate.
+     */
+    static <E> long prefixLength(ConsList<E> list, Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        long n = 0L;
+        for (E element : list) {
+            if (!predicate.test(element)) {
+                break;
+            }
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements, copied into unrolled nodes,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> ConsList<E> take(ConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefix(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into unrolled nodes,
+     * followed by the <tt>tail</tt>.
+     */
+    static <E> ConsList<E> copyPrefix(ConsList<E> list, long n, ConsList<E> tail) {
+        ConsAppender<E> prefix = new ConsAppender<>();
+        Iterator<E> iter = list.iterator();
+        for (long i = 0L; i < n; i++) {
+            prefix.add(iter.next());
+        }
+        return prefix.toConsList(tail);
+    }
+
+    /**
+     * Returns the number of the leading elements of the list that match the predicate, without boxing.
+     */
+    static long prefixLength(IntConsList<?> list, IntPredicate predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        long n = 0L;
+        while (iter.hasNext() && predicate.test(iter.nextInt())) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> IntConsList<E> takeInt(IntConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixInt(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> IntConsList<E> copyPrefixInt(IntConsList<E> list, long n, IntConsList<E> tail) {
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        ConsAppender.OfInt prefix = new ConsAppender.OfInt();
+        for (long i = 0L; i < n; i++) {
+            prefix.add(iter.nextInt());
+        }
+        return (IntConsList<E>) prefix.toIntConsList(n, (IntConsList<Integer>) tail);
+    }
+
+    /**
+     * Returns the number of the leading elements of the list that match the predicate, without boxing.
+     */
+    static long prefixLength(LongConsList<?> list, LongPredicate predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        long n = 0L;
+        while (iter.hasNext() && predicate.test(iter.nextLong())) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> LongConsList<E> takeLong(LongConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixLong(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> LongConsList<E> copyPrefixLong(LongConsList<E> list, long n, LongConsList<E> tail) {
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        ConsAppender.OfLong prefix = new ConsAppender.OfLong();
+        for (long i = 0L; i < n; i++) {
+            prefix.add(iter.nextLong());
+        }
+        return (LongConsList<E>) prefix.toLongConsList(n, (LongConsList<Long>) tail);
+    }
+
+    /**
+     * Returns the number of the leading elements of the list that match the predicate, without boxing.
+     */
+    static long prefixLength(DoubleConsList<?> list, DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, MSG_PREDICATE_IS_NULL);
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        long n = 0L;
+        while (iter.hasNext() && predicate.test(iter.nextDouble())) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> DoubleConsList<E> takeDouble(DoubleConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixDouble(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> DoubleConsList<E> copyPrefixDouble(DoubleConsList<E> list, long n, DoubleConsList<E> tail) {
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        ConsAppender.OfDouble prefix = new ConsAppender.OfDouble();
+        for (long i = 0L; i < n; i++) {
+            prefix.add(iter.nextDouble());
+        }
+        return (DoubleConsList<E>) prefix.toDoubleConsList(n, (DoubleConsList<Double>) tail);
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> FloatConsList<E> takeFloat(FloatConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixFloat(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> FloatConsList<E> copyPrefixFloat(FloatConsList<E> list, long n, FloatConsList<E> tail) {
+        FloatConsList.FloatIterator iter = list.floatIterator();
+        float[] elements = new float[intSize(n)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iter.nextFloat();
+        }
+        FloatConsList<Float> result = (FloatConsList<Float>) tail;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            result = new FloatConsListImpl(elements[i], result);
+        }
+        return (FloatConsList<E>) result;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> ShortConsList<E> takeShort(ShortConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixShort(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ShortConsList<E> copyPrefixShort(ShortConsList<E> list, long n, ShortConsList<E> tail) {
+        ShortConsList.ShortIterator iter = list.shortIterator();
+        short[] elements = new short[intSize(n)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iter.nextShort();
+        }
+        ShortConsList<Short> result = (ShortConsList<Short>) tail;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            result = new ShortConsListImpl(elements[i], result);
+        }
+        return (ShortConsList<E>) result;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> ByteConsList<E> takeByte(ByteConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixByte(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ByteConsList<E> copyPrefixByte(ByteConsList<E> list, long n, ByteConsList<E> tail) {
+        ByteConsList.ByteIterator iter = list.byteIterator();
+        byte[] elements = new byte[intSize(n)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iter.nextByte();
+        }
+        ByteConsList<Byte> result = (ByteConsList<Byte>) tail;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            result = new ByteConsListImpl(elements[i], result);
+        }
+        return (ByteConsList<E>) result;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> CharConsList<E> takeChar(CharConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixChar(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> CharConsList<E> copyPrefixChar(CharConsList<E> list, long n, CharConsList<E> tail) {
+        CharConsList.CharIterator iter = list.charIterator();
+        char[] elements = new char[intSize(n)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iter.nextChar();
+        }
+        CharConsList<Character> result = (CharConsList<Character>) tail;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            result = new CharConsListImpl(elements[i], result);
+        }
+        return (CharConsList<E>) result;
+    }
+
+    /**
+     * Returns the list of the first <tt>n</tt> elements copied into new nodes without boxing,
+     * or the list itself if it is not longer than <tt>n</tt>.
+     */
+    static <E> BooleanConsList<E> takeBoolean(BooleanConsList<E> list, long n) {
+        requireNotNegative(n);
+        if (n >= list.sizeAsLong()) {
+            return list;
+        }
+        return copyPrefixBoolean(list, n, ConsList.nil());
+    }
+
+    /**
+     * Returns the first <tt>n</tt> elements of the list copied into new nodes without boxing,
+     * followed by the <tt>tail</tt>.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> BooleanConsList<E> copyPrefixBoolean(BooleanConsList<E> list, long n, BooleanConsList<E> tail) {
+        BooleanConsList.BooleanIterator iter = list.booleanIterator();
+        boolean[] elements = new boolean[intSize(n)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = iter.nextBoolean();
+        }
+        return (BooleanConsList<E>) BooleanConsListImpl.prepend(elements, 0, elements.length, (BooleanConsList<Boolean>) tail);
+    }
+
+    static void checkIndex(long index, long size) {
+        if (index < 0L || index >= size) {
+            throw new IndexOutOfBoundsException(MSG_INDEX_OUT_OF_BOUNDS + index);
+        }
+    }
+
+    static <E> ConsList<E> updated(ConsList<E> list, long index, E element) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefix(list, index, new ConsListImpl<>(element, drop(list, index + 1L)));
+    }
+
+    static <E> ConsList<E> insertAt(ConsList<E> list, long index, E element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        return copyPrefix(list, index, new ConsListImpl<>(element, drop(list, index)));
+    }
+
+    static <E> ConsList<E> removeAt(ConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefix(list, index, drop(list, index + 1L));
+    }
+
+    /**
+     * Removes the first occurrence of the object by the <tt>removeAt</tt> method of the list,
+     * which keeps the list type, or returns the list itself if it does not contain the object.
+     */
+    @SuppressWarnings("unchecked")
+    static <L extends ConsList<?>> L removeFirst(L list, Object o) {
+        long index = 0L;
+        for (Object element : list) {
+            if (Objects.equals(o, element)) {
+                return (L) list.removeAt(index);
+            }
+            index++;
+        }
+        return list;
+    }
+
+    static <E> IntConsList<E> removeAtInt(IntConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixInt(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> IntConsList<E> updatedInt(IntConsList<E> list, long index, int element) {
+        checkIndex(index, list.sizeAsLong());
+        IntConsList<Integer> suffix = (IntConsList<Integer>) drop(list, index + 1L);
+        return copyPrefixInt(list, index, (IntConsList<E>) ConsList.intCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> IntConsList<E> insertAtInt(IntConsList<E> list, long index, int element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        IntConsList<Integer> suffix = (IntConsList<Integer>) drop(list, index);
+        return copyPrefixInt(list, index, (IntConsList<E>) ConsList.intCons(element, suffix));
+    }
+
+    static <E> IntConsList<E> removeFirstInt(IntConsList<E> list, int element) {
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (iter.nextInt() == element) {
+                return removeAtInt(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> LongConsList<E> removeAtLong(LongConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixLong(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> LongConsList<E> updatedLong(LongConsList<E> list, long index, long element) {
+        checkIndex(index, list.sizeAsLong());
+        LongConsList<Long> suffix = (LongConsList<Long>) drop(list, index + 1L);
+        return copyPrefixLong(list, index, (LongConsList<E>) ConsList.longCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> LongConsList<E> insertAtLong(LongConsList<E> list, long index, long element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        LongConsList<Long> suffix = (LongConsList<Long>) drop(list, index);
+        return copyPrefixLong(list, index, (LongConsList<E>) ConsList.longCons(element, suffix));
+    }
+
+    static <E> LongConsList<E> removeFirstLong(LongConsList<E> list, long element) {
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (iter.nextLong() == element) {
+                return removeAtLong(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> DoubleConsList<E> removeAtDouble(DoubleConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixDouble(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> DoubleConsList<E> updatedDouble(DoubleConsList<E> list, long index, double element) {
+        checkIndex(index, list.sizeAsLong());
+        DoubleConsList<Double> suffix = (DoubleConsList<Double>) drop(list, index + 1L);
+        return copyPrefixDouble(list, index, (DoubleConsList<E>) ConsList.doubleCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> DoubleConsList<E> insertAtDouble(DoubleConsList<E> list, long index, double element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        DoubleConsList<Double> suffix = (DoubleConsList<Double>) drop(list, index);
+        return copyPrefixDouble(list, index, (DoubleConsList<E>) ConsList.doubleCons(element, suffix));
+    }
+
+    static <E> DoubleConsList<E> removeFirstDouble(DoubleConsList<E> list, double element) {
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (Double.doubleToLongBits(iter.nextDouble()) == Double.doubleToLongBits(element)) {
+                return removeAtDouble(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> FloatConsList<E> removeAtFloat(FloatConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixFloat(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> FloatConsList<E> updatedFloat(FloatConsList<E> list, long index, float element) {
+        checkIndex(index, list.sizeAsLong());
+        FloatConsList<Float> suffix = (FloatConsList<Float>) drop(list, index + 1L);
+        return copyPrefixFloat(list, index, (FloatConsList<E>) ConsList.floatCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> FloatConsList<E> insertAtFloat(FloatConsList<E> list, long index, float element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        FloatConsList<Float> suffix = (FloatConsList<Float>) drop(list, index);
+        return copyPrefixFloat(list, index, (FloatConsList<E>) ConsList.floatCons(element, suffix));
+    }
+
+    static <E> FloatConsList<E> removeFirstFloat(FloatConsList<E> list, float element) {
+        FloatConsList.FloatIterator iter = list.floatIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (Float.floatToIntBits(iter.nextFloat()) == Float.floatToIntBits(element)) {
+                return removeAtFloat(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> ShortConsList<E> removeAtShort(ShortConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixShort(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ShortConsList<E> updatedShort(ShortConsList<E> list, long index, short element) {
+        checkIndex(index, list.sizeAsLong());
+        ShortConsList<Short> suffix = (ShortConsList<Short>) drop(list, index + 1L);
+        return copyPrefixShort(list, index, (ShortConsList<E>) ConsList.shortCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ShortConsList<E> insertAtShort(ShortConsList<E> list, long index, short element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        ShortConsList<Short> suffix = (ShortConsList<Short>) drop(list, index);
+        return copyPrefixShort(list, index, (ShortConsList<E>) ConsList.shortCons(element, suffix));
+    }
+
+    static <E> ShortConsList<E> removeFirstShort(ShortConsList<E> list, short element) {
+        ShortConsList.ShortIterator iter = list.shortIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (iter.nextShort() == element) {
+                return removeAtShort(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> ByteConsList<E> removeAtByte(ByteConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixByte(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ByteConsList<E> updatedByte(ByteConsList<E> list, long index, byte element) {
+        checkIndex(index, list.sizeAsLong());
+        ByteConsList<Byte> suffix = (ByteConsList<Byte>) drop(list, index + 1L);
+        return copyPrefixByte(list, index, (ByteConsList<E>) ConsList.byteCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ByteConsList<E> insertAtByte(ByteConsList<E> list, long index, byte element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        ByteConsList<Byte> suffix = (ByteConsList<Byte>) drop(list, index);
+        return copyPrefixByte(list, index, (ByteConsList<E>) ConsList.byteCons(element, suffix));
+    }
+
+    static <E> ByteConsList<E> removeFirstByte(ByteConsList<E> list, byte element) {
+        ByteConsList.ByteIterator iter = list.byteIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (iter.nextByte() == element) {
+                return removeAtByte(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> CharConsList<E> removeAtChar(CharConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixChar(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> CharConsList<E> updatedChar(CharConsList<E> list, long index, char element) {
+        checkIndex(index, list.sizeAsLong());
+        CharConsList<Character> suffix = (CharConsList<Character>) drop(list, index + 1L);
+        return copyPrefixChar(list, index, (CharConsList<E>) ConsList.charCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> CharConsList<E> insertAtChar(CharConsList<E> list, long index, char element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        CharConsList<Character> suffix = (CharConsList<Character>) drop(list, index);
+        return copyPrefixChar(list, index, (CharConsList<E>) ConsList.charCons(element, suffix));
+    }
+
+    static <E> CharConsList<E> removeFirstChar(CharConsList<E> list, char element) {
+        CharConsList.CharIterator iter = list.charIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (iter.nextChar() == element) {
+                return removeAtChar(list, index);
+            }
+        }
+        return list;
+    }
+
+    static <E> BooleanConsList<E> removeAtBoolean(BooleanConsList<E> list, long index) {
+        checkIndex(index, list.sizeAsLong());
+        return copyPrefixBoolean(list, index, drop(list, index + 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> BooleanConsList<E> updatedBoolean(BooleanConsList<E> list, long index, boolean element) {
+        checkIndex(index, list.sizeAsLong());
+        BooleanConsList<Boolean> suffix = (BooleanConsList<Boolean>) drop(list, index + 1L);
+        return copyPrefixBoolean(list, index, (BooleanConsList<E>) ConsList.booleanCons(element, suffix));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> BooleanConsList<E> insertAtBoolean(BooleanConsList<E> list, long index, boolean element) {
+        checkIndex(index, list.sizeAsLong() + 1L);
+        BooleanConsList<Boolean> suffix = (BooleanConsList<Boolean>) drop(list, index);
+        return copyPrefixBoolean(list, index, (BooleanConsList<E>) ConsList.booleanCons(element, suffix));
+    }
+
+    static <E> BooleanConsList<E> removeFirstBoolean(BooleanConsList<E> list, boolean element) {
+        BooleanConsList.BooleanIterator iter = list.booleanIterator();
+        for (long index = 0L; iter.hasNext(); index++) {
+            if (iter.nextBoolean() == element) {
+                return removeAtBoolean(list, index);
+            }
+        }
+        return list;
+    }
+
+    static void checkRange(int from, int to, int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException(MSG_RANGE_OUT_OF_BOUNDS + "[" + from + ", " + to + ") of " + length);
+        }
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8. Each chunk is shared by the unrolled
+     * nodes built from it, and its size is a multiple of {@link #UNROLLED_NODE_CAPACITY}, so only
+     * the first node can be partly filled.
+     */
+    static IntConsList<Integer> toIntConsList(IntBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        IntBuffer source = buffer.duplicate();
+        IntConsList<Integer> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - BUFFER_CHUNK_SIZE);
+            int[] chunk = new int[end - start];
+            ((Buffer) source).position(start);
+            source.get(chunk);
+            result = UnrolledIntConsListImpl.prepend(chunk, 0, chunk.length, result);
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8. Each chunk is shared by the unrolled
+     * nodes built from it, and its size is a multiple of {@link #UNROLLED_NODE_CAPACITY}, so only
+     * the first node can be partly filled.
+     */
+    static LongConsList<Long> toLongConsList(LongBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        LongBuffer source = buffer.duplicate();
+        LongConsList<Long> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - BUFFER_CHUNK_SIZE);
+            long[] chunk = new long[end - start];
+            ((Buffer) source).position(start);
+            source.get(chunk);
+            result = UnrolledLongConsListImpl.prepend(chunk, 0, chunk.length, result);
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8. Each chunk is shared by the unrolled
+     * nodes built from it, and its size is a multiple of {@link #UNROLLED_NODE_CAPACITY}, so only
+     * the first node can be partly filled.
+     */
+    static DoubleConsList<Double> toDoubleConsList(DoubleBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        DoubleBuffer source = buffer.duplicate();
+        DoubleConsList<Double> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - BUFFER_CHUNK_SIZE);
+            double[] chunk = new double[end - start];
+            ((Buffer) source).position(start);
+            source.get(chunk);
+            result = UnrolledDoubleConsListImpl.prepend(chunk, 0, chunk.length, result);
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8.
+     */
+    static FloatConsList<Float> toFloatConsList(FloatBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        FloatBuffer source = buffer.duplicate();
+        float[] chunk = new float[Math.min(to - from, BUFFER_CHUNK_SIZE)];
+        FloatConsList<Float> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - chunk.length);
+            ((Buffer) source).position(start);
+            source.get(chunk, 0, end - start);
+            for (int i = end - start - 1; i >= 0; i--) {
+                result = new FloatConsListImpl(chunk[i], result);
+            }
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8.
+     */
+    static ShortConsList<Short> toShortConsList(ShortBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        ShortBuffer source = buffer.duplicate();
+        short[] chunk = new short[Math.min(to - from, BUFFER_CHUNK_SIZE)];
+        ShortConsList<Short> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - chunk.length);
+            ((Buffer) source).position(start);
+            source.get(chunk, 0, end - start);
+            for (int i = end - start - 1; i >= 0; i--) {
+                result = new ShortConsListImpl(chunk[i], result);
+            }
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8.
+     */
+    static ByteConsList<Byte> toByteConsList(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        ByteBuffer source = buffer.duplicate();
+        byte[] chunk = new byte[Math.min(to - from, BUFFER_CHUNK_SIZE)];
+        ByteConsList<Byte> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - chunk.length);
+            ((Buffer) source).position(start);
+            source.get(chunk, 0, end - start);
+            for (int i = end - start - 1; i >= 0; i--) {
+                result = new ByteConsListImpl(chunk[i], result);
+            }
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    /**
+     * Reads the remaining elements of the buffer in chunks from its limit backwards, prepending
+     * each chunk to the list. The chunks are read from a duplicate, positioned through the
+     * {@link Buffer} type so that the code also runs on Java 8.
+     */
+    static CharConsList<Character> toCharConsList(CharBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        int from = buffer.position();
+        int to = buffer.limit();
+        CharBuffer source = buffer.duplicate();
+        char[] chunk = new char[Math.min(to - from, BUFFER_CHUNK_SIZE)];
+        CharConsList<Character> result = ConsList.nil();
+        for (int end = to; end > from; ) {
+            int start = Math.max(from, end - chunk.length);
+            ((Buffer) source).position(start);
+            source.get(chunk, 0, end - start);
+            for (int i = end - start - 1; i >= 0; i--) {
+                result = new CharConsListImpl(chunk[i], result);
+            }
+            end = start;
+        }
+        ((Buffer) buffer).position(to);
+        return result;
+    }
+
+    static <E, R> R foldLeft(ConsList<E> list, R identity, BiFunction<R, ? super E, R> operator) {
+        Objects.requireNonNull(operator, MSG_OPERATOR_IS_NULL);
+        R result = identity;
+        for (E element : list) {
+            result = operator.apply(result, element);
+        }
+        return result;
+    }
+
+    /**
+     * Folds the elements from the last one without recursion: they are copied into a temporary
+     * array, which is then traversed backwards.
+     */
+    @SuppressWarnings("unchecked")
+    static <E, R> R foldRight(ConsList<E> list, R identity, BiFunction<? super E, R, R> operator) {
+        Objects.requireNonNull(operator, MSG_OPERATOR_IS_NULL);
+        Object[] elements = list.toArray();
+        R result = identity;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            result = operator.apply((E) elements[i], result);
+        }
+        return result;
+    }
+
+    static int foldInt(IntConsList<?> list, int identity, IntBinaryOperator operator) {
+        Objects.requireNonNull(operator, MSG_OPERATOR_IS_NULL);
+        int result = identity;
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        while (iter.hasNext()) {
+            result = operator.applyAsInt(result, iter.nextInt());
+        }
+        return result;
+    }
+
+    static long foldLong(LongConsList<?> list, long identity, LongBinaryOperator operator) {
+        Objects.requireNonNull(operator, MSG_OPERATOR_IS_NULL);
+        long result = identity;
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        while (iter.hasNext()) {
+            result = operator.applyAsLong(result, iter.nextLong());
+        }
+        return result;
+    }
+
+    static double foldDouble(DoubleConsList<?> list, double identity, DoubleBinaryOperator operator) {
+        Objects.requireNonNull(operator, MSG_OPERATOR_IS_NULL);
+        double result = identity;
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        while (iter.hasNext()) {
+            result = operator.applyAsDouble(result, iter.nextDouble());
+        }
+        return result;
+    }
+
+    static <A, B, R> ConsList<R> zip(ConsList<A> first, ConsList<B> second,
+                                     BiFunction<? super A, ? super B, ? extends R> zipper) {
+        Objects.requireNonNull(first, MSG_FIRST_IS_NULL);
+        Objects.requireNonNull(second, MSG_SECOND_IS_NULL);
+        Objects.requireNonNull(zipper, MSG_ZIPPER_IS_NULL);
+        Iterator<A> iterA = first.iterator();
+        Iterator<B> iterB = second.iterator();
+        ConsAppender<R> zipped = new ConsAppender<>();
+        while (iterA.hasNext() && iterB.hasNext()) {
+            zipped.add(zipper.apply(iterA.next(), iterB.next()));
+        }
+        return zipped.toConsList(ConsList.nil());
+    }
+
+    static <E, R> ConsList<R> zipWithIndex(ConsList<E> list, ConsList.IndexedFunction<? super E, ? extends R> zipper) {
+        Objects.requireNonNull(zipper, MSG_ZIPPER_IS_NULL);
+        ConsAppender<R> zipped = new ConsAppender<>();
+        long index = 0L;
+        for (E element : list) {
+            zipped.add(zipper.apply(element, index++));
+        }
+        return zipped.toConsList(ConsList.nil());
+    }
+
+    static IntConsList<Integer> zipInts(IntConsList<?> list, IntConsList<?> other, IntBinaryOperator zipper) {
+        Objects.requireNonNull(other, MSG_OTHER_IS_NULL);
+        Objects.requireNonNull(zipper, MSG_ZIPPER_IS_NULL);
+        PrimitiveIterator.OfInt iterA = list.intIterator();
+        PrimitiveIterator.OfInt iterB = other.intIterator();
+        ConsAppender.OfInt zipped = new ConsAppender.OfInt();
+        while (iterA.hasNext() && iterB.hasNext()) {
+            zipped.add(zipper.applyAsInt(iterA.nextInt(), iterB.nextInt()));
+        }
+        return zipped.toIntConsList(zipped.size(), ConsList.nil());
+    }
+
+    static LongConsList<Long> zipLongs(LongConsList<?> list, LongConsList<?> other, LongBinaryOperator zipper) {
+        Objects.requireNonNull(other, MSG_OTHER_IS_NULL);
+        Objects.requireNonNull(zipper, MSG_ZIPPER_IS_NULL);
+        PrimitiveIterator.OfLong iterA = list.longIterator();
+        PrimitiveIterator.OfLong iterB = other.longIterator();
+        ConsAppender.OfLong zipped = new ConsAppender.OfLong();
+        while (iterA.hasNext() && iterB.hasNext()) {
+            zipped.add(zipper.applyAsLong(iterA.nextLong(), iterB.nextLong()));
+        }
+        return zipped.toLongConsList(zipped.size(), ConsList.nil());
+    }
+
+    static DoubleConsList<Double> zipDoubles(DoubleConsList<?> list, DoubleConsList<?> other, DoubleBinaryOperator zipper) {
+        Objects.requireNonNull(other, MSG_OTHER_IS_NULL);
+        Objects.requireNonNull(zipper, MSG_ZIPPER_IS_NULL);
+        PrimitiveIterator.OfDouble iterA = list.doubleIterator();
+        PrimitiveIterator.OfDouble iterB = other.doubleIterator();
+        ConsAppender.OfDouble zipped = new ConsAppender.OfDouble();
+        while (iterA.hasNext() && iterB.hasNext()) {
+            zipped.add(zipper.applyAsDouble(iterA.nextDouble(), iterB.nextDouble()));
+        }
+        return zipped.toDoubleConsList(zipped.size(), ConsList.nil());
+    }
+
+    /**
+     * Returns the length of an array for the list elements.
+     */
+    static int arrayLength(long size) {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return (int) size;
+    }
+
+    static Object[] toArray(ConsList<?> list) {
+        Object[] array = new Object[arrayLength(list.sizeAsLong())];
+        copyInto(list, array);
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T[] toArray(ConsList<?> list, T[] a) {
+        int size = arrayLength(list.sizeAsLong());
+        T[] array = a.length >= size ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+        copyInto(list, array);
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+
+    /**
+     * Copies the elements into the array in a single traversal, the array ranges
+     * of unrolled nodes at once.
+     */
+    private static void copyInto(ConsList<?> list, Object[] array) {
+        ConsList<?> cons = list;
+        int pos = 0;
+        while (cons != Nil.INSTANCE) {
+            if (cons instanceof UnrolledConsListImpl) {
+                UnrolledConsListImpl<?> node = (UnrolledConsListImpl<?>) cons;
+                int length = node.to() - node.from();
+                System.arraycopy(node.elements(), node.from(), array, pos, length);
+                pos += length;
+                cons = node.next();
+            } else if (cons instanceof ConsListImpl) {
+                array[pos++] = cons.head();
+                cons = cons.tail();
+            } else {
+                for (Object element : cons) {
+                    array[pos++] = element;
+                }
+                return;
+            }
+        }
+    }
+
+    static int[] toIntArray(IntConsList<?> list) {
+        int[] array = new int[arrayLength(list.sizeAsLong())];
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = iter.nextInt();
+        }
+        return array;
+    }
+
+    /**
+     * Writes the elements into the buffer in chunks, so that direct buffers are written by bulk copies.
+     */
+    static IntBuffer copyInto(IntConsList<?> list, IntBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        long size = list.sizeAsLong();
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        int[] chunk = new int[(int) Math.min(size, BUFFER_CHUNK_SIZE)];
+        PrimitiveIterator.OfInt iter = list.intIterator();
+        int pos = 0;
+        while (iter.hasNext()) {
+            chunk[pos++] = iter.nextInt();
+            if (pos == chunk.length) {
+                buffer.put(chunk, 0, pos);
+                pos = 0;
+            }
+        }
+        buffer.put(chunk, 0, pos);
+        return buffer;
+    }
+
+    static long[] toLongArray(LongConsList<?> list) {
+        long[] array = new long[arrayLength(list.sizeAsLong())];
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = iter.nextLong();
+        }
+        return array;
+    }
+
+    /**
+     * Writes the elements into the buffer in chunks, so that direct buffers are written by bulk copies.
+     */
+    static LongBuffer copyInto(LongConsList<?> list, LongBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        long size = list.sizeAsLong();
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        long[] chunk = new long[(int) Math.min(size, BUFFER_CHUNK_SIZE)];
+        PrimitiveIterator.OfLong iter = list.longIterator();
+        int pos = 0;
+        while (iter.hasNext()) {
+            chunk[pos++] = iter.nextLong();
+            if (pos == chunk.length) {
+                buffer.put(chunk, 0, pos);
+                pos = 0;
+            }
+        }
+        buffer.put(chunk, 0, pos);
+        return buffer;
+    }
+
+    static double[] toDoubleArray(DoubleConsList<?> list) {
+        double[] array = new double[arrayLength(list.sizeAsLong())];
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = iter.nextDouble();
+        }
+        return array;
+    }
+
+    /**
+     * Writes the elements into the buffer in chunks, so that direct buffers are written by bulk copies.
+     */
+    static DoubleBuffer copyInto(DoubleConsList<?> list, DoubleBuffer buffer) {
+        Objects.requireNonNull(buffer, MSG_BUFFER_IS_NULL);
+        long size = list.sizeAsLong();
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        double[] chunk = new double[(int) Math.min(size, BUFFER_CHUNK_SIZE)];
+        PrimitiveIterator.OfDouble iter = list.doubleIterator();
+        int pos = 0;
+        while (iter.hasNext()) {
+            chunk[pos++] = iter.nextDouble();
+            if (pos == chunk.length) {
+                buffer.put(chunk, 0, pos);
+                pos = 0;
+            }
+        }
+        buffer.put(chunk, 0, pos);
+        return buffer;
     }
 }
@@ -0,0 +1,66 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterator over a <tt>DoubleConsList</tt> that reads the array ranges of unrolled nodes and decodes
+ * the bit streams of compressed nodes directly instead of creating a tail view for each of their elements.
+ */
+final class DoubleConsIterator implements PrimitiveIterator.OfDouble {
+    private static final double[] NO_ELEMENTS = new double[0];
+    @NonNull
+    private DoubleConsList<Double> cons;
+    private double[] elements = NO_ELEMENTS;
+    private int index;
+    private int to;
+    private CompressedDoubleConsListImpl.Decoder decoder;
+    private int remaining;
+
+    DoubleConsIterator(@NonNull DoubleConsList<Double> cons) {
+        this.cons = cons;
+    }
+
+    /**
+     * Returns the list of the remaining elements if the iterator is at a node boundary,
+     * or <tt>null</tt> while inside an unrolled or a compressed node.
+     */
+    DoubleConsList<Double> rest() {
+        return remaining > 0 || index < to ? null : cons;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0 || index < to || cons != Nil.INSTANCE;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index < to) {
+            return elements[index++];
+        }
+        if (remaining > 0) {
+            remaining--;
+            return decoder.next();
+        }
+        if (cons instanceof UnrolledDoubleConsListImpl) {
+            UnrolledDoubleConsListImpl node = (UnrolledDoubleConsListImpl) cons;
+            elements = node.elements();
+            index = node.from();
+            to = node.to();
+            cons = node.next();
+            return elements[index++];
+        }
+        if (cons instanceof CompressedDoubleConsListImpl) {
+            CompressedDoubleConsListImpl node = (CompressedDoubleConsListImpl) cons;
+            decoder = new CompressedDoubleConsListImpl.Decoder(node);
+            remaining = node.length() - 1;
+            cons = node.next();
+            return node.doubleHead();
+        }
+        double next = cons.doubleHead();
+        cons = cons.doubleTail();
+        return next;
+    }
+}
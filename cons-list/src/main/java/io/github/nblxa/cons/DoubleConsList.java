@@ -1,12 +1,20 @@
 package io.github.nblxa.cons;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
+import java.nio.DoubleBuffer;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
 import java.util.stream.DoubleStream;
 
 @Immutable
@@ -63,4 +71,237 @@ public interface DoubleConsList<E> extends ConsList<E> {
      */
     @NonNull
     DoubleStream doubleStream();
+
+    /**
+     * Creates a new possibly parallel primitive-typed stream from this list of type <tt>double</tt>.
+     * @return new possibly parallel primitive-typed stream
+     */
+    @NonNull
+    DoubleStream parallelDoubleStream();
+
+    /**
+     * Constructs a new <tt>IntConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order, without boxing.
+     *
+     * @param mapper function to apply to each element
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default IntConsList<Integer> mapToInt(@NonNull DoubleToIntFunction mapper) {
+        return ConsUtil.mapToInt(this, mapper);
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order, without boxing.
+     *
+     * @param mapper function to apply to each element
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default LongConsList<Long> mapToLong(@NonNull DoubleToLongFunction mapper) {
+        return ConsUtil.mapToLong(this, mapper);
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order, without boxing.
+     *
+     * <p>The longest suffix for which the mapper returns the same values is shared
+     * with this list instead of being copied.
+     *
+     * @param mapper function to apply to each element
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default DoubleConsList<Double> mapToDouble(@NonNull DoubleUnaryOperator mapper) {
+        return ConsUtil.mapToDouble(this, mapper);
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> with the elements of this list that match the <tt>predicate</tt>,
+     * in the same order, without boxing.
+     *
+     * <p>The longest suffix of this list in which all elements match is shared instead
+     * of being copied, and if all elements match, this list itself is returned.
+     *
+     * @param predicate predicate telling which elements to keep
+     * @return the list of matching elements
+     */
+    @NonNull
+    default DoubleConsList<Double> filterDouble(@NonNull DoublePredicate predicate) {
+        return ConsUtil.filterDouble(this, predicate);
+    }
+
+    @NonNull
+    @Override
+    default DoubleConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default DoubleConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default DoubleConsList<E> take(long n) {
+        return ConsUtil.takeDouble(this, n);
+    }
+
+    @NonNull
+    @Override
+    default DoubleConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default DoubleConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtDouble(this, index);
+    }
+
+    @NonNull
+    @Override
+    default DoubleConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default DoubleConsList<E> updatedDouble(long index, double element) {
+        return ConsUtil.updatedDouble(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default DoubleConsList<E> insertAtDouble(long index, double element) {
+        return ConsUtil.insertAtDouble(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default DoubleConsList<E> removeFirstDouble(double element) {
+        return ConsUtil.removeFirstDouble(this, element);
+    }
+
+    /**
+     * Returns the suffix of this list starting at the first element that does not match
+     * the <tt>predicate</tt>, without copying it and without boxing.
+     *
+     * @param predicate predicate telling which leading elements to drop
+     * @return the list of elements after the longest matching prefix
+     * @see #drop(long)
+     */
+    @NonNull
+    default DoubleConsList<E> dropWhileDouble(@NonNull DoublePredicate predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> with the longest prefix of this list in which all elements
+     * match the <tt>predicate</tt>, without boxing, or this list itself if all of them match.
+     *
+     * @param predicate predicate telling which leading elements to take
+     * @return the list of the leading matching elements
+     * @see #take(long)
+     */
+    @NonNull
+    default DoubleConsList<E> takeWhileDouble(@NonNull DoublePredicate predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    /**
+     * Returns a <tt>DoubleConsList</tt> with the elements of this list in ascending order in the order of {@link Double#compare},
+     * or this list itself if it has already been sorted.
+     *
+     * <p>The elements are sorted without boxing by a least significant digit radix sort,
+     * which takes linear time and skips the bytes that are the same in all elements.
+     *
+     * @return the sorted list
+     */
+    @NonNull
+    default DoubleConsList<Double> sortedDoubles() {
+        return ConsSort.sortedDoubles(this);
+    }
+
+    /**
+     * Combines the elements of this list from the first one to the last one without boxing:
+     * the <tt>operator</tt> is applied to the <tt>identity</tt> and the first element, then to
+     * that result and the second element, and so on.
+     *
+     * @param identity initial value, returned if the list is empty
+     * @param operator function combining the accumulated value with the next element
+     * @return the accumulated value
+     */
+    default double foldDouble(double identity, @NonNull DoubleBinaryOperator operator) {
+        return ConsUtil.foldDouble(this, identity, operator);
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with the results of applying the <tt>zipper</tt> to the
+     * elements of this and the <tt>other</tt> list at the same positions, without boxing. The result
+     * has as many elements as the shorter of the lists.
+     *
+     * <p>The list is built front to back in a single pass, without reversing it.
+     *
+     * @param other  the other list, not nullable
+     * @param zipper function combining the elements at the same position
+     * @return the list of the combined elements
+     */
+    @NonNull
+    default DoubleConsList<Double> zipDoubles(@NonNull DoubleConsList<?> other, @NonNull DoubleBinaryOperator zipper) {
+        return ConsUtil.zipDoubles(this, other, zipper);
+    }
+
+    /**
+     * Returns a new <tt>double</tt> array with the elements of this list, in the same order,
+     * without boxing.
+     *
+     * @return a new array of the elements
+     */
+    @NonNull
+    default double[] toDoubleArray() {
+        return ConsUtil.toDoubleArray(this);
+    }
+
+    /**
+     * Writes the elements of this list into the <tt>buffer</tt> starting at its current position,
+     * without boxing, and advances the position past them.
+     *
+     * <p>Throws {@link java.nio.BufferOverflowException} without writing anything if the buffer
+     * has fewer elements remaining than this list.
+     *
+     * @param buffer buffer to write into, not nullable
+     * @return the buffer
+     */
+    @NonNull
+    default DoubleBuffer copyInto(@NonNull DoubleBuffer buffer) {
+        return ConsUtil.copyInto(this, buffer);
+    }
 }
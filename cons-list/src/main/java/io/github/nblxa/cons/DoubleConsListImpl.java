@@ -20,10 +20,14 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
     private final double head;
     @NonNull
     private final DoubleConsList<Double> tail;
+    private final long size;
+    private final int hash;
 
     DoubleConsListImpl(double head, @NonNull DoubleConsList<Double> tail) {
         this.head = head;
         this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Double.hashCode(head), tail);
     }
 
     @Override
@@ -74,12 +78,11 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
 
     @Override
     public int size() {
-        int size = ConsUtil.EMPTY_SIZE;
-        DoubleConsList<Double> cons = this;
-        while (cons != Nil.INSTANCE && size != Integer.MAX_VALUE) {
-            size++;
-            cons = cons.doubleTail();
-        }
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
         return size;
     }
 
@@ -104,7 +107,7 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
     @NonNull
     @Override
     public Spliterator.OfDouble doubleSpliterator() {
-        return Spliterators.spliteratorUnknownSize(doubleIterator(), ConsUtil.SPLITERATOR_CHARACTERISTICS);
+        return new DoubleConsSpliterator(this);
     }
 
     @NonNull
@@ -113,6 +116,12 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
         return StreamSupport.doubleStream(doubleSpliterator(), false);
     }
 
+    @NonNull
+    @Override
+    public DoubleStream parallelDoubleStream() {
+        return StreamSupport.doubleStream(doubleSpliterator(), true);
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) {
@@ -129,34 +138,7 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
 
     @Override
     public final int hashCode() {
-        int result = 1;
-        DoubleConsList<Double> cons = this;
-        while (cons != Nil.INSTANCE) {
-            double h = cons.doubleHead();
-            result = 31 * result + Double.hashCode(h);
-            cons = cons.doubleTail();
-        }
-        return result;
-    }
-
-    private static final class DoubleConsIterator implements PrimitiveIterator.OfDouble {
-        private DoubleConsList<Double> cons;
-
-        private DoubleConsIterator(DoubleConsList<Double> cons) {
-            this.cons = cons;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return cons != Nil.INSTANCE;
-        }
-
-        @Override
-        public double nextDouble() {
-            double next = cons.doubleHead();
-            cons = cons.doubleTail();
-            return next;
-        }
+        return hash;
     }
 
     private Object writeReplace() {
@@ -175,11 +157,11 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
      *
      * @serial
      */
-    private static final class SerializationProxy implements Serializable {
+    static final class SerializationProxy implements Serializable {
         private static final long serialVersionUID = -4567593809099627800L;
         private transient DoubleConsList<Double> list;
 
-        private SerializationProxy(DoubleConsList<Double> list) {
+        SerializationProxy(DoubleConsList<Double> list) {
             this.list = list;
         }
 
@@ -197,11 +179,10 @@ public final class DoubleConsListImpl extends AbstractCollection<Double>
          */
         private void writeObject(ObjectOutputStream out) throws IOException {
             DoubleConsList<Double> reversed = ConsList.nil();
-            DoubleConsList<Double> cons = list;
+            PrimitiveIterator.OfDouble elements = list.doubleIterator();
             long length = 0L;
-            while (cons != Nil.INSTANCE) {
-                reversed = new DoubleConsListImpl(cons.doubleHead(), reversed);
-                cons = cons.doubleTail();
+            while (elements.hasNext()) {
+                reversed = new DoubleConsListImpl(elements.nextDouble(), reversed);
                 length++; // Can overflow but it is very unpractical to check.
             }
             out.writeLong(length);
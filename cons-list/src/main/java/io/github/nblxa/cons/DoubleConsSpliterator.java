@@ -0,0 +1,70 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Splitting primitive-typed spliterator over a <tt>DoubleConsList</tt> of known length.
+ *
+ * <p>Works like {@link ConsSpliterator}: batches of growing size are copied into
+ * <tt>double</tt> arrays without boxing.
+ */
+final class DoubleConsSpliterator implements Spliterator.OfDouble {
+    static final int CHARACTERISTICS = ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS
+        | Spliterator.SIZED | Spliterator.SUBSIZED;
+    @NonNull
+    private final PrimitiveIterator.OfDouble iter;
+    private long est;
+    private int batch;
+
+    DoubleConsSpliterator(@NonNull DoubleConsList<?> list) {
+        this.iter = list.doubleIterator();
+        this.est = list.sizeAsLong();
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        long s = est;
+        if (s > 1L) {
+            int n = (int) Math.min(Math.min(batch + (long) ConsSpliterator.BATCH_UNIT, s), ConsSpliterator.MAX_BATCH);
+            double[] a = new double[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = iter.nextDouble();
+            }
+            batch = n;
+            est = s - n;
+            return Spliterators.spliterator(a, 0, n, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (est > 0L) {
+            est--;
+            action.accept(iter.nextDouble());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        est = 0L;
+        iter.forEachRemaining(action);
+    }
+
+    @Override
+    public long estimateSize() {
+        return est;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+
+@Immutable
+@ThreadSafe
+public interface FloatConsList<E> extends ConsList<E> {
+
+    /**
+     * Returns the first element of the <tt>FloatConsList</tt> as <tt>float</tt> primitive type.
+     *
+     * This method ensures no primitive boxing is taking place.
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return first element of the list
+     */
+    float floatHead();
+
+    /**
+     * Returns another <tt>FloatConsList</tt> containing the current list's elements
+     * after the first one.
+     *
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return elements of the list after the first one
+     */
+    @NonNull
+    FloatConsList<E> floatTail();
+
+    /**
+     * Constructs a new <tt>FloatConsList</tt> with the elements of the current one
+     * in the reverse order.
+     *
+     * @return new list with elements in reversed order
+     */
+    @NonNull
+    FloatConsList<E> floatReverse();
+
+    /**
+     * Creates a new primitive-typed iterator for this list of type <tt>float</tt>.
+     * @return new primitive-typed iterator
+     */
+    @NonNull
+    FloatIterator floatIterator();
+
+    /**
+     * Creates a new primitive-typed spliterator for this list, widening the elements
+     * of type <tt>float</tt> to <tt>double</tt>.
+     * @return new primitive-typed spliterator
+     */
+    @NonNull
+    Spliterator.OfDouble floatSpliterator();
+
+    /**
+     * Creates a new primitive-typed stream from this list, widening the elements
+     * of type <tt>float</tt> to <tt>double</tt>.
+     * @return new primitive-typed stream
+     */
+    @NonNull
+    DoubleStream floatStream();
+
+    /**
+     * Creates a new possibly parallel primitive-typed stream from this list, widening the elements
+     * of type <tt>float</tt> to <tt>double</tt>.
+     * @return new possibly parallel primitive-typed stream
+     */
+    @NonNull
+    DoubleStream parallelFloatStream();
+
+    @NonNull
+    @Override
+    default FloatConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default FloatConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default FloatConsList<E> take(long n) {
+        return ConsUtil.takeFloat(this, n);
+    }
+
+    @NonNull
+    @Override
+    default FloatConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default FloatConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtFloat(this, index);
+    }
+
+    @NonNull
+    @Override
+    default FloatConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>FloatConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default FloatConsList<E> updatedFloat(long index, float element) {
+        return ConsUtil.updatedFloat(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>FloatConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default FloatConsList<E> insertAtFloat(long index, float element) {
+        return ConsUtil.insertAtFloat(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>FloatConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default FloatConsList<E> removeFirstFloat(float element) {
+        return ConsUtil.removeFirstFloat(this, element);
+    }
+
+    /**
+     * Iterator over the elements of a <tt>FloatConsList</tt> returning them
+     * as <tt>float</tt> primitive type.
+     */
+    interface FloatIterator extends Iterator<Float> {
+
+        /**
+         * Returns the next element of the iteration as <tt>float</tt> primitive type.
+         *
+         * <p>Throws {@link NoSuchElementException} if the iteration has no more elements.
+         *
+         * @return the next element
+         */
+        float nextFloat();
+
+        @Override
+        default Float next() {
+            return nextFloat();
+        }
+    }
+}
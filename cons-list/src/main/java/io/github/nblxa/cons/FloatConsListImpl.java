@@ -0,0 +1,255 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+@Immutable
+@ThreadSafe
+public final class FloatConsListImpl extends AbstractCollection<Float>
+                      implements FloatConsList<Float>, Serializable {
+    private static final long serialVersionUID = -3541658224731067392L;
+    private final float head;
+    @NonNull
+    private final FloatConsList<Float> tail;
+    private final long size;
+    private final int hash;
+
+    FloatConsListImpl(float head, @NonNull FloatConsList<Float> tail) {
+        this.head = head;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Float.hashCode(head), tail);
+    }
+
+    @Override
+    public float floatHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public FloatConsList<Float> floatTail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public FloatConsList<Float> floatReverse() {
+        FloatConsList<Float> result = ConsList.nil();
+        FloatConsList<Float> cons = this;
+        while (cons != Nil.INSTANCE) {
+            result = new FloatConsListImpl(cons.floatHead(), result);
+            cons = cons.floatTail();
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public Float head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Float> tail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Float> reverse() {
+        return floatReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Float> iterator() {
+        return floatIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Float> spliterator() {
+        return Spliterators.spliterator(iterator(), size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public FloatIterator floatIterator() {
+        return new FloatConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfDouble floatSpliterator() {
+        FloatIterator iter = floatIterator();
+        PrimitiveIterator.OfDouble widening = new PrimitiveIterator.OfDouble() {
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return iter.nextFloat();
+            }
+        };
+        return Spliterators.spliterator(widening, size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream floatStream() {
+        return StreamSupport.doubleStream(floatSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream parallelFloatStream() {
+        return StreamSupport.doubleStream(floatSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof FloatConsList) {
+            return ConsUtil.haveEqualElements(this, (FloatConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private static final class FloatConsIterator implements FloatIterator {
+        private FloatConsList<Float> cons;
+
+        private FloatConsIterator(FloatConsList<Float> cons) {
+            this.cons = cons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cons != Nil.INSTANCE;
+        }
+
+        @Override
+        public float nextFloat() {
+            float next = cons.floatHead();
+            cons = cons.floatTail();
+            return next;
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the FloatConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 6215482303195741709L;
+        private transient FloatConsList<Float> list;
+
+        private SerializationProxy(FloatConsList<Float> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * ConsList implementations are reversed before serializing. This way, one particular
+         * use case of serialization is optimized: write-once, read-many. For instance, this could be
+         * serialization on disk in order to save application state that can be restored multiple times.
+         * <p>
+         * The elements are written as raw <tt>float</tt> values, preceded by the list length.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            FloatConsList<Float> reversed = list.floatReverse();
+            long length = list.sizeAsLong();
+            out.writeLong(length);
+            long pos = 0L;
+            FloatIterator iter = reversed.floatIterator();
+            while (iter.hasNext()) {
+                float elem = iter.nextFloat();
+                try {
+                    out.writeFloat(elem);
+                    pos++;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " +
+                            (length - pos - 1L), e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            FloatConsList<Float> cons = ConsList.nil();
+            long length = in.readLong();
+            for (long l = length; l != 0; l--) {
+                try {
+                    float elem = in.readFloat();
+                    cons = new FloatConsListImpl(elem, cons);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (l - 1), e);
+                }
+            }
+            list = cons;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterator over an <tt>IntConsList</tt> that reads the array ranges of unrolled nodes and decodes
+ * the deltas of compressed nodes directly instead of creating a tail view for each of their elements.
+ */
+final class IntConsIterator implements PrimitiveIterator.OfInt {
+    private static final int[] NO_ELEMENTS = new int[0];
+    private static final byte[] NO_DELTAS = new byte[0];
+    @NonNull
+    private IntConsList<Integer> cons;
+    private int[] elements = NO_ELEMENTS;
+    private int index;
+    private int to;
+    private byte[] deltas = NO_DELTAS;
+    private int pos;
+    private int remaining;
+    private int value;
+
+    IntConsIterator(@NonNull IntConsList<Integer> cons) {
+        this.cons = cons;
+    }
+
+    /**
+     * Returns the list of the remaining elements if the iterator is at a node boundary,
+     * or <tt>null</tt> while inside an unrolled or a compressed node.
+     */
+    IntConsList<Integer> rest() {
+        return remaining > 0 || index < to ? null : cons;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0 || index < to || cons != Nil.INSTANCE;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index < to) {
+            return elements[index++];
+        }
+        if (remaining > 0) {
+            remaining--;
+            long delta = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = deltas[pos++];
+                delta |= (b & 0x7FL) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += CompressedIntConsListImpl.unzigzag((int) delta);
+            return value;
+        }
+        if (cons instanceof UnrolledIntConsListImpl) {
+            UnrolledIntConsListImpl node = (UnrolledIntConsListImpl) cons;
+            elements = node.elements();
+            index = node.from();
+            to = node.to();
+            cons = node.next();
+            return elements[index++];
+        }
+        if (cons instanceof CompressedIntConsListImpl) {
+            CompressedIntConsListImpl node = (CompressedIntConsListImpl) cons;
+            deltas = node.deltas();
+            pos = node.offset();
+            remaining = node.length() - 1;
+            value = node.intHead();
+            cons = node.next();
+            return value;
+        }
+        int next = cons.intHead();
+        cons = cons.intTail();
+        return next;
+    }
+}
@@ -20,10 +20,14 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
     private final int head;
     @NonNull
     private final IntConsList<Integer> tail;
+    private final long size;
+    private final int hash;
 
     IntConsListImpl(int head, @NonNull IntConsList<Integer> tail) {
         this.head = head;
         this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Integer.hashCode(head), tail);
     }
 
     @Override
@@ -74,12 +78,11 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
 
     @Override
     public int size() {
-        int size = ConsUtil.EMPTY_SIZE;
-        IntConsList<Integer> cons = this;
-        while (cons != Nil.INSTANCE && size != Integer.MAX_VALUE) {
-            size++;
-            cons = cons.intTail();
-        }
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
         return size;
     }
 
@@ -104,7 +107,7 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
     @NonNull
     @Override
     public Spliterator.OfInt intSpliterator() {
-        return Spliterators.spliteratorUnknownSize(intIterator(), ConsUtil.SPLITERATOR_CHARACTERISTICS);
+        return new IntConsSpliterator(this);
     }
 
     @NonNull
@@ -113,6 +116,12 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
         return StreamSupport.intStream(intSpliterator(), false);
     }
 
+    @NonNull
+    @Override
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(intSpliterator(), true);
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) {
@@ -129,34 +138,7 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
 
     @Override
     public final int hashCode() {
-        int result = 1;
-        IntConsList<Integer> cons = this;
-        while (cons != Nil.INSTANCE) {
-            int h = cons.intHead();
-            result = 31 * result + Integer.hashCode(h);
-            cons = cons.intTail();
-        }
-        return result;
-    }
-
-    private static final class IntConsIterator implements PrimitiveIterator.OfInt {
-        private IntConsList<Integer> cons;
-
-        private IntConsIterator(IntConsList<Integer> cons) {
-            this.cons = cons;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return cons != Nil.INSTANCE;
-        }
-
-        @Override
-        public int nextInt() {
-            int next = cons.intHead();
-            cons = cons.intTail();
-            return next;
-        }
+        return hash;
     }
 
     private Object writeReplace() {
@@ -175,11 +157,11 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
      *
      * @serial
      */
-    private static final class SerializationProxy implements Serializable {
+    static final class SerializationProxy implements Serializable {
         private static final long serialVersionUID = 7879963871389736253L;
         private transient IntConsList<Integer> list;
 
-        private SerializationProxy(IntConsList<Integer> list) {
+        SerializationProxy(IntConsList<Integer> list) {
             this.list = list;
         }
 
@@ -197,11 +179,10 @@ public final class IntConsListImpl extends AbstractCollection<Integer>
          */
         private void writeObject(ObjectOutputStream out) throws IOException {
             IntConsList<Integer> reversed = ConsList.nil();
-            IntConsList<Integer> cons = list;
+            PrimitiveIterator.OfInt elements = list.intIterator();
             long length = 0L;
-            while (cons != Nil.INSTANCE) {
-                reversed = new IntConsListImpl(cons.intHead(), reversed);
-                cons = cons.intTail();
+            while (elements.hasNext()) {
+                reversed = new IntConsListImpl(elements.nextInt(), reversed);
                 length++; // Can overflow but it is very unpractical to check.
             }
             out.writeLong(length);
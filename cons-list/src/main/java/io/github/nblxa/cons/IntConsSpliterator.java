@@ -0,0 +1,70 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * Splitting primitive-typed spliterator over a <tt>IntConsList</tt> of known length.
+ *
+ * <p>Works like {@link ConsSpliterator}: batches of growing size are copied into
+ * <tt>int</tt> arrays without boxing.
+ */
+final class IntConsSpliterator implements Spliterator.OfInt {
+    static final int CHARACTERISTICS = ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS
+        | Spliterator.SIZED | Spliterator.SUBSIZED;
+    @NonNull
+    private final PrimitiveIterator.OfInt iter;
+    private long est;
+    private int batch;
+
+    IntConsSpliterator(@NonNull IntConsList<?> list) {
+        this.iter = list.intIterator();
+        this.est = list.sizeAsLong();
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        long s = est;
+        if (s > 1L) {
+            int n = (int) Math.min(Math.min(batch + (long) ConsSpliterator.BATCH_UNIT, s), ConsSpliterator.MAX_BATCH);
+            int[] a = new int[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = iter.nextInt();
+            }
+            batch = n;
+            est = s - n;
+            return Spliterators.spliterator(a, 0, n, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (est > 0L) {
+            est--;
+            action.accept(iter.nextInt());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        est = 0L;
+        iter.forEachRemaining(action);
+    }
+
+    @Override
+    public long estimateSize() {
+        return est;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,382 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cons list node whose tail is computed on first access.
+ *
+ * <p>The head is known when the node is created, and the tail is produced by a function
+ * which is called at most once: its result is cached and the function is released, under
+ * the lock of the node, so the tail can be accessed by any number of threads. Tails are
+ * computed one at a time and without recursion, so the list can be unbounded.
+ *
+ * <p>{@link #map}, {@link #filter}, {@link #take}, {@link #takeWhile} and {@link #splitAt} return
+ * lazy lists as well. {@link #drop}, {@link #updated}, {@link #insertAt} and {@link #removeAt} only
+ * compute the nodes up to the position and keep the rest lazy. Operations that need all elements,
+ * like <tt>size()</tt>, <tt>hashCode()</tt>, <tt>equals(Object)</tt>, <tt>toArray()</tt>
+ * or sorting, compute the whole list and never return on an unbounded one. The size and the hash
+ * code are cached by the node once computed.
+ *
+ * <p>The computed nodes are only referenced by their predecessors, so a consumer that iterates
+ * over the list, preferably with <tt>stream()</tt> or <tt>iterator()</tt>, without keeping
+ * a reference to its first node runs in constant memory.
+ *
+ * <p>A lazy list is serialized with all its elements and deserialized as a strict list.
+ *
+ * @param <E> element type
+ */
+@ThreadSafe
+public final class LazyConsList<E> extends AbstractCollection<E> implements Serializable, ConsList<E> {
+    private static final long serialVersionUID = 3630766720011485614L;
+    private final E head;
+    /**
+     * Either the function computing the tail or, once it has been called, the tail itself.
+     */
+    @NonNull
+    private final transient AtomicReference<Object> next;
+    private transient int hash;
+    private transient volatile boolean hashed;
+    private transient long size;
+    private transient volatile boolean sized;
+
+    LazyConsList(E head, @NonNull Supplier<? extends ConsList<E>> tail) {
+        this.head = head;
+        this.next = new AtomicReference<>(tail);
+    }
+
+    /**
+     * Constructs a node with a tail that is already known, keeping the tail lazy.
+     */
+    LazyConsList(E head, @NonNull ConsList<E> tail) {
+        this.head = head;
+        this.next = new AtomicReference<>(tail);
+    }
+
+    static <E> ConsList<E> iterate(E seed, UnaryOperator<E> next) {
+        Objects.requireNonNull(next, ConsUtil.MSG_OPERATOR_IS_NULL);
+        return new LazyConsList<>(seed, () -> iterate(next.apply(seed), next));
+    }
+
+    static <E> ConsList<E> generate(Supplier<? extends E> supplier) {
+        Objects.requireNonNull(supplier, ConsUtil.MSG_SUPPLIER_IS_NULL);
+        return new LazyConsList<>(supplier.get(), () -> generate(supplier));
+    }
+
+    static <E, S> ConsList<E> unfold(S seed, Function<? super S, Optional<Map.Entry<E, S>>> step) {
+        Objects.requireNonNull(step, ConsUtil.MSG_STEP_IS_NULL);
+        Optional<Map.Entry<E, S>> result = step.apply(seed);
+        if (!result.isPresent()) {
+            return ConsList.nil();
+        }
+        Map.Entry<E, S> entry = result.get();
+        S nextSeed = entry.getValue();
+        return new LazyConsList<>(entry.getKey(), () -> unfold(nextSeed, step));
+    }
+
+    static <E> ConsList<E> fromIterator(Iterator<? extends E> iterator) {
+        Objects.requireNonNull(iterator, ConsUtil.MSG_ITERATOR_IS_NULL);
+        if (!iterator.hasNext()) {
+            return ConsList.nil();
+        }
+        return new LazyConsList<>(iterator.next(), () -> fromIterator(iterator));
+    }
+
+    static <E> ConsList<E> fromSpliterator(Spliterator<? extends E> spliterator) {
+        Objects.requireNonNull(spliterator, ConsUtil.MSG_SPLITERATOR_IS_NULL);
+        List<E> element = new ArrayList<>(1);
+        if (!spliterator.tryAdvance(element::add)) {
+            return ConsList.nil();
+        }
+        return new LazyConsList<>(element.get(0), () -> fromSpliterator(spliterator));
+    }
+
+    @Override
+    public E head() {
+        return head;
+    }
+
+    /**
+     * Returns the tail of the list, computing it if this is the first access.
+     */
+    @NonNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConsList<E> tail() {
+        Object tail = next.get();
+        if (tail instanceof ConsList) {
+            return (ConsList<E>) tail;
+        }
+        synchronized (next) {
+            tail = next.get();
+            if (!(tail instanceof ConsList)) {
+                tail = Objects.requireNonNull(((Supplier<? extends ConsList<E>>) tail).get(),
+                    ConsUtil.MSG_TAIL_IS_NULL);
+                next.set(tail);
+            }
+        }
+        return (ConsList<E>) tail;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> reverse() {
+        return UnrolledConsListImpl.reverse(iterator());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(sizeAsLong());
+    }
+
+    /**
+     * Counts the elements, computing the whole list, and caches the size. The walk stops at
+     * the first node whose size is already cached.
+     */
+    @Override
+    public long sizeAsLong() {
+        if (!sized) {
+            long n = 0L;
+            ConsList<E> cons = this;
+            while (cons instanceof LazyConsList && !((LazyConsList<E>) cons).sized) {
+                n++;
+                cons = cons.tail();
+            }
+            size = n + cons.sizeAsLong();
+            sized = true;
+        }
+        return size;
+    }
+
+    /**
+     * Returns an iterator which computes each tail only when the element after it is requested.
+     */
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        return new LazyIterator<>(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @NonNull
+    @Override
+    public <R> ConsList<R> map(@NonNull Function<? super E, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, ConsUtil.MSG_MAPPER_IS_NULL);
+        return new LazyConsList<>(mapper.apply(head), () -> tail().map(mapper));
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> filter(@NonNull Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, ConsUtil.MSG_PREDICATE_IS_NULL);
+        return filter(this, predicate);
+    }
+
+    /**
+     * Computes the nodes up to the first matching element and defers filtering the rest.
+     */
+    private static <E> ConsList<E> filter(ConsList<E> list, Predicate<? super E> predicate) {
+        ConsList<E> cons = list;
+        while (cons instanceof LazyConsList) {
+            LazyConsList<E> node = (LazyConsList<E>) cons;
+            if (predicate.test(node.head)) {
+                return new LazyConsList<>(node.head, () -> filter(node.tail(), predicate));
+            }
+            cons = node.tail();
+        }
+        return cons.filter(predicate);
+    }
+
+    /**
+     * Returns a lazy list of the first <tt>n</tt> elements. The tail of the last one
+     * is not computed.
+     */
+    @NonNull
+    @Override
+    public ConsList<E> take(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n == 0L) {
+            return ConsList.nil();
+        }
+        if (n == 1L) {
+            return new ConsListImpl<>(head, ConsList.nil());
+        }
+        return new LazyConsList<>(head, () -> tail().take(n - 1L));
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, ConsUtil.MSG_PREDICATE_IS_NULL);
+        if (!predicate.test(head)) {
+            return ConsList.nil();
+        }
+        return new LazyConsList<>(head, () -> tail().takeWhile(predicate));
+    }
+
+    @NonNull
+    @Override
+    public ConsList<ConsList<E>> splitAt(long n) {
+        ConsList<E> prefix = take(n);
+        return new LazyConsList<>(prefix, new LazyConsList<>(drop(n), ConsList.nil()));
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> updated(long index, @Nullable E element) {
+        return splice(index, false, suffix -> suffix instanceof LazyConsList
+            ? new LazyConsList<>(element, suffix::tail)
+            : ConsUtil.cons(element, suffix.tail()));
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> insertAt(long index, @Nullable E element) {
+        return splice(index, true, suffix -> ConsUtil.cons(element, suffix));
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> removeAt(long index) {
+        return splice(index, false, ConsList::tail);
+    }
+
+    /**
+     * Computes the nodes of the first <tt>index</tt> elements and prepends lazy copies of them to
+     * the list built by the <tt>replacement</tt> from the rest of this list, which is not computed.
+     *
+     * <p>Throws {@link IndexOutOfBoundsException} if the list ends before the <tt>index</tt>,
+     * or at it unless <tt>atEnd</tt> is allowed.
+     */
+    @NonNull
+    private ConsList<E> splice(long index, boolean atEnd, @NonNull UnaryOperator<ConsList<E>> replacement) {
+        if (index < 0L) {
+            throw new IndexOutOfBoundsException(ConsUtil.MSG_INDEX_OUT_OF_BOUNDS + index);
+        }
+        ConsAppender<E> prefix = new ConsAppender<>();
+        ConsList<E> suffix = this;
+        for (long i = 0L; i < index && suffix != Nil.INSTANCE; i++) {
+            prefix.add(suffix.head());
+            suffix = suffix.tail();
+        }
+        if (prefix.size() < index || suffix == Nil.INSTANCE && !atEnd) {
+            throw new IndexOutOfBoundsException(ConsUtil.MSG_INDEX_OUT_OF_BOUNDS + index);
+        }
+        return prefix.toConsList(replacement.apply(suffix));
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    /**
+     * Computes the hash code defined by {@link List#hashCode()} over the whole list
+     * and caches it.
+     */
+    @Override
+    public final int hashCode() {
+        if (!hashed) {
+            int h = 1;
+            for (E element : this) {
+                h = 31 * h + Objects.hashCode(element);
+            }
+            hash = h;
+            hashed = true;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the string representation of the computed elements, followed by <tt>...</tt>
+     * if the rest of the list has not been computed yet. No tail is computed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        ConsList<E> cons = this;
+        while (cons instanceof LazyConsList) {
+            LazyConsList<E> node = (LazyConsList<E>) cons;
+            if (cons != this) {
+                sb.append(", ");
+            }
+            sb.append(node.head);
+            Object tail = node.next.get();
+            if (!(tail instanceof ConsList)) {
+                return sb.append(", ...]").toString();
+            }
+            cons = (ConsList<E>) tail;
+        }
+        for (E element : cons) {
+            sb.append(", ").append(element);
+        }
+        return sb.append(']').toString();
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    private Object writeReplace() {
+        return new ConsListImpl.SerializationProxy<>(this);
+    }
+
+    /**
+     * Iterator that keeps the node of the last returned element and only computes its tail
+     * in <tt>hasNext()</tt>, so that a lazy source is never read ahead.
+     */
+    private static final class LazyIterator<E> implements Iterator<E> {
+        @NonNull
+        private ConsList<E> cons;
+        private boolean returned;
+
+        LazyIterator(@NonNull ConsList<E> cons) {
+            this.cons = cons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (returned) {
+                cons = cons.tail();
+                returned = false;
+            }
+            return cons != Nil.INSTANCE;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            returned = true;
+            return cons.head();
+        }
+    }
+}
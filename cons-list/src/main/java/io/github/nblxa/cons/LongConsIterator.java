@@ -0,0 +1,80 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterator over a <tt>LongConsList</tt> that reads the array ranges of unrolled nodes and decodes
+ * the deltas of compressed nodes directly instead of creating a tail view for each of their elements.
+ */
+final class LongConsIterator implements PrimitiveIterator.OfLong {
+    private static final long[] NO_ELEMENTS = new long[0];
+    private static final byte[] NO_DELTAS = new byte[0];
+    @NonNull
+    private LongConsList<Long> cons;
+    private long[] elements = NO_ELEMENTS;
+    private int index;
+    private int to;
+    private byte[] deltas = NO_DELTAS;
+    private int pos;
+    private int remaining;
+    private long value;
+
+    LongConsIterator(@NonNull LongConsList<Long> cons) {
+        this.cons = cons;
+    }
+
+    /**
+     * Returns the list of the remaining elements if the iterator is at a node boundary,
+     * or <tt>null</tt> while inside an unrolled or a compressed node.
+     */
+    LongConsList<Long> rest() {
+        return remaining > 0 || index < to ? null : cons;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0 || index < to || cons != Nil.INSTANCE;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index < to) {
+            return elements[index++];
+        }
+        if (remaining > 0) {
+            remaining--;
+            long delta = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = deltas[pos++];
+                delta |= (b & 0x7FL) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += CompressedLongConsListImpl.unzigzag(delta);
+            return value;
+        }
+        if (cons instanceof UnrolledLongConsListImpl) {
+            UnrolledLongConsListImpl node = (UnrolledLongConsListImpl) cons;
+            elements = node.elements();
+            index = node.from();
+            to = node.to();
+            cons = node.next();
+            return elements[index++];
+        }
+        if (cons instanceof CompressedLongConsListImpl) {
+            CompressedLongConsListImpl node = (CompressedLongConsListImpl) cons;
+            deltas = node.deltas();
+            pos = node.offset();
+            remaining = node.length() - 1;
+            value = node.longHead();
+            cons = node.next();
+            return value;
+        }
+        long next = cons.longHead();
+        cons = cons.longTail();
+        return next;
+    }
+}
@@ -1,12 +1,20 @@
 package io.github.nblxa.cons;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
+import java.nio.LongBuffer;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
 import java.util.stream.LongStream;
 
 @Immutable
@@ -63,4 +71,237 @@ public interface LongConsList<E> extends ConsList<E> {
      */
     @NonNull
     LongStream longStream();
+
+    /**
+     * Creates a new possibly parallel primitive-typed stream from this list of type <tt>long</tt>.
+     * @return new possibly parallel primitive-typed stream
+     */
+    @NonNull
+    LongStream parallelLongStream();
+
+    /**
+     * Constructs a new <tt>IntConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order, without boxing.
+     *
+     * @param mapper function to apply to each element
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default IntConsList<Integer> mapToInt(@NonNull LongToIntFunction mapper) {
+        return ConsUtil.mapToInt(this, mapper);
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order, without boxing.
+     *
+     * <p>The longest suffix for which the mapper returns the same values is shared
+     * with this list instead of being copied.
+     *
+     * @param mapper function to apply to each element
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default LongConsList<Long> mapToLong(@NonNull LongUnaryOperator mapper) {
+        return ConsUtil.mapToLong(this, mapper);
+    }
+
+    /**
+     * Constructs a new <tt>DoubleConsList</tt> with the results of applying the <tt>mapper</tt>
+     * to the elements of this list, in the same order, without boxing.
+     *
+     * @param mapper function to apply to each element
+     * @return the list of mapped elements
+     */
+    @NonNull
+    default DoubleConsList<Double> mapToDouble(@NonNull LongToDoubleFunction mapper) {
+        return ConsUtil.mapToDouble(this, mapper);
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> with the elements of this list that match the <tt>predicate</tt>,
+     * in the same order, without boxing.
+     *
+     * <p>The longest suffix of this list in which all elements match is shared instead
+     * of being copied, and if all elements match, this list itself is returned.
+     *
+     * @param predicate predicate telling which elements to keep
+     * @return the list of matching elements
+     */
+    @NonNull
+    default LongConsList<Long> filterLong(@NonNull LongPredicate predicate) {
+        return ConsUtil.filterLong(this, predicate);
+    }
+
+    @NonNull
+    @Override
+    default LongConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default LongConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default LongConsList<E> take(long n) {
+        return ConsUtil.takeLong(this, n);
+    }
+
+    @NonNull
+    @Override
+    default LongConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default LongConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtLong(this, index);
+    }
+
+    @NonNull
+    @Override
+    default LongConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default LongConsList<E> updatedLong(long index, long element) {
+        return ConsUtil.updatedLong(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default LongConsList<E> insertAtLong(long index, long element) {
+        return ConsUtil.insertAtLong(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default LongConsList<E> removeFirstLong(long element) {
+        return ConsUtil.removeFirstLong(this, element);
+    }
+
+    /**
+     * Returns the suffix of this list starting at the first element that does not match
+     * the <tt>predicate</tt>, without copying it and without boxing.
+     *
+     * @param predicate predicate telling which leading elements to drop
+     * @return the list of elements after the longest matching prefix
+     * @see #drop(long)
+     */
+    @NonNull
+    default LongConsList<E> dropWhileLong(@NonNull LongPredicate predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> with the longest prefix of this list in which all elements
+     * match the <tt>predicate</tt>, without boxing, or this list itself if all of them match.
+     *
+     * @param predicate predicate telling which leading elements to take
+     * @return the list of the leading matching elements
+     * @see #take(long)
+     */
+    @NonNull
+    default LongConsList<E> takeWhileLong(@NonNull LongPredicate predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    /**
+     * Returns a <tt>LongConsList</tt> with the elements of this list in ascending order,
+     * or this list itself if it has already been sorted.
+     *
+     * <p>The elements are sorted without boxing by a least significant digit radix sort,
+     * which takes linear time and skips the bytes that are the same in all elements.
+     *
+     * @return the sorted list
+     */
+    @NonNull
+    default LongConsList<Long> sortedLongs() {
+        return ConsSort.sortedLongs(this);
+    }
+
+    /**
+     * Combines the elements of this list from the first one to the last one without boxing:
+     * the <tt>operator</tt> is applied to the <tt>identity</tt> and the first element, then to
+     * that result and the second element, and so on.
+     *
+     * @param identity initial value, returned if the list is empty
+     * @param operator function combining the accumulated value with the next element
+     * @return the accumulated value
+     */
+    default long foldLong(long identity, @NonNull LongBinaryOperator operator) {
+        return ConsUtil.foldLong(this, identity, operator);
+    }
+
+    /**
+     * Constructs a new <tt>LongConsList</tt> with the results of applying the <tt>zipper</tt> to the
+     * elements of this and the <tt>other</tt> list at the same positions, without boxing. The result
+     * has as many elements as the shorter of the lists.
+     *
+     * <p>The list is built front to back in a single pass, without reversing it.
+     *
+     * @param other  the other list, not nullable
+     * @param zipper function combining the elements at the same position
+     * @return the list of the combined elements
+     */
+    @NonNull
+    default LongConsList<Long> zipLongs(@NonNull LongConsList<?> other, @NonNull LongBinaryOperator zipper) {
+        return ConsUtil.zipLongs(this, other, zipper);
+    }
+
+    /**
+     * Returns a new <tt>long</tt> array with the elements of this list, in the same order,
+     * without boxing.
+     *
+     * @return a new array of the elements
+     */
+    @NonNull
+    default long[] toLongArray() {
+        return ConsUtil.toLongArray(this);
+    }
+
+    /**
+     * Writes the elements of this list into the <tt>buffer</tt> starting at its current position,
+     * without boxing, and advances the position past them.
+     *
+     * <p>Throws {@link java.nio.BufferOverflowException} without writing anything if the buffer
+     * has fewer elements remaining than this list.
+     *
+     * @param buffer buffer to write into, not nullable
+     * @return the buffer
+     */
+    @NonNull
+    default LongBuffer copyInto(@NonNull LongBuffer buffer) {
+        return ConsUtil.copyInto(this, buffer);
+    }
 }
@@ -20,10 +20,14 @@ public final class LongConsListImpl extends AbstractCollection<Long>
     private final long head;
     @NonNull
     private final LongConsList<Long> tail;
+    private final long size;
+    private final int hash;
 
     LongConsListImpl(long head, @NonNull LongConsList<Long> tail) {
         this.head = head;
         this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Long.hashCode(head), tail);
     }
 
     @Override
@@ -74,12 +78,11 @@ public final class LongConsListImpl extends AbstractCollection<Long>
 
     @Override
     public int size() {
-        int size = ConsUtil.EMPTY_SIZE;
-        LongConsList<Long> cons = this;
-        while (cons != Nil.INSTANCE && size != Integer.MAX_VALUE) {
-            size++;
-            cons = cons.longTail();
-        }
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
         return size;
     }
 
@@ -104,7 +107,7 @@ public final class LongConsListImpl extends AbstractCollection<Long>
     @NonNull
     @Override
     public Spliterator.OfLong longSpliterator() {
-        return Spliterators.spliteratorUnknownSize(longIterator(), ConsUtil.SPLITERATOR_CHARACTERISTICS);
+        return new LongConsSpliterator(this);
     }
 
     @NonNull
@@ -113,6 +116,12 @@ public final class LongConsListImpl extends AbstractCollection<Long>
         return StreamSupport.longStream(longSpliterator(), false);
     }
 
+    @NonNull
+    @Override
+    public LongStream parallelLongStream() {
+        return StreamSupport.longStream(longSpliterator(), true);
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) {
@@ -129,34 +138,7 @@ public final class LongConsListImpl extends AbstractCollection<Long>
 
     @Override
     public final int hashCode() {
-        int result = 1;
-        LongConsList<Long> cons = this;
-        while (cons != Nil.INSTANCE) {
-            long h = cons.longHead();
-            result = 31 * result + Long.hashCode(h);
-            cons = cons.longTail();
-        }
-        return result;
-    }
-
-    private static final class LongConsIterator implements PrimitiveIterator.OfLong {
-        private LongConsList<Long> cons;
-
-        private LongConsIterator(LongConsList<Long> cons) {
-            this.cons = cons;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return cons != Nil.INSTANCE;
-        }
-
-        @Override
-        public long nextLong() {
-            long next = cons.longHead();
-            cons = cons.longTail();
-            return next;
-        }
+        return hash;
     }
 
     private Object writeReplace() {
@@ -175,11 +157,11 @@ public final class LongConsListImpl extends AbstractCollection<Long>
      *
      * @serial
      */
-    private static final class SerializationProxy implements Serializable {
+    static final class SerializationProxy implements Serializable {
         private static final long serialVersionUID = -5079309550033277177L;
         private transient LongConsList<Long> list;
 
-        private SerializationProxy(LongConsList<Long> list) {
+        SerializationProxy(LongConsList<Long> list) {
             this.list = list;
         }
 
@@ -197,11 +179,10 @@ public final class LongConsListImpl extends AbstractCollection<Long>
          */
         private void writeObject(ObjectOutputStream out) throws IOException {
             LongConsList<Long> reversed = ConsList.nil();
-            LongConsList<Long> cons = list;
+            PrimitiveIterator.OfLong elements = list.longIterator();
             long length = 0L;
-            while (cons != Nil.INSTANCE) {
-                reversed = new LongConsListImpl(cons.longHead(), reversed);
-                cons = cons.longTail();
+            while (elements.hasNext()) {
+                reversed = new LongConsListImpl(elements.nextLong(), reversed);
                 length++; // Can overflow but it is very unpractical to check.
             }
             out.writeLong(length);
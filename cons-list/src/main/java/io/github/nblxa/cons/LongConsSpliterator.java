@@ -0,0 +1,70 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+
+/**
+ * Splitting primitive-typed spliterator over a <tt>LongConsList</tt> of known length.
+ *
+ * <p>Works like {@link ConsSpliterator}: batches of growing size are copied into
+ * <tt>long</tt> arrays without boxing.
+ */
+final class LongConsSpliterator implements Spliterator.OfLong {
+    static final int CHARACTERISTICS = ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS
+        | Spliterator.SIZED | Spliterator.SUBSIZED;
+    @NonNull
+    private final PrimitiveIterator.OfLong iter;
+    private long est;
+    private int batch;
+
+    LongConsSpliterator(@NonNull LongConsList<?> list) {
+        this.iter = list.longIterator();
+        this.est = list.sizeAsLong();
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        long s = est;
+        if (s > 1L) {
+            int n = (int) Math.min(Math.min(batch + (long) ConsSpliterator.BATCH_UNIT, s), ConsSpliterator.MAX_BATCH);
+            long[] a = new long[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = iter.nextLong();
+            }
+            batch = n;
+            est = s - n;
+            return Spliterators.spliterator(a, 0, n, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (est > 0L) {
+            est--;
+            action.accept(iter.nextLong());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        est = 0L;
+        iter.forEachRemaining(action);
+    }
+
+    @Override
+    public long estimateSize() {
+        return est;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -1,11 +1,13 @@
 package io.github.nblxa.cons;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -16,7 +18,10 @@ import java.util.stream.LongStream;
 @Immutable
 @ThreadSafe
 public final class Nil<E> extends AbstractCollection<E>
-                   implements ConsList<E>, IntConsList<E>, LongConsList<E>, DoubleConsList<E>, Serializable {
+                   implements ConsList<E>, IntConsList<E>, LongConsList<E>, DoubleConsList<E>,
+                              FloatConsList<E>, ShortConsList<E>, ByteConsList<E>, CharConsList<E>,
+                              BooleanConsList<E>,
+                              Serializable {
     private static final long serialVersionUID = -4298182790270344441L;
     static final Nil<?> INSTANCE = new Nil<>();
 
@@ -44,6 +49,47 @@ public final class Nil<E> extends AbstractCollection<E>
         return this;
     }
 
+    @NonNull
+    @Override
+    public Nil<E> drop(long n) {
+        ConsUtil.requireNotNegative(n);
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public Nil<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, ConsUtil.MSG_PREDICATE_IS_NULL);
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public Nil<E> take(long n) {
+        ConsUtil.requireNotNegative(n);
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public Nil<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, ConsUtil.MSG_PREDICATE_IS_NULL);
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public Nil<E> removeAt(long index) {
+        ConsUtil.checkIndex(index, 0L);
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public Nil<E> removeFirst(@Nullable Object o) {
+        return this;
+    }
+
     @Override
     public int intHead() {
         throw new NoSuchElementException();
@@ -89,6 +135,12 @@ public final class Nil<E> extends AbstractCollection<E>
         return IntStream.empty();
     }
 
+    @NonNull
+    @Override
+    public IntStream parallelIntStream() {
+        return IntStream.empty().parallel();
+    }
+
     @Override
     public long longHead() {
         throw new NoSuchElementException();
@@ -134,6 +186,12 @@ public final class Nil<E> extends AbstractCollection<E>
         return LongStream.empty();
     }
 
+    @NonNull
+    @Override
+    public LongStream parallelLongStream() {
+        return LongStream.empty().parallel();
+    }
+
     @Override
     public double doubleHead() {
         throw new NoSuchElementException();
@@ -179,6 +237,259 @@ public final class Nil<E> extends AbstractCollection<E>
         return DoubleStream.empty();
     }
 
+    @NonNull
+    @Override
+    public DoubleStream parallelDoubleStream() {
+        return DoubleStream.empty().parallel();
+    }
+
+    @Override
+    public float floatHead() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public FloatConsList<E> floatTail() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public FloatConsList<E> floatReverse() {
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public FloatIterator floatIterator() {
+        return new FloatIterator() {
+            @Override
+            public float nextFloat() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfDouble floatSpliterator() {
+        return Spliterators.emptyDoubleSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream floatStream() {
+        return DoubleStream.empty();
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream parallelFloatStream() {
+        return DoubleStream.empty().parallel();
+    }
+
+    @Override
+    public short shortHead() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public ShortConsList<E> shortTail() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public ShortConsList<E> shortReverse() {
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public ShortIterator shortIterator() {
+        return new ShortIterator() {
+            @Override
+            public short nextShort() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt shortSpliterator() {
+        return Spliterators.emptyIntSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public IntStream shortStream() {
+        return IntStream.empty();
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelShortStream() {
+        return IntStream.empty().parallel();
+    }
+
+    @Override
+    public byte byteHead() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public ByteConsList<E> byteTail() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public ByteConsList<E> byteReverse() {
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public ByteIterator byteIterator() {
+        return new ByteIterator() {
+            @Override
+            public byte nextByte() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt byteSpliterator() {
+        return Spliterators.emptyIntSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public IntStream byteStream() {
+        return IntStream.empty();
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelByteStream() {
+        return IntStream.empty().parallel();
+    }
+
+    @Override
+    public char charHead() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public CharConsList<E> charTail() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public CharConsList<E> charReverse() {
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public CharIterator charIterator() {
+        return new CharIterator() {
+            @Override
+            public char nextChar() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt charSpliterator() {
+        return Spliterators.emptyIntSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public IntStream charStream() {
+        return IntStream.empty();
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelCharStream() {
+        return IntStream.empty().parallel();
+    }
+
+    @Override
+    public boolean booleanHead() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public BooleanConsList<E> booleanTail() {
+        throw new NoSuchElementException();
+    }
+
+    @NonNull
+    @Override
+    public BooleanConsList<E> booleanReverse() {
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public BooleanIterator booleanIterator() {
+        return new BooleanIterator() {
+            @Override
+            public boolean nextBoolean() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public long popCount() {
+        return 0L;
+    }
+
+    @Override
+    public boolean anyMatch(boolean value) {
+        return false;
+    }
+
     @Override
     public boolean isEmpty() {
         return true;
@@ -189,6 +500,11 @@ public final class Nil<E> extends AbstractCollection<E>
         return 0;
     }
 
+    @Override
+    public long sizeAsLong() {
+        return 0L;
+    }
+
     @NonNull
     @Override
     public Iterator<E> iterator() {
@@ -0,0 +1,319 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Virtual <tt>IntConsList</tt> of an arithmetic progression: <tt>length</tt> elements starting
+ * with <tt>start</tt>, each one <tt>step</tt> greater than the previous one.
+ *
+ * <p>The elements are not stored but computed when accessed, so the list takes constant memory.
+ * The tail is a new view of the same progression. Iterators, spliterators, <tt>contains</tt>,
+ * <tt>take</tt>, <tt>drop</tt> and reversing compute the elements without creating any nodes.
+ *
+ * <p>The hash code is computed in the constructor in <tt>O(log length)</tt> time, because the
+ * hash codes of the elements form an arithmetic progression too.
+ */
+@Immutable
+@ThreadSafe
+public final class RangeIntConsListImpl extends AbstractCollection<Integer>
+                      implements IntConsList<Integer>, Serializable {
+    private static final long serialVersionUID = -6305617436735186012L;
+    private final int start;
+    private final int step;
+    private final long length;
+    private final int hash;
+
+    RangeIntConsListImpl(int start, int step, long length) {
+        this.start = start;
+        this.step = step;
+        this.length = length;
+        this.hash = ConsUtil.progressionHash(start, step, length);
+    }
+
+    /**
+     * Returns the list of the values from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive,
+     * with the non-zero <tt>step</tt> between them.
+     */
+    @NonNull
+    static IntConsList<Integer> range(int from, int to, int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException(ConsUtil.MSG_STEP_IS_ZERO);
+        }
+        long distance = step > 0 ? (long) to - from : (long) from - to;
+        if (distance <= 0L) {
+            return ConsList.nil();
+        }
+        return new RangeIntConsListImpl(from, step, (distance - 1L) / Math.abs((long) step) + 1L);
+    }
+
+    private int get(long index) {
+        return start + (int) index * step;
+    }
+
+    @Override
+    public int intHead() {
+        return start;
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> intTail() {
+        return drop(1L);
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> intReverse() {
+        return length == 1L ? this : new RangeIntConsListImpl(get(length - 1L), -step, length);
+    }
+
+    @NonNull
+    @Override
+    public Integer head() {
+        return start;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Integer> tail() {
+        return intTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Integer> reverse() {
+        return intReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(length);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return length;
+    }
+
+    /**
+     * Checks in constant time whether the value is one of the elements: its unsigned distance
+     * from <tt>start</tt> in the direction of the <tt>step</tt> must be a multiple of the step
+     * shorter than the range.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Integer)) {
+            return false;
+        }
+        int value = (Integer) o;
+        long distance = (step > 0 ? value - start : start - value) & 0xFFFFFFFFL;
+        long stride = Math.abs((long) step);
+        return distance % stride == 0L && distance / stride < length;
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> drop(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n == 0L) {
+            return this;
+        }
+        if (n >= length) {
+            return ConsList.nil();
+        }
+        return new RangeIntConsListImpl(get(n), step, length - n);
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> take(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n >= length) {
+            return this;
+        }
+        if (n == 0L) {
+            return ConsList.nil();
+        }
+        return new RangeIntConsListImpl(start, step, n);
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> sortedInts() {
+        return step > 0 ? this : intReverse();
+    }
+
+    @NonNull
+    @Override
+    public int[] toIntArray() {
+        int[] array = new int[ConsUtil.arrayLength(length)];
+        int value = start;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+            value += step;
+        }
+        return array;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Integer> iterator() {
+        return intIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return intSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return Spliterators.iterator(intSpliterator());
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt intSpliterator() {
+        return new RangeSpliterator(0L, length);
+    }
+
+    @NonNull
+    @Override
+    public IntStream intStream() {
+        return StreamSupport.intStream(intSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(intSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof RangeIntConsListImpl) {
+            RangeIntConsListImpl other = (RangeIntConsListImpl) o;
+            return length == other.length && start == other.start && (length == 1L || step == other.step);
+        }
+        if (o instanceof IntConsList) {
+            return ConsUtil.haveEqualElements(this, (IntConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Spliterator over the elements with indices <tt>[index, end)</tt>, split into halves.
+     */
+    private final class RangeSpliterator implements Spliterator.OfInt {
+        private long index;
+        private final long end;
+
+        private RangeSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(@NonNull IntConsumer action) {
+            Objects.requireNonNull(action);
+            if (index < end) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(@NonNull IntConsumer action) {
+            Objects.requireNonNull(action);
+            int value = get(index);
+            for (; index < end; index++) {
+                action.accept(value);
+                value += step;
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            long mid = index + (end - index) / 2L;
+            if (mid == index) {
+                return null;
+            }
+            Spliterator.OfInt prefix = new RangeSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Serialization proxy pattern: the progression is written as its first element,
+     * step and length.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 2806532981934474719L;
+        private final int start;
+        private final int step;
+        private final long length;
+
+        private SerializationProxy(RangeIntConsListImpl list) {
+            this.start = list.start;
+            this.step = list.step;
+            this.length = list.length;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return new RangeIntConsListImpl(start, step, length);
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Virtual <tt>LongConsList</tt> of an arithmetic progression: <tt>length</tt> elements starting
+ * with <tt>start</tt>, each one <tt>step</tt> greater than the previous one.
+ *
+ * <p>The elements are not stored but computed when accessed, so the list takes constant memory.
+ * The tail is a new view of the same progression. Iterators, spliterators, <tt>contains</tt>,
+ * <tt>take</tt>, <tt>drop</tt> and reversing compute the elements without creating any nodes.
+ *
+ * <p>The hash code is computed on first use and cached. The hash code of a <tt>long</tt> value
+ * is the XOR of its upper and lower halves, so the hash codes of the elements from <tt>0</tt>
+ * to <tt>2^32 - 1</tt> and from <tt>-2^32</tt> to <tt>-1</tt> form progressions, whose part of the hash
+ * code is computed in <tt>O(log length)</tt> time. The elements outside these bounds are hashed one
+ * by one, so strictly consing onto or concatenating with long ranges of large values takes time
+ * proportional to their length. Comparing the list with other <tt>LongConsList</tt>s does not
+ * need the hash code.
+ */
+@Immutable
+@ThreadSafe
+public final class RangeLongConsListImpl extends AbstractCollection<Long>
+                      implements LongConsList<Long>, Serializable {
+    private static final long serialVersionUID = 7427063170587243907L;
+    private final long start;
+    private final long step;
+    private final long length;
+    private transient int hash;
+    private transient volatile boolean hashed;
+
+    RangeLongConsListImpl(long start, long step, long length) {
+        this.start = start;
+        this.step = step;
+        this.length = length;
+    }
+
+    /**
+     * Constructs a progression with a known hash code.
+     */
+    private RangeLongConsListImpl(long start, long step, long length, int hash) {
+        this.start = start;
+        this.step = step;
+        this.length = length;
+        this.hash = hash;
+        this.hashed = true;
+    }
+
+    /**
+     * Returns the list of the values from <tt>from</tt>, inclusive, to <tt>to</tt>, exclusive,
+     * with the non-zero <tt>step</tt> between them.
+     */
+    @NonNull
+    static LongConsList<Long> range(long from, long to, long step) {
+        if (step == 0L) {
+            throw new IllegalArgumentException(ConsUtil.MSG_STEP_IS_ZERO);
+        }
+        if (step > 0L ? from >= to : from <= to) {
+            return ConsList.nil();
+        }
+        long distance = step > 0L ? to - from : from - to;
+        long length = Long.divideUnsigned(distance - 1L, stride(step)) + 1L;
+        if (length <= 0L) {
+            throw new IllegalArgumentException(ConsUtil.MSG_RANGE_TOO_LONG);
+        }
+        return new RangeLongConsListImpl(from, step, length);
+    }
+
+    /**
+     * Returns the unsigned magnitude of the step, which is <tt>2^63</tt> for <tt>Long.MIN_VALUE</tt>.
+     */
+    private static long stride(long step) {
+        return step > 0L ? step : -step;
+    }
+
+    private long get(long index) {
+        return start + index * step;
+    }
+
+    @Override
+    public long longHead() {
+        return start;
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> longTail() {
+        return drop(1L);
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> longReverse() {
+        return length == 1L ? this : new RangeLongConsListImpl(get(length - 1L), -step, length);
+    }
+
+    @NonNull
+    @Override
+    public Long head() {
+        return start;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Long> tail() {
+        return longTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Long> reverse() {
+        return longReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(length);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return length;
+    }
+
+    /**
+     * Checks in constant time whether the value is one of the elements: its unsigned distance
+     * from <tt>start</tt> in the direction of the <tt>step</tt> must be a multiple of the step
+     * shorter than the range.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Long)) {
+            return false;
+        }
+        long value = (Long) o;
+        long distance = step > 0L ? value - start : start - value;
+        long stride = stride(step);
+        return Long.remainderUnsigned(distance, stride) == 0L
+            && Long.compareUnsigned(Long.divideUnsigned(distance, stride), length) < 0;
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> drop(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n == 0L) {
+            return this;
+        }
+        if (n >= length) {
+            return ConsList.nil();
+        }
+        if (n == 1L && hashed) {
+            return new RangeLongConsListImpl(get(1L), step, length - 1L,
+                ConsUtil.tailHash(hash, Long.hashCode(start), length - 1L));
+        }
+        return new RangeLongConsListImpl(get(n), step, length - n);
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> take(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n >= length) {
+            return this;
+        }
+        if (n == 0L) {
+            return ConsList.nil();
+        }
+        return new RangeLongConsListImpl(start, step, n);
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> sortedLongs() {
+        return step > 0L ? this : longReverse();
+    }
+
+    @NonNull
+    @Override
+    public long[] toLongArray() {
+        long[] array = new long[ConsUtil.arrayLength(length)];
+        long value = start;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+            value += step;
+        }
+        return array;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Long> iterator() {
+        return longIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Long> spliterator() {
+        return longSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfLong longIterator() {
+        return Spliterators.iterator(longSpliterator());
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfLong longSpliterator() {
+        return new RangeSpliterator(0L, length);
+    }
+
+    @NonNull
+    @Override
+    public LongStream longStream() {
+        return StreamSupport.longStream(longSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public LongStream parallelLongStream() {
+        return StreamSupport.longStream(longSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof RangeLongConsListImpl) {
+            RangeLongConsListImpl other = (RangeLongConsListImpl) o;
+            return length == other.length && start == other.start && (length == 1L || step == other.step);
+        }
+        if (o instanceof LongConsList) {
+            return ConsUtil.haveEqualElements(this, (LongConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    /**
+     * Computes the hash code defined by {@link List#hashCode()} on first use and caches it.
+     */
+    @Override
+    public final int hashCode() {
+        if (!hashed) {
+            hash = computeHash();
+            hashed = true;
+        }
+        return hash;
+    }
+
+    /**
+     * Adds up the hash codes of the runs of elements whose upper halves are all <tt>0</tt>
+     * or all <tt>-1</tt>, computed by {@link ConsUtil#progressionHash}, and of the other elements.
+     * The hash code of a list is <tt>31^n</tt> plus the sum of the element hash codes, each
+     * multiplied by <tt>31</tt> to the power of the number of the elements after it.
+     */
+    private int computeHash() {
+        long stride = stride(step);
+        int sum = 0;
+        long i = 0L;
+        while (i < length) {
+            long value = get(i);
+            long upper = value >> 32;
+            if (upper == 0L || upper == -1L) {
+                long room = step > 0L ? (upper << 32 | 0xFFFFFFFFL) - value : value - (upper << 32);
+                long run = Math.min(length - i, Long.divideUnsigned(room, stride) + 1L);
+                int first = (int) value;
+                int delta = (int) step;
+                if (upper != 0L) {
+                    first = ~first;
+                    delta = -delta;
+                }
+                sum = sum * ConsUtil.pow31(run) + ConsUtil.progressionHash(first, delta, run) - ConsUtil.pow31(run);
+                i += run;
+            } else {
+                sum = 31 * sum + Long.hashCode(value);
+                i++;
+            }
+        }
+        return ConsUtil.pow31(length) + sum;
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Spliterator over the elements with indices <tt>[index, end)</tt>, split into halves.
+     */
+    private final class RangeSpliterator implements Spliterator.OfLong {
+        private long index;
+        private final long end;
+
+        private RangeSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(@NonNull LongConsumer action) {
+            Objects.requireNonNull(action);
+            if (index < end) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(@NonNull LongConsumer action) {
+            Objects.requireNonNull(action);
+            long value = get(index);
+            for (; index < end; index++) {
+                action.accept(value);
+                value += step;
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long mid = index + (end - index) / 2L;
+            if (mid == index) {
+                return null;
+            }
+            Spliterator.OfLong prefix = new RangeSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Serialization proxy pattern: the progression is written as its first element,
+     * step and length.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = -3857260937125814322L;
+        private final long start;
+        private final long step;
+        private final long length;
+
+        private SerializationProxy(RangeLongConsListImpl list) {
+            this.start = list.start;
+            this.step = list.step;
+            this.length = list.length;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return new RangeLongConsListImpl(start, step, length);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Virtual <tt>ConsList</tt> of the same element repeated <tt>length</tt> times.
+ *
+ * <p>The element is stored once, so the list takes constant memory. The tail is a new view
+ * with one repetition less. Iterators, spliterators, <tt>contains</tt>, <tt>take</tt>,
+ * <tt>drop</tt> and reversing do not create any nodes.
+ *
+ * @param <E> element type
+ */
+@Immutable
+@ThreadSafe
+public final class RepeatConsListImpl<E> extends AbstractCollection<E> implements ConsList<E>, Serializable {
+    private static final long serialVersionUID = 4416096385702839527L;
+    private final E element;
+    private final long length;
+    private final int hash;
+
+    RepeatConsListImpl(E element, long length) {
+        this.element = element;
+        this.length = length;
+        this.hash = ConsUtil.progressionHash(Objects.hashCode(element), 0, length);
+    }
+
+    @NonNull
+    static <E> ConsList<E> repeat(E element, long n) {
+        ConsUtil.requireNotNegative(n);
+        return n == 0L ? ConsList.nil() : new RepeatConsListImpl<>(element, n);
+    }
+
+    @Override
+    public E head() {
+        return element;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> tail() {
+        return drop(1L);
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> reverse() {
+        return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(length);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return Objects.equals(element, o);
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> drop(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n == 0L) {
+            return this;
+        }
+        return n >= length ? ConsList.nil() : new RepeatConsListImpl<>(element, length - n);
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> take(long n) {
+        ConsUtil.requireNotNegative(n);
+        if (n >= length) {
+            return this;
+        }
+        return n == 0L ? ConsList.nil() : new RepeatConsListImpl<>(element, n);
+    }
+
+    @NonNull
+    @Override
+    public ConsList<E> distinct() {
+        return take(1L);
+    }
+
+    @NonNull
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[ConsUtil.arrayLength(length)];
+        Arrays.fill(array, element);
+        return array;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<E> spliterator() {
+        return new RepeatSpliterator(length);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof RepeatConsListImpl) {
+            RepeatConsListImpl<?> other = (RepeatConsListImpl<?>) o;
+            return length == other.length && Objects.equals(element, other.element);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy<>(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Spliterator over the given number of repetitions, split into halves.
+     */
+    private final class RepeatSpliterator implements Spliterator<E> {
+        private long remaining;
+
+        private RepeatSpliterator(long remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(@NonNull Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (remaining > 0L) {
+                remaining--;
+                action.accept(element);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(@NonNull Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            for (; remaining > 0L; remaining--) {
+                action.accept(element);
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            long half = remaining / 2L;
+            if (half == 0L) {
+                return null;
+            }
+            remaining -= half;
+            return new RepeatSpliterator(half);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ConsUtil.SPLITERATOR_CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Serialization proxy pattern: the list is written as its element and the number of repetitions.
+     *
+     * @param <E> element type
+     * @serial
+     */
+    private static final class SerializationProxy<E> implements Serializable {
+        private static final long serialVersionUID = -1532862458907740631L;
+        private final E element;
+        private final long length;
+
+        private SerializationProxy(RepeatConsListImpl<E> list) {
+            this.element = list.element;
+            this.length = list.length;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return new RepeatConsListImpl<>(element, length);
+        }
+    }
+}
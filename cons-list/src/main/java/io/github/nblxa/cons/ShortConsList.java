@@ -0,0 +1,176 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+@Immutable
+@ThreadSafe
+public interface ShortConsList<E> extends ConsList<E> {
+
+    /**
+     * Returns the first element of the <tt>ShortConsList</tt> as <tt>short</tt> primitive type.
+     *
+     * This method ensures no primitive boxing is taking place.
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return first element of the list
+     */
+    short shortHead();
+
+    /**
+     * Returns another <tt>ShortConsList</tt> containing the current list's elements
+     * after the first one.
+     *
+     * <p>Throws {@link NoSuchElementException} if the list is empty.
+     *
+     * @return elements of the list after the first one
+     */
+    @NonNull
+    ShortConsList<E> shortTail();
+
+    /**
+     * Constructs a new <tt>ShortConsList</tt> with the elements of the current one
+     * in the reverse order.
+     *
+     * @return new list with elements in reversed order
+     */
+    @NonNull
+    ShortConsList<E> shortReverse();
+
+    /**
+     * Creates a new primitive-typed iterator for this list of type <tt>short</tt>.
+     * @return new primitive-typed iterator
+     */
+    @NonNull
+    ShortIterator shortIterator();
+
+    /**
+     * Creates a new primitive-typed spliterator for this list, widening the elements
+     * of type <tt>short</tt> to <tt>int</tt>.
+     * @return new primitive-typed spliterator
+     */
+    @NonNull
+    Spliterator.OfInt shortSpliterator();
+
+    /**
+     * Creates a new primitive-typed stream from this list, widening the elements
+     * of type <tt>short</tt> to <tt>int</tt>.
+     * @return new primitive-typed stream
+     */
+    @NonNull
+    IntStream shortStream();
+
+    /**
+     * Creates a new possibly parallel primitive-typed stream from this list, widening the elements
+     * of type <tt>short</tt> to <tt>int</tt>.
+     * @return new possibly parallel primitive-typed stream
+     */
+    @NonNull
+    IntStream parallelShortStream();
+
+    @NonNull
+    @Override
+    default ShortConsList<E> drop(long n) {
+        return ConsUtil.drop(this, n);
+    }
+
+    @NonNull
+    @Override
+    default ShortConsList<E> dropWhile(@NonNull Predicate<? super E> predicate) {
+        return drop(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default ShortConsList<E> take(long n) {
+        return ConsUtil.takeShort(this, n);
+    }
+
+    @NonNull
+    @Override
+    default ShortConsList<E> takeWhile(@NonNull Predicate<? super E> predicate) {
+        return take(ConsUtil.prefixLength(this, predicate));
+    }
+
+    @NonNull
+    @Override
+    default ShortConsList<E> removeAt(long index) {
+        return ConsUtil.removeAtShort(this, index);
+    }
+
+    @NonNull
+    @Override
+    default ShortConsList<E> removeFirst(@Nullable Object o) {
+        return ConsUtil.removeFirst(this, o);
+    }
+
+    /**
+     * Returns a <tt>ShortConsList</tt> with the element at the <tt>index</tt> replaced by the given one,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index of the element to replace
+     * @param element new element
+     * @return the list with the element replaced
+     * @see #updated(long, Object)
+     */
+    @NonNull
+    default ShortConsList<E> updatedShort(long index, short element) {
+        return ConsUtil.updatedShort(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>ShortConsList</tt> with the given element inserted at the <tt>index</tt>,
+     * copying only the elements before it, without boxing, and sharing the rest of this list.
+     *
+     * @param index   index at which the element is inserted
+     * @param element new element
+     * @return the list with the element inserted
+     * @see #insertAt(long, Object)
+     */
+    @NonNull
+    default ShortConsList<E> insertAtShort(long index, short element) {
+        return ConsUtil.insertAtShort(this, index, element);
+    }
+
+    /**
+     * Returns a <tt>ShortConsList</tt> without the first occurrence of the given element, found and
+     * copied without boxing, or this list itself if it does not contain the element.
+     *
+     * @param element element to remove
+     * @return the list without the first occurrence of the element
+     * @see #removeFirst(Object)
+     */
+    @NonNull
+    default ShortConsList<E> removeFirstShort(short element) {
+        return ConsUtil.removeFirstShort(this, element);
+    }
+
+    /**
+     * Iterator over the elements of a <tt>ShortConsList</tt> returning them
+     * as <tt>short</tt> primitive type.
+     */
+    interface ShortIterator extends Iterator<Short> {
+
+        /**
+         * Returns the next element of the iteration as <tt>short</tt> primitive type.
+         *
+         * <p>Throws {@link NoSuchElementException} if the iteration has no more elements.
+         *
+         * @return the next element
+         */
+        short nextShort();
+
+        @Override
+        default Short next() {
+            return nextShort();
+        }
+    }
+}
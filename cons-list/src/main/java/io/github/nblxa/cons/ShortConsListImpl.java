@@ -0,0 +1,255 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+@Immutable
+@ThreadSafe
+public final class ShortConsListImpl extends AbstractCollection<Short>
+                      implements ShortConsList<Short>, Serializable {
+    private static final long serialVersionUID = 8120539872155903421L;
+    private final short head;
+    @NonNull
+    private final ShortConsList<Short> tail;
+    private final long size;
+    private final int hash;
+
+    ShortConsListImpl(short head, @NonNull ShortConsList<Short> tail) {
+        this.head = head;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + 1L;
+        this.hash = ConsUtil.consHash(Short.hashCode(head), tail);
+    }
+
+    @Override
+    public short shortHead() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ShortConsList<Short> shortTail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public ShortConsList<Short> shortReverse() {
+        ShortConsList<Short> result = ConsList.nil();
+        ShortConsList<Short> cons = this;
+        while (cons != Nil.INSTANCE) {
+            result = new ShortConsListImpl(cons.shortHead(), result);
+            cons = cons.shortTail();
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public Short head() {
+        return head;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Short> tail() {
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Short> reverse() {
+        return shortReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Short> iterator() {
+        return shortIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Short> spliterator() {
+        return Spliterators.spliterator(iterator(), size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public ShortIterator shortIterator() {
+        return new ShortConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt shortSpliterator() {
+        ShortIterator iter = shortIterator();
+        PrimitiveIterator.OfInt widening = new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return iter.nextShort();
+            }
+        };
+        return Spliterators.spliterator(widening, size, ConsUtil.PRIMITIVE_SPLITERATOR_CHARACTERISTICS);
+    }
+
+    @NonNull
+    @Override
+    public IntStream shortStream() {
+        return StreamSupport.intStream(shortSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelShortStream() {
+        return StreamSupport.intStream(shortSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ShortConsList) {
+            return ConsUtil.haveEqualElements(this, (ShortConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private static final class ShortConsIterator implements ShortIterator {
+        private ShortConsList<Short> cons;
+
+        private ShortConsIterator(ShortConsList<Short> cons) {
+            this.cons = cons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cons != Nil.INSTANCE;
+        }
+
+        @Override
+        public short nextShort() {
+            short next = cons.shortHead();
+            cons = cons.shortTail();
+            return next;
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    /**
+     * Serialization proxy pattern.
+     *
+     * This makes sure instances of the ShortConsListImpl class only get created by constructors,
+     * and its fields can be made final.
+     *
+     * @serial
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = -1947317160218838426L;
+        private transient ShortConsList<Short> list;
+
+        private SerializationProxy(ShortConsList<Short> list) {
+            this.list = list;
+        }
+
+        /**
+         * Serialization to an ObjectOutputStream is implemented non-recursively in order
+         * to avoid the {@link StackOverflowError} on long lists.
+         * <p>
+         * ConsList implementations are reversed before serializing. This way, one particular
+         * use case of serialization is optimized: write-once, read-many. For instance, this could be
+         * serialization on disk in order to save application state that can be restored multiple times.
+         * <p>
+         * The elements are written as raw <tt>short</tt> values, preceded by the list length.
+         */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            ShortConsList<Short> reversed = list.shortReverse();
+            long length = list.sizeAsLong();
+            out.writeLong(length);
+            long pos = 0L;
+            ShortIterator iter = reversed.shortIterator();
+            while (iter.hasNext()) {
+                short elem = iter.nextShort();
+                try {
+                    out.writeShort(elem);
+                    pos++;
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not serialize element at 0-based position: " +
+                            (length - pos - 1L), e);
+                }
+            }
+        }
+
+        /**
+         * De-serialize the ConsList from its reversed serialized representation.
+         */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            ShortConsList<Short> cons = ConsList.nil();
+            long length = in.readLong();
+            for (long l = length; l != 0; l--) {
+                try {
+                    short elem = in.readShort();
+                    cons = new ShortConsListImpl(elem, cons);
+                } catch (Exception e) {
+                    throw new ConsSerializationException(
+                        "Could not de-serialize element at 0-based position: " + (l - 1), e);
+                }
+            }
+            list = cons;
+        }
+
+        /**
+         * Serialization proxy pattern: resolve the proxy into the ConsList when de-serializing.
+         * @return the de-serialized ConsList.
+         */
+        private Object readResolve() {
+            return list;
+        }
+    }
+}
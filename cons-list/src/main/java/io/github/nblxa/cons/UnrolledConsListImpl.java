@@ -0,0 +1,222 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Unrolled node of a <tt>ConsList</tt>: a single object holding a range of consecutive elements
+ * of a shared array, followed by the <tt>tail</tt> list.
+ *
+ * <p>The array is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same array starting at the next position, so
+ * structural sharing is preserved without copying.
+ *
+ * @param <E> element type
+ */
+@Immutable
+@ThreadSafe
+public final class UnrolledConsListImpl<E> extends AbstractCollection<E> implements Serializable, ConsList<E> {
+    private static final long serialVersionUID = 2981245631608476412L;
+    @NonNull
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    @NonNull
+    private final ConsList<E> tail;
+    private final long size;
+    private final int hash;
+
+    UnrolledConsListImpl(@NonNull Object[] elements, int from, int to, @NonNull ConsList<E> tail) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + (to - from);
+        int h = ConsUtil.listHash(tail);
+        int p = ConsUtil.pow31(tail.sizeAsLong());
+        for (int i = to - 1; i >= from; i--) {
+            h += p * (30 + Objects.hashCode(elements[i]));
+            p *= 31;
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Constructs a view of the array range with a known length and hash code.
+     */
+    private UnrolledConsListImpl(@NonNull Object[] elements, int from, int to, @NonNull ConsList<E> tail,
+                                 long size, int hash) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, packing them into
+     * unrolled nodes of up to {@link ConsUtil#UNROLLED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is shared with the resulting nodes and must not be modified afterwards.
+     */
+    @NonNull
+    static <E> ConsList<E> prepend(@NonNull Object[] elements, int from, int to, @NonNull ConsList<E> tail) {
+        ConsList<E> result = tail;
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.UNROLLED_NODE_CAPACITY);
+            result = new UnrolledConsListImpl<>(elements, start, end, result);
+            end = start;
+        }
+        return result;
+    }
+
+    /**
+     * Constructs a compact list with the elements of the iterator in the reverse order.
+     */
+    @NonNull
+    static <E> ConsList<E> reverse(@NonNull Iterator<E> iter) {
+        ConsList<E> result = ConsList.nil();
+        Object[] chunk = new Object[ConsUtil.UNROLLED_NODE_CAPACITY];
+        int pos = chunk.length;
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = new UnrolledConsListImpl<>(chunk, 0, chunk.length, result);
+                chunk = new Object[ConsUtil.UNROLLED_NODE_CAPACITY];
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.next();
+        }
+        if (pos < chunk.length) {
+            result = new UnrolledConsListImpl<>(Arrays.copyOfRange(chunk, pos, chunk.length),
+                0, chunk.length - pos, result);
+        }
+        return result;
+    }
+
+    @NonNull
+    Object[] elements() {
+        return elements;
+    }
+
+    int from() {
+        return from;
+    }
+
+    int to() {
+        return to;
+    }
+
+    /**
+     * Returns the list following the last element of this node's array range.
+     */
+    @NonNull
+    ConsList<E> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the view of this node's array range without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; to - from</tt>.
+     */
+    @NonNull
+    ConsList<E> skip(int count) {
+        int h = hash;
+        long s = size;
+        for (int i = from; i < from + count; i++) {
+            h = ConsUtil.tailHash(h, Objects.hashCode(elements[i]), --s);
+        }
+        return new UnrolledConsListImpl<>(elements, from + count, to, tail, s, h);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E head() {
+        return (E) elements[from];
+    }
+
+    @Override
+    @NonNull
+    public ConsList<E> tail() {
+        if (from + 1 < to) {
+            int tailHash = ConsUtil.tailHash(hash, Objects.hashCode(elements[from]), size - 1L);
+            return new UnrolledConsListImpl<>(elements, from + 1, to, tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @Override
+    @NonNull
+    public ConsList<E> reverse() {
+        return reverse(iterator());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        return new ConsIterator<>(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ConsSpliterator<>(this);
+    }
+
+    @NonNull
+    @Override
+    public Object[] toArray() {
+        return ConsUtil.toArray(this);
+    }
+
+    @NonNull
+    @Override
+    public <T> T[] toArray(@NonNull T[] a) {
+        return ConsUtil.toArray(this, a);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    private Object writeReplace() {
+        return new ConsListImpl.SerializationProxy<>(this);
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unrolled node of an <tt>DoubleConsList</tt>: a single object holding a range of consecutive elements
+ * of a shared <tt>double</tt> array, followed by the <tt>tail</tt> list.
+ *
+ * <p>The array is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same array starting at the next position, so
+ * structural sharing is preserved without copying.
+ */
+@Immutable
+@ThreadSafe
+public final class UnrolledDoubleConsListImpl extends AbstractCollection<Double>
+                      implements DoubleConsList<Double>, Serializable {
+    private static final long serialVersionUID = -8473158392706214377L;
+    @NonNull
+    private final double[] elements;
+    private final int from;
+    private final int to;
+    @NonNull
+    private final DoubleConsList<Double> tail;
+    private final long size;
+    private final int hash;
+
+    UnrolledDoubleConsListImpl(@NonNull double[] elements, int from, int to, @NonNull DoubleConsList<Double> tail) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + (to - from);
+        int h = ConsUtil.listHash(tail);
+        int p = ConsUtil.pow31(tail.sizeAsLong());
+        for (int i = to - 1; i >= from; i--) {
+            h += p * (30 + Double.hashCode(elements[i]));
+            p *= 31;
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Constructs a view of the array range with a known length and hash code.
+     */
+    private UnrolledDoubleConsListImpl(@NonNull double[] elements, int from, int to,
+                                       @NonNull DoubleConsList<Double> tail, long size, int hash) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, packing them into
+     * unrolled nodes of up to {@link ConsUtil#UNROLLED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is shared with the resulting nodes and must not be modified afterwards.
+     */
+    @NonNull
+    static DoubleConsList<Double> prepend(@NonNull double[] elements, int from, int to,
+                                          @NonNull DoubleConsList<Double> tail) {
+        DoubleConsList<Double> result = tail;
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.UNROLLED_NODE_CAPACITY);
+            result = new UnrolledDoubleConsListImpl(elements, start, end, result);
+            end = start;
+        }
+        return result;
+    }
+
+    @NonNull
+    double[] elements() {
+        return elements;
+    }
+
+    int from() {
+        return from;
+    }
+
+    int to() {
+        return to;
+    }
+
+    /**
+     * Returns the list following the last element of this node's array range.
+     */
+    @NonNull
+    DoubleConsList<Double> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the view of this node's array range without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; to - from</tt>.
+     */
+    @NonNull
+    DoubleConsList<Double> skip(int count) {
+        int h = hash;
+        long s = size;
+        for (int i = from; i < from + count; i++) {
+            h = ConsUtil.tailHash(h, Double.hashCode(elements[i]), --s);
+        }
+        return new UnrolledDoubleConsListImpl(elements, from + count, to, tail, s, h);
+    }
+
+    @Override
+    public double doubleHead() {
+        return elements[from];
+    }
+
+    @NonNull
+    @Override
+    public DoubleConsList<Double> doubleTail() {
+        if (from + 1 < to) {
+            int tailHash = ConsUtil.tailHash(hash, Double.hashCode(elements[from]), size - 1L);
+            return new UnrolledDoubleConsListImpl(elements, from + 1, to, tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public DoubleConsList<Double> doubleReverse() {
+        DoubleConsList<Double> result = ConsList.nil();
+        double[] chunk = new double[ConsUtil.UNROLLED_NODE_CAPACITY];
+        int pos = chunk.length;
+        PrimitiveIterator.OfDouble iter = doubleIterator();
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = new UnrolledDoubleConsListImpl(chunk, 0, chunk.length, result);
+                chunk = new double[ConsUtil.UNROLLED_NODE_CAPACITY];
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.nextDouble();
+        }
+        return new UnrolledDoubleConsListImpl(Arrays.copyOfRange(chunk, pos, chunk.length),
+            0, chunk.length - pos, result);
+    }
+
+    @NonNull
+    @Override
+    public Double head() {
+        return doubleHead();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Double> tail() {
+        return doubleTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Double> reverse() {
+        return doubleReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Double> iterator() {
+        return doubleIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Double> spliterator() {
+        return doubleSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfDouble doubleIterator() {
+        return new DoubleConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfDouble doubleSpliterator() {
+        return new DoubleConsSpliterator(this);
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(doubleSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public DoubleStream parallelDoubleStream() {
+        return StreamSupport.doubleStream(doubleSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof DoubleConsList) {
+            return ConsUtil.haveEqualElements(this, (DoubleConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    private Object writeReplace() {
+        return new DoubleConsListImpl.SerializationProxy(this);
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unrolled node of an <tt>IntConsList</tt>: a single object holding a range of consecutive elements
+ * of a shared <tt>int</tt> array, followed by the <tt>tail</tt> list.
+ *
+ * <p>The array is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same array starting at the next position, so
+ * structural sharing is preserved without copying.
+ */
+@Immutable
+@ThreadSafe
+public final class UnrolledIntConsListImpl extends AbstractCollection<Integer>
+                      implements IntConsList<Integer>, Serializable {
+    private static final long serialVersionUID = -5930427180664125263L;
+    @NonNull
+    private final int[] elements;
+    private final int from;
+    private final int to;
+    @NonNull
+    private final IntConsList<Integer> tail;
+    private final long size;
+    private final int hash;
+
+    UnrolledIntConsListImpl(@NonNull int[] elements, int from, int to, @NonNull IntConsList<Integer> tail) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + (to - from);
+        int h = ConsUtil.listHash(tail);
+        int p = ConsUtil.pow31(tail.sizeAsLong());
+        for (int i = to - 1; i >= from; i--) {
+            h += p * (30 + Integer.hashCode(elements[i]));
+            p *= 31;
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Constructs a view of the array range with a known length and hash code.
+     */
+    private UnrolledIntConsListImpl(@NonNull int[] elements, int from, int to, @NonNull IntConsList<Integer> tail,
+                                    long size, int hash) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, packing them into
+     * unrolled nodes of up to {@link ConsUtil#UNROLLED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is shared with the resulting nodes and must not be modified afterwards.
+     */
+    @NonNull
+    static IntConsList<Integer> prepend(@NonNull int[] elements, int from, int to,
+                                        @NonNull IntConsList<Integer> tail) {
+        IntConsList<Integer> result = tail;
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.UNROLLED_NODE_CAPACITY);
+            result = new UnrolledIntConsListImpl(elements, start, end, result);
+            end = start;
+        }
+        return result;
+    }
+
+    @NonNull
+    int[] elements() {
+        return elements;
+    }
+
+    int from() {
+        return from;
+    }
+
+    int to() {
+        return to;
+    }
+
+    /**
+     * Returns the list following the last element of this node's array range.
+     */
+    @NonNull
+    IntConsList<Integer> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the view of this node's array range without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; to - from</tt>.
+     */
+    @NonNull
+    IntConsList<Integer> skip(int count) {
+        int h = hash;
+        long s = size;
+        for (int i = from; i < from + count; i++) {
+            h = ConsUtil.tailHash(h, Integer.hashCode(elements[i]), --s);
+        }
+        return new UnrolledIntConsListImpl(elements, from + count, to, tail, s, h);
+    }
+
+    @Override
+    public int intHead() {
+        return elements[from];
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> intTail() {
+        if (from + 1 < to) {
+            int tailHash = ConsUtil.tailHash(hash, Integer.hashCode(elements[from]), size - 1L);
+            return new UnrolledIntConsListImpl(elements, from + 1, to, tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public IntConsList<Integer> intReverse() {
+        IntConsList<Integer> result = ConsList.nil();
+        int[] chunk = new int[ConsUtil.UNROLLED_NODE_CAPACITY];
+        int pos = chunk.length;
+        PrimitiveIterator.OfInt iter = intIterator();
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = new UnrolledIntConsListImpl(chunk, 0, chunk.length, result);
+                chunk = new int[ConsUtil.UNROLLED_NODE_CAPACITY];
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.nextInt();
+        }
+        return new UnrolledIntConsListImpl(Arrays.copyOfRange(chunk, pos, chunk.length),
+            0, chunk.length - pos, result);
+    }
+
+    @NonNull
+    @Override
+    public Integer head() {
+        return intHead();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Integer> tail() {
+        return intTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Integer> reverse() {
+        return intReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Integer> iterator() {
+        return intIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return intSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new IntConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfInt intSpliterator() {
+        return new IntConsSpliterator(this);
+    }
+
+    @NonNull
+    @Override
+    public IntStream intStream() {
+        return StreamSupport.intStream(intSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(intSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof IntConsList) {
+            return ConsUtil.haveEqualElements(this, (IntConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    private Object writeReplace() {
+        return new IntConsListImpl.SerializationProxy(this);
+    }
+}
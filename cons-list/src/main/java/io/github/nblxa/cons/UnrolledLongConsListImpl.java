@@ -0,0 +1,246 @@
+package io.github.nblxa.cons;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unrolled node of an <tt>LongConsList</tt>: a single object holding a range of consecutive elements
+ * of a shared <tt>long</tt> array, followed by the <tt>tail</tt> list.
+ *
+ * <p>The array is never modified after the node has been constructed. The tail of a node with
+ * more than one element is a view of the same array starting at the next position, so
+ * structural sharing is preserved without copying.
+ */
+@Immutable
+@ThreadSafe
+public final class UnrolledLongConsListImpl extends AbstractCollection<Long>
+                      implements LongConsList<Long>, Serializable {
+    private static final long serialVersionUID = 2217934417089368512L;
+    @NonNull
+    private final long[] elements;
+    private final int from;
+    private final int to;
+    @NonNull
+    private final LongConsList<Long> tail;
+    private final long size;
+    private final int hash;
+
+    UnrolledLongConsListImpl(@NonNull long[] elements, int from, int to, @NonNull LongConsList<Long> tail) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = tail.sizeAsLong() + (to - from);
+        int h = ConsUtil.listHash(tail);
+        int p = ConsUtil.pow31(tail.sizeAsLong());
+        for (int i = to - 1; i >= from; i--) {
+            h += p * (30 + Long.hashCode(elements[i]));
+            p *= 31;
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Constructs a view of the array range with a known length and hash code.
+     */
+    private UnrolledLongConsListImpl(@NonNull long[] elements, int from, int to,
+                                     @NonNull LongConsList<Long> tail, long size, int hash) {
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.tail = tail;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Prepends the elements of the array range to the <tt>tail</tt>, packing them into
+     * unrolled nodes of up to {@link ConsUtil#UNROLLED_NODE_CAPACITY} elements.
+     *
+     * <p>The array is shared with the resulting nodes and must not be modified afterwards.
+     */
+    @NonNull
+    static LongConsList<Long> prepend(@NonNull long[] elements, int from, int to,
+                                      @NonNull LongConsList<Long> tail) {
+        LongConsList<Long> result = tail;
+        int end = to;
+        while (end > from) {
+            int start = Math.max(from, end - ConsUtil.UNROLLED_NODE_CAPACITY);
+            result = new UnrolledLongConsListImpl(elements, start, end, result);
+            end = start;
+        }
+        return result;
+    }
+
+    @NonNull
+    long[] elements() {
+        return elements;
+    }
+
+    int from() {
+        return from;
+    }
+
+    int to() {
+        return to;
+    }
+
+    /**
+     * Returns the list following the last element of this node's array range.
+     */
+    @NonNull
+    LongConsList<Long> next() {
+        return tail;
+    }
+
+    /**
+     * Returns the view of this node's array range without its first <tt>count</tt> elements,
+     * where <tt>0 &lt; count &lt; to - from</tt>.
+     */
+    @NonNull
+    LongConsList<Long> skip(int count) {
+        int h = hash;
+        long s = size;
+        for (int i = from; i < from + count; i++) {
+            h = ConsUtil.tailHash(h, Long.hashCode(elements[i]), --s);
+        }
+        return new UnrolledLongConsListImpl(elements, from + count, to, tail, s, h);
+    }
+
+    @Override
+    public long longHead() {
+        return elements[from];
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> longTail() {
+        if (from + 1 < to) {
+            int tailHash = ConsUtil.tailHash(hash, Long.hashCode(elements[from]), size - 1L);
+            return new UnrolledLongConsListImpl(elements, from + 1, to, tail, size - 1L, tailHash);
+        }
+        return tail;
+    }
+
+    @NonNull
+    @Override
+    public LongConsList<Long> longReverse() {
+        LongConsList<Long> result = ConsList.nil();
+        long[] chunk = new long[ConsUtil.UNROLLED_NODE_CAPACITY];
+        int pos = chunk.length;
+        PrimitiveIterator.OfLong iter = longIterator();
+        while (iter.hasNext()) {
+            if (pos == 0) {
+                result = new UnrolledLongConsListImpl(chunk, 0, chunk.length, result);
+                chunk = new long[ConsUtil.UNROLLED_NODE_CAPACITY];
+                pos = chunk.length;
+            }
+            chunk[--pos] = iter.nextLong();
+        }
+        return new UnrolledLongConsListImpl(Arrays.copyOfRange(chunk, pos, chunk.length),
+            0, chunk.length - pos, result);
+    }
+
+    @NonNull
+    @Override
+    public Long head() {
+        return longHead();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Long> tail() {
+        return longTail();
+    }
+
+    @NonNull
+    @Override
+    public ConsList<Long> reverse() {
+        return longReverse();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return ConsUtil.intSize(size);
+    }
+
+    @Override
+    public long sizeAsLong() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Long> iterator() {
+        return longIterator();
+    }
+
+    @NonNull
+    @Override
+    public Spliterator<Long> spliterator() {
+        return longSpliterator();
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveIterator.OfLong longIterator() {
+        return new LongConsIterator(this);
+    }
+
+    @NonNull
+    @Override
+    public Spliterator.OfLong longSpliterator() {
+        return new LongConsSpliterator(this);
+    }
+
+    @NonNull
+    @Override
+    public LongStream longStream() {
+        return StreamSupport.longStream(longSpliterator(), false);
+    }
+
+    @NonNull
+    @Override
+    public LongStream parallelLongStream() {
+        return StreamSupport.longStream(longSpliterator(), true);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LongConsList) {
+            return ConsUtil.haveEqualElements(this, (LongConsList<?>) o);
+        }
+        if (!(o instanceof ConsList)) {
+            return false;
+        }
+        return ConsUtil.haveEqualElements(this, (ConsList<?>) o);
+    }
+
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
+    private void readObject(ObjectInputStream in) {
+        throw new UnsupportedOperationException(ConsUtil.MSG_USE_SERIALIZATION_PROXY);
+    }
+
+    private Object writeReplace() {
+        return new LongConsListImpl.SerializationProxy(this);
+    }
+}
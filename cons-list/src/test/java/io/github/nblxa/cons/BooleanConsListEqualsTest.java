@@ -0,0 +1,57 @@
+package io.github.nblxa.cons;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.Test;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BooleanConsListEqualsTest {
+
+    @Test
+    public void equalsHashCode_booleanConsList() {
+        EqualsVerifier.forClass(BooleanConsListImpl.class)
+            .withPrefabValues(BooleanConsList.class, booleanList(true, false, true), booleanList(false, false))
+            .withIgnoredFields("size")
+            .suppress(Warning.ALL_FIELDS_SHOULD_BE_USED, Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_booleanConsListWithNil() {
+        EqualsVerifier.forClass(BooleanConsListImpl.class)
+            .withPrefabValues(BooleanConsList.class, booleanList(true, false, true), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.ALL_FIELDS_SHOULD_BE_USED, Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_booleanConsListWithBoxedCons() {
+        EqualsVerifier.forClass(ConsList.class)
+            .withPrefabValues(ConsList.class, booleanList(true, false, true), list(false, false))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_booleanConsListWithEqualBoxedCons() {
+        BooleanConsList<Boolean> bl = booleanList(true, false, true);
+        ConsList<Boolean> l = list(true, false, true);
+        assertThat(bl.equals(l))
+            .isTrue();
+        assertThat(l.equals(bl))
+            .isTrue();
+        assertThat(bl.hashCode() == l.hashCode())
+            .isTrue();
+    }
+
+    @Test
+    public void equals_differentPacking() {
+        BooleanConsList<Boolean> packed = booleanList(true, false, true);
+        BooleanConsList<Boolean> consed = booleanCons(true, booleanList(false, true));
+        BooleanConsList<Boolean> tail = booleanList(false, true, false, true).booleanTail();
+        assertThat(packed).isEqualTo(consed);
+        assertThat(packed).isEqualTo(tail);
+    }
+}
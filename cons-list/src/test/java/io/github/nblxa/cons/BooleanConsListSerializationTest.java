@@ -0,0 +1,126 @@
+package io.github.nblxa.cons;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BooleanConsListSerializationTest {
+
+    @Test
+    public void test_nil_java() throws IOException, ClassNotFoundException {
+        BooleanConsList<Boolean> empty = nil();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(empty);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(ConsList.class);
+        assertThat((ConsList<?>) object)
+            .hasSize(0)
+            .isEmpty();
+    }
+
+    @Test
+    public void test_many_java() throws IOException, ClassNotFoundException {
+        BooleanConsList<Boolean> list = booleanList(true, false, false);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(BooleanConsList.class);
+        assertThat((BooleanConsList<Boolean>) object)
+            .hasSize(3)
+            .isNotEmpty()
+            .containsExactly(true, false, false);
+    }
+
+    @Test
+    public void test_huge_list_java() throws IOException, ClassNotFoundException {
+        BooleanConsList<Boolean> list = nil();
+        for (int i = 20_000; i > 0; i--) {
+            list = booleanCons(i % 7 == 0, list);
+        }
+        list = list.booleanTail();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list); // this should not cause a StackOverflowError
+
+        byte[] bytes = bos.toByteArray();
+        // 19,999 elements take 313 packed words
+        assertThat(bytes.length).isLessThan(20_000 / 8 + 200);
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(BooleanConsList.class);
+        assertThat((BooleanConsList<Boolean>) object)
+            .hasSize(19_999)
+            .isEqualTo(list);
+        assertThat(((BooleanConsList<Boolean>) object).popCount()).isEqualTo(2_857L);
+    }
+
+    @Test
+    public void test_serializeError_java() throws IOException {
+        BooleanConsList<Boolean> list = booleanList(true, true, true);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new CorruptedObjectOutputStream(new ObjectOutputStream(bos), 7L);
+        Throwable t = catchThrowable(() -> os.writeObject(list));
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not serialize element at 0-based position: 0")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_corruptStream_java() throws IOException {
+        boolean[] elements = new boolean[70];
+        Arrays.fill(elements, true);
+        BooleanConsList<Boolean> list = booleanList(elements);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        // corrupt the stream: the word with the last 64 elements is read first
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new CorruptedObjectInputStream(new ByteArrayInputStream(bytes), -1L);
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not de-serialize element at 0-based position: 6")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_many_jacksonAsList() throws IOException {
+        BooleanConsList<Boolean> list = booleanList(true, false);
+
+        ObjectMapper om = new ObjectMapper();
+        String string = om.writeValueAsString(list);
+
+        Object object = om.readValue(string, List.class);
+        assertThat(object).isInstanceOf(List.class);
+        assertThat((List<Object>) object)
+            .hasSize(2)
+            .containsExactly(true, false);
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.nblxa.cons;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BooleanConsListTest {
+
+    private static boolean[] pattern(int length) {
+        boolean[] elements = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = i % 3 == 0;
+        }
+        return elements;
+    }
+
+    private static List<Boolean> boxed(boolean[] elements) {
+        List<Boolean> list = new ArrayList<>();
+        for (boolean e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    @Test
+    public void nil_isEmpty() {
+        BooleanConsList<Boolean> empty = nil();
+        assertThat(empty)
+            .hasSize(0)
+            .isEmpty();
+        Throwable t = catchThrowable(empty::booleanHead);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+        t = catchThrowable(empty::booleanTail);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void booleanCons_headAndTail() {
+        BooleanConsList<Boolean> list = booleanCons(true, booleanCons(false, nil()));
+        assertThat(list.booleanHead()).isTrue();
+        assertThat(list.booleanTail().booleanHead()).isFalse();
+        assertThat(list)
+            .hasSize(2)
+            .containsExactly(true, false);
+    }
+
+    @Test
+    public void booleanCons_packsIntoOneNode() {
+        BooleanConsList<Boolean> list = nil();
+        for (int i = 0; i < 64; i++) {
+            list = booleanCons(i % 2 == 0, list);
+        }
+        assertThat(list).isInstanceOf(BooleanConsListImpl.class);
+        assertThat(list.booleanTail()).isInstanceOf(BooleanConsListImpl.class);
+        assertThat(list.sizeAsLong()).isEqualTo(64L);
+        list = booleanCons(true, list);
+        assertThat(list.sizeAsLong()).isEqualTo(65L);
+        assertThat(list.booleanHead()).isTrue();
+        assertThat(list.booleanTail().booleanHead()).isFalse();
+    }
+
+    @Test
+    public void booleanCons_doesNotModifyTail() {
+        BooleanConsList<Boolean> tail = booleanList(false, false);
+        BooleanConsList<Boolean> first = booleanCons(true, tail);
+        BooleanConsList<Boolean> second = booleanCons(false, tail);
+        assertThat(tail).containsExactly(false, false);
+        assertThat(first).containsExactly(true, false, false);
+        assertThat(second).containsExactly(false, false, false);
+    }
+
+    @Test
+    public void booleanList_manyNodes_keepsOrder() {
+        boolean[] elements = pattern(200);
+        BooleanConsList<Boolean> list = booleanList(elements);
+        assertThat(list)
+            .hasSize(200)
+            .containsExactlyElementsOf(boxed(elements));
+    }
+
+    @Test
+    public void booleanTail_walksAllElements() {
+        boolean[] elements = pattern(130);
+        BooleanConsList<Boolean> list = booleanList(elements);
+        for (boolean e : elements) {
+            assertThat(list.booleanHead()).isEqualTo(e);
+            list = list.booleanTail();
+        }
+        assertThat(list).isSameAs(nil());
+    }
+
+    @Test
+    public void booleanIterator_returnsPrimitives() {
+        BooleanConsList<Boolean> list = booleanList(true, false, true);
+        BooleanConsList.BooleanIterator iter = list.booleanIterator();
+        assertThat(iter.nextBoolean()).isTrue();
+        assertThat(iter.next()).isFalse();
+        assertThat(iter.nextBoolean()).isTrue();
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextBoolean);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void popCount_value() {
+        BooleanConsList<Boolean> list = booleanList(pattern(200));
+        assertThat(list.popCount()).isEqualTo(67L);
+        assertThat(booleanCons(true, list).popCount()).isEqualTo(68L);
+        assertThat(list.booleanTail().popCount()).isEqualTo(66L);
+    }
+
+    @Test
+    public void anyMatch_value() {
+        boolean[] allFalse = new boolean[100];
+        BooleanConsList<Boolean> list = booleanList(allFalse);
+        assertThat(list.anyMatch(true)).isFalse();
+        assertThat(list.anyMatch(false)).isTrue();
+
+        allFalse[99] = true;
+        list = booleanList(allFalse);
+        assertThat(list.anyMatch(true)).isTrue();
+
+        BooleanConsList<Boolean> allTrue = booleanList(true, true, true);
+        assertThat(allTrue.anyMatch(false)).isFalse();
+        assertThat(allTrue.booleanTail().anyMatch(false)).isFalse();
+    }
+
+    @Test
+    public void spliterator_characteristicsAndData() {
+        BooleanConsList<Boolean> list = booleanList(true, false, true);
+        Spliterator<Boolean> spliter = list.spliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(list.stream().filter(Boolean::booleanValue).count()).isEqualTo(2L);
+    }
+
+    @Test
+    public void reverse() {
+        boolean[] elements = pattern(100);
+        BooleanConsList<Boolean> list = booleanList(elements);
+        List<Boolean> expected = boxed(elements);
+        Collections.reverse(expected);
+        assertThat(list.booleanReverse()).containsExactlyElementsOf(expected);
+        assertThat(list.reverse()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void booleanCons_withNullTail_throwsException() {
+        BooleanConsList<Boolean> cnslst = null;
+        Throwable t = catchThrowable(() -> booleanCons(true, cnslst));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("tail is null");
+    }
+
+    @Test
+    public void sizeAsLong_value() {
+        BooleanConsList<Boolean> bs = booleanCons(true, booleanCons(false, booleanCons(true, nil())));
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
+    }
+
+    @Test
+    public void hashCode_value() {
+        BooleanConsList<Boolean> list = booleanList(true, false);
+        assertThat(list.hashCode()).isEqualTo(list(true, false).hashCode());
+    }
+
+    @Test
+    public void equals_sharedTail() {
+        BooleanConsList<Boolean> shared = booleanList(pattern(130));
+        BooleanConsList<Boolean> first = booleanCons(true, booleanCons(false, shared));
+        BooleanConsList<Boolean> second = booleanCons(true, booleanCons(false, shared));
+        BooleanConsList<Boolean> third = booleanCons(true, booleanCons(true, shared));
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(third);
+        assertThat(shared.booleanTail()).isEqualTo(shared.booleanTail());
+        assertThat(booleanList(pattern(130))).isEqualTo(shared);
+    }
+
+    @Test
+    public void hashCode_ofConsesAndTails_sameAsBoxedList() {
+        BooleanConsList<Boolean> list = booleanList(pattern(130));
+        for (int i = 0; i < 10; i++) {
+            list = booleanCons(i % 2 == 0, list);
+            assertThat(list.hashCode()).isEqualTo(new ArrayList<>(list).hashCode());
+        }
+        BooleanConsList<Boolean> reversed = list.booleanReverse();
+        assertThat(reversed.hashCode()).isEqualTo(new ArrayList<>(reversed).hashCode());
+        while (!list.isEmpty()) {
+            assertThat(list.hashCode()).isEqualTo(new ArrayList<>(list).hashCode());
+            list = list.booleanTail();
+        }
+    }
+
+    @Test
+    public void booleanConsList_fromCons_returnsSelf() {
+        Iterable<Boolean> input = booleanList(true, false);
+        BooleanConsList<Boolean> fromCons = booleanConsList(input);
+
+        assertThat(fromCons == input).isTrue();
+    }
+
+    @Test
+    public void booleanConsList_fromArraysArrayList_yieldsSameOrderAsList() {
+        Iterable<Boolean> input = Arrays.asList(false, true);
+        BooleanConsList<Boolean> fromCons = booleanConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactly(false, true);
+    }
+
+    @Test
+    public void concat_many_yieldsSameOrder() {
+        boolean[] elements = pattern(70);
+        BooleanConsList<Boolean> result = concat(booleanList(true), booleanList(elements), booleanList(false, true));
+        List<Boolean> expected = new ArrayList<>();
+        expected.add(true);
+        expected.addAll(boxed(elements));
+        expected.add(false);
+        expected.add(true);
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void list_withoutParameters_isNil() {
+        assertThat(booleanList()).isEqualTo(nil());
+    }
+
+    @Test
+    public void drop_insidePackedNodes() {
+        boolean[] elements = pattern(200);
+        BooleanConsList<Boolean> list = booleanList(elements);
+        BooleanConsList<Boolean> expected = booleanList(Arrays.copyOfRange(elements, 70, 200));
+        BooleanConsList<Boolean> dropped = list.drop(70);
+        assertThat(dropped)
+            .isEqualTo(expected);
+        assertThat(dropped.hashCode())
+            .isEqualTo(expected.hashCode());
+        BooleanConsList<Boolean> taken = list.take(70);
+        assertThat(taken)
+            .isEqualTo(booleanList(Arrays.copyOf(elements, 70)));
+        assertThat(list.takeWhile(b -> b))
+            .containsExactly(true);
+    }
+
+    @Test
+    public void updatedInsertAtRemoveAt_insidePackedNodes() {
+        boolean[] elements = pattern(200);
+        BooleanConsList<Boolean> list = booleanList(elements);
+        boolean[] expected = elements.clone();
+        expected[100] = !expected[100];
+        BooleanConsList<Boolean> updated = list.updatedBoolean(100, expected[100]);
+        assertThat(updated)
+            .isEqualTo(booleanList(expected));
+        assertThat(updated.hashCode())
+            .isEqualTo(booleanList(expected).hashCode());
+        boolean[] removed = new boolean[199];
+        System.arraycopy(elements, 0, removed, 0, 70);
+        System.arraycopy(elements, 71, removed, 70, 129);
+        assertThat(list.removeAt(70))
+            .isEqualTo(booleanList(removed));
+        assertThat(list.insertAtBoolean(70, elements[70]).removeAt(70))
+            .isEqualTo(list);
+    }
+
+    @Test
+    public void booleanList_arrayRange() {
+        boolean[] elements = pattern(200);
+        assertThat(booleanList(elements, 30, 170))
+            .isEqualTo(booleanList(Arrays.copyOfRange(elements, 30, 170)));
+        Throwable t = catchThrowable(() -> booleanList(elements, -1, 3));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.nblxa.cons;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.Test;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteConsListEqualsTest {
+
+    @Test
+    public void equalsHashCode_byteConsList() {
+        EqualsVerifier.forClass(ByteConsListImpl.class)
+            .withPrefabValues(ByteConsList.class, byteList((byte) 1, (byte) 2, (byte) 3), byteList((byte) 4, (byte) 5))
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_byteConsListWithNil() {
+        EqualsVerifier.forClass(ByteConsListImpl.class)
+            .withPrefabValues(ByteConsList.class, byteList((byte) 1, (byte) 2, (byte) 3), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_byteConsListWithBoxedCons() {
+        EqualsVerifier.forClass(ConsList.class)
+            .withPrefabValues(ConsList.class, byteList((byte) 1, (byte) 2, (byte) 3), list((byte) 4, (byte) 5))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_byteConsListWithEqualBoxedCons() {
+        ByteConsList<Byte> pl = byteList((byte) 1, (byte) 2, (byte) 3);
+        ConsList<Byte> l = list((byte) 1, (byte) 2, (byte) 3);
+        assertThat(pl.equals(l))
+            .isTrue();
+        assertThat(l.equals(pl))
+            .isTrue();
+        assertThat(pl.hashCode() == l.hashCode())
+            .isTrue();
+    }
+}
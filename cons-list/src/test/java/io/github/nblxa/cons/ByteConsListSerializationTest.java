@@ -0,0 +1,119 @@
+package io.github.nblxa.cons;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.List;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ByteConsListSerializationTest {
+
+    @Test
+    public void test_nil_java() throws IOException, ClassNotFoundException {
+        ByteConsList<Byte> empty = nil();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(empty);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(ConsList.class);
+        assertThat((ConsList<?>) object)
+            .hasSize(0)
+            .isEmpty();
+    }
+
+    @Test
+    public void test_many_java() throws IOException, ClassNotFoundException {
+        ByteConsList<Byte> list = byteList((byte) 1, (byte) 2);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(ByteConsList.class);
+        assertThat((ByteConsList<Byte>) object)
+            .hasSize(2)
+            .isNotEmpty()
+            .containsExactly((byte) 1, (byte) 2);
+    }
+
+    @Test
+    public void test_huge_list_java() throws IOException, ClassNotFoundException {
+        ByteConsList<Byte> list = nil();
+        for (int i = 20_000; i > 0; i--) {
+            list = byteCons((byte) i, list);
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list); // this should not cause a StackOverflowError
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(ByteConsList.class);
+        assertThat((ByteConsList<Byte>) object)
+            .hasSize(20_000)
+            .isEqualTo(list);
+    }
+
+    @Test
+    public void test_serializeError_java() throws IOException {
+        ByteConsList<Byte> list = byteList((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new CorruptedObjectOutputStream(new ObjectOutputStream(bos), (byte) 1);
+        Throwable t = catchThrowable(() -> os.writeObject(list));
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not serialize element at 0-based position: 0")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_corruptStream_java() throws IOException {
+        ByteConsList<Byte> list = byteList((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        // corrupt the stream
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new CorruptedObjectInputStream(new ByteArrayInputStream(bytes), (byte) 2);
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not de-serialize element at 0-based position: 1")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_many_jacksonAsList() throws IOException {
+        ByteConsList<Byte> list = byteList((byte) 1, (byte) 2);
+
+        ObjectMapper om = new ObjectMapper();
+        String string = om.writeValueAsString(list);
+
+        Object object = om.readValue(string, List.class);
+        assertThat(object).isInstanceOf(List.class);
+        assertThat((List<Object>) object)
+            .hasSize(2)
+            .containsExactly(1, 2);
+    }
+}
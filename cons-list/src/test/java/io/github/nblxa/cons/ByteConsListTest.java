@@ -0,0 +1,219 @@
+package io.github.nblxa.cons;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ByteConsListTest {
+
+    @Test
+    public void nil_isEmpty() {
+        ByteConsList<Byte> empty = nil();
+        assertThat(empty)
+            .hasSize(0)
+            .isEmpty();
+        Throwable t = catchThrowable(empty::byteHead);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+        t = catchThrowable(empty::byteTail);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void byteCons_headAndTail() {
+        ByteConsList<Byte> list = byteCons((byte) 1, byteCons((byte) 2, nil()));
+        assertThat(list.byteHead()).isEqualTo((byte) 1);
+        assertThat(list.byteTail().byteHead()).isEqualTo((byte) 2);
+        assertThat(list)
+            .hasSize(2)
+            .containsExactly((byte) 1, (byte) 2);
+    }
+
+    @Test
+    public void byteIterator_returnsPrimitives() {
+        ByteConsList<Byte> list = byteList((byte) 1, (byte) 2, (byte) 3);
+        ByteConsList.ByteIterator iter = list.byteIterator();
+        assertThat(iter.nextByte()).isEqualTo((byte) 1);
+        assertThat(iter.next()).isEqualTo((byte) 2);
+        assertThat(iter.nextByte()).isEqualTo((byte) 3);
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextByte);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void spliterator_characteristicsAndData() {
+        ByteConsList<Byte> numbers = byteList((byte) 1, (byte) 1, (byte) 2, (byte) 3, (byte) 5, (byte) 8);
+        Spliterator<Byte> spliter = numbers.spliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+
+        List<Byte> list = StreamSupport.stream(spliter, false)
+            .collect(Collectors.toList());
+        assertThat(list)
+            .containsExactly((byte) 1, (byte) 1, (byte) 2, (byte) 3, (byte) 5, (byte) 8);
+    }
+
+    @Test
+    public void byteSpliterator_characteristics() {
+        ByteConsList<Byte> numbers = byteList((byte) 1, (byte) 1, (byte) 2, (byte) 3, (byte) 5, (byte) 8);
+        Spliterator.OfInt spliter = numbers.byteSpliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.getExactSizeIfKnown()).isEqualTo(6L);
+    }
+
+    @Test
+    public void byteStream() {
+        ByteConsList<Byte> numbers = byteList((byte) 1, (byte) 1, (byte) 2, (byte) 3, (byte) 5, (byte) 8);
+        assertThat(numbers.byteStream().isParallel()).isFalse();
+        assertThat(numbers.byteStream().sum()).isEqualTo(20);
+    }
+
+    @Test
+    public void parallelByteStream() {
+        ByteConsList<Byte> numbers = nil();
+        for (int i = 0; i < 10_000; i++) {
+            numbers = byteCons((byte) (i % 100), numbers);
+        }
+        assertThat(numbers.parallelByteStream().isParallel()).isTrue();
+        assertThat(numbers.parallelByteStream().sum()).isEqualTo(numbers.byteStream().sum());
+        assertThat(numbers.parallelByteStream().count()).isEqualTo(10_000L);
+    }
+
+    @Test
+    public void reverse() {
+        ByteConsList<Byte> numbers = byteList((byte) 1, (byte) 1, (byte) 2, (byte) 3, (byte) 5, (byte) 8);
+        assertThat(numbers.byteReverse()).containsExactly((byte) 8, (byte) 5, (byte) 3, (byte) 2, (byte) 1, (byte) 1);
+        assertThat(numbers.reverse()).containsExactly((byte) 8, (byte) 5, (byte) 3, (byte) 2, (byte) 1, (byte) 1);
+    }
+
+    @Test
+    public void byteCons_withNullTail_throwsException() {
+        ByteConsList<Byte> cnslst = null;
+        Throwable t = catchThrowable(() -> byteCons((byte) 1, cnslst));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("tail is null");
+    }
+
+    @Test
+    public void sizeAsLong_value() {
+        ByteConsList<Byte> bs = byteCons((byte) 3, byteCons((byte) 2, byteCons((byte) 1, nil())));
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
+    }
+
+    @Test
+    public void hashCode_value() {
+        ByteConsList<Byte> list = byteCons((byte) 11, byteCons((byte) 11, nil()));
+        assertThat(list.hashCode()).isEqualTo(1313);
+    }
+
+    @Test
+    public void byteConsList_fromCons_returnsSelf() {
+        Iterable<Byte> input = byteList((byte) 1, (byte) 2);
+        ByteConsList<Byte> fromCons = byteConsList(input);
+
+        assertThat(fromCons == input).isTrue();
+    }
+
+    @Test
+    public void byteConsList_fromArraysArrayList_yieldsSameOrderAsList() {
+        Iterable<Byte> input = Arrays.asList((byte) 2, (byte) 1);
+        ByteConsList<Byte> fromCons = byteConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactly((byte) 2, (byte) 1);
+    }
+
+    @Test
+    public void byteConsList_fromIterable_yieldsSameOrder() {
+        List<Byte> source = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            source.add((byte) i);
+        }
+        Iterable<Byte> input = source::iterator;
+        ByteConsList<Byte> fromCons = byteConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(100)
+            .containsExactlyElementsOf(source);
+    }
+
+    @Test
+    public void byteConsList_fromSet_returnsSameElements() {
+        Set<Byte> input = new HashSet<>(Arrays.asList((byte) 2, (byte) 1));
+        ByteConsList<Byte> fromCons = byteConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactlyInAnyOrder((byte) 2, (byte) 1);
+    }
+
+    @Test
+    public void concat_many_yieldsSameOrder() {
+        ByteConsList<Byte> result = concat(byteList((byte) 1), byteList((byte) 1, (byte) 2), byteList((byte) 1, (byte) 2, (byte) 3));
+        assertThat(result)
+            .containsExactly((byte) 1, (byte) 1, (byte) 2, (byte) 1, (byte) 2, (byte) 3);
+    }
+
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        ByteConsList<Byte> last = byteList((byte) 4);
+        ByteConsList<Byte> result = concat(byteList((byte) 1, (byte) 2), byteList((byte) 3), last);
+        assertThat(result)
+            .containsExactly((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
+    @Test
+    public void list_withoutParameters_isNil() {
+        assertThat(byteList()).isEqualTo(nil());
+    }
+
+    @Test
+    public void byteList_arrayRange() {
+        byte[] elements = {(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5};
+        assertThat(byteList(elements, 1, 4))
+            .isEqualTo(byteList(Arrays.copyOfRange(elements, 1, 4)));
+        Throwable t = catchThrowable(() -> byteList(elements, 4, 3));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void toByteConsList_buffer() {
+        byte[] elements = new byte[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = (byte) i;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(elements);
+        buffer.position(10);
+        assertThat(toByteConsList(buffer))
+            .isEqualTo(byteList(elements, 10, elements.length));
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.nblxa.cons;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.Test;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CharConsListEqualsTest {
+
+    @Test
+    public void equalsHashCode_charConsList() {
+        EqualsVerifier.forClass(CharConsListImpl.class)
+            .withPrefabValues(CharConsList.class, charList('a', 'b', 'c'), charList('d', 'e'))
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_charConsListWithNil() {
+        EqualsVerifier.forClass(CharConsListImpl.class)
+            .withPrefabValues(CharConsList.class, charList('a', 'b', 'c'), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_charConsListWithBoxedCons() {
+        EqualsVerifier.forClass(ConsList.class)
+            .withPrefabValues(ConsList.class, charList('a', 'b', 'c'), list('d', 'e'))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_charConsListWithEqualBoxedCons() {
+        CharConsList<Character> pl = charList('a', 'b', 'c');
+        ConsList<Character> l = list('a', 'b', 'c');
+        assertThat(pl.equals(l))
+            .isTrue();
+        assertThat(l.equals(pl))
+            .isTrue();
+        assertThat(pl.hashCode() == l.hashCode())
+            .isTrue();
+    }
+}
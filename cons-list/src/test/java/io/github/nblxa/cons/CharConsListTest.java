@@ -0,0 +1,219 @@
+package io.github.nblxa.cons;
+
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class CharConsListTest {
+
+    @Test
+    public void nil_isEmpty() {
+        CharConsList<Character> empty = nil();
+        assertThat(empty)
+            .hasSize(0)
+            .isEmpty();
+        Throwable t = catchThrowable(empty::charHead);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+        t = catchThrowable(empty::charTail);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void charCons_headAndTail() {
+        CharConsList<Character> list = charCons('a', charCons('b', nil()));
+        assertThat(list.charHead()).isEqualTo('a');
+        assertThat(list.charTail().charHead()).isEqualTo('b');
+        assertThat(list)
+            .hasSize(2)
+            .containsExactly('a', 'b');
+    }
+
+    @Test
+    public void charIterator_returnsPrimitives() {
+        CharConsList<Character> list = charList('a', 'b', 'c');
+        CharConsList.CharIterator iter = list.charIterator();
+        assertThat(iter.nextChar()).isEqualTo('a');
+        assertThat(iter.next()).isEqualTo('b');
+        assertThat(iter.nextChar()).isEqualTo('c');
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextChar);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void spliterator_characteristicsAndData() {
+        CharConsList<Character> numbers = charList('a', 'a', 'b', 'c', 'e', 'h');
+        Spliterator<Character> spliter = numbers.spliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+
+        List<Character> list = StreamSupport.stream(spliter, false)
+            .collect(Collectors.toList());
+        assertThat(list)
+            .containsExactly('a', 'a', 'b', 'c', 'e', 'h');
+    }
+
+    @Test
+    public void charSpliterator_characteristics() {
+        CharConsList<Character> numbers = charList('a', 'a', 'b', 'c', 'e', 'h');
+        Spliterator.OfInt spliter = numbers.charSpliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.getExactSizeIfKnown()).isEqualTo(6L);
+    }
+
+    @Test
+    public void charStream() {
+        CharConsList<Character> numbers = charList('a', 'a', 'b', 'c', 'e', 'h');
+        assertThat(numbers.charStream().isParallel()).isFalse();
+        assertThat(numbers.charStream().sum()).isEqualTo(596);
+    }
+
+    @Test
+    public void parallelCharStream() {
+        CharConsList<Character> numbers = nil();
+        for (int i = 0; i < 10_000; i++) {
+            numbers = charCons((char) ('a' + i % 26), numbers);
+        }
+        assertThat(numbers.parallelCharStream().isParallel()).isTrue();
+        assertThat(numbers.parallelCharStream().sum()).isEqualTo(numbers.charStream().sum());
+        assertThat(numbers.parallelCharStream().count()).isEqualTo(10_000L);
+    }
+
+    @Test
+    public void reverse() {
+        CharConsList<Character> numbers = charList('a', 'a', 'b', 'c', 'e', 'h');
+        assertThat(numbers.charReverse()).containsExactly('h', 'e', 'c', 'b', 'a', 'a');
+        assertThat(numbers.reverse()).containsExactly('h', 'e', 'c', 'b', 'a', 'a');
+    }
+
+    @Test
+    public void charCons_withNullTail_throwsException() {
+        CharConsList<Character> cnslst = null;
+        Throwable t = catchThrowable(() -> charCons('a', cnslst));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("tail is null");
+    }
+
+    @Test
+    public void sizeAsLong_value() {
+        CharConsList<Character> bs = charCons('c', charCons('b', charCons('a', nil())));
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
+    }
+
+    @Test
+    public void hashCode_value() {
+        CharConsList<Character> list = charCons('A', charCons('A', nil()));
+        assertThat(list.hashCode()).isEqualTo(3041);
+    }
+
+    @Test
+    public void charConsList_fromCons_returnsSelf() {
+        Iterable<Character> input = charList('a', 'b');
+        CharConsList<Character> fromCons = charConsList(input);
+
+        assertThat(fromCons == input).isTrue();
+    }
+
+    @Test
+    public void charConsList_fromArraysArrayList_yieldsSameOrderAsList() {
+        Iterable<Character> input = Arrays.asList('b', 'a');
+        CharConsList<Character> fromCons = charConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactly('b', 'a');
+    }
+
+    @Test
+    public void charConsList_fromIterable_yieldsSameOrder() {
+        List<Character> source = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            source.add((char) ('a' + i));
+        }
+        Iterable<Character> input = source::iterator;
+        CharConsList<Character> fromCons = charConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(100)
+            .containsExactlyElementsOf(source);
+    }
+
+    @Test
+    public void charConsList_fromSet_returnsSameElements() {
+        Set<Character> input = new HashSet<>(Arrays.asList('b', 'a'));
+        CharConsList<Character> fromCons = charConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactlyInAnyOrder('b', 'a');
+    }
+
+    @Test
+    public void concat_many_yieldsSameOrder() {
+        CharConsList<Character> result = concat(charList('a'), charList('a', 'b'), charList('a', 'b', 'c'));
+        assertThat(result)
+            .containsExactly('a', 'a', 'b', 'a', 'b', 'c');
+    }
+
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        CharConsList<Character> last = charList('d');
+        CharConsList<Character> result = concat(charList('a', 'b'), charList('c'), last);
+        assertThat(result)
+            .containsExactly('a', 'b', 'c', 'd');
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
+    @Test
+    public void list_withoutParameters_isNil() {
+        assertThat(charList()).isEqualTo(nil());
+    }
+
+    @Test
+    public void charList_arrayRange() {
+        char[] elements = {'a', 'b', 'c', 'd', 'e'};
+        assertThat(charList(elements, 1, 4))
+            .isEqualTo(charList(Arrays.copyOfRange(elements, 1, 4)));
+        Throwable t = catchThrowable(() -> charList(elements, 4, 3));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void toCharConsList_buffer() {
+        char[] elements = new char[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = (char) i;
+        }
+        CharBuffer buffer = CharBuffer.wrap(elements);
+        buffer.position(10);
+        assertThat(toCharConsList(buffer))
+            .isEqualTo(charList(elements, 10, elements.length));
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+    }
+}
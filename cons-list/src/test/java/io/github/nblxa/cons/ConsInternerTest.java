@@ -0,0 +1,140 @@
+package io.github.nblxa.cons;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ConsInternerTest {
+
+    @Test
+    public void cons_sameHeadAndTail_yieldsSameNode() {
+        ConsInterner<String> interner = interner();
+        ConsList<String> first = interner.cons("a", interner.cons("b", nil()));
+        ConsList<String> second = interner.cons("a", interner.cons("b", nil()));
+        assertThat(second)
+            .isSameAs(first)
+            .containsExactly("a", "b");
+        assertThat(interner.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void cons_differentHeads_shareTail() {
+        ConsInterner<String> interner = interner();
+        ConsList<String> tail = interner.cons("b", interner.cons("c", nil()));
+        ConsList<String> first = interner.cons("a", tail);
+        ConsList<String> second = interner.cons("z", interner.cons("b", interner.cons("c", nil())));
+        assertThat(second).isNotEqualTo(first);
+        assertThat(second.tail())
+            .isSameAs(first.tail())
+            .isSameAs(tail);
+        assertThat(interner.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void cons_nullHead() {
+        ConsInterner<String> interner = interner();
+        ConsList<String> first = interner.cons(null, nil());
+        assertThat(interner.cons(null, nil()))
+            .isSameAs(first)
+            .containsExactly((String) null);
+    }
+
+    @Test
+    public void cons_nullTail_throwsNpe() {
+        ConsInterner<String> interner = interner();
+        Throwable t = catchThrowable(() -> interner.cons("a", null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("tail is null");
+    }
+
+    @Test
+    public void cons_foreignTail_isInterned() {
+        ConsInterner<Integer> interner = interner();
+        ConsList<Integer> canonical = interner.intern(list(2, 3));
+        ConsList<Integer> list = interner.cons(1, list(2, 3));
+        assertThat(list).containsExactly(1, 2, 3);
+        assertThat(list.tail()).isSameAs(canonical);
+    }
+
+    @Test
+    public void intern_equalLists_yieldsSameList() {
+        ConsInterner<Integer> interner = interner();
+        ConsList<Integer> first = interner.intern(list(1, 2, 3, 4, 5));
+        ConsList<Integer> second = interner.intern(cons(1, cons(2, cons(3, list(4, 5)))));
+        assertThat(second)
+            .isSameAs(first)
+            .isEqualTo(list(1, 2, 3, 4, 5));
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(list(0, 2, 3, 4, 5)).tail()).isSameAs(first.tail());
+        assertThat(interner.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void intern_nil_yieldsNil() {
+        ConsInterner<Integer> interner = interner();
+        assertThat(interner.intern(nil())).isSameAs(nil());
+        assertThat(interner.size()).isZero();
+    }
+
+    @Test
+    public void intern_otherInternersNode_isCopied() {
+        ConsInterner<Integer> first = interner();
+        ConsInterner<Integer> second = interner();
+        ConsList<Integer> list = first.intern(list(1, 2));
+        ConsList<Integer> copy = second.intern(list);
+        assertThat(copy)
+            .isNotSameAs(list)
+            .isEqualTo(list);
+        assertThat(second.intern(list(1, 2))).isSameAs(copy);
+    }
+
+    @Test
+    public void intern_concurrently_yieldsSameList() throws Exception {
+        ConsInterner<Integer> interner = interner();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ConsList<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    ConsList<Integer> list = nil();
+                    for (int j = 1000; j > 0; j--) {
+                        list = interner.cons(j, list);
+                    }
+                    return list;
+                }));
+            }
+            ConsList<Integer> first = futures.get(0).get();
+            for (Future<ConsList<Integer>> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+            assertThat(first).hasSize(1000);
+            assertThat(interner.size()).isEqualTo(1000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void intern_droppedList_isReclaimedAsAWhole() throws InterruptedException {
+        ConsInterner<Integer> interner = interner();
+        ConsList<Integer> list = interner.intern(consList(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+        assertThat(interner.size()).isEqualTo(10_000);
+        list = null;
+        for (int i = 0; i < 5 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(interner.size()).isZero();
+    }
+}
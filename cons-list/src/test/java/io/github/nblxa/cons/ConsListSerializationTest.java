@@ -6,6 +6,7 @@ import org.junit.Test;
 import java.io.*;
 import java.util.AbstractMap;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static io.github.nblxa.cons.ConsList.*;
@@ -92,6 +93,25 @@ public class ConsListSerializationTest {
             .startsWith(1, 2, 3, 4);
     }
 
+    @Test
+    public void test_unrolled_java() throws IOException, ClassNotFoundException {
+        ConsList<Integer> list = consList(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list.tail());
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isExactlyInstanceOf(UnrolledConsListImpl.class);
+        assertThat((ConsList<Object>) object)
+            .hasSize(99)
+            .startsWith(1, 2, 3)
+            .endsWith(97, 98, 99);
+    }
+
     public static class NonSerializableClass {
     }
 
@@ -231,4 +251,44 @@ public class ConsListSerializationTest {
             .hasMessage("Use serialization proxy!")
             .hasStackTraceContaining(ConsListImpl.class.getCanonicalName());
     }
+
+    @Test
+    public void test_lazy_java() throws IOException, ClassNotFoundException {
+        ConsList<Integer> list = iterate(0, i -> i + 1).take(100);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object)
+            .isInstanceOf(ConsList.class)
+            .isNotInstanceOf(LazyConsList.class);
+        assertThat((ConsList<Object>) object)
+            .hasSize(100)
+            .isEqualTo(list);
+    }
+
+    @Test
+    public void test_virtual_java() throws IOException, ClassNotFoundException {
+        ConsList<Object> list = list(repeat("x", 1_000_000L), intRange(0, 1_000_000, 3), longRange(5L, -5L, -2L));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        assertThat(bytes.length)
+            .isLessThan(1_000);
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object)
+            .isEqualTo(list);
+        assertThat(((ConsList<?>) object).head())
+            .isInstanceOf(RepeatConsListImpl.class);
+    }
 }
@@ -6,6 +6,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static io.github.nblxa.cons.ConsList.*;
@@ -75,11 +76,11 @@ public class ConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<String> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -87,6 +88,62 @@ public class ConsListTest {
             .containsExactly("Hello", "functional", "programming", "!");
     }
 
+    @Test
+    public void spliterator_trySplit_yieldsSizedBatches() {
+        ConsList<Integer> list = consList(IntStream.range(0, 3000).boxed().collect(Collectors.toList()));
+        Spliterator<Integer> spliter = list.spliterator();
+
+        Spliterator<Integer> first = spliter.trySplit();
+        assertThat(first.estimateSize()).isEqualTo(1024L);
+        assertThat(first.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.estimateSize()).isEqualTo(1976L);
+
+        Spliterator<Integer> second = spliter.trySplit();
+        assertThat(second.estimateSize()).isEqualTo(1976L);
+        assertThat(spliter.estimateSize()).isEqualTo(0L);
+        assertThat(spliter.trySplit()).isNull();
+
+        List<Integer> elements = new ArrayList<>();
+        first.forEachRemaining(elements::add);
+        second.forEachRemaining(elements::add);
+        assertThat(elements)
+            .hasSize(3000)
+            .startsWith(0, 1, 2)
+            .endsWith(2997, 2998, 2999);
+    }
+
+    @Test
+    public void spliterator_tryAdvance_decreasesEstimate() {
+        ConsList<String> strings = cons("Hello", list("functional", "programming", "!"));
+        Spliterator<String> spliter = strings.spliterator();
+        List<String> elements = new ArrayList<>();
+
+        assertThat(spliter.tryAdvance(elements::add)).isTrue();
+        assertThat(spliter.estimateSize()).isEqualTo(3L);
+        spliter.forEachRemaining(elements::add);
+        assertThat(spliter.estimateSize()).isEqualTo(0L);
+        assertThat(spliter.tryAdvance(elements::add)).isFalse();
+        assertThat(elements).containsExactly("Hello", "functional", "programming", "!");
+    }
+
+    @Test
+    public void parallelStream_yieldsSameResultAsSequential() {
+        ConsList<Integer> list = nil();
+        for (int i = 99_999; i >= 0; i--) {
+            list = cons(i, list);
+        }
+        List<Integer> doubled = list.parallelStream()
+            .map(i -> i * 2)
+            .collect(Collectors.toList());
+
+        assertThat(doubled)
+            .hasSize(100_000)
+            .startsWith(0, 2, 4)
+            .endsWith(199_994, 199_996, 199_998);
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum())
+            .isEqualTo(4_999_950_000L);
+    }
+
     @Test
     public void cons_withTypeInference() {
         ConsList<Number> n = cons(3.14d, cons(10, nil()));
@@ -197,18 +254,17 @@ public class ConsListTest {
     }
 
     @Test
-    public void hugeList_hasSizeIntMaxValue() {
+    public void sizeAsLong_value() {
         ConsList<Integer> bs = cons(3, cons(2, cons(1, nil())));
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
+    }
 
-        int priorValue = ConsUtil.EMPTY_SIZE;
-        ConsUtil.EMPTY_SIZE = Integer.MAX_VALUE - 1;
-        try {
-            assertThat(bs)
-                .isNotEmpty()
-                .hasSize(Integer.MAX_VALUE);
-        } finally {
-            ConsUtil.EMPTY_SIZE = priorValue;
-        }
+    @Test
+    public void hugeSize_isCappedAtIntMaxValue() {
+        assertThat(ConsUtil.intSize(Integer.MAX_VALUE + 2L)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(ConsUtil.intSize(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(ConsUtil.intSize(3L)).isEqualTo(3);
     }
 
     @Test
@@ -217,6 +273,51 @@ public class ConsListTest {
         assertThat(fortyTwo.hashCode()).isEqualTo(1313);
     }
 
+    @Test
+    public void hashCode_ofEveryTail_matchesListHashCode() {
+        List<Integer> source = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        ConsList<Integer> unrolled = consList(source);
+        ConsList<Integer> consed = nil();
+        for (int i = source.size() - 1; i >= 0; i--) {
+            consed = cons(source.get(i), consed);
+        }
+        for (int i = 0; i < source.size(); i++) {
+            int expected = source.subList(i, source.size()).hashCode();
+            assertThat(unrolled.hashCode()).isEqualTo(expected);
+            assertThat(consed.hashCode()).isEqualTo(expected);
+            unrolled = unrolled.tail();
+            consed = consed.tail();
+        }
+    }
+
+    @Test
+    public void hashCode_withNullElements_matchesListHashCode() {
+        ConsList<String> list = cons(null, list("a", null, "b"));
+        assertThat(list.hashCode()).isEqualTo(Arrays.asList(null, "a", null, "b").hashCode());
+    }
+
+    @Test
+    public void pow31_matchesRepeatedMultiplication() {
+        int p = 1;
+        for (int e = 0; e < 70_000; e++) {
+            assertThat(ConsUtil.pow31(e)).isEqualTo(p);
+            p *= 31;
+        }
+        assertThat(ConsUtil.pow31(1L << 30)).isEqualTo(1);
+        assertThat(ConsUtil.pow31((1L << 40) + 5L)).isEqualTo(ConsUtil.pow31(5L));
+    }
+
+    @Test
+    public void equals_sharedTail() {
+        ConsList<Integer> shared = consList(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        ConsList<Integer> first = cons(1, cons(2, shared));
+        ConsList<Integer> second = cons(1, cons(2, shared));
+        ConsList<Integer> third = cons(1, cons(3, shared));
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(third);
+        assertThat(shared.tail()).isEqualTo(shared.tail());
+    }
+
     @Test
     public void consList_fromNull_throwsNpe() {
         Throwable t = catchThrowable(() -> consList(null));
@@ -280,6 +381,41 @@ public class ConsListTest {
             .containsExactly(1, 1, 1, 1, 2, 1, 1, 3, 3, 1);
     }
 
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        ConsList<Integer> last = list(5, 6);
+        ConsList<Integer> result = concat(list(1, 2), list(3, 4), last);
+        assertThat(result)
+            .containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(result.drop(4))
+            .isSameAs(last);
+    }
+
+    @Test
+    public void concat_iterable_yieldsSameOrder() {
+        List<ConsList<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lists.add(list(2 * i, 2 * i + 1));
+        }
+        ConsList<Integer> result = concat(lists);
+        assertThat(result)
+            .hasSize(2000)
+            .isEqualTo(consList(IntStream.range(0, 2000).boxed().collect(Collectors.toList())));
+        assertThat(result.drop(1998))
+            .isSameAs(lists.get(999));
+        assertThat(concat(Collections.<ConsList<Integer>>emptyList()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void concat_iterableWithNull_throwsException() {
+        Throwable t = catchThrowable(() -> concat(Arrays.asList(list(1), null, list(2))));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasNoCause()
+            .hasMessage("Null concat argument at position 1");
+    }
+
     @Test
     public void concat_oneNullVararg_throwsException() {
         ConsList<Integer>[] nullList = null;
@@ -339,6 +475,84 @@ public class ConsListTest {
             .containsExactly("Apples", "Pears", "Oranges");
     }
 
+    @Test
+    public void list_manyElements_isUnrolled() {
+        Integer[] input = new Integer[70];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = i;
+        }
+        ConsList<Integer> list = list(input);
+        input[0] = -1;
+
+        assertThat(list)
+            .isExactlyInstanceOf(UnrolledConsListImpl.class)
+            .hasSize(70)
+            .startsWith(0, 1, 2)
+            .endsWith(67, 68, 69);
+        assertThat(list.head()).isEqualTo(0);
+        assertThat(list.tail().head()).isEqualTo(1);
+    }
+
+    @Test
+    public void unrolledList_tail_sharesStructure() {
+        ConsList<Integer> list = consList(IntStream.range(0, 70).boxed().collect(Collectors.toList()));
+        ConsList<Integer> first = list;
+        ConsList<Integer> second = list;
+        for (int i = 0; i < 6; i++) {
+            first = first.tail();
+            second = second.tail();
+        }
+        assertThat(first == second).isTrue();
+        assertThat(first)
+            .hasSize(64)
+            .startsWith(6, 7, 8);
+    }
+
+    @Test
+    public void unrolledList_tailAtEnd_isNil() {
+        ConsList<String> list = list("Apples", "Bananas");
+        assertThat(list.tail().tail()).isSameAs(nil());
+    }
+
+    @Test
+    public void unrolledList_equalsAndHashCode_asConsList() {
+        ConsList<Integer> unrolled = list(1, 2, 3, 4);
+        ConsList<Integer> cons = cons(1, cons(2, cons(3, cons(4, nil()))));
+        assertThat(unrolled)
+            .isEqualTo(cons)
+            .hasSameHashCodeAs(cons);
+        assertThat(cons)
+            .isEqualTo(unrolled);
+    }
+
+    @Test
+    public void consOverUnrolled_iterator() {
+        ConsList<Integer> list = cons(-1, list(0, 1, 2));
+        assertThat(list)
+            .hasSize(4)
+            .containsExactly(-1, 0, 1, 2);
+    }
+
+    @Test
+    public void consList_fromIterable_yieldsSameOrder() {
+        Iterable<Integer> input = () -> IntStream.range(0, 100).iterator();
+        ConsList<Integer> fromIterable = consList(input);
+
+        assertThat(fromIterable)
+            .hasSize(100)
+            .startsWith(0, 1, 2)
+            .endsWith(97, 98, 99);
+    }
+
+    @Test
+    public void reverse_manyElements() {
+        ConsList<Integer> list = consList(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        assertThat(list.reverse())
+            .hasSize(100)
+            .startsWith(99, 98, 97)
+            .endsWith(2, 1, 0);
+    }
+
     @Test
     public void consUtil() throws NoSuchMethodException {
         Constructor<ConsUtil> constructor = ConsUtil.class.getDeclaredConstructor();
@@ -355,4 +569,775 @@ public class ConsListTest {
             }
         }
     }
+
+    @Test
+    public void map_yieldsMappedElements() {
+        ConsList<String> list = list(1, 2, 3).map(i -> "#" + i);
+        assertThat(list)
+            .containsExactly("#1", "#2", "#3");
+    }
+
+    @Test
+    public void map_sameInstances_sharesSuffix() {
+        ConsList<String> tail = cons("c", cons("d", nil()));
+        ConsList<String> list = cons("a", cons("b", tail));
+        ConsList<String> mapped = list.map(s -> s.equals("b") ? "B" : s);
+        assertThat(mapped)
+            .containsExactly("a", "B", "c", "d");
+        assertThat(mapped.tail().tail())
+            .isSameAs(tail);
+        assertThat(list.map(s -> s))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void map_unrolled_yieldsMappedElements() {
+        Integer[] elements = new Integer[100];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        ConsList<Integer> mapped = list(elements).map(i -> i * 2);
+        assertThat(mapped)
+            .hasSize(100)
+            .startsWith(0, 2, 4)
+            .endsWith(196, 198);
+        assertThat(mapped.hashCode())
+            .isEqualTo(new ArrayList<>(mapped).hashCode());
+    }
+
+    @Test
+    public void filter_sharesUnchangedSuffix() {
+        ConsList<Integer> tail = cons(5, cons(6, cons(7, nil())));
+        ConsList<Integer> list = cons(1, cons(2, cons(3, cons(4, tail))));
+        ConsList<Integer> filtered = list.filter(i -> i != 2 && i != 4);
+        assertThat(filtered)
+            .containsExactly(1, 3, 5, 6, 7);
+        assertThat(filtered.tail().tail())
+            .isSameAs(tail);
+    }
+
+    @Test
+    public void filter_allMatch_yieldsSameList() {
+        ConsList<Integer> list = list(1, 2, 3);
+        assertThat(list.filter(i -> i > 0))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void filter_noneMatch_yieldsNil() {
+        assertThat(list(1, 2, 3).filter(i -> i > 3))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void filter_unrolled_sharesNodesAfterLastRemoval() {
+        Integer[] elements = new Integer[100];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        ConsList<Integer> list = list(elements);
+        ConsList<Integer> filtered = list.filter(i -> i != 0);
+        assertThat(filtered)
+            .hasSize(99)
+            .startsWith(1, 2, 3)
+            .isEqualTo(list.tail());
+        ConsList<Integer> rest = filtered;
+        for (int i = 0; i < 3; i++) {
+            rest = rest.tail();
+        }
+        assertThat(rest).isInstanceOf(UnrolledConsListImpl.class);
+        assertThat(filtered.filter(i -> i % 2 == 0))
+            .hasSize(49)
+            .startsWith(2, 4, 6);
+    }
+
+    @Test
+    public void flatMap_yieldsConcatenatedResults() {
+        ConsList<Integer> list = list(1, 2, 3).flatMap(i -> Collections.nCopies(i, i));
+        assertThat(list)
+            .containsExactly(1, 2, 2, 3, 3, 3);
+        assertThat(list(1, 2).flatMap(i -> nil()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void transforms_withNullFunction_throwNpe() {
+        ConsList<Integer> list = list(1, 2);
+        assertThat(catchThrowable(() -> list.map(null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("mapper is null");
+        assertThat(catchThrowable(() -> list.filter(null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("predicate is null");
+        assertThat(catchThrowable(() -> list.flatMap(i -> null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("mapper result is null");
+    }
+
+    @Test
+    public void drop_returnsSharedSuffix() {
+        ConsList<Integer> tail = list(4, 5);
+        ConsList<Integer> list = cons(1, cons(2, cons(3, tail)));
+        assertThat(list.drop(3))
+            .isSameAs(tail);
+        assertThat(list.drop(0))
+            .isSameAs(list);
+        assertThat(list.drop(100))
+            .isSameAs(nil());
+        assertThat(list.dropWhile(i -> i < 4))
+            .isSameAs(tail);
+        Throwable t = catchThrowable(() -> list.drop(-1));
+        assertThat(t)
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("n is negative");
+        t = catchThrowable(() -> list.dropWhile(null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("predicate is null");
+    }
+
+    @Test
+    public void drop_insideUnrolledNodes() {
+        ConsList<Integer> list = consList(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        ConsList<Integer> expected = consList(IntStream.range(45, 100).boxed().collect(Collectors.toList()));
+        ConsList<Integer> dropped = list.drop(45);
+        assertThat(dropped)
+            .isEqualTo(expected)
+            .hasSize(55);
+        assertThat(dropped.hashCode())
+            .isEqualTo(expected.hashCode());
+        assertThat(list.drop(64))
+            .isEqualTo(expected.drop(19));
+    }
+
+    @Test
+    public void take_copiesOnlyThePrefix() {
+        ConsList<Integer> list = list(1, 2, 3, 4, 5);
+        assertThat(list.take(2))
+            .containsExactly(1, 2);
+        assertThat(list.take(5))
+            .isSameAs(list);
+        assertThat(list.take(0))
+            .isSameAs(nil());
+        assertThat(list.takeWhile(i -> i < 4))
+            .containsExactly(1, 2, 3);
+        assertThat(list.takeWhile(i -> i > 0))
+            .isSameAs(list);
+        Throwable t = catchThrowable(() -> list.take(-1));
+        assertThat(t)
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("n is negative");
+    }
+
+    @Test
+    public void splitAt_sharesSuffix() {
+        ConsList<Integer> tail = list(3, 4);
+        ConsList<Integer> list = cons(1, cons(2, tail));
+        ConsList<ConsList<Integer>> parts = list.splitAt(2);
+        assertThat(parts)
+            .hasSize(2);
+        assertThat(parts.head())
+            .containsExactly(1, 2);
+        assertThat(parts.tail().head())
+            .isSameAs(tail);
+        assertThat(list.splitAt(0))
+            .containsExactly(nil(), list);
+    }
+
+    @Test
+    public void sorted_matchesCollectionsSort() {
+        Random rand = new Random(42L);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            elements.add(rand.nextInt(1000));
+        }
+        ConsList<Integer> list = consList(elements);
+        Collections.sort(elements);
+        assertThat(list.sorted())
+            .containsExactlyElementsOf(elements);
+        Collections.reverse(elements);
+        assertThat(list.sorted(Comparator.reverseOrder()))
+            .containsExactlyElementsOf(elements);
+    }
+
+    @Test
+    public void sorted_isStable() {
+        ConsList<String> list = list("b1", "a1", "c1", "a2", "b2", "a3", "c2");
+        assertThat(list.sorted(Comparator.comparing(s -> s.charAt(0))))
+            .containsExactly("a1", "a2", "a3", "b1", "b2", "c1", "c2");
+    }
+
+    @Test
+    public void sorted_runs() {
+        ConsList<Integer> sorted = list(1, 2, 2, 3);
+        assertThat(sorted.sorted())
+            .isSameAs(sorted);
+        assertThat(list(5, 4, 3, 2, 1).sorted())
+            .containsExactly(1, 2, 3, 4, 5);
+        assertThat(list(3, 2, 1, 4, 5, 9, 8, 7, 6).sorted())
+            .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(nil().sorted())
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> sorted.sorted(null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("comparator is null");
+    }
+
+    @Test
+    public void foldLeft_foldRight_order() {
+        ConsList<String> list = list("a", "b", "c");
+        assertThat(list.foldLeft("", (acc, s) -> acc + s))
+            .isEqualTo("abc");
+        assertThat(list.foldRight("", (s, acc) -> acc + s))
+            .isEqualTo("cba");
+        assertThat(nil().foldRight("x", (s, acc) -> acc + s))
+            .isEqualTo("x");
+        Throwable t = catchThrowable(() -> list.foldLeft("", null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("operator is null");
+    }
+
+    @Test
+    public void foldRight_longList_doesNotOverflowTheStack() {
+        ConsList<Integer> list = nil();
+        for (int i = 0; i < 1_000_000; i++) {
+            list = cons(i, list);
+        }
+        ConsList<Integer> empty = nil();
+        ConsList<Integer> copy = list.foldRight(empty, ConsList::cons);
+        assertThat(copy)
+            .isEqualTo(list);
+    }
+
+    @Test
+    public void zip_stopsAtTheShorterList() {
+        ConsList<String> names = list("a", "b", "c");
+        ConsList<Integer> counts = list(1, 2);
+        assertThat(zip(names, counts, (s, i) -> s + i))
+            .containsExactly("a1", "b2");
+        assertThat(zip(counts, names, (i, s) -> s + i))
+            .containsExactly("a1", "b2");
+        assertThat(zip(names, nil(), (s, o) -> s))
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> zip(names, null, (s, o) -> s));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("second is null");
+    }
+
+    @Test
+    public void zipWithIndex() {
+        ConsList<String> list = list("a", "b", "c");
+        assertThat(list.zipWithIndex((s, i) -> s + i))
+            .containsExactly("a0", "b1", "c2");
+        Throwable t = catchThrowable(() -> list.zipWithIndex(null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("zipper is null");
+    }
+
+    @Test
+    public void toArray_mixedNodes() {
+        ConsList<Integer> unrolled = consList(IntStream.range(2, 100).boxed().collect(Collectors.toList()));
+        ConsList<Integer> list = cons(0, cons(1, unrolled));
+        Integer[] expected = IntStream.range(0, 100).boxed().toArray(Integer[]::new);
+        assertThat(list.toArray())
+            .containsExactly((Object[]) expected);
+        assertThat(list.toArray(new Integer[0]))
+            .isExactlyInstanceOf(Integer[].class)
+            .containsExactly(expected);
+        Integer[] larger = new Integer[102];
+        Arrays.fill(larger, -1);
+        assertThat(list.toArray(larger))
+            .isSameAs(larger);
+        assertThat(larger[100])
+            .isNull();
+        assertThat(larger[101])
+            .isEqualTo(-1);
+    }
+
+    @Test
+    public void partition_sharesMatchingSuffix() {
+        ConsList<Integer> tail = list(6, 8);
+        ConsList<Integer> list = cons(1, cons(2, cons(3, tail)));
+        ConsList<ConsList<Integer>> parts = list.partition(i -> i % 2 == 0);
+        assertThat(parts)
+            .hasSize(2);
+        assertThat(parts.head())
+            .containsExactly(2, 6, 8);
+        assertThat(parts.head().tail())
+            .isSameAs(tail);
+        assertThat(parts.tail().head())
+            .containsExactly(1, 3);
+        assertThat(list.partition(i -> false))
+            .containsExactly(nil(), list);
+        Throwable t = catchThrowable(() -> list.partition(null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("predicate is null");
+    }
+
+    @Test
+    public void groupBy_keepsOrder() {
+        ConsList<String> list = list("bb", "a", "ccc", "dd", "e");
+        Map<Integer, ConsList<String>> groups = list.groupBy(String::length);
+        assertThat(groups.keySet())
+            .containsExactly(2, 1, 3);
+        assertThat(groups.get(2))
+            .containsExactly("bb", "dd");
+        assertThat(groups.get(1))
+            .containsExactly("a", "e");
+        assertThat(groups.get(3))
+            .containsExactly("ccc");
+        Throwable t = catchThrowable(() -> groups.put(4, nil()));
+        assertThat(t)
+            .isExactlyInstanceOf(UnsupportedOperationException.class);
+        t = catchThrowable(() -> list.groupBy(null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("classifier is null");
+    }
+
+    @Test
+    public void distinct_keepsFirstOccurrences() {
+        ConsList<Integer> tail = list(4, 5);
+        ConsList<Integer> list = cons(1, cons(2, cons(1, cons(3, cons(2, tail)))));
+        ConsList<Integer> distinct = list.distinct();
+        assertThat(distinct)
+            .containsExactly(1, 2, 3, 4, 5);
+        assertThat(distinct.tail().tail().tail())
+            .isSameAs(tail);
+        assertThat(tail.distinct())
+            .isSameAs(tail);
+        assertThat(list(null, 1, null).distinct())
+            .containsExactly(null, 1);
+    }
+
+    @Test
+    public void updatedInsertAtRemoveAt_shareSuffix() {
+        ConsList<Integer> tail = list(4, 5);
+        ConsList<Integer> list = cons(1, cons(2, cons(3, tail)));
+        ConsList<Integer> updated = list.updated(2, 30);
+        assertThat(updated)
+            .containsExactly(1, 2, 30, 4, 5);
+        assertThat(updated.tail().tail().tail())
+            .isSameAs(tail);
+        ConsList<Integer> inserted = list.insertAt(3, 35);
+        assertThat(inserted)
+            .containsExactly(1, 2, 3, 35, 4, 5);
+        assertThat(inserted.tail().tail().tail().tail())
+            .isSameAs(tail);
+        assertThat(list.insertAt(5, 6))
+            .containsExactly(1, 2, 3, 4, 5, 6);
+        ConsList<Integer> removed = list.removeAt(2);
+        assertThat(removed)
+            .containsExactly(1, 2, 4, 5);
+        assertThat(removed.tail().tail())
+            .isSameAs(tail);
+        assertThat(removed.hashCode())
+            .isEqualTo(list(1, 2, 4, 5).hashCode());
+        assertThat(list)
+            .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void updatedInsertAtRemoveAt_indexOutOfBounds() {
+        ConsList<Integer> list = list(1, 2, 3);
+        Throwable t = catchThrowable(() -> list.updated(3, 0));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("index out of bounds: 3");
+        t = catchThrowable(() -> list.insertAt(-1, 0));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("index out of bounds: -1");
+        t = catchThrowable(() -> list.removeAt(3));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("index out of bounds: 3");
+    }
+
+    @Test
+    public void removeFirst_onlyFirstOccurrence() {
+        ConsList<String> list = list("a", null, "b", "a");
+        assertThat(list.removeFirst("a"))
+            .containsExactly(null, "b", "a");
+        assertThat(list.removeFirst(null))
+            .containsExactly("a", "b", "a");
+        assertThat(list.removeFirst("c"))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void updated_insideUnrolledNode() {
+        ConsList<Integer> list = consList(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        List<Integer> expected = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        expected.set(40, -1);
+        ConsList<Integer> updated = list.updated(40, -1);
+        assertThat(updated)
+            .containsExactlyElementsOf(expected);
+        assertThat(updated)
+            .isEqualTo(consList(expected));
+        assertThat(updated.hashCode())
+            .isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void builder_appendsInOrder() {
+        ConsList.Builder<Integer> builder = builder();
+        for (int i = 0; i < 70; i++) {
+            builder.add(i);
+        }
+        ConsList<Integer> first = builder.build();
+        builder.add(70).addAll(Arrays.asList(71, null));
+        assertThat(builder.size())
+            .isEqualTo(73L);
+        List<Integer> expected = IntStream.range(0, 70).boxed().collect(Collectors.toList());
+        assertThat(first)
+            .containsExactlyElementsOf(expected);
+        assertThat(first.hashCode())
+            .isEqualTo(expected.hashCode());
+        expected.add(70);
+        expected.add(71);
+        expected.add(null);
+        assertThat(builder.build())
+            .containsExactlyElementsOf(expected);
+        assertThat(ConsList.<Integer>builder().build())
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> builder.addAll(null));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("iterable is null");
+    }
+
+    @Test
+    public void consList_nonCollectionIterable() {
+        Iterable<Integer> iterable = () -> IntStream.range(0, 100).iterator();
+        assertThat(consList(iterable))
+            .containsExactlyElementsOf(iterable);
+    }
+
+    @Test
+    public void toConsCollector_parallel() {
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        ConsList<Integer> list = expected.parallelStream()
+            .collect(toConsCollector());
+        assertThat(list)
+            .containsExactlyElementsOf(expected);
+        assertThat(list.hashCode())
+            .isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void toConsCollector_parallelUnevenSegments() {
+        List<Integer> expected = IntStream.range(0, 100_000)
+            .filter(i -> i % 7 != 0)
+            .boxed()
+            .collect(Collectors.toList());
+        ConsList<Integer> list = IntStream.range(0, 100_000)
+            .parallel()
+            .filter(i -> i % 7 != 0)
+            .boxed()
+            .collect(toConsCollector());
+        assertThat(list)
+            .containsExactlyElementsOf(expected);
+        assertThat(list.hashCode())
+            .isEqualTo(expected.hashCode());
+        assertThat(list.filter(i -> i >= 50_000))
+            .containsExactlyElementsOf(expected.subList(expected.indexOf(50_000), expected.size()));
+    }
+
+    @Test
+    public void iterate_unboundedWithTake() {
+        ConsList<Integer> naturals = iterate(0, i -> i + 1);
+        assertThat(naturals.take(5))
+            .containsExactly(0, 1, 2, 3, 4);
+        assertThat(naturals.filter(i -> i % 3 == 0).map(i -> i * 2).take(4))
+            .containsExactly(0, 6, 12, 18);
+        assertThat(naturals.drop(1_000_000).head())
+            .isEqualTo(1_000_000);
+        assertThat(naturals.takeWhile(i -> i < 3))
+            .containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void iterate_tailsAreComputedOnce() {
+        int[] calls = new int[1];
+        ConsList<Integer> list = iterate(0, i -> {
+            calls[0]++;
+            return i + 1;
+        });
+        assertThat(calls[0])
+            .isZero();
+        assertThat(list.take(10))
+            .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(calls[0])
+            .isEqualTo(9);
+        assertThat(list.take(10))
+            .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(list.tail().tail().head())
+            .isEqualTo(2);
+        assertThat(calls[0])
+            .isEqualTo(9);
+    }
+
+    @Test
+    public void iterate_concurrentAccess() throws InterruptedException {
+        int[] calls = new int[1];
+        ConsList<Integer> list = iterate(0, i -> {
+            synchronized (calls) {
+                calls[0]++;
+            }
+            return i + 1;
+        });
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> list.drop(9_999).head());
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(calls[0])
+            .isEqualTo(9_999);
+        assertThat(list.take(10_000))
+            .containsExactlyElementsOf(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void iterate_streamInConstantMemory() {
+        long sum = iterate(0L, i -> i + 1L)
+            .stream()
+            .limit(5_000_000L)
+            .mapToLong(Long::longValue)
+            .sum();
+        assertThat(sum)
+            .isEqualTo(4_999_999L * 5_000_000L / 2L);
+    }
+
+    @Test
+    public void generate_requestsElementsOnDemand() {
+        int[] counter = new int[1];
+        ConsList<Integer> list = generate(() -> counter[0]++);
+        assertThat(counter[0])
+            .isEqualTo(1);
+        assertThat(list.take(3))
+            .containsExactly(0, 1, 2);
+        assertThat(counter[0])
+            .isEqualTo(3);
+    }
+
+    @Test
+    public void unfold_finite() {
+        ConsList<Integer> fibonacci = unfold(new int[] {0, 1}, s -> s[0] > 50
+            ? Optional.empty()
+            : Optional.of(new AbstractMap.SimpleImmutableEntry<>(s[0], new int[] {s[1], s[0] + s[1]})));
+        assertThat(fibonacci)
+            .containsExactly(0, 1, 1, 2, 3, 5, 8, 13, 21, 34)
+            .hasSize(10);
+        assertThat(fibonacci)
+            .isEqualTo(list(0, 1, 1, 2, 3, 5, 8, 13, 21, 34));
+        assertThat(list(0, 1, 1, 2, 3, 5, 8, 13, 21, 34))
+            .isEqualTo(fibonacci);
+        assertThat(fibonacci.hashCode())
+            .isEqualTo(list(0, 1, 1, 2, 3, 5, 8, 13, 21, 34).hashCode());
+        assertThat(fibonacci.reverse())
+            .containsExactly(34, 21, 13, 8, 5, 3, 2, 1, 1, 0);
+    }
+
+    @Test
+    public void unfold_empty() {
+        assertThat(unfold(0, s -> Optional.<Map.Entry<Integer, Integer>>empty()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void fromIterator_doesNotReadAhead() {
+        Iterator<String> source = Arrays.asList("a", "b", "c", "d").iterator();
+        ConsList<String> list = fromIterator(source);
+        assertThat(list.head())
+            .isEqualTo("a");
+        assertThat(list.take(2))
+            .containsExactly("a", "b");
+        assertThat(source.next())
+            .isEqualTo("c");
+        assertThat(list)
+            .containsExactly("a", "b", "d");
+        assertThat(fromIterator(Collections.emptyIterator()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void fromSpliterator_ofStream() {
+        ConsList<Integer> list = fromSpliterator(IntStream.iterate(1, i -> i * 2).boxed().spliterator());
+        assertThat(list.take(6))
+            .containsExactly(1, 2, 4, 8, 16, 32);
+        assertThat(list.toString())
+            .isEqualTo("[1, 2, 4, 8, 16, 32, ...]");
+    }
+
+    @Test
+    public void lazyList_nullArguments() {
+        assertThat(catchThrowable(() -> iterate(0, null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("operator is null");
+        assertThat(catchThrowable(() -> unfold(0, null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("step is null");
+        assertThat(catchThrowable(() -> generate(null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("supplier is null");
+        assertThat(catchThrowable(() -> fromIterator(null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("iterator is null");
+        assertThat(catchThrowable(() -> fromSpliterator(null)))
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("spliterator is null");
+        ConsList<Integer> lazy = iterate(0, i -> null);
+        assertThat(lazy.take(2))
+            .containsExactly(0, null);
+    }
+
+    @Test
+    public void cons_ontoLazyList_staysLazy() {
+        int[] calls = new int[1];
+        ConsList<Integer> lazy = iterate(1, i -> {
+            calls[0]++;
+            return i + 1;
+        });
+        ConsList<Integer> list = cons(0, lazy);
+        assertThat(list.take(3))
+            .containsExactly(0, 1, 2);
+        ConsList<Integer> concatenated = concat(list(-2, -1), list);
+        assertThat(concatenated.take(5))
+            .containsExactly(-2, -1, 0, 1, 2);
+        assertThat(calls[0])
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void lazyList_updatedOnUnboundedList() {
+        ConsList<Integer> naturals = iterate(0, i -> i + 1);
+        assertThat(naturals.updated(2L, -1).take(5))
+            .containsExactly(0, 1, -1, 3, 4);
+        assertThat(naturals.updated(0L, -1).take(3))
+            .containsExactly(-1, 1, 2);
+        assertThat(catchThrowable(() -> naturals.updated(-1L, 0)))
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> naturals.take(3).updated(3L, 0)))
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void lazyList_insertAtOnUnboundedList() {
+        ConsList<Integer> naturals = iterate(0, i -> i + 1);
+        assertThat(naturals.insertAt(2L, -1).take(5))
+            .containsExactly(0, 1, -1, 2, 3);
+        assertThat(naturals.insertAt(0L, -1).take(3))
+            .containsExactly(-1, 0, 1);
+        assertThat(naturals.take(3).insertAt(3L, -1))
+            .containsExactly(0, 1, 2, -1);
+        assertThat(catchThrowable(() -> naturals.take(3).insertAt(4L, 0)))
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void lazyList_removeAtOnUnboundedList() {
+        ConsList<Integer> naturals = iterate(0, i -> i + 1);
+        assertThat(naturals.removeAt(2L).take(4))
+            .containsExactly(0, 1, 3, 4);
+        assertThat(naturals.removeAt(0L).take(2))
+            .containsExactly(1, 2);
+        assertThat(naturals.take(3).removeAt(2L))
+            .containsExactly(0, 1);
+        assertThat(catchThrowable(() -> naturals.take(3).removeAt(3L)))
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void lazyList_splitAtOnUnboundedList() {
+        int[] calls = new int[1];
+        ConsList<Integer> naturals = iterate(0, i -> {
+            calls[0]++;
+            return i + 1;
+        });
+        ConsList<ConsList<Integer>> parts = naturals.splitAt(3L);
+        assertThat(parts.head())
+            .containsExactly(0, 1, 2);
+        assertThat(parts.tail().head().take(2))
+            .containsExactly(3, 4);
+        assertThat(parts.tail().tail())
+            .isSameAs(nil());
+        assertThat(calls[0])
+            .isEqualTo(4);
+    }
+
+    @Test
+    public void lazyList_cachesHashCodeAndSize() {
+        int[] hashCalls = new int[1];
+        Object element = new Object() {
+            @Override
+            public int hashCode() {
+                hashCalls[0]++;
+                return -31;
+            }
+        };
+        ConsList<Object> lazy = fromIterator(Collections.singletonList(element).iterator());
+        assertThat(lazy.hashCode())
+            .isZero();
+        assertThat(lazy.hashCode())
+            .isZero();
+        assertThat(hashCalls[0])
+            .isEqualTo(1);
+        ConsList<Integer> naturals = iterate(0, i -> i + 1).take(1000);
+        assertThat(naturals.tail().sizeAsLong())
+            .isEqualTo(999L);
+        assertThat(naturals.sizeAsLong())
+            .isEqualTo(1000L);
+        assertThat(naturals.size())
+            .isEqualTo(1000);
+    }
+
+    @Test
+    public void repeat_virtualList() {
+        ConsList<String> padding = repeat("-", 1_000_000_000L);
+        assertThat(padding.sizeAsLong())
+            .isEqualTo(1_000_000_000L);
+        assertThat(padding.contains("-"))
+            .isTrue();
+        assertThat(padding.contains("+"))
+            .isFalse();
+        assertThat(padding.take(3))
+            .containsExactly("-", "-", "-")
+            .isEqualTo(list("-", "-", "-"))
+            .hasSameHashCodeAs(list("-", "-", "-"));
+        assertThat(padding.drop(999_999_999L))
+            .containsExactly("-");
+        assertThat(padding.reverse())
+            .isSameAs(padding);
+        assertThat(padding.distinct())
+            .containsExactly("-");
+        assertThat(padding.tail().sizeAsLong())
+            .isEqualTo(999_999_999L);
+        assertThat(repeat(null, 3))
+            .containsExactly(null, null, null)
+            .isEqualTo(list(null, null, null))
+            .hasSameHashCodeAs(Arrays.asList(null, null, null));
+        assertThat(repeat("x", 0))
+            .isSameAs(nil());
+        List<Integer> expected = Collections.nCopies(12_345, 7);
+        assertThat(repeat(7, 12_345))
+            .hasSameHashCodeAs(expected)
+            .containsExactlyElementsOf(expected);
+        assertThat(repeat(7, 12_345).toArray())
+            .containsExactlyElementsOf(expected);
+        assertThat(repeat(7, 12_345).parallelStream().mapToInt(Integer::intValue).sum())
+            .isEqualTo(7 * 12_345);
+        Throwable t = catchThrowable(() -> repeat("x", -1));
+        assertThat(t)
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("n is negative");
+    }
 }
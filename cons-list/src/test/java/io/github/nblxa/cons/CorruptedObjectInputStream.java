@@ -33,6 +33,34 @@ public class CorruptedObjectInputStream extends ObjectInputStream {
         return value;
     }
 
+    @Override
+    public float readFloat() throws IOException {
+        float value = super.readFloat();
+        considerCorrupting(value);
+        return value;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        short value = super.readShort();
+        considerCorrupting(value);
+        return value;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        byte value = super.readByte();
+        considerCorrupting(value);
+        return value;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        char value = super.readChar();
+        considerCorrupting(value);
+        return value;
+    }
+
     private void considerCorrupting(Object value) {
         if (valueToCorrupt.equals(value)) {
             throw new NullPointerException();
@@ -30,6 +30,30 @@ public class CorruptedObjectOutputStream extends ObjectOutputStream {
         super.writeLong(val);
     }
 
+    @Override
+    public void writeFloat(float val) throws IOException {
+        considerCorrupting(val);
+        super.writeFloat(val);
+    }
+
+    @Override
+    public void writeShort(int val) throws IOException {
+        considerCorrupting((short) val);
+        super.writeShort(val);
+    }
+
+    @Override
+    public void writeByte(int val) throws IOException {
+        considerCorrupting((byte) val);
+        super.writeByte(val);
+    }
+
+    @Override
+    public void writeChar(int val) throws IOException {
+        considerCorrupting((char) val);
+        super.writeChar(val);
+    }
+
     private void considerCorrupting(Object value) {
         if (valueToCorrupt.equals(value)) {
             throw new NullPointerException();
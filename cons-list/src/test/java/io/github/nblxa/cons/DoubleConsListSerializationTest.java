@@ -123,6 +123,64 @@ public class DoubleConsListSerializationTest {
             .hasCauseExactlyInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    public void test_compressed_java() throws IOException, ClassNotFoundException {
+        double[] elements = new double[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 0.25d;
+        }
+        DoubleConsList<Double> list = CompressedDoubleConsListImpl.prepend(elements, 0, elements.length,
+            doubleList(-7.0d, -8.0d)).doubleTail();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(CompressedDoubleConsListImpl.class);
+        assertThat((DoubleConsList<Double>) object)
+            .hasSize(1001)
+            .isEqualTo(list)
+            .startsWith(0.25d, 0.5d, 0.75d)
+            .endsWith(249.75d, -7.0d, -8.0d);
+    }
+
+    @Test
+    public void test_compressedSerializeError_java() throws IOException {
+        DoubleConsList<Double> list = compressedDoubleList(1.0d, 2.0d, 3.0d);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new CorruptedObjectOutputStream(new ObjectOutputStream(bos), 1.0d);
+        Throwable t = catchThrowable(() -> os.writeObject(list));
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not serialize element at 0-based position: 0")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_compressedCorruptStream_java() throws IOException {
+        DoubleConsList<Double> list = compressedDoubleList(1.0d, 2.0d, 3.0d);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        // corrupt the stream
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new CorruptedObjectInputStream(new ByteArrayInputStream(bytes), 1.0d);
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not de-serialize element at 0-based position: 2")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
     @Test
     public void test_nil_jacksonAsList() throws IOException {
         DoubleConsList<Double> empty = nil();
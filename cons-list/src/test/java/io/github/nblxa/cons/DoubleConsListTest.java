@@ -2,9 +2,14 @@ package io.github.nblxa.cons;
 
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.*;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static io.github.nblxa.cons.ConsList.*;
@@ -100,11 +105,11 @@ public class DoubleConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<Double> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -120,11 +125,11 @@ public class DoubleConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<Double> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -141,6 +146,29 @@ public class DoubleConsListTest {
         assertThat(sum).isEqualTo(20.6d);
     }
 
+    @Test
+    public void parallelDoubleStream() {
+        DoubleConsList<Double> numbers = doubleList(IntStream.range(0, 10_000).asDoubleStream().toArray());
+        assertThat(numbers.parallelDoubleStream().isParallel()).isTrue();
+        double sum = numbers.parallelDoubleStream().sum();
+        assertThat(sum).isEqualTo(49_995_000d);
+    }
+
+    @Test
+    public void doubleSpliterator_trySplit_keepsOrder() {
+        DoubleConsList<Double> numbers = doubleList(IntStream.range(0, 10_000).asDoubleStream().toArray());
+        Spliterator.OfDouble spliter = numbers.doubleSpliterator();
+        Spliterator.OfDouble prefix = spliter.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliter.estimateSize()).isEqualTo(10_000L);
+        assertThat(prefix.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+
+        List<Double> list = new ArrayList<>();
+        prefix.forEachRemaining((DoubleConsumer) list::add);
+        spliter.forEachRemaining((DoubleConsumer) list::add);
+        assertThat(list).containsExactlyElementsOf(numbers);
+    }
+
     @Test
     public void cons_withExplicitType() {
         DoubleConsList<Double> i = doubleCons(10.1d, nil());
@@ -200,18 +228,10 @@ public class DoubleConsListTest {
     }
 
     @Test
-    public void hugeList_hasSizeIntMaxValue() throws NoSuchFieldException, IllegalAccessException {
+    public void sizeAsLong_value() {
         DoubleConsList<Double> bs = doubleCons(3.1d, doubleCons(2.1d, doubleCons(1.1d, nil())));
-
-        int priorValue = ConsUtil.EMPTY_SIZE;
-        ConsUtil.EMPTY_SIZE = Integer.MAX_VALUE - 1;
-        try {
-            assertThat(bs)
-                .isNotEmpty()
-                .hasSize(Integer.MAX_VALUE);
-        } finally {
-            ConsUtil.EMPTY_SIZE = priorValue;
-        }
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
     }
 
     @Test
@@ -283,6 +303,16 @@ public class DoubleConsListTest {
             .containsExactly(1.1d, 1.1d, 1.1d, 1.1d, 2.1d, 1.1d, 1.1d, 3.1d, 3.1d, 1.1d);
     }
 
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        DoubleConsList<Double> last = doubleList(4.0d);
+        DoubleConsList<Double> result = concat(doubleList(1.0d, 2.0d), doubleList(3.0d), last);
+        assertThat(result)
+            .containsExactly(1.0d, 2.0d, 3.0d, 4.0d);
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
     @Test
     public void concat_oneNullVararg_throwsException() {
         DoubleConsList<Double>[] nullList = null;
@@ -319,4 +349,349 @@ public class DoubleConsListTest {
             .hasNoCause()
             .hasMessage("Null concat argument at position 0");
     }
+
+    @Test
+    public void compressedDoubleList_sameElementsAsDoubleList() {
+        double[] elements = new double[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = 20.0d + Math.round(Math.sin(i / 50.0d) * 100.0d) / 10.0d;
+        }
+        DoubleConsList<Double> compressed = compressedDoubleList(elements);
+        DoubleConsList<Double> plain = doubleList(elements);
+        assertThat(compressed)
+            .hasSize(1000)
+            .isEqualTo(plain)
+            .containsExactlyElementsOf(plain);
+        assertThat(compressed.hashCode())
+            .isEqualTo(plain.hashCode());
+        assertThat(compressed.doubleStream().toArray())
+            .containsExactly(elements);
+        assertThat(compressed.parallelDoubleStream().toArray())
+            .containsExactly(elements);
+    }
+
+    @Test
+    public void compressedDoubleList_specialValues() {
+        double[] elements = {0.0d, -0.0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 1.0d, 1.0d, Double.NaN};
+        DoubleConsList<Double> list = compressedDoubleList(elements);
+        assertThat(list)
+            .isEqualTo(doubleList(elements));
+        assertThat(list.doubleTail().doubleHead())
+            .isEqualTo(-0.0d);
+    }
+
+    @Test
+    public void compressedDoubleList_tail_keepsHeadSizeAndHash() {
+        double[] elements = new double[300];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i % 7 == 0 ? elements[Math.max(i - 1, 0)] : 1000.0d / (i + 1);
+        }
+        DoubleConsList<Double> list = compressedDoubleList(elements);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(list.doubleHead()).isEqualTo(elements[i]);
+            assertThat(list.sizeAsLong()).isEqualTo(elements.length - i);
+            assertThat(list.hashCode())
+                .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(elements, i, elements.length)));
+            list = list.doubleTail();
+        }
+        assertThat(list).isSameAs(nil());
+    }
+
+    @Test
+    public void compressedDoubleList_withoutParameters_isNil() {
+        assertThat(compressedDoubleList()).isSameAs(nil());
+    }
+
+    @Test
+    public void compressedDoubleList_reverse() {
+        DoubleConsList<Double> list = compressedDoubleList(3.0d, 1.5d, 4.0d, 1.5d, 5.25d);
+        assertThat(list.doubleReverse())
+            .isInstanceOf(CompressedDoubleConsListImpl.class)
+            .containsExactly(5.25d, 1.5d, 4.0d, 1.5d, 3.0d);
+    }
+
+    @Test
+    public void compressedDoubleList_consedOnto_iteratesAll() {
+        DoubleConsList<Double> list = doubleCons(-1.0d, doubleCons(0.0d, compressedDoubleList(10.0d, 20.0d, 30.0d)));
+        assertThat(list)
+            .containsExactly(-1.0d, 0.0d, 10.0d, 20.0d, 30.0d)
+            .isEqualTo(doubleList(-1.0d, 0.0d, 10.0d, 20.0d, 30.0d));
+    }
+
+    @Test
+    public void compressedDoubleConsList_fromIterable() {
+        List<Double> source = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            source.add(Math.sqrt(i));
+        }
+        assertThat(compressedDoubleConsList(source))
+            .containsExactlyElementsOf(source);
+        assertThat(compressedDoubleConsList(Collections.emptyList()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void mapToDouble_sharesUnchangedSuffix() {
+        DoubleConsList<Double> tail = doubleList(5.0d, 6.0d);
+        DoubleConsList<Double> list = doubleCons(1.0d, doubleCons(2.0d, tail));
+        DoubleConsList<Double> mapped = list.mapToDouble(x -> x < 5.0d ? x * 10.0d : x);
+        assertThat(mapped)
+            .containsExactly(10.0d, 20.0d, 5.0d, 6.0d);
+        assertThat(mapped.doubleTail().doubleTail())
+            .isSameAs(tail);
+        assertThat(list.mapToDouble(x -> x))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void mapToOtherTypes() {
+        DoubleConsList<Double> list = doubleList(1.0d, 2.0d, 3.0d);
+        assertThat(list.mapToInt(x -> (int) x + 1))
+            .isInstanceOf(IntConsList.class)
+            .containsExactly(2, 3, 4);
+        assertThat(list.mapToLong(x -> (long) x * 3L))
+            .isInstanceOf(LongConsList.class)
+            .containsExactly(3L, 6L, 9L);
+        assertThat(list.mapToDouble(x -> x / 2.0d))
+            .isInstanceOf(DoubleConsList.class)
+            .containsExactly(0.5d, 1.0d, 1.5d);
+    }
+
+    @Test
+    public void filterDouble_sharesUnchangedSuffix() {
+        DoubleConsList<Double> tail = doubleList(5.0d, 6.0d);
+        DoubleConsList<Double> list = doubleCons(1.0d, doubleCons(2.0d, doubleCons(3.0d, tail)));
+        DoubleConsList<Double> filtered = list.filterDouble(x -> x != 2.0d);
+        assertThat(filtered)
+            .containsExactly(1.0d, 3.0d, 5.0d, 6.0d);
+        assertThat(filtered.doubleTail().doubleTail())
+            .isSameAs(tail);
+        assertThat(list.filterDouble(x -> x > 0.0d))
+            .isSameAs(list);
+        assertThat(list.filterDouble(x -> x > 6.0d))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void filterDouble_compressed() {
+        double[] elements = new double[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        DoubleConsList<Double> list = compressedDoubleList(elements);
+        DoubleConsList<Double> filtered = list.filterDouble(x -> x % 2.0d == 0.0d);
+        assertThat(filtered)
+            .hasSize(500)
+            .startsWith(0.0d, 2.0d, 4.0d)
+            .endsWith(996.0d, 998.0d);
+        assertThat(list.filterDouble(x -> x != 0.0d))
+            .isEqualTo(list.doubleTail());
+        assertThat(list.mapToDouble(x -> x + 1.0d))
+            .hasSize(1000)
+            .startsWith(1.0d, 2.0d);
+    }
+
+    @Test
+    public void drop_take_keepPrimitiveType() {
+        DoubleConsList<Double> tail = doubleList(4.0d, 5.0d);
+        DoubleConsList<Double> list = doubleCons(1.0d, doubleCons(2.0d, doubleCons(3.0d, tail)));
+        DoubleConsList<Double> dropped = list.drop(3);
+        assertThat(dropped)
+            .isSameAs(tail);
+        DoubleConsList<Double> taken = list.take(2);
+        assertThat(taken)
+            .containsExactly(1.0d, 2.0d);
+        assertThat(list.takeWhileDouble(x -> x < 3.0d))
+            .containsExactly(1.0d, 2.0d);
+        assertThat(list.dropWhileDouble(x -> x < 4.0d))
+            .isSameAs(tail);
+        assertThat(list.splitAt(3).tail().head())
+            .isInstanceOf(DoubleConsList.class)
+            .isSameAs(tail);
+    }
+
+    @Test
+    public void drop_insideCompressedNodes() {
+        double[] elements = new double[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 3;
+        }
+        DoubleConsList<Double> list = compressedDoubleList(elements);
+        DoubleConsList<Double> expected = doubleList(Arrays.copyOfRange(elements, 300, 1000));
+        DoubleConsList<Double> dropped = list.drop(300);
+        assertThat(dropped)
+            .isInstanceOf(CompressedDoubleConsListImpl.class)
+            .isEqualTo(expected);
+        assertThat(dropped.hashCode())
+            .isEqualTo(expected.hashCode());
+        assertThat(list.dropWhileDouble(x -> x < 600.0d).doubleHead())
+            .isEqualTo(600.0d);
+        assertThat(list.take(300))
+            .isEqualTo(doubleList(Arrays.copyOf(elements, 300)));
+    }
+
+    @Test
+    public void sortedDoubles_matchesArraysSort() {
+        Random rand = new Random(42L);
+        for (int size : new int[] {10, 5000}) {
+            double[] elements = rand.doubles(size, -1000.0d, 1000.0d).toArray();
+            elements[0] = Double.NaN;
+            elements[1] = Double.NEGATIVE_INFINITY;
+            elements[2] = Double.POSITIVE_INFINITY;
+            elements[3] = 0.0d;
+            elements[4] = -0.0d;
+            elements[5] = Double.MIN_VALUE;
+            elements[6] = -Double.MAX_VALUE;
+            DoubleConsList<Double> list = doubleList(elements);
+            Arrays.sort(elements);
+            assertThat(list.sortedDoubles())
+                .isEqualTo(doubleList(elements));
+        }
+        DoubleConsList<Double> sorted = doubleList(-0.0d, 0.0d, 1.5d, Double.NaN);
+        assertThat(sorted.sortedDoubles())
+            .isSameAs(sorted);
+    }
+
+    @Test
+    public void sortedDoubles_negativeNaNGoesLast() {
+        double zero = new Random(42L).nextInt(1) * 1.0d;
+        double[] elements = new Random(7L).doubles(300, -1000.0d, 1000.0d).toArray();
+        elements[100] = zero / zero;
+        elements[200] = Double.longBitsToDouble(0xfff8000000000001L);
+        DoubleConsList<Double> sorted = doubleList(elements).sortedDoubles();
+        Arrays.sort(elements);
+        assertThat(sorted)
+            .isEqualTo(doubleList(elements));
+        assertThat(sorted.doubleHead())
+            .isEqualTo(elements[0])
+            .isNotNaN();
+        assertThat(sorted.drop(298L))
+            .containsExactly(Double.NaN, Double.NaN);
+    }
+
+    @Test
+    public void foldDouble() {
+        DoubleConsList<Double> list = doubleList(1.0d, 2.0d, 3.0d, 4.0d);
+        assertThat(list.foldDouble(0.0d, (a, b) -> a + b))
+            .isEqualTo(10.0d);
+        assertThat(list.foldDouble(0.0d, (a, b) -> a * 10 + b))
+            .isEqualTo(1234.0d);
+        assertThat(ConsList.<Double>nil().foldDouble(7.0d, (a, b) -> a + b))
+            .isEqualTo(7.0d);
+    }
+
+    @Test
+    public void zipDoubles_stopsAtTheShorterList() {
+        DoubleConsList<Double> list = doubleList(1.0d, 2.0d, 3.0d);
+        DoubleConsList<Double> other = doubleList(10.0d, 20.0d);
+        assertThat(list.zipDoubles(other, (a, b) -> a + b))
+            .isInstanceOf(DoubleConsList.class)
+            .containsExactly(11.0d, 22.0d);
+        assertThat(other.zipDoubles(list, (a, b) -> a * b))
+            .containsExactly(10.0d, 40.0d);
+        Throwable t = catchThrowable(() -> list.zipDoubles(null, (a, b) -> a));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("other is null");
+    }
+
+    @Test
+    public void toDoubleArray_copyInto() {
+        double[] elements = new double[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 7 % 1000;
+        }
+        for (DoubleConsList<Double> list : Arrays.asList(doubleList(elements), compressedDoubleList(elements))) {
+            assertThat(list.toDoubleArray())
+                .containsExactly(elements);
+            DoubleBuffer heap = DoubleBuffer.allocate(elements.length + 1);
+            heap.put(-1.0d);
+            assertThat(list.copyInto(heap))
+                .isSameAs(heap);
+            assertThat(heap.position())
+                .isEqualTo(elements.length + 1);
+            assertThat(Arrays.copyOfRange(heap.array(), 1, elements.length + 1))
+                .containsExactly(elements);
+            DoubleBuffer direct = ByteBuffer.allocateDirect(elements.length * Double.BYTES).asDoubleBuffer();
+            list.copyInto(direct);
+            direct.flip();
+            double[] copied = new double[elements.length];
+            direct.get(copied);
+            assertThat(copied)
+                .containsExactly(elements);
+            DoubleBuffer small = DoubleBuffer.allocate(10);
+            Throwable t = catchThrowable(() -> list.copyInto(small));
+            assertThat(t)
+                .isExactlyInstanceOf(BufferOverflowException.class);
+            assertThat(small.position())
+                .isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void removeFirstDouble_matchesEquals() {
+        DoubleConsList<Double> list = doubleList(0.0, Double.NaN, -0.0, 1.0);
+        assertThat(list.removeFirstDouble(-0.0))
+            .containsExactly(0.0, Double.NaN, 1.0);
+        assertThat(list.removeFirstDouble(Double.NaN))
+            .containsExactly(0.0, -0.0, 1.0);
+        assertThat(list.updatedDouble(3, 2.0))
+            .containsExactly(0.0, Double.NaN, -0.0, 2.0);
+        assertThat(list.insertAtDouble(0, 2.0))
+            .containsExactly(2.0, 0.0, Double.NaN, -0.0, 1.0);
+    }
+
+    @Test
+    public void toDoubleConsList_parallelStream() {
+        double[] expected = IntStream.range(0, 100_000).filter(i -> i % 7 != 0).asDoubleStream().toArray();
+        DoubleConsList<Double> list = toDoubleConsList(IntStream.range(0, 100_000).parallel().filter(i -> i % 7 != 0).asDoubleStream());
+        assertThat(list)
+            .isEqualTo(doubleList(expected));
+        assertThat(list.hashCode())
+            .isEqualTo(doubleList(expected).hashCode());
+        assertThat(IntStream.range(0, 100_000).parallel().filter(i -> i % 7 != 0).asDoubleStream().boxed().collect(toDoubleConsCollector()))
+            .isEqualTo(list);
+        assertThat(toDoubleConsList(DoubleStream.empty()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void doubleList_arrayRange() {
+        double[] elements = {1.0, 2.0, 3.0, 4.0, 5.0};
+        DoubleConsList<Double> range = doubleList(elements, 1, 4);
+        elements[2] = -1.0;
+        assertThat(range)
+            .isExactlyInstanceOf(UnrolledDoubleConsListImpl.class)
+            .containsExactly(2.0, 3.0, 4.0);
+        assertThat(doubleList(elements, 2, 2))
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> doubleList(elements, 3, 6));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("range out of bounds: [3, 6) of 5");
+    }
+
+    @Test
+    public void toDoubleConsList_iteratorAndBuffers() {
+        double[] elements = IntStream.range(0, 3000).asDoubleStream().toArray();
+        DoubleConsList<Double> expected = doubleList(elements);
+        assertThat(toDoubleConsList(IntStream.range(0, 3000).asDoubleStream().iterator()))
+            .isEqualTo(expected);
+        DoubleBuffer heap = DoubleBuffer.wrap(elements);
+        assertThat(toDoubleConsList(heap))
+            .isInstanceOf(UnrolledDoubleConsListImpl.class)
+            .isEqualTo(expected);
+        assertThat(heap.hasRemaining())
+            .isFalse();
+        DoubleBuffer direct = ByteBuffer.allocateDirect(elements.length * Double.BYTES).asDoubleBuffer();
+        direct.put(elements);
+        direct.position(1000);
+        assertThat(toDoubleConsList(direct))
+            .isEqualTo(doubleList(elements, 1000, elements.length));
+        assertThat(direct.position())
+            .isEqualTo(elements.length);
+        assertThat(toDoubleConsList(direct))
+            .isSameAs(nil());
+    }
 }
@@ -0,0 +1,48 @@
+package io.github.nblxa.cons;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.Test;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FloatConsListEqualsTest {
+
+    @Test
+    public void equalsHashCode_floatConsList() {
+        EqualsVerifier.forClass(FloatConsListImpl.class)
+            .withPrefabValues(FloatConsList.class, floatList(1f, 2f, 3f), floatList(4f, 5f))
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_floatConsListWithNil() {
+        EqualsVerifier.forClass(FloatConsListImpl.class)
+            .withPrefabValues(FloatConsList.class, floatList(1f, 2f, 3f), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_floatConsListWithBoxedCons() {
+        EqualsVerifier.forClass(ConsList.class)
+            .withPrefabValues(ConsList.class, floatList(1f, 2f, 3f), list(4f, 5f))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_floatConsListWithEqualBoxedCons() {
+        FloatConsList<Float> pl = floatList(1f, 2f, 3f);
+        ConsList<Float> l = list(1f, 2f, 3f);
+        assertThat(pl.equals(l))
+            .isTrue();
+        assertThat(l.equals(pl))
+            .isTrue();
+        assertThat(pl.hashCode() == l.hashCode())
+            .isTrue();
+    }
+}
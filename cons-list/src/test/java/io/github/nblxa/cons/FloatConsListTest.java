@@ -0,0 +1,219 @@
+package io.github.nblxa.cons;
+
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class FloatConsListTest {
+
+    @Test
+    public void nil_isEmpty() {
+        FloatConsList<Float> empty = nil();
+        assertThat(empty)
+            .hasSize(0)
+            .isEmpty();
+        Throwable t = catchThrowable(empty::floatHead);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+        t = catchThrowable(empty::floatTail);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void floatCons_headAndTail() {
+        FloatConsList<Float> list = floatCons(1f, floatCons(2f, nil()));
+        assertThat(list.floatHead()).isEqualTo(1f);
+        assertThat(list.floatTail().floatHead()).isEqualTo(2f);
+        assertThat(list)
+            .hasSize(2)
+            .containsExactly(1f, 2f);
+    }
+
+    @Test
+    public void floatIterator_returnsPrimitives() {
+        FloatConsList<Float> list = floatList(1f, 2f, 3f);
+        FloatConsList.FloatIterator iter = list.floatIterator();
+        assertThat(iter.nextFloat()).isEqualTo(1f);
+        assertThat(iter.next()).isEqualTo(2f);
+        assertThat(iter.nextFloat()).isEqualTo(3f);
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextFloat);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void spliterator_characteristicsAndData() {
+        FloatConsList<Float> numbers = floatList(1f, 1f, 2f, 3f, 5f, 8f);
+        Spliterator<Float> spliter = numbers.spliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+
+        List<Float> list = StreamSupport.stream(spliter, false)
+            .collect(Collectors.toList());
+        assertThat(list)
+            .containsExactly(1f, 1f, 2f, 3f, 5f, 8f);
+    }
+
+    @Test
+    public void floatSpliterator_characteristics() {
+        FloatConsList<Float> numbers = floatList(1f, 1f, 2f, 3f, 5f, 8f);
+        Spliterator.OfDouble spliter = numbers.floatSpliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.getExactSizeIfKnown()).isEqualTo(6L);
+    }
+
+    @Test
+    public void floatStream() {
+        FloatConsList<Float> numbers = floatList(1f, 1f, 2f, 3f, 5f, 8f);
+        assertThat(numbers.floatStream().isParallel()).isFalse();
+        assertThat(numbers.floatStream().sum()).isEqualTo(20.0d);
+    }
+
+    @Test
+    public void parallelFloatStream() {
+        FloatConsList<Float> numbers = nil();
+        for (int i = 0; i < 10_000; i++) {
+            numbers = floatCons((float) i, numbers);
+        }
+        assertThat(numbers.parallelFloatStream().isParallel()).isTrue();
+        assertThat(numbers.parallelFloatStream().sum()).isEqualTo(numbers.floatStream().sum());
+        assertThat(numbers.parallelFloatStream().count()).isEqualTo(10_000L);
+    }
+
+    @Test
+    public void reverse() {
+        FloatConsList<Float> numbers = floatList(1f, 1f, 2f, 3f, 5f, 8f);
+        assertThat(numbers.floatReverse()).containsExactly(8f, 5f, 3f, 2f, 1f, 1f);
+        assertThat(numbers.reverse()).containsExactly(8f, 5f, 3f, 2f, 1f, 1f);
+    }
+
+    @Test
+    public void floatCons_withNullTail_throwsException() {
+        FloatConsList<Float> cnslst = null;
+        Throwable t = catchThrowable(() -> floatCons(1f, cnslst));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("tail is null");
+    }
+
+    @Test
+    public void sizeAsLong_value() {
+        FloatConsList<Float> bs = floatCons(3f, floatCons(2f, floatCons(1f, nil())));
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
+    }
+
+    @Test
+    public void hashCode_value() {
+        FloatConsList<Float> list = floatCons(11f, floatCons(11f, nil()));
+        assertThat(list.hashCode()).isEqualTo(637535169);
+    }
+
+    @Test
+    public void floatConsList_fromCons_returnsSelf() {
+        Iterable<Float> input = floatList(1f, 2f);
+        FloatConsList<Float> fromCons = floatConsList(input);
+
+        assertThat(fromCons == input).isTrue();
+    }
+
+    @Test
+    public void floatConsList_fromArraysArrayList_yieldsSameOrderAsList() {
+        Iterable<Float> input = Arrays.asList(2f, 1f);
+        FloatConsList<Float> fromCons = floatConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactly(2f, 1f);
+    }
+
+    @Test
+    public void floatConsList_fromIterable_yieldsSameOrder() {
+        List<Float> source = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            source.add((float) i);
+        }
+        Iterable<Float> input = source::iterator;
+        FloatConsList<Float> fromCons = floatConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(100)
+            .containsExactlyElementsOf(source);
+    }
+
+    @Test
+    public void floatConsList_fromSet_returnsSameElements() {
+        Set<Float> input = new HashSet<>(Arrays.asList(2f, 1f));
+        FloatConsList<Float> fromCons = floatConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactlyInAnyOrder(2f, 1f);
+    }
+
+    @Test
+    public void concat_many_yieldsSameOrder() {
+        FloatConsList<Float> result = concat(floatList(1f), floatList(1f, 2f), floatList(1f, 2f, 3f));
+        assertThat(result)
+            .containsExactly(1f, 1f, 2f, 1f, 2f, 3f);
+    }
+
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        FloatConsList<Float> last = floatList(4.0f);
+        FloatConsList<Float> result = concat(floatList(1.0f, 2.0f), floatList(3.0f), last);
+        assertThat(result)
+            .containsExactly(1.0f, 2.0f, 3.0f, 4.0f);
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
+    @Test
+    public void list_withoutParameters_isNil() {
+        assertThat(floatList()).isEqualTo(nil());
+    }
+
+    @Test
+    public void floatList_arrayRange() {
+        float[] elements = {1f, 2f, 3f, 4f, 5f};
+        assertThat(floatList(elements, 1, 4))
+            .isEqualTo(floatList(Arrays.copyOfRange(elements, 1, 4)));
+        Throwable t = catchThrowable(() -> floatList(elements, 4, 3));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void toFloatConsList_buffer() {
+        float[] elements = new float[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = (float) i;
+        }
+        FloatBuffer buffer = FloatBuffer.wrap(elements);
+        buffer.position(10);
+        assertThat(toFloatConsList(buffer))
+            .isEqualTo(floatList(elements, 10, elements.length));
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+    }
+}
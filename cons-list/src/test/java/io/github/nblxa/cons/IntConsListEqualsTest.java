@@ -1,6 +1,7 @@
 package io.github.nblxa.cons;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.junit.Test;
 
 import static io.github.nblxa.cons.ConsList.*;
@@ -12,6 +13,8 @@ public class IntConsListEqualsTest {
     public void equalsHashCode_intConsList() {
         EqualsVerifier.forClass(IntConsListImpl.class)
             .withPrefabValues(IntConsList.class, intList(1, 2, 3), intList(100, 200))
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
             .verify();
     }
 
@@ -19,9 +22,33 @@ public class IntConsListEqualsTest {
     public void equalsHashCode_intConsListWithNil() {
         EqualsVerifier.forClass(IntConsListImpl.class)
             .withPrefabValues(IntConsList.class, intList(1, 2, 3), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
             .verify();
     }
 
+    @Test
+    public void equalsHashCode_compressedWithDifferentElements() {
+        IntConsList<Integer> compressed = compressedIntList(1, 2, 3);
+        assertThat(compressed)
+            .isNotEqualTo(compressedIntList(1, 2, 4))
+            .isNotEqualTo(intList(1, 2))
+            .isNotEqualTo(compressed.intTail())
+            .isEqualTo(compressedIntList(0, 1, 2, 3).intTail());
+    }
+
+    @Test
+    public void equalsHashCode_compressedAndIntConsList() {
+        IntConsList<Integer> compressed = compressedIntList(1, 2, 3);
+        IntConsList<Integer> plain = intList(1, 2, 3);
+        assertThat(compressed.equals(plain))
+            .isTrue();
+        assertThat(plain.equals(compressed))
+            .isTrue();
+        assertThat(compressed.hashCode() == plain.hashCode())
+            .isTrue();
+    }
+
     @Test
     public void equalsHashCode_intConsListWithBoxedCons() {
         EqualsVerifier.forClass(ConsList.class)
@@ -124,6 +124,128 @@ public class IntConsListSerializationTest {
             .hasCauseExactlyInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    public void test_compressed_java() throws IOException, ClassNotFoundException {
+        int[] elements = new int[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 3;
+        }
+        IntConsList<Integer> list = CompressedIntConsListImpl.prepend(elements, 0, elements.length, intList(-7, -8));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(CompressedIntConsListImpl.class);
+        assertThat((IntConsList<Integer>) object)
+            .hasSize(1002)
+            .isEqualTo(list)
+            .startsWith(0, 3, 6)
+            .endsWith(2997, -7, -8);
+    }
+
+    @Test
+    public void test_compressedSerializeError_java() throws IOException {
+        IntConsList<Integer> list = compressedIntList(1, 2, 3);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new CorruptedObjectOutputStream(new ObjectOutputStream(bos), 3);
+        Throwable t = catchThrowable(() -> os.writeObject(list));
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not serialize element at 0-based position: 0")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_compressedCorruptStream_java() throws IOException {
+        IntConsList<Integer> list = compressedIntList(1, 2, 3);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        // corrupt the stream
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new CorruptedObjectInputStream(new ByteArrayInputStream(bytes), 3);
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not de-serialize element at 0-based position: 2")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_compressedTruncatedDeltas_java() throws IOException {
+        byte[] bytes = compressedBlockData(compressedIntList(1, 2, 3));
+        int block = bytes.length - 27;
+
+        // drop the second delta and declare a single byte of deltas
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length - 1);
+        truncated[truncated.length - 1] = bytes[bytes.length - 1];
+        truncated[block - 1] = 25;
+        truncated[block + 23] = 1;
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(truncated));
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(InvalidObjectException.class)
+            .hasMessage("deltas do not match the compressed node length: 3");
+    }
+
+    @Test
+    public void test_compressedInvalidLength_java() throws IOException {
+        byte[] bytes = compressedBlockData(compressedIntList(1, 2, 3));
+        int block = bytes.length - 27;
+        bytes[block + 14] = 1;
+        bytes[block + 15] = 44;
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(InvalidObjectException.class)
+            .hasMessage("invalid compressed node length: 300");
+    }
+
+    @Test
+    public void test_compressedNegativeByteCount_java() throws IOException {
+        byte[] bytes = compressedBlockData(compressedIntList(1, 2, 3));
+        int block = bytes.length - 27;
+        for (int i = 20; i < 24; i++) {
+            bytes[block + i] = -1;
+        }
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(InvalidObjectException.class)
+            .hasMessage("invalid compressed node size in bytes: -1");
+    }
+
+    @Test
+    public void test_compressedSizeMismatch_java() throws IOException {
+        byte[] bytes = compressedBlockData(compressedIntList(1, 2, 3));
+        int block = bytes.length - 27;
+        bytes[block + 7] = 4;
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(InvalidObjectException.class)
+            .hasMessage("list size does not match the compressed nodes: 1");
+    }
+
     @Test
     public void test_nil_jacksonAsList() throws IOException {
         IntConsList<Integer> empty = nil();
@@ -211,4 +333,17 @@ public class IntConsListSerializationTest {
             .hasMessage("Use serialization proxy!")
             .hasStackTraceContaining(IntConsListImpl.class.getCanonicalName());
     }
+
+    /**
+     * Serializes a single compressed node of three elements, whose 26 bytes of block data are the list size,
+     * the node count, the length, the head, the size of the deltas in bytes and the two deltas.
+     */
+    private static byte[] compressedBlockData(IntConsList<Integer> list) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+        byte[] bytes = bos.toByteArray();
+        assertThat(bytes[bytes.length - 28]).isEqualTo((byte) 26);
+        return bytes;
+    }
 }
@@ -2,7 +2,12 @@ package io.github.nblxa.cons;
 
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
@@ -100,11 +105,11 @@ public class IntConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<Integer> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -120,11 +125,11 @@ public class IntConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<Integer> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -141,6 +146,29 @@ public class IntConsListTest {
         assertThat(sum).isEqualTo(20);
     }
 
+    @Test
+    public void parallelIntStream() {
+        IntConsList<Integer> numbers = intList(IntStream.range(0, 10_000).toArray());
+        assertThat(numbers.parallelIntStream().isParallel()).isTrue();
+        long sum = numbers.parallelIntStream().asLongStream().sum();
+        assertThat(sum).isEqualTo(49_995_000);
+    }
+
+    @Test
+    public void intSpliterator_trySplit_keepsOrder() {
+        IntConsList<Integer> numbers = intList(IntStream.range(0, 10_000).toArray());
+        Spliterator.OfInt spliter = numbers.intSpliterator();
+        Spliterator.OfInt prefix = spliter.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliter.estimateSize()).isEqualTo(10_000L);
+        assertThat(prefix.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+
+        List<Integer> list = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) list::add);
+        spliter.forEachRemaining((IntConsumer) list::add);
+        assertThat(list).containsExactlyElementsOf(numbers);
+    }
+
     @Test
     public void cons_withExplicitType() {
         IntConsList<Integer> i = intCons(10, nil());
@@ -200,18 +228,10 @@ public class IntConsListTest {
     }
 
     @Test
-    public void hugeList_hasSizeIntMaxValue() throws NoSuchFieldException, IllegalAccessException {
+    public void sizeAsLong_value() {
         IntConsList<Integer> bs = intCons(3, intCons(2, intCons(1, nil())));
-
-        int priorValue = ConsUtil.EMPTY_SIZE;
-        ConsUtil.EMPTY_SIZE = Integer.MAX_VALUE - 1;
-        try {
-            assertThat(bs)
-                .isNotEmpty()
-                .hasSize(Integer.MAX_VALUE);
-        } finally {
-            ConsUtil.EMPTY_SIZE = priorValue;
-        }
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
     }
 
     @Test
@@ -220,6 +240,35 @@ public class IntConsListTest {
         assertThat(fortyTwo.hashCode()).isEqualTo(1313);
     }
 
+    @Test
+    public void hashCode_sameAsBoxedList() {
+        IntConsList<Integer> list = intList(IntStream.range(-50, 50).toArray());
+        while (!list.isEmpty()) {
+            assertThat(list.hashCode()).isEqualTo(new ArrayList<>(list).hashCode());
+            list = list.intTail();
+        }
+    }
+
+    @Test
+    public void equals_differentHashCodes_areNotEqual() {
+        IntConsList<Integer> shared = intList(1, 2, 3);
+        assertThat(intCons(4, shared)).isEqualTo(intCons(4, shared));
+        assertThat(intCons(4, shared)).isNotEqualTo(intCons(5, shared));
+        assertThat(intCons(4, shared)).isNotEqualTo(shared);
+    }
+
+    @Test
+    public void equals_sharedTail() {
+        IntConsList<Integer> shared = intList(IntStream.range(0, 1000).toArray());
+        IntConsList<Integer> first = intCons(1, intCons(2, shared));
+        IntConsList<Integer> second = intCons(1, intCons(2, shared));
+        IntConsList<Integer> third = intCons(1, intCons(3, shared));
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(third);
+        assertThat(shared.intTail()).isEqualTo(shared.intTail());
+        assertThat(compressedIntList(IntStream.range(0, 1000).toArray())).isEqualTo(shared);
+    }
+
     @Test
     public void intConsList_fromNull_throwsNpe() {
         Throwable t = catchThrowable(() -> intConsList(null));
@@ -283,6 +332,16 @@ public class IntConsListTest {
             .containsExactly(1, 1, 1, 1, 2, 1, 1, 3, 3, 1);
     }
 
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        IntConsList<Integer> last = intList(4);
+        IntConsList<Integer> result = concat(intList(1, 2), intList(3), last);
+        assertThat(result)
+            .containsExactly(1, 2, 3, 4);
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
     @Test
     public void concat_oneNullVararg_throwsException() {
         IntConsList<Integer>[] nullList = null;
@@ -319,4 +378,490 @@ public class IntConsListTest {
             .hasNoCause()
             .hasMessage("Null concat argument at position 0");
     }
+
+    @Test
+    public void compressedIntList_sameElementsAsIntList() {
+        int[] elements = new int[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 7 + (i % 3 == 0 ? -5 : 2);
+        }
+        IntConsList<Integer> compressed = compressedIntList(elements);
+        IntConsList<Integer> plain = intList(elements);
+        assertThat(compressed)
+            .hasSize(1000)
+            .isEqualTo(plain)
+            .containsExactlyElementsOf(plain);
+        assertThat(compressed.hashCode())
+            .isEqualTo(plain.hashCode());
+        assertThat(compressed.intStream().toArray())
+            .containsExactly(elements);
+        assertThat(compressed.parallelIntStream().toArray())
+            .containsExactly(elements);
+    }
+
+    @Test
+    public void compressedIntList_extremeDeltas() {
+        IntConsList<Integer> list = compressedIntList(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertThat(list)
+            .containsExactly(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void compressedIntList_tail_keepsHeadSizeAndHash() {
+        int[] elements = new int[300];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = 1000 - i * i;
+        }
+        IntConsList<Integer> list = compressedIntList(elements);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(list.intHead()).isEqualTo(elements[i]);
+            assertThat(list.sizeAsLong()).isEqualTo(elements.length - i);
+            assertThat(list.hashCode())
+                .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(elements, i, elements.length)));
+            list = list.intTail();
+        }
+        assertThat(list).isSameAs(nil());
+    }
+
+    @Test
+    public void compressedIntList_withoutParameters_isNil() {
+        assertThat(compressedIntList()).isSameAs(nil());
+    }
+
+    @Test
+    public void compressedIntList_reverse() {
+        IntConsList<Integer> list = compressedIntList(3, 1, 4, 1, 5);
+        assertThat(list.intReverse())
+            .isInstanceOf(CompressedIntConsListImpl.class)
+            .containsExactly(5, 1, 4, 1, 3);
+    }
+
+    @Test
+    public void compressedIntList_consedOnto_iteratesAll() {
+        IntConsList<Integer> list = intCons(-1, intCons(0, compressedIntList(10, 20, 30)));
+        assertThat(list)
+            .containsExactly(-1, 0, 10, 20, 30)
+            .isEqualTo(intList(-1, 0, 10, 20, 30));
+    }
+
+    @Test
+    public void compressedIntConsList_fromIterable() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            source.add(i * i);
+        }
+        assertThat(compressedIntConsList(source))
+            .containsExactlyElementsOf(source);
+        assertThat(compressedIntConsList(Collections.emptyList()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void mapToInt_sharesUnchangedSuffix() {
+        IntConsList<Integer> tail = intList(5, 6);
+        IntConsList<Integer> list = intCons(1, intCons(2, tail));
+        IntConsList<Integer> mapped = list.mapToInt(x -> x < 5 ? x * 10 : x);
+        assertThat(mapped)
+            .containsExactly(10, 20, 5, 6);
+        assertThat(mapped.intTail().intTail())
+            .isSameAs(tail);
+        assertThat(list.mapToInt(x -> x))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void mapToOtherTypes() {
+        IntConsList<Integer> list = intList(1, 2, 3);
+        assertThat(list.mapToInt(x -> (int) x + 1))
+            .isInstanceOf(IntConsList.class)
+            .containsExactly(2, 3, 4);
+        assertThat(list.mapToLong(x -> (long) x * 3L))
+            .isInstanceOf(LongConsList.class)
+            .containsExactly(3L, 6L, 9L);
+        assertThat(list.mapToDouble(x -> x / 2.0d))
+            .isInstanceOf(DoubleConsList.class)
+            .containsExactly(0.5d, 1.0d, 1.5d);
+    }
+
+    @Test
+    public void filterInt_sharesUnchangedSuffix() {
+        IntConsList<Integer> tail = intList(5, 6);
+        IntConsList<Integer> list = intCons(1, intCons(2, intCons(3, tail)));
+        IntConsList<Integer> filtered = list.filterInt(x -> x != 2);
+        assertThat(filtered)
+            .containsExactly(1, 3, 5, 6);
+        assertThat(filtered.intTail().intTail())
+            .isSameAs(tail);
+        assertThat(list.filterInt(x -> x > 0))
+            .isSameAs(list);
+        assertThat(list.filterInt(x -> x > 6))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void filterInt_compressed() {
+        int[] elements = new int[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        IntConsList<Integer> list = compressedIntList(elements);
+        IntConsList<Integer> filtered = list.filterInt(x -> x % 2 == 0);
+        assertThat(filtered)
+            .hasSize(500)
+            .startsWith(0, 2, 4)
+            .endsWith(996, 998);
+        assertThat(list.filterInt(x -> x != 0))
+            .isEqualTo(list.intTail());
+        assertThat(list.mapToInt(x -> x + 1))
+            .hasSize(1000)
+            .startsWith(1, 2);
+    }
+
+    @Test
+    public void drop_take_keepPrimitiveType() {
+        IntConsList<Integer> tail = intList(4, 5);
+        IntConsList<Integer> list = intCons(1, intCons(2, intCons(3, tail)));
+        IntConsList<Integer> dropped = list.drop(3);
+        assertThat(dropped)
+            .isSameAs(tail);
+        IntConsList<Integer> taken = list.take(2);
+        assertThat(taken)
+            .containsExactly(1, 2);
+        assertThat(list.takeWhileInt(x -> x < 3))
+            .containsExactly(1, 2);
+        assertThat(list.dropWhileInt(x -> x < 4))
+            .isSameAs(tail);
+        assertThat(list.splitAt(3).tail().head())
+            .isInstanceOf(IntConsList.class)
+            .isSameAs(tail);
+    }
+
+    @Test
+    public void drop_insideCompressedNodes() {
+        int[] elements = new int[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 3;
+        }
+        IntConsList<Integer> list = compressedIntList(elements);
+        IntConsList<Integer> expected = intList(Arrays.copyOfRange(elements, 300, 1000));
+        IntConsList<Integer> dropped = list.drop(300);
+        assertThat(dropped)
+            .isInstanceOf(CompressedIntConsListImpl.class)
+            .isEqualTo(expected);
+        assertThat(dropped.hashCode())
+            .isEqualTo(expected.hashCode());
+        assertThat(list.dropWhileInt(x -> x < 600).intHead())
+            .isEqualTo(600);
+        assertThat(list.take(300))
+            .isEqualTo(intList(Arrays.copyOf(elements, 300)));
+    }
+
+    @Test
+    public void sortedInts_matchesArraysSort() {
+        Random rand = new Random(42L);
+        for (int size : new int[] {10, 5000}) {
+            int[] elements = rand.ints(size).toArray();
+            elements[0] = Integer.MIN_VALUE;
+            elements[1] = Integer.MAX_VALUE;
+            elements[2] = 0;
+            IntConsList<Integer> list = intList(elements);
+            Arrays.sort(elements);
+            assertThat(list.sortedInts())
+                .isEqualTo(intList(elements));
+        }
+        IntConsList<Integer> sorted = intList(-1, 1, 1, 2);
+        assertThat(sorted.sortedInts())
+            .isSameAs(sorted);
+    }
+
+    @Test
+    public void foldInt() {
+        IntConsList<Integer> list = intList(1, 2, 3, 4);
+        assertThat(list.foldInt(0, (a, b) -> a + b))
+            .isEqualTo(10);
+        assertThat(list.foldInt(0, (a, b) -> a * 10 + b))
+            .isEqualTo(1234);
+        assertThat(ConsList.<Integer>nil().foldInt(7, (a, b) -> a + b))
+            .isEqualTo(7);
+    }
+
+    @Test
+    public void zipInts_stopsAtTheShorterList() {
+        IntConsList<Integer> list = intList(1, 2, 3);
+        IntConsList<Integer> other = intList(10, 20);
+        assertThat(list.zipInts(other, (a, b) -> a + b))
+            .isInstanceOf(IntConsList.class)
+            .containsExactly(11, 22);
+        assertThat(other.zipInts(list, (a, b) -> a * b))
+            .containsExactly(10, 40);
+        Throwable t = catchThrowable(() -> list.zipInts(null, (a, b) -> a));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("other is null");
+    }
+
+    @Test
+    public void toIntArray_copyInto() {
+        int[] elements = new int[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 7 % 1000;
+        }
+        for (IntConsList<Integer> list : Arrays.asList(intList(elements), compressedIntList(elements))) {
+            assertThat(list.toIntArray())
+                .containsExactly(elements);
+            IntBuffer heap = IntBuffer.allocate(elements.length + 1);
+            heap.put(-1);
+            assertThat(list.copyInto(heap))
+                .isSameAs(heap);
+            assertThat(heap.position())
+                .isEqualTo(elements.length + 1);
+            assertThat(Arrays.copyOfRange(heap.array(), 1, elements.length + 1))
+                .containsExactly(elements);
+            IntBuffer direct = ByteBuffer.allocateDirect(elements.length * Integer.BYTES).asIntBuffer();
+            list.copyInto(direct);
+            direct.flip();
+            int[] copied = new int[elements.length];
+            direct.get(copied);
+            assertThat(copied)
+                .containsExactly(elements);
+            IntBuffer small = IntBuffer.allocate(10);
+            Throwable t = catchThrowable(() -> list.copyInto(small));
+            assertThat(t)
+                .isExactlyInstanceOf(BufferOverflowException.class);
+            assertThat(small.position())
+                .isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void updatedInsertAtRemoveAt_keepIntConsList() {
+        int[] elements = IntStream.range(0, 1000).map(i -> i * 3).toArray();
+        IntConsList<Integer> list = intList(elements);
+        IntConsList<Integer> updated = list.updatedInt(500, -1);
+        int[] expected = elements.clone();
+        expected[500] = -1;
+        assertThat(updated)
+            .isEqualTo(intList(expected));
+        assertThat(updated.hashCode())
+            .isEqualTo(intList(expected).hashCode());
+        assertThat(list.insertAtInt(1, 7).toIntArray())
+            .startsWith(0, 7, 3, 6)
+            .hasSize(1001);
+        IntConsList<Integer> removed = list.removeAt(999);
+        assertThat(removed)
+            .isEqualTo(intList(Arrays.copyOf(elements, 999)));
+        assertThat(list.removeFirstInt(6).toIntArray())
+            .startsWith(0, 3, 9)
+            .hasSize(999);
+        assertThat(list.removeFirst(6))
+            .isEqualTo(list.removeFirstInt(6));
+        assertThat(list.removeFirstInt(1))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void intBuilder_appendsInOrder() {
+        ConsList.IntBuilder builder = intBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i);
+        }
+        IntConsList<Integer> first = builder.build();
+        builder.addAll(intList(100, 101)).addAll(Collections.singleton(102));
+        assertThat(builder.size())
+            .isEqualTo(103L);
+        assertThat(first)
+            .isEqualTo(intList(IntStream.range(0, 100).toArray()));
+        assertThat(builder.build())
+            .isEqualTo(intList(IntStream.range(0, 103).toArray()));
+        Iterable<Integer> iterable = () -> IntStream.range(0, 50).iterator();
+        assertThat(intConsList(iterable))
+            .isEqualTo(intList(IntStream.range(0, 50).toArray()));
+    }
+
+    @Test
+    public void intConsList_list_buildsOneUnrolledNodePerChunk() {
+        List<Integer> input = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        IntConsList<Integer> list = intConsList(input);
+        assertThat(list)
+            .isExactlyInstanceOf(UnrolledIntConsListImpl.class)
+            .isEqualTo(intList(IntStream.range(0, 1000).toArray()));
+        assertThat(nodeLengths(list))
+            .containsExactly(32, 64, 128, 256, 512, 8);
+    }
+
+    /**
+     * Returns the number of the elements of each node of a list of unrolled nodes.
+     */
+    private static List<Integer> nodeLengths(IntConsList<Integer> list) {
+        List<Integer> lengths = new ArrayList<>();
+        IntConsList<Integer> cons = list;
+        while (!cons.isEmpty()) {
+            UnrolledIntConsListImpl node = (UnrolledIntConsListImpl) cons;
+            lengths.add(node.to() - node.from());
+            cons = node.next();
+        }
+        return lengths;
+    }
+
+    @Test
+    public void toIntConsList_parallelStream() {
+        int[] expected = IntStream.range(0, 100_000).filter(i -> i % 7 != 0).toArray();
+        IntConsList<Integer> list = toIntConsList(IntStream.range(0, 100_000).parallel().filter(i -> i % 7 != 0));
+        assertThat(list)
+            .isEqualTo(intList(expected));
+        assertThat(list.hashCode())
+            .isEqualTo(intList(expected).hashCode());
+        assertThat(IntStream.range(0, 100_000).parallel().filter(i -> i % 7 != 0).boxed().collect(toIntConsCollector()))
+            .isEqualTo(list);
+        assertThat(toIntConsList(IntStream.empty()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void toIntConsList_parallelStream_keepsSegmentChunks() {
+        IntConsList<Integer> list = toIntConsList(IntStream.range(0, 1_000_000).parallel());
+        IntConsList<Integer> collected = IntStream.range(0, 1_000_000).parallel().boxed()
+            .collect(toIntConsCollector());
+        assertThat(nodeLengths(list).size())
+            .isLessThan(1_000_000 / ConsUtil.UNROLLED_NODE_CAPACITY);
+        assertThat(nodeLengths(collected).size())
+            .isLessThan(1_000_000 / ConsUtil.UNROLLED_NODE_CAPACITY);
+        assertThat(collected)
+            .isEqualTo(list);
+        assertThat(list.intStream().asLongStream().sum())
+            .isEqualTo(499_999_500_000L);
+    }
+
+    @Test
+    public void toIntConsCollector_combinedSegments_areNotCopied() {
+        IntConsList<Integer> list = collectInTwoSegments(toIntConsCollector());
+        assertThat(list)
+            .isEqualTo(intList(IntStream.range(0, 200).toArray()));
+        assertThat(nodeLengths(list))
+            .containsExactly(32, 64, 4, 32, 64, 4);
+    }
+
+    /**
+     * Collects the numbers from 0 to 99 and from 100 to 199 into separate containers and
+     * combines them, as a parallel stream does with its segments.
+     */
+    private static <A> IntConsList<Integer> collectInTwoSegments(
+            Collector<Integer, A, IntConsList<Integer>> collector) {
+        A left = collector.supplier().get();
+        A right = collector.supplier().get();
+        for (int i = 0; i < 100; i++) {
+            collector.accumulator().accept(left, i);
+            collector.accumulator().accept(right, 100 + i);
+        }
+        return collector.finisher().apply(collector.combiner().apply(left, right));
+    }
+
+    @Test
+    public void intList_arrayRange() {
+        int[] elements = {1, 2, 3, 4, 5};
+        IntConsList<Integer> range = intList(elements, 1, 4);
+        elements[2] = -1;
+        assertThat(range)
+            .isExactlyInstanceOf(UnrolledIntConsListImpl.class)
+            .containsExactly(2, 3, 4);
+        assertThat(intList(elements, 2, 2))
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> intList(elements, 3, 6));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("range out of bounds: [3, 6) of 5");
+    }
+
+    @Test
+    public void toIntConsList_iteratorAndBuffers() {
+        int[] elements = IntStream.range(0, 3000).toArray();
+        IntConsList<Integer> expected = intList(elements);
+        assertThat(toIntConsList(IntStream.range(0, 3000).iterator()))
+            .isEqualTo(expected);
+        IntBuffer heap = IntBuffer.wrap(elements);
+        assertThat(toIntConsList(heap))
+            .isInstanceOf(UnrolledIntConsListImpl.class)
+            .isEqualTo(expected);
+        assertThat(heap.hasRemaining())
+            .isFalse();
+        IntBuffer direct = ByteBuffer.allocateDirect(elements.length * Integer.BYTES).asIntBuffer();
+        direct.put(elements);
+        direct.position(1000);
+        assertThat(toIntConsList(direct))
+            .isEqualTo(intList(elements, 1000, elements.length));
+        assertThat(direct.position())
+            .isEqualTo(elements.length);
+        assertThat(toIntConsList(direct))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void intRange_matchesIntList() {
+        assertThat(intRange(0, 5))
+            .containsExactly(0, 1, 2, 3, 4)
+            .isEqualTo(intList(0, 1, 2, 3, 4))
+            .hasSize(5);
+        assertThat(intList(0, 1, 2, 3, 4))
+            .isEqualTo(intRange(0, 5));
+        assertThat(intRange(10, 0, -3))
+            .containsExactly(10, 7, 4, 1);
+        assertThat(intRange(1, 10, 4).toIntArray())
+            .containsExactly(1, 5, 9);
+        assertThat(intRange(5, 5))
+            .isSameAs(nil());
+        assertThat(intRange(5, 0, 1))
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> intRange(0, 10, 0));
+        assertThat(t)
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("step is zero");
+    }
+
+    @Test
+    public void intRange_hashCodeOfLongRanges() {
+        int[][] ranges = {{0, 100_000, 1}, {-50_000, 50_000, 7}, {100_000, -100_000, -3},
+            {Integer.MIN_VALUE, Integer.MAX_VALUE, 1 << 20}, {Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE}};
+        for (int[] r : ranges) {
+            IntConsList<Integer> range = intRange(r[0], r[1], r[2]);
+            int[] expected = range.intStream().toArray();
+            assertThat(range.hashCode())
+                .isEqualTo(Arrays.hashCode(expected));
+            assertThat(range.intTail().hashCode())
+                .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(expected, 1, expected.length)));
+            assertThat(range)
+                .isEqualTo(intList(expected))
+                .hasSize(expected.length);
+        }
+    }
+
+    @Test
+    public void intRange_fastPaths() {
+        IntConsList<Integer> range = intRange(Integer.MIN_VALUE, Integer.MAX_VALUE, 3);
+        assertThat(range.sizeAsLong())
+            .isEqualTo(1_431_655_765L);
+        assertThat(range.contains(Integer.MIN_VALUE + 3_000_000))
+            .isTrue();
+        assertThat(range.contains(Integer.MIN_VALUE + 3_000_001))
+            .isFalse();
+        assertThat(range.contains(Integer.MAX_VALUE - 3))
+            .isTrue();
+        assertThat(range.contains(Integer.MAX_VALUE))
+            .isFalse();
+        assertThat(range.contains(5L))
+            .isFalse();
+        assertThat(intRange(10, 0, -2).contains(0))
+            .isFalse();
+        assertThat(intRange(10, 0, -2).contains(2))
+            .isTrue();
+        assertThat(range.drop(1_431_655_762L))
+            .containsExactly(Integer.MAX_VALUE - 9, Integer.MAX_VALUE - 6, Integer.MAX_VALUE - 3);
+        assertThat(range.take(3))
+            .containsExactly(Integer.MIN_VALUE, Integer.MIN_VALUE + 3, Integer.MIN_VALUE + 6);
+        assertThat(range.drop(1_431_655_762L).intReverse())
+            .containsExactly(Integer.MAX_VALUE - 3, Integer.MAX_VALUE - 6, Integer.MAX_VALUE - 9);
+        assertThat(intRange(5, 0, -1).sortedInts())
+            .containsExactly(1, 2, 3, 4, 5);
+        assertThat(range.parallelIntStream().asLongStream().sum())
+            .isEqualTo(range.intStream().asLongStream().sum());
+    }
 }
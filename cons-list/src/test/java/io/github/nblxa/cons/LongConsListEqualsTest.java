@@ -1,6 +1,7 @@
 package io.github.nblxa.cons;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.junit.Test;
 
 import static io.github.nblxa.cons.ConsList.*;
@@ -12,6 +13,8 @@ public class LongConsListEqualsTest {
     public void equalsHashCode_longConsList() {
         EqualsVerifier.forClass(LongConsListImpl.class)
             .withPrefabValues(LongConsList.class, longList(1L, 2L, 3L), longList(100L, 200L))
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
             .verify();
     }
 
@@ -19,9 +22,33 @@ public class LongConsListEqualsTest {
     public void equalsHashCode_longConsListWithNil() {
         EqualsVerifier.forClass(LongConsListImpl.class)
             .withPrefabValues(LongConsList.class, longList(1L, 2L, 3L), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
             .verify();
     }
 
+    @Test
+    public void equalsHashCode_compressedWithDifferentElements() {
+        LongConsList<Long> compressed = compressedLongList(1L, 2L, 3L);
+        assertThat(compressed)
+            .isNotEqualTo(compressedLongList(1L, 2L, 4L))
+            .isNotEqualTo(longList(1L, 2L))
+            .isNotEqualTo(compressed.longTail())
+            .isEqualTo(compressedLongList(0L, 1L, 2L, 3L).longTail());
+    }
+
+    @Test
+    public void equalsHashCode_compressedAndLongConsList() {
+        LongConsList<Long> compressed = compressedLongList(1L, 2L, 3L);
+        LongConsList<Long> plain = longList(1L, 2L, 3L);
+        assertThat(compressed.equals(plain))
+            .isTrue();
+        assertThat(plain.equals(compressed))
+            .isTrue();
+        assertThat(compressed.hashCode() == plain.hashCode())
+            .isTrue();
+    }
+
     @Test
     public void equalsHashCode_longConsListWithBoxedCons() {
         EqualsVerifier.forClass(ConsList.class)
@@ -123,6 +123,91 @@ public class LongConsListSerializationTest {
             .hasCauseExactlyInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    public void test_compressed_java() throws IOException, ClassNotFoundException {
+        long[] elements = new long[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 3L;
+        }
+        LongConsList<Long> list = CompressedLongConsListImpl.prepend(elements, 0, elements.length, longList(-7L, -8L));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        Object object = is.readObject();
+        assertThat(object).isInstanceOf(CompressedLongConsListImpl.class);
+        assertThat((LongConsList<Long>) object)
+            .hasSize(1002)
+            .isEqualTo(list)
+            .startsWith(0L, 3L, 6L)
+            .endsWith(2997L, -7L, -8L);
+    }
+
+    @Test
+    public void test_compressedSerializeError_java() throws IOException {
+        LongConsList<Long> list = compressedLongList(1L, 2L, 3L);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new CorruptedObjectOutputStream(new ObjectOutputStream(bos), 3);
+        Throwable t = catchThrowable(() -> os.writeObject(list));
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not serialize element at 0-based position: 0")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_compressedCorruptStream_java() throws IOException {
+        LongConsList<Long> list = compressedLongList(1L, 2L, 3L);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        // corrupt the stream
+        byte[] bytes = bos.toByteArray();
+        ObjectInputStream is = new CorruptedObjectInputStream(new ByteArrayInputStream(bytes), 3);
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(ConsSerializationException.class)
+            .hasMessage("Could not de-serialize element at 0-based position: 2")
+            .hasCauseExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void test_compressedTruncatedDeltas_java() throws IOException {
+        LongConsList<Long> list = compressedLongList(1L, 2L, 3L);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bos);
+        os.writeObject(list);
+
+        // the 30 bytes of block data end with the size of the deltas in bytes and the two deltas
+        byte[] bytes = bos.toByteArray();
+        int block = bytes.length - 31;
+        assertThat(bytes[block - 1]).isEqualTo((byte) 30);
+
+        // drop the second delta and declare a single byte of deltas
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length - 1);
+        truncated[truncated.length - 1] = bytes[bytes.length - 1];
+        truncated[block - 1] = 29;
+        truncated[block + 27] = 1;
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(truncated));
+
+        Throwable t = catchThrowable(is::readObject);
+
+        assertThat(t)
+            .isExactlyInstanceOf(InvalidObjectException.class)
+            .hasMessage("deltas do not match the compressed node length: 3");
+    }
+
     @Test
     public void test_nil_jacksonAsList() throws IOException {
         LongConsList<Long> empty = nil();
@@ -2,7 +2,11 @@ package io.github.nblxa.cons;
 
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.util.*;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
@@ -100,11 +104,11 @@ public class LongConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<Long> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -120,11 +124,11 @@ public class LongConsListTest {
         assertThat(spliter.hasCharacteristics(Spliterator.DISTINCT)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.SORTED)).isFalse();
         assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
-        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
         assertThat(spliter.hasCharacteristics(Spliterator.CONCURRENT)).isFalse();
-        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isFalse();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
 
         List<Long> list = StreamSupport.stream(spliter, false)
             .collect(Collectors.toList());
@@ -141,6 +145,29 @@ public class LongConsListTest {
         assertThat(sum).isEqualTo(20L);
     }
 
+    @Test
+    public void parallelLongStream() {
+        LongConsList<Long> numbers = longList(LongStream.range(0L, 10_000L).toArray());
+        assertThat(numbers.parallelLongStream().isParallel()).isTrue();
+        long sum = numbers.parallelLongStream().sum();
+        assertThat(sum).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    public void longSpliterator_trySplit_keepsOrder() {
+        LongConsList<Long> numbers = longList(LongStream.range(0L, 10_000L).toArray());
+        Spliterator.OfLong spliter = numbers.longSpliterator();
+        Spliterator.OfLong prefix = spliter.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliter.estimateSize()).isEqualTo(10_000L);
+        assertThat(prefix.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+
+        List<Long> list = new ArrayList<>();
+        prefix.forEachRemaining((LongConsumer) list::add);
+        spliter.forEachRemaining((LongConsumer) list::add);
+        assertThat(list).containsExactlyElementsOf(numbers);
+    }
+
     @Test
     public void cons_withExplicitType() {
         LongConsList<Long> i = longCons(10L, nil());
@@ -200,18 +227,10 @@ public class LongConsListTest {
     }
 
     @Test
-    public void hugeList_hasSizeIntMaxValue() throws NoSuchFieldException, IllegalAccessException {
+    public void sizeAsLong_value() {
         LongConsList<Long> bs = longCons(3L, longCons(2L, longCons(1L, nil())));
-
-        int priorValue = ConsUtil.EMPTY_SIZE;
-        ConsUtil.EMPTY_SIZE = Integer.MAX_VALUE - 1;
-        try {
-            assertThat(bs)
-                .isNotEmpty()
-                .hasSize(Integer.MAX_VALUE);
-        } finally {
-            ConsUtil.EMPTY_SIZE = priorValue;
-        }
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
     }
 
     @Test
@@ -220,6 +239,18 @@ public class LongConsListTest {
         assertThat(fortyTwo.hashCode()).isEqualTo(1313);
     }
 
+    @Test
+    public void equals_sharedTail() {
+        LongConsList<Long> shared = longList(LongStream.range(0L, 1000L).toArray());
+        LongConsList<Long> first = longCons(1L, longCons(2L, shared));
+        LongConsList<Long> second = longCons(1L, longCons(2L, shared));
+        LongConsList<Long> third = longCons(1L, longCons(3L, shared));
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(third);
+        assertThat(longRange(0L, 1000L)).isEqualTo(shared);
+        assertThat(longRange(0L, 1001L)).isNotEqualTo(shared);
+    }
+
     @Test
     public void longConsList_fromNull_throwsNpe() {
         Throwable t = catchThrowable(() -> longConsList(null));
@@ -283,6 +314,16 @@ public class LongConsListTest {
             .containsExactly(1L, 1L, 1L, 1L, 2L, 1L, 1L, 3L, 3L, 1L);
     }
 
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        LongConsList<Long> last = longList(4L);
+        LongConsList<Long> result = concat(longList(1L, 2L), longList(3L), last);
+        assertThat(result)
+            .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
     @Test
     public void concat_oneNullVararg_throwsException() {
         LongConsList<Long>[] nullList = null;
@@ -319,4 +360,407 @@ public class LongConsListTest {
             .hasNoCause()
             .hasMessage("Null concat argument at position 0");
     }
+
+    @Test
+    public void compressedLongList_sameElementsAsLongList() {
+        long[] elements = new long[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 7L + (i % 3 == 0 ? -5L : 2L);
+        }
+        LongConsList<Long> compressed = compressedLongList(elements);
+        LongConsList<Long> plain = longList(elements);
+        assertThat(compressed)
+            .hasSize(1000)
+            .isEqualTo(plain)
+            .containsExactlyElementsOf(plain);
+        assertThat(compressed.hashCode())
+            .isEqualTo(plain.hashCode());
+        assertThat(compressed.longStream().toArray())
+            .containsExactly(elements);
+        assertThat(compressed.parallelLongStream().toArray())
+            .containsExactly(elements);
+    }
+
+    @Test
+    public void compressedLongList_extremeDeltas() {
+        LongConsList<Long> list = compressedLongList(Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE);
+        assertThat(list)
+            .containsExactly(Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    @Test
+    public void compressedLongList_tail_keepsHeadSizeAndHash() {
+        long[] elements = new long[300];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = 1000L - i * i;
+        }
+        LongConsList<Long> list = compressedLongList(elements);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(list.longHead()).isEqualTo(elements[i]);
+            assertThat(list.sizeAsLong()).isEqualTo(elements.length - i);
+            assertThat(list.hashCode())
+                .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(elements, i, elements.length)));
+            list = list.longTail();
+        }
+        assertThat(list).isSameAs(nil());
+    }
+
+    @Test
+    public void compressedLongList_withoutParameters_isNil() {
+        assertThat(compressedLongList()).isSameAs(nil());
+    }
+
+    @Test
+    public void compressedLongList_reverse() {
+        LongConsList<Long> list = compressedLongList(3L, 1L, 4L, 1L, 5L);
+        assertThat(list.longReverse())
+            .isInstanceOf(CompressedLongConsListImpl.class)
+            .containsExactly(5L, 1L, 4L, 1L, 3L);
+    }
+
+    @Test
+    public void compressedLongList_consedOnto_iteratesAll() {
+        LongConsList<Long> list = longCons(-1L, longCons(0L, compressedLongList(10L, 20L, 30L)));
+        assertThat(list)
+            .containsExactly(-1L, 0L, 10L, 20L, 30L)
+            .isEqualTo(longList(-1L, 0L, 10L, 20L, 30L));
+    }
+
+    @Test
+    public void compressedLongConsList_fromIterable() {
+        List<Long> source = new ArrayList<>();
+        for (long i = 0; i < 600; i++) {
+            source.add(i * i);
+        }
+        assertThat(compressedLongConsList(source))
+            .containsExactlyElementsOf(source);
+        assertThat(compressedLongConsList(Collections.emptyList()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void mapToLong_sharesUnchangedSuffix() {
+        LongConsList<Long> tail = longList(5L, 6L);
+        LongConsList<Long> list = longCons(1L, longCons(2L, tail));
+        LongConsList<Long> mapped = list.mapToLong(x -> x < 5L ? x * 10L : x);
+        assertThat(mapped)
+            .containsExactly(10L, 20L, 5L, 6L);
+        assertThat(mapped.longTail().longTail())
+            .isSameAs(tail);
+        assertThat(list.mapToLong(x -> x))
+            .isSameAs(list);
+    }
+
+    @Test
+    public void mapToOtherTypes() {
+        LongConsList<Long> list = longList(1L, 2L, 3L);
+        assertThat(list.mapToInt(x -> (int) x + 1))
+            .isInstanceOf(IntConsList.class)
+            .containsExactly(2, 3, 4);
+        assertThat(list.mapToLong(x -> (long) x * 3L))
+            .isInstanceOf(LongConsList.class)
+            .containsExactly(3L, 6L, 9L);
+        assertThat(list.mapToDouble(x -> x / 2.0d))
+            .isInstanceOf(DoubleConsList.class)
+            .containsExactly(0.5d, 1.0d, 1.5d);
+    }
+
+    @Test
+    public void filterLong_sharesUnchangedSuffix() {
+        LongConsList<Long> tail = longList(5L, 6L);
+        LongConsList<Long> list = longCons(1L, longCons(2L, longCons(3L, tail)));
+        LongConsList<Long> filtered = list.filterLong(x -> x != 2L);
+        assertThat(filtered)
+            .containsExactly(1L, 3L, 5L, 6L);
+        assertThat(filtered.longTail().longTail())
+            .isSameAs(tail);
+        assertThat(list.filterLong(x -> x > 0L))
+            .isSameAs(list);
+        assertThat(list.filterLong(x -> x > 6L))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void filterLong_compressed() {
+        long[] elements = new long[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        LongConsList<Long> list = compressedLongList(elements);
+        LongConsList<Long> filtered = list.filterLong(x -> x % 2L == 0L);
+        assertThat(filtered)
+            .hasSize(500)
+            .startsWith(0L, 2L, 4L)
+            .endsWith(996L, 998L);
+        assertThat(list.filterLong(x -> x != 0L))
+            .isEqualTo(list.longTail());
+        assertThat(list.mapToLong(x -> x + 1L))
+            .hasSize(1000)
+            .startsWith(1L, 2L);
+    }
+
+    @Test
+    public void drop_take_keepPrimitiveType() {
+        LongConsList<Long> tail = longList(4L, 5L);
+        LongConsList<Long> list = longCons(1L, longCons(2L, longCons(3L, tail)));
+        LongConsList<Long> dropped = list.drop(3);
+        assertThat(dropped)
+            .isSameAs(tail);
+        LongConsList<Long> taken = list.take(2);
+        assertThat(taken)
+            .containsExactly(1L, 2L);
+        assertThat(list.takeWhileLong(x -> x < 3L))
+            .containsExactly(1L, 2L);
+        assertThat(list.dropWhileLong(x -> x < 4L))
+            .isSameAs(tail);
+        assertThat(list.splitAt(3).tail().head())
+            .isInstanceOf(LongConsList.class)
+            .isSameAs(tail);
+    }
+
+    @Test
+    public void drop_insideCompressedNodes() {
+        long[] elements = new long[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 3;
+        }
+        LongConsList<Long> list = compressedLongList(elements);
+        LongConsList<Long> expected = longList(Arrays.copyOfRange(elements, 300, 1000));
+        LongConsList<Long> dropped = list.drop(300);
+        assertThat(dropped)
+            .isInstanceOf(CompressedLongConsListImpl.class)
+            .isEqualTo(expected);
+        assertThat(dropped.hashCode())
+            .isEqualTo(expected.hashCode());
+        assertThat(list.dropWhileLong(x -> x < 600L).longHead())
+            .isEqualTo(600L);
+        assertThat(list.take(300))
+            .isEqualTo(longList(Arrays.copyOf(elements, 300)));
+    }
+
+    @Test
+    public void sortedLongs_matchesArraysSort() {
+        Random rand = new Random(42L);
+        for (int size : new int[] {10, 5000}) {
+            long[] elements = rand.longs(size).toArray();
+            elements[0] = Long.MIN_VALUE;
+            elements[1] = Long.MAX_VALUE;
+            elements[2] = 0L;
+            LongConsList<Long> list = longList(elements);
+            Arrays.sort(elements);
+            assertThat(list.sortedLongs())
+                .isEqualTo(longList(elements));
+        }
+        LongConsList<Long> sorted = longList(-1L, 1L, 1L, 2L);
+        assertThat(sorted.sortedLongs())
+            .isSameAs(sorted);
+    }
+
+    @Test
+    public void foldLong() {
+        LongConsList<Long> list = longList(1L, 2L, 3L, 4L);
+        assertThat(list.foldLong(0L, (a, b) -> a + b))
+            .isEqualTo(10L);
+        assertThat(list.foldLong(0L, (a, b) -> a * 10 + b))
+            .isEqualTo(1234L);
+        assertThat(ConsList.<Long>nil().foldLong(7L, (a, b) -> a + b))
+            .isEqualTo(7L);
+    }
+
+    @Test
+    public void zipLongs_stopsAtTheShorterList() {
+        LongConsList<Long> list = longList(1L, 2L, 3L);
+        LongConsList<Long> other = longList(10L, 20L);
+        assertThat(list.zipLongs(other, (a, b) -> a + b))
+            .isInstanceOf(LongConsList.class)
+            .containsExactly(11L, 22L);
+        assertThat(other.zipLongs(list, (a, b) -> a * b))
+            .containsExactly(10L, 40L);
+        Throwable t = catchThrowable(() -> list.zipLongs(null, (a, b) -> a));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("other is null");
+    }
+
+    @Test
+    public void toLongArray_copyInto() {
+        long[] elements = new long[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 7 % 1000;
+        }
+        for (LongConsList<Long> list : Arrays.asList(longList(elements), compressedLongList(elements))) {
+            assertThat(list.toLongArray())
+                .containsExactly(elements);
+            LongBuffer heap = LongBuffer.allocate(elements.length + 1);
+            heap.put(-1L);
+            assertThat(list.copyInto(heap))
+                .isSameAs(heap);
+            assertThat(heap.position())
+                .isEqualTo(elements.length + 1);
+            assertThat(Arrays.copyOfRange(heap.array(), 1, elements.length + 1))
+                .containsExactly(elements);
+            LongBuffer direct = ByteBuffer.allocateDirect(elements.length * Long.BYTES).asLongBuffer();
+            list.copyInto(direct);
+            direct.flip();
+            long[] copied = new long[elements.length];
+            direct.get(copied);
+            assertThat(copied)
+                .containsExactly(elements);
+            LongBuffer small = LongBuffer.allocate(10);
+            Throwable t = catchThrowable(() -> list.copyInto(small));
+            assertThat(t)
+                .isExactlyInstanceOf(BufferOverflowException.class);
+            assertThat(small.position())
+                .isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void toLongConsList_parallelStream() {
+        long[] expected = LongStream.range(0, 100_000).filter(i -> i % 7 != 0).toArray();
+        LongConsList<Long> list = toLongConsList(LongStream.range(0, 100_000).parallel().filter(i -> i % 7 != 0));
+        assertThat(list)
+            .isEqualTo(longList(expected));
+        assertThat(list.hashCode())
+            .isEqualTo(longList(expected).hashCode());
+        assertThat(LongStream.range(0, 100_000).parallel().filter(i -> i % 7 != 0).boxed().collect(toLongConsCollector()))
+            .isEqualTo(list);
+        assertThat(toLongConsList(LongStream.empty()))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void longList_arrayRange() {
+        long[] elements = {1L, 2L, 3L, 4L, 5L};
+        LongConsList<Long> range = longList(elements, 1, 4);
+        elements[2] = -1L;
+        assertThat(range)
+            .isExactlyInstanceOf(UnrolledLongConsListImpl.class)
+            .containsExactly(2L, 3L, 4L);
+        assertThat(longList(elements, 2, 2))
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> longList(elements, 3, 6));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("range out of bounds: [3, 6) of 5");
+    }
+
+    @Test
+    public void toLongConsList_iteratorAndBuffers() {
+        long[] elements = LongStream.range(0, 3000).toArray();
+        LongConsList<Long> expected = longList(elements);
+        assertThat(toLongConsList(LongStream.range(0, 3000).iterator()))
+            .isEqualTo(expected);
+        LongBuffer heap = LongBuffer.wrap(elements);
+        assertThat(toLongConsList(heap))
+            .isInstanceOf(UnrolledLongConsListImpl.class)
+            .isEqualTo(expected);
+        assertThat(heap.hasRemaining())
+            .isFalse();
+        LongBuffer direct = ByteBuffer.allocateDirect(elements.length * Long.BYTES).asLongBuffer();
+        direct.put(elements);
+        direct.position(1000);
+        assertThat(toLongConsList(direct))
+            .isEqualTo(longList(elements, 1000, elements.length));
+        assertThat(direct.position())
+            .isEqualTo(elements.length);
+        assertThat(toLongConsList(direct))
+            .isSameAs(nil());
+    }
+
+    @Test
+    public void longRange_matchesLongList() {
+        assertThat(longRange(0L, 5L))
+            .containsExactly(0L, 1L, 2L, 3L, 4L)
+            .isEqualTo(longList(0L, 1L, 2L, 3L, 4L))
+            .hasSameHashCodeAs(longList(0L, 1L, 2L, 3L, 4L));
+        assertThat(longRange(10L, 0L, -3L))
+            .containsExactly(10L, 7L, 4L, 1L);
+        assertThat(longRange(1L, 10L, 4L).toLongArray())
+            .containsExactly(1L, 5L, 9L);
+        assertThat(longRange(5L, 5L))
+            .isSameAs(nil());
+        Throwable t = catchThrowable(() -> longRange(0L, 10L, 0L));
+        assertThat(t)
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("step is zero");
+        t = catchThrowable(() -> longRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertThat(t)
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("range is too long");
+    }
+
+    @Test
+    public void longRange_fastPaths() {
+        LongConsList<Long> range = longRange(Long.MIN_VALUE, Long.MAX_VALUE, 1L << 40);
+        assertThat(range.sizeAsLong())
+            .isEqualTo(1L << 24);
+        assertThat(range.contains(Long.MIN_VALUE + (5L << 40)))
+            .isTrue();
+        assertThat(range.contains(Long.MIN_VALUE + (5L << 40) + 1L))
+            .isFalse();
+        assertThat(range.contains(5))
+            .isFalse();
+        assertThat(longRange(Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE))
+            .containsExactly(Long.MAX_VALUE, -1L);
+        assertThat(longRange(Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE).contains(-1L))
+            .isTrue();
+        assertThat(longRange(Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE).longReverse())
+            .containsExactly(-1L, Long.MAX_VALUE);
+        assertThat(range.take(2).longTail())
+            .containsExactly(Long.MIN_VALUE + (1L << 40));
+        long[] expected = range.drop((1L << 24) - 1000L).toLongArray();
+        assertThat(range.drop((1L << 24) - 1000L).hashCode())
+            .isEqualTo(Arrays.hashCode(expected));
+        assertThat(range.drop((1L << 24) - 1000L).longTail().hashCode())
+            .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(expected, 1, expected.length)));
+        assertThat(longRange(5L, 0L, -1L).sortedLongs())
+            .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(range.parallelLongStream().count())
+            .isEqualTo(1L << 24);
+    }
+
+    @Test
+    public void longRange_hashCodeAcrossHalves() {
+        long[][] ranges = {{-5_000L, 5_000L, 1L}, {(1L << 32) - 3_000L, (1L << 32) + 3_000L, 7L},
+            {-(1L << 32) - 2_000L, -(1L << 32) + 2_000L, 3L}, {3_000L, -3_000L, -11L},
+            {Long.MIN_VALUE, Long.MAX_VALUE, 1L << 44}, {Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE},
+            {-(1L << 33), 1L << 33, 1_000_003L}};
+        for (long[] r : ranges) {
+            LongConsList<Long> range = longRange(r[0], r[1], r[2]);
+            long[] expected = range.longStream().toArray();
+            assertThat(range.hashCode())
+                .isEqualTo(Arrays.hashCode(expected));
+            assertThat(range.longTail().hashCode())
+                .isEqualTo(Arrays.hashCode(Arrays.copyOfRange(expected, 1, expected.length)));
+            assertThat(range)
+                .isEqualTo(longList(expected));
+        }
+    }
+
+    @Test
+    public void longRange_hashCodeOfLongRangeWithinIntBounds() {
+        LongConsList<Long> range = longRange(-(1L << 32), 1L << 32);
+        LongConsList<Long> list = longCons(42L, range);
+        assertThat(list.sizeAsLong())
+            .isEqualTo((1L << 33) + 1L);
+        assertThat(list.hashCode())
+            .isEqualTo(ConsUtil.consHash(Long.hashCode(42L), range));
+        assertThat(range.hashCode())
+            .isEqualTo(range.hashCode())
+            .isEqualTo(longRange(-(1L << 32), 1L << 32).hashCode());
+    }
+
+    @Test
+    public void longRange_equalsWithoutHashCode() {
+        LongConsList<Long> range = longRange(0L, 1L << 40);
+        assertThat(range.equals(longList(0L, 1L, 2L)))
+            .isFalse();
+        assertThat(longList(0L, 1L, 2L).equals(range))
+            .isFalse();
+        assertThat(range.equals(longRange(0L, 1L << 40).longTail()))
+            .isFalse();
+        assertThat(range.equals(longRange(0L, 1L << 40)))
+            .isTrue();
+    }
 }
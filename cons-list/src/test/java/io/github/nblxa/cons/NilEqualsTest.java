@@ -34,4 +34,39 @@ public class NilEqualsTest {
             .withPrefabValues(ConsList.class, nil(), doubleList(1.1d, 2.1d, 3.1d))
             .verify();
     }
+
+    @Test
+    public void equalsHashCode_floatConsListImpl() {
+        EqualsVerifier.forClass(Nil.class)
+            .withPrefabValues(ConsList.class, nil(), floatList(1.1f, 2.1f, 3.1f))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_shortConsListImpl() {
+        EqualsVerifier.forClass(Nil.class)
+            .withPrefabValues(ConsList.class, nil(), shortList((short) 1, (short) 2, (short) 3))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_byteConsListImpl() {
+        EqualsVerifier.forClass(Nil.class)
+            .withPrefabValues(ConsList.class, nil(), byteList((byte) 1, (byte) 2, (byte) 3))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_charConsListImpl() {
+        EqualsVerifier.forClass(Nil.class)
+            .withPrefabValues(ConsList.class, nil(), charList('a', 'b', 'c'))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_booleanConsListImpl() {
+        EqualsVerifier.forClass(Nil.class)
+            .withPrefabValues(ConsList.class, nil(), booleanList(true, false, true))
+            .verify();
+    }
 }
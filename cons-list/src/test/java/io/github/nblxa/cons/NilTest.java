@@ -92,6 +92,108 @@ public class NilTest {
             .hasMessage(null);
     }
 
+    @Test
+    public void testNilFloatIterator() {
+        FloatConsList.FloatIterator iter = nil().floatIterator();
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextFloat);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+        t = catchThrowable(iter::next);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+    }
+
+    @Test
+    public void testNilFloatStream() {
+        assertThat(nil().floatSpliterator().getExactSizeIfKnown()).isEqualTo(0L);
+        assertThat(nil().floatStream().count()).isZero();
+        assertThat(nil().parallelFloatStream().isParallel()).isTrue();
+    }
+
+    @Test
+    public void testNilShortIterator() {
+        ShortConsList.ShortIterator iter = nil().shortIterator();
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextShort);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+        t = catchThrowable(iter::next);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+    }
+
+    @Test
+    public void testNilShortStream() {
+        assertThat(nil().shortSpliterator().getExactSizeIfKnown()).isEqualTo(0L);
+        assertThat(nil().shortStream().count()).isZero();
+        assertThat(nil().parallelShortStream().isParallel()).isTrue();
+    }
+
+    @Test
+    public void testNilByteIterator() {
+        ByteConsList.ByteIterator iter = nil().byteIterator();
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextByte);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+        t = catchThrowable(iter::next);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+    }
+
+    @Test
+    public void testNilByteStream() {
+        assertThat(nil().byteSpliterator().getExactSizeIfKnown()).isEqualTo(0L);
+        assertThat(nil().byteStream().count()).isZero();
+        assertThat(nil().parallelByteStream().isParallel()).isTrue();
+    }
+
+    @Test
+    public void testNilCharIterator() {
+        CharConsList.CharIterator iter = nil().charIterator();
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextChar);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+        t = catchThrowable(iter::next);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+    }
+
+    @Test
+    public void testNilCharStream() {
+        assertThat(nil().charSpliterator().getExactSizeIfKnown()).isEqualTo(0L);
+        assertThat(nil().charStream().count()).isZero();
+        assertThat(nil().parallelCharStream().isParallel()).isTrue();
+    }
+
+    @Test
+    public void testNilBooleanIterator() {
+        BooleanConsList.BooleanIterator iter = nil().booleanIterator();
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextBoolean);
+        assertThat(t).isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause()
+            .hasMessage(null);
+    }
+
+    @Test
+    public void testNilPopCountAndAnyMatch() {
+        BooleanConsList<?> nil = nil();
+        assertThat(nil.popCount()).isZero();
+        assertThat(nil.anyMatch(true)).isFalse();
+        assertThat(nil.anyMatch(false)).isFalse();
+    }
+
     @Test
     public void testNilSpliterator() {
         Spliterator<?> spliter = nil().spliterator();
@@ -151,6 +253,24 @@ public class NilTest {
         assertThat(list).isEmpty();
     }
 
+    @Test
+    public void testNilParallelIntStream() {
+        assertThat(nil().parallelIntStream().isParallel()).isTrue();
+        assertThat(nil().parallelIntStream().count()).isZero();
+    }
+
+    @Test
+    public void testNilParallelLongStream() {
+        assertThat(nil().parallelLongStream().isParallel()).isTrue();
+        assertThat(nil().parallelLongStream().count()).isZero();
+    }
+
+    @Test
+    public void testNilParallelDoubleStream() {
+        assertThat(nil().parallelDoubleStream().isParallel()).isTrue();
+        assertThat(nil().parallelDoubleStream().count()).isZero();
+    }
+
     @Test
     public void testReverse() {
         ConsList<?> nil = nil();
@@ -174,4 +294,39 @@ public class NilTest {
         DoubleConsList<?> nil = nil();
         assertThat(nil.doubleReverse()).isEqualTo(nil);
     }
+
+    @Test
+    public void testMapFilterFlatMap() {
+        ConsList<Integer> nil = nil();
+        assertThat(nil.map(i -> i + 1)).isSameAs(nil);
+        assertThat(nil.filter(i -> i > 0)).isSameAs(nil);
+        assertThat(nil.flatMap(i -> Arrays.asList(i, i))).isSameAs(nil);
+    }
+
+    @Test
+    public void testTakeDrop() {
+        ConsList<Integer> nil = nil();
+        assertThat(nil.drop(3)).isSameAs(nil);
+        assertThat(nil.take(3)).isSameAs(nil);
+        assertThat(nil.dropWhile(i -> true)).isSameAs(nil);
+        assertThat(nil.takeWhile(i -> true)).isSameAs(nil);
+        assertThat(nil.splitAt(1)).containsExactly(nil, nil);
+    }
+
+    @Test
+    public void testPartitionGroupByDistinct() {
+        ConsList<Integer> nil = nil();
+        assertThat(nil.partition(i -> true)).containsExactly(nil, nil);
+        assertThat(nil.groupBy(i -> i)).isEmpty();
+        assertThat(nil.distinct()).isSameAs(nil);
+    }
+
+    @Test
+    public void testRemove() {
+        ConsList<Integer> nil = nil();
+        assertThat(nil.removeFirst(1)).isSameAs(nil);
+        assertThat(nil.insertAt(0, 1)).containsExactly(1);
+        Throwable t = catchThrowable(() -> nil.removeAt(0));
+        assertThat(t).isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
 }
@@ -0,0 +1,48 @@
+package io.github.nblxa.cons;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.Test;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShortConsListEqualsTest {
+
+    @Test
+    public void equalsHashCode_shortConsList() {
+        EqualsVerifier.forClass(ShortConsListImpl.class)
+            .withPrefabValues(ShortConsList.class, shortList((short) 1, (short) 2, (short) 3), shortList((short) 4, (short) 5))
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_shortConsListWithNil() {
+        EqualsVerifier.forClass(ShortConsListImpl.class)
+            .withPrefabValues(ShortConsList.class, shortList((short) 1, (short) 2, (short) 3), nil())
+            .withIgnoredFields("size")
+            .suppress(Warning.STRICT_HASHCODE)
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_shortConsListWithBoxedCons() {
+        EqualsVerifier.forClass(ConsList.class)
+            .withPrefabValues(ConsList.class, shortList((short) 1, (short) 2, (short) 3), list((short) 4, (short) 5))
+            .verify();
+    }
+
+    @Test
+    public void equalsHashCode_shortConsListWithEqualBoxedCons() {
+        ShortConsList<Short> pl = shortList((short) 1, (short) 2, (short) 3);
+        ConsList<Short> l = list((short) 1, (short) 2, (short) 3);
+        assertThat(pl.equals(l))
+            .isTrue();
+        assertThat(l.equals(pl))
+            .isTrue();
+        assertThat(pl.hashCode() == l.hashCode())
+            .isTrue();
+    }
+}
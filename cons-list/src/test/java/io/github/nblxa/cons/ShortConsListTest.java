@@ -0,0 +1,219 @@
+package io.github.nblxa.cons;
+
+import org.junit.Test;
+
+import java.nio.ShortBuffer;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static io.github.nblxa.cons.ConsList.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ShortConsListTest {
+
+    @Test
+    public void nil_isEmpty() {
+        ShortConsList<Short> empty = nil();
+        assertThat(empty)
+            .hasSize(0)
+            .isEmpty();
+        Throwable t = catchThrowable(empty::shortHead);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+        t = catchThrowable(empty::shortTail);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void shortCons_headAndTail() {
+        ShortConsList<Short> list = shortCons((short) 1, shortCons((short) 2, nil()));
+        assertThat(list.shortHead()).isEqualTo((short) 1);
+        assertThat(list.shortTail().shortHead()).isEqualTo((short) 2);
+        assertThat(list)
+            .hasSize(2)
+            .containsExactly((short) 1, (short) 2);
+    }
+
+    @Test
+    public void shortIterator_returnsPrimitives() {
+        ShortConsList<Short> list = shortList((short) 1, (short) 2, (short) 3);
+        ShortConsList.ShortIterator iter = list.shortIterator();
+        assertThat(iter.nextShort()).isEqualTo((short) 1);
+        assertThat(iter.next()).isEqualTo((short) 2);
+        assertThat(iter.nextShort()).isEqualTo((short) 3);
+        assertThat(iter.hasNext()).isFalse();
+        Throwable t = catchThrowable(iter::nextShort);
+        assertThat(t)
+            .isExactlyInstanceOf(NoSuchElementException.class)
+            .hasNoCause();
+    }
+
+    @Test
+    public void spliterator_characteristicsAndData() {
+        ShortConsList<Short> numbers = shortList((short) 1, (short) 1, (short) 2, (short) 3, (short) 5, (short) 8);
+        Spliterator<Short> spliter = numbers.spliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+
+        List<Short> list = StreamSupport.stream(spliter, false)
+            .collect(Collectors.toList());
+        assertThat(list)
+            .containsExactly((short) 1, (short) 1, (short) 2, (short) 3, (short) 5, (short) 8);
+    }
+
+    @Test
+    public void shortSpliterator_characteristics() {
+        ShortConsList<Short> numbers = shortList((short) 1, (short) 1, (short) 2, (short) 3, (short) 5, (short) 8);
+        Spliterator.OfInt spliter = numbers.shortSpliterator();
+
+        assertThat(spliter.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliter.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliter.getExactSizeIfKnown()).isEqualTo(6L);
+    }
+
+    @Test
+    public void shortStream() {
+        ShortConsList<Short> numbers = shortList((short) 1, (short) 1, (short) 2, (short) 3, (short) 5, (short) 8);
+        assertThat(numbers.shortStream().isParallel()).isFalse();
+        assertThat(numbers.shortStream().sum()).isEqualTo(20);
+    }
+
+    @Test
+    public void parallelShortStream() {
+        ShortConsList<Short> numbers = nil();
+        for (int i = 0; i < 10_000; i++) {
+            numbers = shortCons((short) i, numbers);
+        }
+        assertThat(numbers.parallelShortStream().isParallel()).isTrue();
+        assertThat(numbers.parallelShortStream().sum()).isEqualTo(numbers.shortStream().sum());
+        assertThat(numbers.parallelShortStream().count()).isEqualTo(10_000L);
+    }
+
+    @Test
+    public void reverse() {
+        ShortConsList<Short> numbers = shortList((short) 1, (short) 1, (short) 2, (short) 3, (short) 5, (short) 8);
+        assertThat(numbers.shortReverse()).containsExactly((short) 8, (short) 5, (short) 3, (short) 2, (short) 1, (short) 1);
+        assertThat(numbers.reverse()).containsExactly((short) 8, (short) 5, (short) 3, (short) 2, (short) 1, (short) 1);
+    }
+
+    @Test
+    public void shortCons_withNullTail_throwsException() {
+        ShortConsList<Short> cnslst = null;
+        Throwable t = catchThrowable(() -> shortCons((short) 1, cnslst));
+        assertThat(t)
+            .isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("tail is null");
+    }
+
+    @Test
+    public void sizeAsLong_value() {
+        ShortConsList<Short> bs = shortCons((short) 3, shortCons((short) 2, shortCons((short) 1, nil())));
+        assertThat(bs.sizeAsLong()).isEqualTo(3L);
+        assertThat(bs.tail().sizeAsLong()).isEqualTo(2L);
+    }
+
+    @Test
+    public void hashCode_value() {
+        ShortConsList<Short> list = shortCons((short) 11, shortCons((short) 11, nil()));
+        assertThat(list.hashCode()).isEqualTo(1313);
+    }
+
+    @Test
+    public void shortConsList_fromCons_returnsSelf() {
+        Iterable<Short> input = shortList((short) 1, (short) 2);
+        ShortConsList<Short> fromCons = shortConsList(input);
+
+        assertThat(fromCons == input).isTrue();
+    }
+
+    @Test
+    public void shortConsList_fromArraysArrayList_yieldsSameOrderAsList() {
+        Iterable<Short> input = Arrays.asList((short) 2, (short) 1);
+        ShortConsList<Short> fromCons = shortConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactly((short) 2, (short) 1);
+    }
+
+    @Test
+    public void shortConsList_fromIterable_yieldsSameOrder() {
+        List<Short> source = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            source.add((short) i);
+        }
+        Iterable<Short> input = source::iterator;
+        ShortConsList<Short> fromCons = shortConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(100)
+            .containsExactlyElementsOf(source);
+    }
+
+    @Test
+    public void shortConsList_fromSet_returnsSameElements() {
+        Set<Short> input = new HashSet<>(Arrays.asList((short) 2, (short) 1));
+        ShortConsList<Short> fromCons = shortConsList(input);
+
+        assertThat(fromCons)
+            .hasSize(2)
+            .containsExactlyInAnyOrder((short) 2, (short) 1);
+    }
+
+    @Test
+    public void concat_many_yieldsSameOrder() {
+        ShortConsList<Short> result = concat(shortList((short) 1), shortList((short) 1, (short) 2), shortList((short) 1, (short) 2, (short) 3));
+        assertThat(result)
+            .containsExactly((short) 1, (short) 1, (short) 2, (short) 1, (short) 2, (short) 3);
+    }
+
+    @Test
+    public void concat_copiesOnlyLeadingLists() {
+        ShortConsList<Short> last = shortList((short) 4);
+        ShortConsList<Short> result = concat(shortList((short) 1, (short) 2), shortList((short) 3), last);
+        assertThat(result)
+            .containsExactly((short) 1, (short) 2, (short) 3, (short) 4);
+        assertThat(result.drop(3))
+            .isSameAs(last);
+    }
+
+    @Test
+    public void list_withoutParameters_isNil() {
+        assertThat(shortList()).isEqualTo(nil());
+    }
+
+    @Test
+    public void shortList_arrayRange() {
+        short[] elements = {(short) 1, (short) 2, (short) 3, (short) 4, (short) 5};
+        assertThat(shortList(elements, 1, 4))
+            .isEqualTo(shortList(Arrays.copyOfRange(elements, 1, 4)));
+        Throwable t = catchThrowable(() -> shortList(elements, 4, 3));
+        assertThat(t)
+            .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void toShortConsList_buffer() {
+        short[] elements = new short[3000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = (short) i;
+        }
+        ShortBuffer buffer = ShortBuffer.wrap(elements);
+        buffer.position(10);
+        assertThat(toShortConsList(buffer))
+            .isEqualTo(shortList(elements, 10, elements.length));
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+    }
+}